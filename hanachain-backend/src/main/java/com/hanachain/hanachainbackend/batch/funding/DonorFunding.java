@@ -0,0 +1,51 @@
+package com.hanachain.hanachainbackend.batch.funding;
+
+import com.hanachain.hanachainbackend.entity.UserWallet;
+
+import java.math.BigInteger;
+
+/**
+ * 기부자 지갑 하나의 캠페인 전체 충전 계획
+ *
+ * USDC 금액은 6 decimals 단위, ETH는 wei 단위입니다.
+ * 지갑의 USDC/ETH 잔액은 동시에 실행 중인 다른 캠페인 Job과 공유되므로 부족분 계산에 쓰지 않고,
+ * 이 캠페인 컨트랙트에 승인된 금액(이전 실행에서 이 캠페인 몫으로 발행해 둔 USDC)만 뺍니다.
+ *
+ * @param userId        기부자 ID
+ * @param wallet        기부자 주 지갑
+ * @param donationCount 전송할 기부 건수 (기부 건마다 donate 트랜잭션 1건)
+ * @param usdcRequired  전송할 USDC 합계
+ * @param allowance     캠페인 컨트랙트에 승인된 USDC 금액
+ */
+public record DonorFunding(Long userId,
+                           UserWallet wallet,
+                           int donationCount,
+                           BigInteger usdcRequired,
+                           BigInteger allowance) {
+
+    /**
+     * 새로 발행해야 하는 USDC (이 캠페인 몫으로 이미 승인된 금액을 제외한 나머지)
+     */
+    public BigInteger usdcToMint() {
+        return usdcRequired.subtract(allowance).max(BigInteger.ZERO);
+    }
+
+    /**
+     * 캠페인 전체 금액에 대한 approve가 필요한지 여부
+     */
+    public boolean needsApproval() {
+        return allowance.compareTo(usdcRequired) < 0;
+    }
+
+    /**
+     * 이 캠페인의 approve와 donate 트랜잭션에 쓸 가스비 ETH
+     */
+    public BigInteger ethToSend(BigInteger gasPerTransactionWei) {
+        int transactions = donationCount + (needsApproval() ? 1 : 0);
+        return gasPerTransactionWei.multiply(BigInteger.valueOf(transactions));
+    }
+
+    public String walletAddress() {
+        return wallet.getWalletAddress();
+    }
+}
@@ -0,0 +1,143 @@
+package com.hanachain.hanachainbackend.batch.funding;
+
+import com.hanachain.hanachainbackend.entity.Campaign;
+import com.hanachain.hanachainbackend.entity.UserWallet;
+import com.hanachain.hanachainbackend.repository.DonationRepository;
+import com.hanachain.hanachainbackend.repository.UserWalletRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.utils.Numeric;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기부자 지갑 충전 계획 수립
+ *
+ * 캠페인의 미전송 기부를 기부자별로 합산하고, 기부자 주 지갑이 캠페인 컨트랙트에 승인한 금액을
+ * JSON-RPC 배치 요청으로 한꺼번에 읽어(balance-read-batch-size 지갑씩) 지갑마다 이 캠페인 몫의 부족분만 계획합니다.
+ * 지갑 전체 잔액은 동시에 실행 중인 다른 캠페인 Job도 쓰므로 읽지 않습니다 ({@link DonorFunding} 참고).
+ * 주 지갑이 없는 기부자는 계획에서 빠지며, 해당 기부는 전송 단계에서 기존처럼 실패로 기록됩니다.
+ */
+@Slf4j
+@Component
+public class DonorFundingPlanner {
+
+    private static final BigDecimal USDC_UNIT = BigDecimal.valueOf(1_000_000);
+
+    private final DonationRepository donationRepository;
+    private final UserWalletRepository userWalletRepository;
+    private final Web3j web3j;
+    private final String usdcContractAddress;
+    private final int readBatchSize;
+
+    public DonorFundingPlanner(DonationRepository donationRepository,
+                               UserWalletRepository userWalletRepository,
+                               Web3j web3j,
+                               @Qualifier("usdcContractAddress") String usdcContractAddress,
+                               @Value("${batch.funding.balance-read-batch-size:100}") int readBatchSize) {
+        this.donationRepository = donationRepository;
+        this.userWalletRepository = userWalletRepository;
+        this.web3j = web3j;
+        this.usdcContractAddress = usdcContractAddress;
+        this.readBatchSize = Math.max(1, readBatchSize);
+    }
+
+    /**
+     * 캠페인 기부자 지갑별 충전 계획
+     */
+    public List<DonorFunding> plan(Campaign campaign) throws IOException {
+        List<Object[]> totals = donationRepository.sumPendingBlockchainAmountsByDonor(campaign.getId(), campaign.getCreatedAt());
+        if (totals.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> userIds = totals.stream().map(row -> (Long) row[0]).toList();
+        Map<Long, UserWallet> wallets = new HashMap<>();
+        for (UserWallet wallet : userWalletRepository.findPrimaryByUserIds(userIds)) {
+            wallets.putIfAbsent(wallet.getUser().getId(), wallet);
+        }
+
+        List<String> addresses = wallets.values().stream().map(UserWallet::getWalletAddress).distinct().toList();
+        Map<String, BigInteger> allowances = readAllowances(addresses, campaign.getBlockchainContractAddress());
+
+        List<DonorFunding> plan = new ArrayList<>(wallets.size());
+        for (Object[] row : totals) {
+            UserWallet wallet = wallets.get((Long) row[0]);
+            if (wallet == null) {
+                log.warn("No primary wallet for donor {} in campaign {} - not funded", row[0], campaign.getId());
+                continue;
+            }
+            BigInteger usdcRequired = ((BigDecimal) row[1]).multiply(USDC_UNIT).toBigInteger();
+            plan.add(new DonorFunding((Long) row[0], wallet, ((Number) row[2]).intValue(), usdcRequired,
+                    allowances.getOrDefault(wallet.getWalletAddress(), BigInteger.ZERO)));
+        }
+        return plan;
+    }
+
+    /**
+     * 지갑별 spender 승인액 일괄 조회
+     * 읽지 못한 값은 0으로 보아 캠페인 합계만큼 충전되게 합니다.
+     */
+    Map<String, BigInteger> readAllowances(List<String> addresses, String spender) throws IOException {
+        Map<String, BigInteger> allowances = new HashMap<>();
+        for (int from = 0; from < addresses.size(); from += readBatchSize) {
+            List<String> slice = addresses.subList(from, Math.min(addresses.size(), from + readBatchSize));
+
+            BatchRequest batch = web3j.newBatch();
+            List<Request<?, EthCall>> requests = new ArrayList<>(slice.size());
+            for (String address : slice) {
+                requests.add(tokenCall(address, "allowance", new Address(address), new Address(spender)));
+            }
+            requests.forEach(batch::add);
+
+            BatchResponse response = batch.send();
+            Map<Long, Response<?>> byId = new HashMap<>();
+            for (Response<?> item : response.getResponses()) {
+                byId.put(item.getId(), item);
+            }
+
+            for (int i = 0; i < slice.size(); i++) {
+                allowances.put(slice.get(i), uint256(byId.get(requests.get(i).getId())));
+            }
+        }
+        return allowances;
+    }
+
+    private Request<?, EthCall> tokenCall(String from, String name, Type... inputs) {
+        String data = FunctionEncoder.encode(new Function(name, Arrays.asList(inputs), Collections.emptyList()));
+        return web3j.ethCall(Transaction.createEthCallTransaction(from, usdcContractAddress, data),
+                DefaultBlockParameterName.LATEST);
+    }
+
+    private static BigInteger uint256(Response<?> response) {
+        if (response instanceof EthCall call && !call.hasError() && !call.isReverted()) {
+            String value = call.getValue();
+            if (value != null && value.length() > 2) {
+                return Numeric.toBigInt(value);
+            }
+        }
+        return BigInteger.ZERO;
+    }
+}
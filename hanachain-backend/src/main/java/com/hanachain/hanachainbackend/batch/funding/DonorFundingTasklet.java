@@ -0,0 +1,125 @@
+package com.hanachain.hanachainbackend.batch.funding;
+
+import com.hanachain.hanachainbackend.entity.Campaign;
+import com.hanachain.hanachainbackend.repository.CampaignRepository;
+import com.hanachain.hanachainbackend.service.WalletService;
+import com.hanachain.hanachainbackend.service.blockchain.MockUSDCWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.web3j.crypto.Credentials;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.tx.Transfer;
+import org.web3j.utils.Convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * 기부자 지갑 충전 Tasklet (토큰 전송 Step 앞에서 실행)
+ *
+ * {@link DonorFundingPlanner}의 계획대로 기부자 지갑마다 한 번씩만 충전합니다.
+ * 1. 플랫폼 지갑 → 기부자 지갑 가스비 ETH (approve + 기부 건수만큼의 donate 분량)
+ * 2. 플랫폼 지갑(owner) → 기부자 지갑 USDC mint (캠페인 기부 합계 중 이 캠페인 컨트랙트에 아직 승인되지 않은 금액)
+ * 3. 기부자 지갑 → 캠페인 컨트랙트 approve (승인액이 기부 합계보다 적을 때 합계로)
+ * 지갑 잔액은 동시에 실행 중인 다른 캠페인 Job과 공유되므로 빼지 않고 이 캠페인에 필요한 만큼 채웁니다.
+ * 다시 실행하면 이미 승인된 USDC는 다시 발행하지 않지만, 가스비는 이 캠페인 트랜잭션 분량만큼 다시 보냅니다.
+ * 지갑 하나의 충전이 실패해도 나머지는 계속 진행하고, 그 지갑의 기부는 전송 Step에서 잔액 부족으로 실패 처리됩니다.
+ */
+@Slf4j
+@Component
+public class DonorFundingTasklet implements Tasklet {
+
+    private final DonorFundingPlanner donorFundingPlanner;
+    private final CampaignRepository campaignRepository;
+    private final WalletService walletService;
+    private final MockUSDCWrapper mockUSDCWrapper;
+    private final Web3j web3j;
+    private final BigInteger gasPerTransactionWei;
+    private final String platformPrivateKey;
+
+    public DonorFundingTasklet(DonorFundingPlanner donorFundingPlanner,
+                               CampaignRepository campaignRepository,
+                               WalletService walletService,
+                               MockUSDCWrapper mockUSDCWrapper,
+                               Web3j web3j,
+                               @Value("${batch.funding.gas-per-transaction-eth:0.001}") BigDecimal gasPerTransactionEth,
+                               @Value("${blockchain.platform.wallet.private-key}") String platformPrivateKey) {
+        this.donorFundingPlanner = donorFundingPlanner;
+        this.campaignRepository = campaignRepository;
+        this.walletService = walletService;
+        this.mockUSDCWrapper = mockUSDCWrapper;
+        this.web3j = web3j;
+        this.gasPerTransactionWei = Convert.toWei(gasPerTransactionEth, Convert.Unit.ETHER).toBigInteger();
+        this.platformPrivateKey = platformPrivateKey;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        Long campaignId = Long.valueOf((String) chunkContext.getStepContext().getJobParameters().get("campaignId"));
+        Campaign campaign = campaignRepository.findByIdForAdmin(campaignId).orElse(null);
+        if (campaign == null || campaign.getBlockchainContractAddress() == null
+                || campaign.getBlockchainContractAddress().isBlank()) {
+            // 전송 Step에서 기부 건마다 실패로 기록됨
+            log.warn("Skipping donor funding - campaign {} has no blockchain contract", campaignId);
+            return RepeatStatus.FINISHED;
+        }
+
+        List<DonorFunding> plan = donorFundingPlanner.plan(campaign);
+        Credentials platformCredentials = Credentials.create(platformPrivateKey);
+
+        int gasTransfers = 0;
+        int mints = 0;
+        int approvals = 0;
+        int failedWallets = 0;
+        for (DonorFunding funding : plan) {
+            try {
+                BigInteger ethToSend = funding.ethToSend(gasPerTransactionWei);
+                if (ethToSend.signum() > 0) {
+                    TransactionReceipt receipt = Transfer.sendFunds(web3j, platformCredentials, funding.walletAddress(),
+                            new BigDecimal(ethToSend), Convert.Unit.WEI).send();
+                    gasTransfers++;
+                    log.info("⛽ Gas fee {} wei sent to {} - TX: {}", ethToSend, funding.walletAddress(),
+                            receipt.getTransactionHash());
+                }
+
+                BigInteger usdcToMint = funding.usdcToMint();
+                if (usdcToMint.signum() > 0) {
+                    String txHash = mockUSDCWrapper.mint(platformCredentials, funding.walletAddress(), usdcToMint).join();
+                    mints++;
+                    log.info("💰 {} USDC units minted to {} - TX: {}", usdcToMint, funding.walletAddress(), txHash);
+                }
+
+                if (funding.needsApproval()) {
+                    TransactionReceipt receipt = mockUSDCWrapper.approve(walletService.getCredentials(funding.wallet()),
+                            campaign.getBlockchainContractAddress(), funding.usdcRequired()).join();
+                    approvals++;
+                    log.info("📝 {} approved {} USDC units for {} - TX: {}", funding.walletAddress(),
+                            funding.usdcRequired(), campaign.getBlockchainContractAddress(), receipt.getTransactionHash());
+                }
+            } catch (Exception e) {
+                failedWallets++;
+                log.error("❌ Failed to fund donor wallet {} (user {}) for campaign {}",
+                        funding.walletAddress(), funding.userId(), campaignId, e);
+            }
+        }
+
+        ExecutionContext executionContext = contribution.getStepExecution().getExecutionContext();
+        executionContext.putInt("fundingWallets", plan.size());
+        executionContext.putInt("fundingGasTransfers", gasTransfers);
+        executionContext.putInt("fundingMints", mints);
+        executionContext.putInt("fundingApprovals", approvals);
+        executionContext.putInt("fundingFailedWallets", failedWallets);
+
+        log.info("Donor funding for campaign {} - wallets: {}, gas transfers: {}, mints: {}, approvals: {}, failed: {}",
+                campaignId, plan.size(), gasTransfers, mints, approvals, failedWallets);
+        return RepeatStatus.FINISHED;
+    }
+}
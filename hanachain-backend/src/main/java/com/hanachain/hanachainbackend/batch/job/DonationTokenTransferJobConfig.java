@@ -1,5 +1,6 @@
 package com.hanachain.hanachainbackend.batch.job;
 
+import com.hanachain.hanachainbackend.batch.funding.DonorFundingTasklet;
 import com.hanachain.hanachainbackend.batch.listener.DonationTransferJobListener;
 import com.hanachain.hanachainbackend.batch.processor.DonationTokenProcessor;
 import com.hanachain.hanachainbackend.batch.reader.DonationItemReader;
@@ -22,6 +23,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
 
 /**
  * 기부 토큰 전송 Batch Job 설정
@@ -37,6 +40,7 @@ public class DonationTokenTransferJobConfig {
     private final DonationTokenProcessor donationTokenProcessor;
     private final DonationTokenWriter donationTokenWriter;
     private final DonationTransferJobListener donationTransferJobListener;
+    private final DonorFundingTasklet donorFundingTasklet;
 
     @Value("${batch.donation-transfer.chunk-size:100}")
     private int chunkSize;
@@ -49,19 +53,40 @@ public class DonationTokenTransferJobConfig {
 
     public static final String JOB_NAME = "donationTokenTransferJob";
     public static final String STEP_NAME = "donationProcessingStep";
+    public static final String FUNDING_STEP_NAME = "donorFundingStep";
 
     /**
      * 기부 토큰 전송 Job
+     *
+     * 기부자 지갑 충전(지갑별 1회) → 기부 건별 donate 전송
      */
     @Bean(name = JOB_NAME)
     public Job donationTokenTransferJob(
             JobRepository jobRepository,
+            Step donorFundingStep,
             Step donationProcessingStep
     ) {
         return new JobBuilder(JOB_NAME, jobRepository)
                 .incrementer(new RunIdIncrementer())
                 .listener(donationTransferJobListener)
-                .start(donationProcessingStep)
+                .start(donorFundingStep)
+                .next(donationProcessingStep)
+                .build();
+    }
+
+    /**
+     * 기부자 지갑 충전 Step
+     *
+     * 블록체인 트랜잭션 확인을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+     */
+    @Bean(name = FUNDING_STEP_NAME)
+    public Step donorFundingStep(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        return new StepBuilder(FUNDING_STEP_NAME, jobRepository)
+                .tasklet(donorFundingTasklet, transactionManager)
+                .transactionAttribute(new DefaultTransactionAttribute(TransactionDefinition.PROPAGATION_NOT_SUPPORTED))
                 .build();
     }
 
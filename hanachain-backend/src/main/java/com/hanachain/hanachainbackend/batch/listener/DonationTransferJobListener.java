@@ -1,5 +1,6 @@
 package com.hanachain.hanachainbackend.batch.listener;
 
+import com.hanachain.hanachainbackend.batch.progress.BatchProgressTracker;
 import com.hanachain.hanachainbackend.entity.Campaign;
 import com.hanachain.hanachainbackend.repository.CampaignRepository;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,7 @@ import java.time.LocalDateTime;
 public class DonationTransferJobListener implements JobExecutionListener {
 
     private final CampaignRepository campaignRepository;
+    private final BatchProgressTracker batchProgressTracker;
 
     @Override
     public void beforeJob(JobExecution jobExecution) {
@@ -33,6 +35,7 @@ public class DonationTransferJobListener implements JobExecutionListener {
         }
 
         log.info("Starting donation token transfer job for campaign: {}", campaignId);
+        batchProgressTracker.start(jobExecution, campaignId);
 
         Campaign campaign = campaignRepository.findById(campaignId).orElse(null);
         if (campaign != null) {
@@ -45,6 +48,8 @@ public class DonationTransferJobListener implements JobExecutionListener {
 
     @Override
     public void afterJob(JobExecution jobExecution) {
+        batchProgressTracker.finish(jobExecution);
+
         Long campaignId = getCampaignId(jobExecution);
         if (campaignId == null) {
             return;
@@ -1,5 +1,6 @@
 package com.hanachain.hanachainbackend.batch.processor;
 
+import com.hanachain.hanachainbackend.batch.progress.BatchProgressTracker;
 import com.hanachain.hanachainbackend.dto.batch.DonationTransferResult;
 import com.hanachain.hanachainbackend.entity.Donation;
 import com.hanachain.hanachainbackend.entity.UserWallet;
@@ -20,7 +21,6 @@ import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.methods.response.EthGetBalance;
 import org.web3j.protocol.core.methods.response.EthSendTransaction;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
-import org.web3j.tx.Transfer;
 import org.web3j.utils.Convert;
 
 import java.math.BigDecimal;
@@ -41,6 +41,7 @@ public class DonationTokenProcessor implements ItemProcessor<Donation, DonationT
     private final Web3j web3j;
     private final MockUSDCWrapper mockUSDCWrapper;
     private final HanaChainCampaignWrapper hanaChainCampaignWrapper;
+    private final BatchProgressTracker batchProgressTracker;
 
     @Value("${blockchain.usdc.contract.address}")
     private String usdcContractAddress;
@@ -57,11 +58,18 @@ public class DonationTokenProcessor implements ItemProcessor<Donation, DonationT
     @Value("${blockchain.gas.limit:100000}")
     private Long gasLimit;
 
-    @Value("${blockchain.platform.wallet.private-key}")
-    private String platformPrivateKey;
-
     @Override
     public DonationTransferResult process(Donation donation) throws Exception {
+        DonationTransferResult result = transfer(donation);
+        // 재시도로 다시 던져지는 경우는 세지 않음
+        batchProgressTracker.recordProcessed();
+        return result;
+    }
+
+    /**
+     * 기부 한 건의 토큰 전송
+     */
+    private DonationTransferResult transfer(Donation donation) {
         long startTime = System.currentTimeMillis();
         log.info("Processing donation: {}, amount: {}", donation.getId(), donation.getAmount());
 
@@ -91,20 +99,12 @@ public class DonationTokenProcessor implements ItemProcessor<Donation, DonationT
                 throw new IllegalStateException("Donation amount is null for donation: " + donation.getId());
             }
 
-            // 5. 플랫폼 지갑 → 사용자 지갑으로 가스비 ETH 전송
-            String gasTxHash = transferGasFeeToUserWallet(donorWallet);
-            log.info("⛽ Gas fee (ETH) transferred to user wallet: {} - TX: {}",
-                     donorWallet.getWalletAddress(), gasTxHash);
-
-            // 6. 플랫폼 지갑 → 사용자 지갑으로 USDC 충전 (Faucet)
-            String chargeTxHash = chargeUSDCToUserWallet(donorWallet, tokenAmount);
-            log.info("💰 USDC charged to user wallet: {} - TX: {}",
-                     donorWallet.getWalletAddress(), chargeTxHash);
+            // 가스비 ETH, USDC 충전과 approve는 앞 Step(DonorFundingTasklet)에서 기부자 지갑별로 한 번에 처리됨
 
-            // 7. 사용자 지갑 USDC 잔액 확인
+            // 5. 사용자 지갑 USDC 잔액 확인
             checkBalance(donorWallet.getWalletAddress(), tokenAmount);
 
-            // 8. 사용자 지갑 → HanaChainCampaign 컨트랙트로 기부 (approve + donate)
+            // 6. 사용자 지갑 → HanaChainCampaign 컨트랙트로 기부 (donate)
             String donateTxHash = donateToHanaChain(
                     donorWallet,
                     contractAddress,
@@ -112,7 +112,7 @@ public class DonationTokenProcessor implements ItemProcessor<Donation, DonationT
                     tokenAmount
             );
 
-            // 9. 가스비 계산
+            // 7. 가스비 계산
             BigDecimal gasFee = calculateGasFee();
 
             long processingTime = System.currentTimeMillis() - startTime;
@@ -196,85 +196,6 @@ public class DonationTokenProcessor implements ItemProcessor<Donation, DonationT
         return walletOpt.get();
     }
 
-    /**
-     * 플랫폼 지갑에서 사용자 지갑으로 가스비용 ETH 전송
-     * 사용자 지갑이 USDC를 전송할 때 필요한 가스비를 미리 충전합니다.
-     */
-    private String transferGasFeeToUserWallet(UserWallet userWallet) {
-        try {
-            log.debug("⛽ Transferring gas fee to user wallet: {}", userWallet.getWalletAddress());
-
-            // 플랫폼 지갑 Credentials 생성
-            Credentials platformCredentials = Credentials.create(platformPrivateKey);
-
-            // 가스비 계산: 0.001 ETH (약 $3, 여유있게 설정)
-            BigDecimal gasFeeEth = BigDecimal.valueOf(0.001);
-
-            log.info("💸 Sending {} ETH as gas fee from platform wallet {} to user wallet {}",
-                    gasFeeEth,
-                    platformCredentials.getAddress(),
-                    userWallet.getWalletAddress());
-
-            // ETH 전송 (Web3j Transfer 유틸리티 사용)
-            TransactionReceipt receipt = Transfer.sendFunds(
-                    web3j,
-                    platformCredentials,
-                    userWallet.getWalletAddress(),
-                    gasFeeEth,
-                    Convert.Unit.ETHER
-            ).send();
-
-            String txHash = receipt.getTransactionHash();
-            log.info("✅ Gas fee transfer successful - TX: {}", txHash);
-
-            return txHash;
-
-        } catch (Exception e) {
-            log.error("❌ Failed to transfer gas fee to user wallet: {}", userWallet.getWalletAddress(), e);
-            throw new BlockchainNetworkException(
-                    null,
-                    "gas_transfer",
-                    "Failed to transfer gas fee: " + e.getMessage()
-            );
-        }
-    }
-
-    /**
-     * 플랫폼 지갑에서 사용자 지갑으로 USDC 충전 (Mint)
-     *
-     * Note: Platform wallet이 MockUSDC의 owner이므로 mint() 함수 사용 (금액 제한 없음)
-     */
-    private String chargeUSDCToUserWallet(UserWallet userWallet, BigDecimal amount) {
-        try {
-            log.info("💰 Charging {} USDC to user wallet: {}", amount, userWallet.getWalletAddress());
-
-            // 플랫폼 지갑 Credentials 생성
-            Credentials platformCredentials = Credentials.create(platformPrivateKey);
-
-            // USDC 금액을 6 decimals로 변환 (1 USDC = 1,000,000)
-            BigInteger usdcAmount = amount.multiply(BigDecimal.valueOf(1_000_000)).toBigInteger();
-
-            // 플랫폼 지갑(owner)에서 사용자 지갑으로 USDC mint 호출
-            // mint()는 owner 전용 함수로 금액 제한이 없음 (faucet limit 100 USDC 회피)
-            String txHash = mockUSDCWrapper.mint(
-                    platformCredentials,
-                    userWallet.getWalletAddress(),
-                    usdcAmount
-            ).join(); // CompletableFuture blocking wait
-
-            log.info("✅ USDC charging successful - TX: {}", txHash);
-            return txHash;
-
-        } catch (Exception e) {
-            log.error("❌ Failed to charge USDC to user wallet: {}", userWallet.getWalletAddress(), e);
-            throw new BlockchainNetworkException(
-                    null,
-                    "usdc_charge",
-                    "Failed to charge USDC: " + e.getMessage()
-            );
-        }
-    }
-
     /**
      * USDC 잔액 확인
      */
@@ -333,7 +254,7 @@ public class DonationTokenProcessor implements ItemProcessor<Donation, DonationT
     }
 
     /**
-     * HanaChainCampaign 컨트랙트를 통한 기부 (approve + donate)
+     * HanaChainCampaign 컨트랙트를 통한 기부 (donate)
      *
      * @param fromWallet 기부자 지갑
      * @param contractAddress 컨트랙트 주소
@@ -352,19 +273,9 @@ public class DonationTokenProcessor implements ItemProcessor<Donation, DonationT
             // USDC 금액을 6 decimals로 변환 (1 USDC = 1,000,000)
             BigInteger usdcAmount = amount.multiply(BigDecimal.valueOf(1_000_000)).toBigInteger();
 
-            // 1단계: MockUSDC approve (HanaChainCampaign 컨트랙트에 사용 승인)
-            log.info("📝 Step 1: Approving USDC for HanaChainCampaign contract: {}", contractAddress);
-            TransactionReceipt approveReceipt = mockUSDCWrapper.approve(
-                    userCredentials,
-                    contractAddress,  // Approve for the specific campaign contract
-                    usdcAmount
-            ).join(); // CompletableFuture blocking wait
-
-            log.info("✅ USDC approval successful - TX: {}", approveReceipt.getTransactionHash());
-
-            // 2단계: HanaChainCampaign.donate() 호출
+            // HanaChainCampaign.donate() 호출 (캠페인 전체 금액 approve는 충전 Step에서 완료)
             // CRITICAL: Create wrapper instance for the SPECIFIC contract address
-            log.info("🎁 Step 2: Creating wrapper for contract {} and calling donate() with campaignId {}", contractAddress, blockchainCampaignId);
+            log.info("🎁 Creating wrapper for contract {} and calling donate() with campaignId {}", contractAddress, blockchainCampaignId);
             HanaChainCampaignWrapper campaignInstance = new HanaChainCampaignWrapper(
                 web3j,  // Use injected Web3j instance
                 contractAddress
@@ -0,0 +1,277 @@
+package com.hanachain.hanachainbackend.batch.progress;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanachain.hanachainbackend.config.transaction.TransactionCallbacks;
+import com.hanachain.hanachainbackend.dto.batch.BatchProgressEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기부 토큰 전송 배치 진행 상황 집계 및 SSE 전송
+ *
+ * Processor가 항목을 처리할 때마다, Writer의 청크가 커밋될 때마다 메모리 카운터를 올리고
+ * push-interval마다 구독 중인 SSE 연결로 스냅샷(처리량, 남은 예상 시간 포함)을 보냅니다.
+ * JobExplorer 조회 없이 카운터만 읽으므로 구독자가 많아도 DB 부하가 늘지 않습니다.
+ * - 카운터는 Job을 실행하는 노드에만 있으므로, 다른 노드에서 실행 중인 Job은 구독할 수 없습니다.
+ * - 끝난 Job의 마지막 스냅샷은 retention 동안 보관해 늦게 연결한 구독자에게도 보냅니다.
+ */
+@Slf4j
+@Component
+public class BatchProgressTracker {
+
+    static final String PROGRESS_EVENT = "progress";
+    static final String COMPLETE_EVENT = "complete";
+    static final String QUEUED = "QUEUED";
+    static final String STARTED = "STARTED";
+
+    private final Map<Long, JobProgress> active = new ConcurrentHashMap<>();
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final Cache<Long, BatchProgressEvent> finished;
+    private final long emitterTimeoutMs;
+
+    public BatchProgressTracker(@Value("${batch.progress.retention-minutes:30}") long retentionMinutes,
+                                @Value("${batch.progress.sse-timeout-ms:1800000}") long emitterTimeoutMs) {
+        this.finished = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(retentionMinutes))
+                .maximumSize(1_000)
+                .build();
+        this.emitterTimeoutMs = emitterTimeoutMs;
+    }
+
+    /**
+     * Job 실행 요청 직후 등록 (CampaignBatchServiceImpl, launcher.run 반환 직후)
+     *
+     * 비동기 실행에서는 beforeJob보다 응답이 먼저 나가므로, 받은 실행 ID로 바로 구독해도 찾을 수 있도록
+     * QUEUED 상태로 미리 등록합니다. 그 사이 이미 끝난 Job은 다시 등록하지 않습니다.
+     */
+    public void queue(JobExecution jobExecution, Long campaignId) {
+        Long jobExecutionId = jobExecution.getId();
+        JobProgress progress = active.computeIfAbsent(jobExecutionId,
+                id -> new JobProgress(id, campaignId, totalOf(jobExecution), QUEUED));
+        // finish는 finished에 넣은 뒤 active에서 지우므로, 그 뒤에 등록됐다면 여기서 보임
+        if (finished.getIfPresent(jobExecutionId) != null) {
+            active.remove(jobExecutionId, progress);
+        }
+    }
+
+    /**
+     * Job 시작 (DonationTransferJobListener.beforeJob) - 미리 등록된 경우 시작 시각만 다시 잼
+     */
+    public void start(JobExecution jobExecution, Long campaignId) {
+        active.compute(jobExecution.getId(), (id, existing) -> {
+            if (existing != null) {
+                existing.markStarted();
+                return existing;
+            }
+            return new JobProgress(id, campaignId, totalOf(jobExecution), STARTED);
+        });
+    }
+
+    /**
+     * 현재 Step에서 항목 하나를 처리함 (DonationTokenProcessor)
+     */
+    public void recordProcessed() {
+        JobProgress progress = current();
+        if (progress != null) {
+            progress.processed.increment();
+        }
+    }
+
+    /**
+     * 현재 Step의 청크 쓰기 결과 (DonationTokenWriter, 청크 트랜잭션이 커밋된 뒤 반영)
+     */
+    public void recordWritten(int succeeded, int failed) {
+        JobProgress progress = current();
+        if (progress == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> progress.written(succeeded, failed));
+    }
+
+    /**
+     * Job 종료 (DonationTransferJobListener.afterJob) - 마지막 스냅샷을 보내고 구독을 닫음
+     */
+    public void finish(JobExecution jobExecution) {
+        JobProgress progress = active.get(jobExecution.getId());
+        if (progress == null) {
+            return;
+        }
+        progress.status = jobExecution.getStatus().name();
+        BatchProgressEvent last = progress.snapshot(true);
+        // queue와 겹쳐도 끝난 Job이 다시 등록되지 않도록 마지막 스냅샷을 먼저 보관
+        finished.put(jobExecution.getId(), last);
+        active.remove(jobExecution.getId());
+
+        List<SseEmitter> emitters = subscribers.remove(jobExecution.getId());
+        if (emitters != null) {
+            emitters.forEach(emitter -> complete(emitter, last));
+        }
+    }
+
+    /**
+     * 진행 상황 구독 (이 노드가 실행 중이거나 최근에 끝낸 Job만)
+     */
+    public Optional<SseEmitter> subscribe(Long jobExecutionId) {
+        JobProgress progress = active.get(jobExecutionId);
+        if (progress == null) {
+            return Optional.ofNullable(finished.getIfPresent(jobExecutionId))
+                    .map(last -> {
+                        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+                        complete(emitter, last);
+                        return emitter;
+                    });
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        List<SseEmitter> emitters = subscribers.computeIfAbsent(jobExecutionId, id -> new CopyOnWriteArrayList<>());
+        emitters.add(emitter);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+
+        if (!active.containsKey(jobExecutionId)) {
+            // 구독하는 사이에 끝난 경우
+            subscribers.remove(jobExecutionId, emitters);
+            BatchProgressEvent last = finished.getIfPresent(jobExecutionId);
+            complete(emitter, last != null ? last : progress.snapshot(true));
+            return Optional.of(emitter);
+        }
+
+        send(jobExecutionId, emitter, progress.snapshot(false));
+        return Optional.of(emitter);
+    }
+
+    /**
+     * 실행 중이거나 최근에 끝난 Job의 현재 스냅샷
+     */
+    public Optional<BatchProgressEvent> snapshot(Long jobExecutionId) {
+        JobProgress progress = active.get(jobExecutionId);
+        if (progress != null) {
+            return Optional.of(progress.snapshot(false));
+        }
+        return Optional.ofNullable(finished.getIfPresent(jobExecutionId));
+    }
+
+    /**
+     * 구독자에게 현재 스냅샷 전송
+     */
+    @Scheduled(fixedDelayString = "${batch.progress.push-interval-ms:1000}")
+    public void broadcast() {
+        subscribers.forEach((jobExecutionId, emitters) -> {
+            JobProgress progress = active.get(jobExecutionId);
+            if (progress == null || emitters.isEmpty()) {
+                return;
+            }
+            BatchProgressEvent event = progress.snapshot(false);
+            emitters.forEach(emitter -> send(jobExecutionId, emitter, event));
+        });
+    }
+
+    private static long totalOf(JobExecution jobExecution) {
+        Long total = jobExecution.getJobParameters().getLong("totalDonations");
+        return total != null ? total : 0;
+    }
+
+    private JobProgress current() {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            return null;
+        }
+        return active.get(context.getStepExecution().getJobExecutionId());
+    }
+
+    private void send(Long jobExecutionId, SseEmitter emitter, BatchProgressEvent event) {
+        try {
+            emitter.send(SseEmitter.event().name(PROGRESS_EVENT).data(event));
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊긴 구독자
+            List<SseEmitter> emitters = subscribers.get(jobExecutionId);
+            if (emitters != null) {
+                emitters.remove(emitter);
+            }
+            log.debug("Dropped batch progress subscriber for job {}: {}", jobExecutionId, e.getMessage());
+        }
+    }
+
+    private static void complete(SseEmitter emitter, BatchProgressEvent last) {
+        try {
+            emitter.send(SseEmitter.event().name(COMPLETE_EVENT).data(last));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 이미 닫힌 연결
+        }
+    }
+
+    /**
+     * Job 하나의 카운터
+     */
+    static final class JobProgress {
+
+        private final Long jobExecutionId;
+        private final Long campaignId;
+        private final long total;
+        private volatile long startedNanos = System.nanoTime();
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private volatile String status;
+
+        JobProgress(Long jobExecutionId, Long campaignId, long total, String status) {
+            this.jobExecutionId = jobExecutionId;
+            this.campaignId = campaignId;
+            this.total = total;
+            this.status = status;
+        }
+
+        void markStarted() {
+            startedNanos = System.nanoTime();
+            status = STARTED;
+        }
+
+        void written(int succeededCount, int failedCount) {
+            succeeded.add(succeededCount);
+            failed.add(failedCount);
+        }
+
+        BatchProgressEvent snapshot(boolean done) {
+            long elapsedMs = Duration.ofNanos(System.nanoTime() - startedNanos).toMillis();
+            long processedCount = processed.sum();
+            double throughput = elapsedMs > 0 ? processedCount * 1000.0 / elapsedMs : 0.0;
+            Long eta = null;
+            if (done) {
+                eta = 0L;
+            } else if (total > 0 && throughput > 0) {
+                eta = (long) Math.ceil(Math.max(0, total - processedCount) / throughput);
+            }
+            return BatchProgressEvent.builder()
+                    .jobExecutionId(jobExecutionId)
+                    .campaignId(campaignId)
+                    .status(status)
+                    .totalDonations(total)
+                    .processed(processedCount)
+                    .succeeded(succeeded.sum())
+                    .failed(failed.sum())
+                    .throughputPerSecond(throughput)
+                    .etaSeconds(eta)
+                    .elapsedMs(elapsedMs)
+                    .finished(done)
+                    .build();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.hanachain.hanachainbackend.batch.reader;
 
+import com.hanachain.hanachainbackend.entity.Campaign;
 import com.hanachain.hanachainbackend.entity.Donation;
+import com.hanachain.hanachainbackend.repository.CampaignRepository;
 import com.hanachain.hanachainbackend.repository.DonationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,6 +10,7 @@ import org.springframework.batch.item.data.RepositoryItemReader;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,6 +20,7 @@ import java.util.Map;
  *
  * 완료된 결제 중 블록체인에 기록되지 않은 기부 내역을 조회합니다.
  * RepositoryItemReader를 사용하여 페이징 처리를 수행합니다.
+ * 조회 조건에 캠페인 생성 시각을 created_at 하한으로 넣어 그 이전 월 파티션을 건너뜁니다.
  */
 @Slf4j
 @Component
@@ -24,6 +28,7 @@ import java.util.Map;
 public class DonationItemReader {
 
     private final DonationRepository donationRepository;
+    private final CampaignRepository campaignRepository;
 
     /**
      * 캠페인 ID에 해당하는 미처리 기부 내역 Reader 생성
@@ -41,7 +46,7 @@ public class DonationItemReader {
         reader.setPageSize(pageSize);
 
         // 쿼리 파라미터 설정 (List 형태로 전달)
-        reader.setArguments(java.util.Arrays.asList(campaignId));
+        reader.setArguments(Arrays.asList(campaignId, campaignCreatedAt(campaignId)));
 
         // 정렬 설정 (기부 날짜 오름차순)
         Map<String, Sort.Direction> sorts = new HashMap<>();
@@ -61,8 +66,18 @@ public class DonationItemReader {
      * @return 미처리 기부 건수
      */
     public long countPendingDonations(Long campaignId) {
-        long count = donationRepository.countPendingBlockchainRecords(campaignId);
+        long count = donationRepository.countPendingBlockchainRecords(campaignId, campaignCreatedAt(campaignId));
         log.info("Pending blockchain records for campaign {}: {}", campaignId, count);
         return count;
     }
+
+    /**
+     * 기부 조회의 created_at 하한으로 쓸 캠페인 생성 시각
+     * 캠페인이 없으면 현재 시각을 돌려주어 조회 결과가 비도록 합니다.
+     */
+    private LocalDateTime campaignCreatedAt(Long campaignId) {
+        return campaignRepository.findByIdForAdmin(campaignId)
+                .map(Campaign::getCreatedAt)
+                .orElseGet(LocalDateTime::now);
+    }
 }
@@ -1,5 +1,6 @@
 package com.hanachain.hanachainbackend.batch.writer;
 
+import com.hanachain.hanachainbackend.batch.progress.BatchProgressTracker;
 import com.hanachain.hanachainbackend.dto.batch.DonationTransferResult;
 import com.hanachain.hanachainbackend.entity.BlockchainStatus;
 import com.hanachain.hanachainbackend.entity.Donation;
@@ -14,12 +15,16 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 기부 토큰 전송 결과 Writer
  *
  * ItemProcessor에서 처리된 토큰 전송 결과를 DB에 저장합니다.
  * 성공한 경우 트랜잭션 해시를 저장하고, 실패한 경우 에러 정보를 기록합니다.
+ * 청크의 기부 내역은 한 번에 조회하고, 변경 사항은 커밋 시 JDBC 배치 UPDATE로 반영됩니다.
  */
 @Slf4j
 @Component
@@ -27,6 +32,7 @@ import java.util.List;
 public class DonationTokenWriter implements ItemWriter<DonationTransferResult> {
 
     private final DonationRepository donationRepository;
+    private final BatchProgressTracker batchProgressTracker;
 
     @Override
     @Transactional
@@ -39,13 +45,24 @@ public class DonationTokenWriter implements ItemWriter<DonationTransferResult> {
         int failureCount = 0;
         List<String> errors = new ArrayList<>();
 
+        // 청크 단위 일괄 조회 (건별 findById 대신 IN 조회 1회)
+        Map<Long, Donation> donations = donationRepository.findAllById(
+                        results.stream().map(DonationTransferResult::getDonationId).toList())
+                .stream()
+                .collect(Collectors.toMap(Donation::getId, Function.identity()));
+
         for (DonationTransferResult result : results) {
             try {
+                Donation donation = donations.get(result.getDonationId());
+                if (donation == null) {
+                    throw new IllegalStateException("Donation not found: " + result.getDonationId());
+                }
+
                 if (Boolean.TRUE.equals(result.getSuccess())) {
-                    updateSuccessfulTransfer(result);
+                    updateSuccessfulTransfer(donation, result);
                     successCount++;
                 } else {
-                    updateFailedTransfer(result);
+                    updateFailedTransfer(donation, result);
                     failureCount++;
                     errors.add(String.format("Donation %d: %s (%s)",
                             result.getDonationId(), result.getErrorMessage(), result.getErrorType()));
@@ -59,6 +76,7 @@ public class DonationTokenWriter implements ItemWriter<DonationTransferResult> {
         }
 
         log.info("Write completed - Success: {}, Failure: {}", successCount, failureCount);
+        batchProgressTracker.recordWritten(successCount, failureCount);
 
         if (!errors.isEmpty()) {
             log.warn("Failed transfers: {}", String.join("; ", errors));
@@ -68,11 +86,7 @@ public class DonationTokenWriter implements ItemWriter<DonationTransferResult> {
     /**
      * 성공한 토큰 전송 정보 업데이트
      */
-    private void updateSuccessfulTransfer(DonationTransferResult result) {
-        Donation donation = donationRepository.findById(result.getDonationId())
-                .orElseThrow(() -> new IllegalStateException(
-                        "Donation not found: " + result.getDonationId()));
-
+    private void updateSuccessfulTransfer(Donation donation, DonationTransferResult result) {
         // 블록체인 정보 업데이트
         donation.setDonationTransactionHash(result.getTransactionHash());
         donation.setDonorWalletAddress(result.getDonorWalletAddress());
@@ -95,11 +109,7 @@ public class DonationTokenWriter implements ItemWriter<DonationTransferResult> {
     /**
      * 실패한 토큰 전송 정보 업데이트
      */
-    private void updateFailedTransfer(DonationTransferResult result) {
-        Donation donation = donationRepository.findById(result.getDonationId())
-                .orElseThrow(() -> new IllegalStateException(
-                        "Donation not found: " + result.getDonationId()));
-
+    private void updateFailedTransfer(Donation donation, DonationTransferResult result) {
         // 실패 정보 업데이트
         String errorMessage = String.format("[%s] %s",
                 result.getErrorType(), result.getErrorMessage());
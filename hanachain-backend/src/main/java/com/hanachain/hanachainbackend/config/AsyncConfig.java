@@ -1,8 +1,10 @@
 package com.hanachain.hanachainbackend.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -12,12 +14,19 @@ import java.util.concurrent.ThreadPoolExecutor;
 /**
  * 비동기 작업을 위한 설정 클래스
  * 블록체인 작업을 위한 전용 스레드 풀을 제공합니다.
+ *
+ * spring.threads.virtual.enabled=true 이고 Java 21 이상에서 실행되면 고정 스레드 풀 대신
+ * 작업마다 가상 스레드를 사용합니다. 이 경우 동시성 상한은 스레드 수가 아니라
+ * RPC 요청 제한(blockchain.rpc.max-concurrent-requests)과 커넥션 대여 제한이 담당합니다.
  */
 @Configuration
 @EnableAsync
 @Slf4j
 public class AsyncConfig {
     
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+    
     /**
      * 블록체인 작업을 위한 전용 스레드 풀 설정
      * 
@@ -26,6 +35,10 @@ public class AsyncConfig {
      */
     @Bean("blockchainTaskExecutor")
     public Executor blockchainTaskExecutor() {
+        if (useVirtualThreads()) {
+            return virtualThreadExecutor("Blockchain-", 30);
+        }
+        
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         
         // 기본 스레드 개수: 블록체인 작업의 특성상 I/O 대기가 많으므로 적절한 수준으로 설정
@@ -65,6 +78,10 @@ public class AsyncConfig {
      */
     @Bean("generalTaskExecutor")
     public Executor generalTaskExecutor() {
+        if (useVirtualThreads()) {
+            return virtualThreadExecutor("General-", 20);
+        }
+        
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         
         // 일반적인 비동기 작업을 위한 설정
@@ -85,4 +102,115 @@ public class AsyncConfig {
         
         return executor;
     }
-}
\ No newline at end of file
+    
+    /**
+     * 이미지 변환본 생성을 위한 스레드 풀 설정
+     *
+     * 디코딩/리사이즈/인코딩은 CPU 작업이므로 가상 스레드 설정과 무관하게
+     * CPU 코어 수에 맞춘 고정 크기 풀을 사용해 요청 처리 스레드와 CPU를 나눠 씁니다.
+     */
+    @Bean("imageTaskExecutor")
+    public Executor imageTaskExecutor() {
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(Math.max(1, processors / 2));
+        executor.setMaxPoolSize(Math.max(1, processors / 2));
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("Image-");
+        executor.setKeepAliveSeconds(60);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+
+        log.info("Image task executor configured - Core: {}, Max: {}, Queue: {}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    /**
+     * 만료 캠페인 토큰 전송 배치를 실행하는 스레드 풀
+     *
+     * 배치 작업은 이 스레드에서 끝까지 실행되므로 풀 크기가 동시에 도는 배치 작업 수의 상한입니다.
+     * 한 번에 들어오는 캠페인 수만큼 큐에 쌓아 두고 차례로 처리합니다.
+     */
+    @Bean("campaignCloseTaskExecutor")
+    public Executor campaignCloseTaskExecutor(@Value("${campaign.expiry.concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(Math.max(1, concurrency));
+        executor.setMaxPoolSize(Math.max(1, concurrency));
+        executor.setThreadNamePrefix("CampaignClose-");
+        executor.setKeepAliveSeconds(60);
+        executor.setAllowCoreThreadTimeOut(true);
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+
+        executor.initialize();
+
+        log.info("Campaign close task executor configured - Core: {}, Max: {}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize());
+
+        return executor;
+    }
+
+    /**
+     * 관리자 요청으로 시작한 배치 작업을 실행하는 스레드 풀 (asyncJobLauncher)
+     *
+     * 요청 스레드는 Job을 넘기고 바로 반환되며, 풀이 가득 차면 새 Job 시작은 실패로 응답합니다.
+     */
+    @Bean("batchJobTaskExecutor")
+    public ThreadPoolTaskExecutor batchJobTaskExecutor(
+            @Value("${batch.launch.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${batch.launch.queue-capacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(Math.max(1, maxConcurrentJobs));
+        executor.setMaxPoolSize(Math.max(1, maxConcurrentJobs));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("BatchJob-");
+        executor.setKeepAliveSeconds(60);
+        executor.setAllowCoreThreadTimeOut(true);
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+
+        executor.initialize();
+
+        log.info("Batch job task executor configured - Core: {}, Max: {}, Queue: {}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    /**
+     * 작업마다 가상 스레드를 생성하는 실행기 (종료 시 진행 중 작업 대기)
+     */
+    private Executor virtualThreadExecutor(String threadNamePrefix, int awaitTerminationSeconds) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(awaitTerminationSeconds * 1000L);
+        
+        log.info("{} task executor configured with virtual threads", threadNamePrefix.replace("-", ""));
+        
+        return executor;
+    }
+    
+    private boolean useVirtualThreads() {
+        if (!virtualThreadsEnabled) {
+            return false;
+        }
+        if (Runtime.version().feature() < 21) {
+            log.warn("spring.threads.virtual.enabled=true requires Java 21+, falling back to platform thread pools (running on Java {})",
+                    Runtime.version().feature());
+            return false;
+        }
+        return true;
+    }
+}
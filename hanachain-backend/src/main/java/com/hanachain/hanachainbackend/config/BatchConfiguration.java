@@ -1,16 +1,37 @@
 package com.hanachain.hanachainbackend.config;
 
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 
 /**
  * Spring Batch 설정 클래스
  *
  * 캠페인 마감 시 기부 내역을 일괄 처리하여 USDC 토큰을 전송하는 배치 작업을 설정합니다.
+ *
+ * - jobLauncher (@EnableBatchProcessing 기본값): Job이 끝날 때까지 호출 스레드에서 실행합니다.
+ *   만료 캠페인 파이프라인처럼 호출하는 쪽에서 동시 실행 수를 조절할 때 사용합니다.
+ * - asyncJobLauncher: batchJobTaskExecutor에서 실행하고 JobExecution을 바로 반환합니다.
+ *   관리자 요청이 전송 완료까지 기다리지 않도록 할 때 사용합니다.
  */
 @Configuration
 @EnableBatchProcessing
 public class BatchConfiguration {
 
     // Batch Job 및 Step 설정은 별도의 Job Configuration 클래스에서 정의됩니다.
+
+    @Bean("asyncJobLauncher")
+    public JobLauncher asyncJobLauncher(JobRepository jobRepository,
+                                        @Qualifier("batchJobTaskExecutor") TaskExecutor batchJobTaskExecutor) throws Exception {
+        TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(batchJobTaskExecutor);
+        jobLauncher.afterPropertiesSet();
+        return jobLauncher;
+    }
 }
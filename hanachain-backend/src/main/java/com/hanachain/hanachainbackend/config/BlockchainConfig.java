@@ -1,5 +1,7 @@
 package com.hanachain.hanachainbackend.config;
 
+import com.hanachain.hanachainbackend.config.concurrency.ConcurrencyLimitInterceptor;
+import com.hanachain.hanachainbackend.config.transaction.TransactionalIoGuard;
 import com.hanachain.hanachainbackend.service.blockchain.MockUSDCWrapper;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -44,12 +46,18 @@ public class BlockchainConfig {
     @Value("${blockchain.timeout.write:60000}")
     private Long writeTimeout;
 
+    @Value("${blockchain.rpc.max-concurrent-requests:20}")
+    private int maxConcurrentRequests;
+
+    @Value("${blockchain.rpc.acquire-timeout-ms:30000}")
+    private long rpcAcquireTimeout;
+
     /**
      * Web3j 인스턴스를 생성합니다.
      * HTTP 서비스를 통해 블록체인 네트워크에 연결합니다.
      */
     @Bean
-    public Web3j web3j() {
+    public Web3j web3j(TransactionalIoGuard ioGuard) {
         log.info("Configuring Web3j connection to {} network", networkName);
         log.info("RPC URL: {}", rpcUrl);
         log.info("Chain ID: {}", chainId);
@@ -58,13 +66,16 @@ public class BlockchainConfig {
         log.info("Connection Timeout: {}ms", connectionTimeout);
         log.info("Read Timeout: {}ms", readTimeout);
         log.info("Write Timeout: {}ms", writeTimeout);
+        log.info("Max Concurrent RPC Requests: {}", maxConcurrentRequests);
         
-        // OkHttpClient 커스터마이징으로 타임아웃 설정
+        // OkHttpClient 커스터마이징으로 타임아웃, 트랜잭션 안 호출 감지 및 동시 RPC 요청 수 제한 설정
         OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder()
                 .connectTimeout(connectionTimeout, TimeUnit.MILLISECONDS)
                 .readTimeout(readTimeout, TimeUnit.MILLISECONDS)
                 .writeTimeout(writeTimeout, TimeUnit.MILLISECONDS)
-                .retryOnConnectionFailure(true);
+                .retryOnConnectionFailure(true)
+                .addInterceptor(ioGuard.okHttpInterceptor("blockchain-rpc"))
+                .addInterceptor(new ConcurrencyLimitInterceptor(maxConcurrentRequests, rpcAcquireTimeout));
         
         HttpService httpService = new HttpService(rpcUrl, clientBuilder.build());
         return Web3j.build(httpService);
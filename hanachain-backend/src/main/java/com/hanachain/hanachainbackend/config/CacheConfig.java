@@ -0,0 +1,59 @@
+package com.hanachain.hanachainbackend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 캐시 설정 클래스
+ * 로컬 인메모리(Caffeine) 캐시를 사용하며, 캐시별로 TTL과 최대 크기를 지정합니다.
+ */
+@Configuration
+@EnableCaching
+@Slf4j
+public class CacheConfig {
+
+    /**
+     * 캠페인 모금 통계 캐시 (캠페인 ID 단위)
+     */
+    public static final String CAMPAIGN_STATS_CACHE = "campaignStats";
+
+    @Value("${cache.default.ttl-seconds:60}")
+    private long defaultTtlSeconds;
+
+    @Value("${cache.default.maximum-size:10000}")
+    private long defaultMaximumSize;
+
+    @Value("${cache.campaign-stats.ttl-seconds:30}")
+    private long campaignStatsTtlSeconds;
+
+    @Value("${cache.campaign-stats.maximum-size:5000}")
+    private long campaignStatsMaximumSize;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        // 별도 등록되지 않은 캐시(@Cacheable 등)에 적용되는 기본 정책
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(defaultTtlSeconds))
+                .maximumSize(defaultMaximumSize));
+
+        cacheManager.registerCustomCache(CAMPAIGN_STATS_CACHE, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(campaignStatsTtlSeconds))
+                .maximumSize(campaignStatsMaximumSize)
+                .build());
+
+        log.info("Cache manager configured - default TTL: {}s, campaign stats TTL: {}s",
+                defaultTtlSeconds, campaignStatsTtlSeconds);
+
+        return cacheManager;
+    }
+}
@@ -4,6 +4,7 @@ import com.hanachain.hanachainbackend.entity.Notice;
 import com.hanachain.hanachainbackend.entity.User;
 import com.hanachain.hanachainbackend.repository.NoticeRepository;
 import com.hanachain.hanachainbackend.repository.UserRepository;
+import com.hanachain.hanachainbackend.service.permission.PermissionDelegationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
@@ -22,6 +23,7 @@ public class DevDataInitializer implements ApplicationRunner {
     private final UserRepository userRepository;
     private final NoticeRepository noticeRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PermissionDelegationRegistry permissionDelegationRegistry;
     
     @Override
     public void run(ApplicationArguments args) throws Exception {
@@ -61,6 +63,9 @@ public class DevDataInitializer implements ApplicationRunner {
                     .build();
             
             userRepository.save(adminUser);
+            // 관리자 권한 화면은 위임 레지스트리만 읽으므로 함께 기록
+            permissionDelegationRegistry.recordSystemRole(adminUser, User.Role.ADMIN, null, null,
+                    "개발용 관리자 계정", false, null);
             log.info("Admin user created: admin@example.com / Admin123!");
         }
     }
@@ -1,8 +1,11 @@
 package com.hanachain.hanachainbackend.config;
 
 import com.hanachain.hanachainbackend.security.CustomUserDetailsService;
+import com.hanachain.hanachainbackend.security.password.BoundedPasswordEncoder;
+import com.hanachain.hanachainbackend.security.password.PasswordHashExecutor;
 import com.hanachain.hanachainbackend.security.JwtAuthenticationEntryPoint;
 import com.hanachain.hanachainbackend.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -17,6 +20,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -26,6 +30,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -36,13 +41,26 @@ public class SecurityConfig {
     private final CustomUserDetailsService userDetailsService;
     private final JwtAuthenticationEntryPoint unauthorizedHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final PasswordHashExecutor passwordHashExecutor;
     
     @Value("${app.security.cors.allowed-origins}")
     private String allowedOrigins;
     
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+    
+    /**
+     * 비밀번호 인코더
+     * - {bcrypt} 접두사 형식으로 저장하며, 접두사 없는 기존 해시도 bcrypt로 검증
+     * - 기존 해시이거나 설정된 비용(strength)과 다르면 로그인 성공 시 재해시 (CustomUserDetailsService.updatePassword)
+     * - 해시 계산은 전용 실행기에서 수행 (PasswordHashExecutor)
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new BoundedPasswordEncoder(delegating, passwordHashExecutor);
     }
     
     @Bean
@@ -55,6 +73,7 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
     
@@ -111,6 +130,15 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/organizations/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/organizations/search").permitAll()
 
+                // 업로드 파일 (캠페인/프로필 이미지) - 인증 없이 허용
+                .requestMatchers(HttpMethod.GET, "/images/**").permitAll()
+                .requestMatchers(HttpMethod.HEAD, "/images/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/files/profile-images/**").permitAll()
+                .requestMatchers(HttpMethod.HEAD, "/files/profile-images/**").permitAll()
+
+                // 비동기 응답(SSE) 완료 디스패치 - 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // 개발 환경 엔드포인트 (개발 프로파일에서만)
                 .requestMatchers("/dev/**").permitAll()
 
@@ -0,0 +1,49 @@
+package com.hanachain.hanachainbackend.config.concurrency;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 HTTP 요청 수 제한 인터셉터 (블록체인 RPC)
+ *
+ * Web3j의 동기 호출(.send())은 OkHttp 요청 하나에 대응하므로 여기서 세마포어로 동시 요청 수를 제한합니다.
+ * 가상 스레드 모드에서는 호출 스레드 수가 사실상 무제한이므로, 고정 스레드 풀이 하던 상한을 이 인터셉터가 대신합니다.
+ * Semaphore는 대기 중 캐리어 스레드를 점유하지 않습니다.
+ */
+public class ConcurrencyLimitInterceptor implements Interceptor {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    public ConcurrencyLimitInterceptor(int maxConcurrentRequests, long acquireTimeoutMillis) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new InterruptedIOException("Timed out waiting for an RPC request slot after " + acquireTimeoutMillis + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for an RPC request slot");
+        }
+
+        try {
+            return chain.proceed(chain.request());
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,48 @@
+package com.hanachain.hanachainbackend.config.concurrency;
+
+import com.hanachain.hanachainbackend.config.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 모드 설정 (spring.threads.virtual.enabled=true, Java 21 이상에서만 활성화)
+ *
+ * Spring Boot가 Tomcat 요청 처리와 스케줄러(@Scheduled)를 가상 스레드로 전환하고,
+ * 블록체인/일반 비동기 실행기는 AsyncConfig에서 전환합니다.
+ * 여기서는 스레드 수 제한이 사라진 만큼 커넥션 풀 앞에 동시 대여 수 제한을 둡니다.
+ * 복제본 라우팅 사용 시에는 라우팅/지연 프록시가 아닌 각 풀(주 DB, 복제본)에 풀 크기만큼 적용됩니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxConnections,
+            @Value("${spring.datasource.hikari.connection-timeout:30000}") long acquireTimeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof DataSource dataSource
+                        && !(bean instanceof DelegatingDataSource)
+                        && !(bean instanceof ReplicaRoutingDataSource)) {
+                    int limit = bean instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : maxConnections;
+                    log.info("Limiting concurrent connections of '{}' to {} for virtual threads", beanName, limit);
+                    return new ConnectionLimitingDataSource(dataSource, limit, acquireTimeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.hanachain.hanachainbackend.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 최근 쓰기 기록 (read-your-writes)
+ *
+ * 쓰기 트랜잭션을 커밋한 사용자는 일정 시간 동안 읽기 전용 트랜잭션도 주 DB로 보내,
+ * 복제 지연 때문에 방금 저장한 내용이 보이지 않는 일이 없도록 합니다.
+ * 인증 주체 이름(이메일)을 키로 쓰며, 기록은 시간이 지나면 자동으로 사라집니다.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maximumSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public void recordWrite(String principal) {
+        if (principal != null) {
+            recentWriters.put(principal, Boolean.TRUE);
+        }
+    }
+
+    public boolean hasRecentWrite(String principal) {
+        return principal != null && recentWriters.getIfPresent(principal) != null;
+    }
+}
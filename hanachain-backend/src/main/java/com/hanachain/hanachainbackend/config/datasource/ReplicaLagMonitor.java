@@ -0,0 +1,99 @@
+package com.hanachain.hanachainbackend.config.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 읽기 전용 복제본 상태 확인
+ *
+ * 주기적으로 복제본 커넥션을 얻어 보고, 지연 조회 쿼리(datasource.replica.lag-query)가 설정되어 있으면
+ * 그 결과(초 단위 지연)가 허용치(datasource.replica.max-lag-seconds) 이하인지 확인합니다.
+ * 첫 확인 전, 연결 실패, 지연 초과, 지연 값을 읽지 못한 경우에는 사용 불가로 보고 주 DB로 읽습니다.
+ *
+ * 지연 조회 쿼리 예 (Oracle Active Data Guard):
+ * SELECT EXTRACT(SECOND FROM TO_DSINTERVAL(value)) + EXTRACT(MINUTE FROM TO_DSINTERVAL(value)) * 60
+ *   FROM v$dataguard_stats WHERE name = 'apply lag'
+ *
+ * 지표: datasource.replica.lag.seconds, datasource.replica.available (1/0)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replicaDataSource;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, double maxLagSeconds,
+                             MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+
+        meterRegistry.gauge("datasource.replica.lag.seconds", this, monitor -> monitor.lagSeconds);
+        meterRegistry.gauge("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0);
+    }
+
+    /**
+     * 복제본 연결/지연 확인 (첫 실행은 기동 직후)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void refresh() {
+        double measured;
+        try (Connection connection = replicaDataSource.getConnection()) {
+            measured = StringUtils.hasText(lagQuery) ? queryLag(connection) : 0.0;
+        } catch (SQLException e) {
+            log.warn("Read replica check failed: {}", e.getMessage());
+            update(false, Double.NaN);
+            return;
+        }
+
+        update(!Double.isNaN(measured) && measured <= maxLagSeconds, measured);
+    }
+
+    /**
+     * 복제본 커넥션 획득 실패 시 다음 확인 전까지 사용 중지
+     */
+    public void markUnavailable(SQLException cause) {
+        log.warn("Read replica connection failed, routing reads to primary: {}", cause.getMessage());
+        update(false, lagSeconds);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    private double queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return Double.NaN;
+            }
+            double value = resultSet.getDouble(1);
+            return resultSet.wasNull() ? Double.NaN : value;
+        }
+    }
+
+    private void update(boolean nowAvailable, double measuredLag) {
+        lagSeconds = measuredLag;
+        if (available != nowAvailable) {
+            log.info("Read replica {} (lag: {}s, max: {}s)",
+                    nowAvailable ? "available" : "unavailable", measuredLag, maxLagSeconds);
+        }
+        available = nowAvailable;
+    }
+}
@@ -0,0 +1,106 @@
+package com.hanachain.hanachainbackend.config.datasource;
+
+import com.hanachain.hanachainbackend.config.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 주 DB / 읽기 전용 복제본 라우팅 DataSource
+ *
+ * 커넥션을 얻는 시점의 트랜잭션 속성으로 대상을 고릅니다.
+ * - 읽기 전용 트랜잭션 → 복제본 (복제본 사용 불가, 최근 쓰기 사용자, 복제본 연결 실패 시 주 DB)
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖) → 주 DB, 쓰기 트랜잭션 커밋 후 사용자를 최근 쓰기로 기록
+ *
+ * 트랜잭션 매니저는 읽기 전용 여부를 트랜잭션 시작 후에 표시하므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸 첫 쿼리 시점에 커넥션을 얻도록 해야 합니다.
+ *
+ * 지표: datasource.routing (target=primary|replica, reason=write|read|replica-unavailable|read-your-writes|replica-error)
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+
+    public ReplicaRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource,
+                                    ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWritesTracker,
+                                    MeterRegistry meterRegistry) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriterAfterCommit();
+            count("primary", "write");
+            return primaryDataSource.getConnection();
+        }
+
+        if (!lagMonitor.isAvailable()) {
+            count("primary", "replica-unavailable");
+            return primaryDataSource.getConnection();
+        }
+
+        if (readYourWritesTracker.hasRecentWrite(currentPrincipal())) {
+            count("primary", "read-your-writes");
+            return primaryDataSource.getConnection();
+        }
+
+        try {
+            Connection connection = replicaDataSource.getConnection();
+            count("replica", "read");
+            return connection;
+        } catch (SQLException e) {
+            lagMonitor.markUnavailable(e);
+            count("primary", "replica-error");
+            return primaryDataSource.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primaryDataSource.getConnection(username, password);
+    }
+
+    private void recordWriterAfterCommit() {
+        String principal = currentPrincipal();
+        if (principal == null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> readYourWritesTracker.recordWrite(principal));
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private void count(String target, String reason) {
+        Counter.builder("datasource.routing")
+                .description("Connections handed out by the primary/replica routing data source")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,89 @@
+package com.hanachain.hanachainbackend.config.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구조화 접근 로그 필터
+ *
+ * 요청마다 헤더를 나열하던 로그 대신 요청당 한 줄(method, 경로 템플릿, 상태, 지연 시간, 사용자 ID)을
+ * 별도 로거(ACCESS_LOG)로 남깁니다. 기록 여부는 {@link AccessLogSampler}가 정하며,
+ * 샘플링에서 제외된 요청은 문자열/인자 배열을 만들지 않습니다.
+ * 헤더는 {@link HeaderDebugToggle}로 켠 경로에서만 기록합니다.
+ *
+ * 경로 템플릿(/campaigns/{id})을 사용하므로 ID별로 로그 키가 늘어나지 않습니다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    /**
+     * 인증 필터가 인증된 사용자 ID를 남기는 요청 속성
+     */
+    public static final String USER_ID_ATTRIBUTE = AccessLogFilter.class.getName() + ".userId";
+
+    static final String ACCESS_LOGGER_NAME = "ACCESS_LOG";
+    private static final Logger accessLog = LoggerFactory.getLogger(ACCESS_LOGGER_NAME);
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final AccessLogSampler sampler;
+    private final HeaderDebugToggle headerDebugToggle;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (headerDebugToggle.isEnabled(request.getRequestURI())) {
+            log.info("[Header Debug] {} {} - {}", request.getMethod(), request.getRequestURI(),
+                    headerDebugToggle.describeHeaders(request));
+        }
+
+        long start = System.nanoTime();
+        int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+        try {
+            filterChain.doFilter(request, response);
+            status = response.getStatus();
+        } finally {
+            long end = System.nanoTime();
+            long elapsedNanos = end - start;
+            if (accessLog.isInfoEnabled() && sampler.shouldSample(status, elapsedNanos) && sampler.tryAcquire(end)) {
+                write(request, status, elapsedNanos);
+            }
+        }
+    }
+
+    private void write(HttpServletRequest request, int status, long elapsedNanos) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Object userId = request.getAttribute(USER_ID_ATTRIBUTE);
+        long suppressed = sampler.drainSuppressed();
+
+        accessLog.info("method={} path={} status={} latencyMs={} userId={} suppressed={}",
+                request.getMethod(),
+                pattern != null ? pattern : UNMAPPED,
+                status,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                userId != null ? userId : "-",
+                suppressed);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+}
@@ -0,0 +1,70 @@
+package com.hanachain.hanachainbackend.config.logging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 접근 로그 샘플링/초당 출력 제한
+ *
+ * 정상 요청은 설정된 비율로만 기록하고, 오류(5xx)와 느린 요청은 항상 기록 대상으로 봅니다.
+ * 기록 대상이라도 초당 최대 줄 수를 넘으면 버리고 버린 줄 수를 모아 다음 구간의 첫 줄에 함께 남깁니다.
+ * 요청 경로에서 객체를 만들지 않도록 원자 변수만 사용합니다.
+ */
+@Component
+public class AccessLogSampler {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double sampleRate;
+    private final int maxLinesPerSecond;
+    private final long slowThresholdNanos;
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger linesInWindow = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public AccessLogSampler(@Value("${access-log.sample-rate:0.1}") double sampleRate,
+                            @Value("${access-log.max-lines-per-second:200}") int maxLinesPerSecond,
+                            @Value("${access-log.slow-threshold-ms:1000}") long slowThresholdMs) {
+        this.sampleRate = Math.max(0.0, Math.min(1.0, sampleRate));
+        this.maxLinesPerSecond = maxLinesPerSecond;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    /**
+     * 요청 결과로 기록 대상 여부 판단 (오류/느린 요청은 항상, 나머지는 샘플링)
+     */
+    public boolean shouldSample(int status, long elapsedNanos) {
+        if (status >= 500 || elapsedNanos >= slowThresholdNanos) {
+            return true;
+        }
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * 초당 출력 한도 내인지 확인 (한도 초과 시 false를 반환하고 버린 줄 수를 누적)
+     */
+    public boolean tryAcquire(long nowNanos) {
+        long start = windowStart.get();
+        if (nowNanos - start >= WINDOW_NANOS && windowStart.compareAndSet(start, nowNanos)) {
+            linesInWindow.set(0);
+        }
+        if (linesInWindow.incrementAndGet() <= maxLinesPerSecond) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 이전에 버린 줄 수를 가져오고 0으로 초기화
+     */
+    public long drainSuppressed() {
+        return suppressed.get() == 0 ? 0 : suppressed.getAndSet(0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.hanachain.hanachainbackend.config.logging;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경로별 요청 헤더 디버그 토글
+ *
+ * 운영 중 특정 경로의 요청 헤더를 확인해야 할 때만 관리자 API로 켜며, 지정한 시간이 지나면 자동으로 꺼집니다.
+ * 켜진 경로가 없으면 요청마다 빈 맵 확인만 하고 넘어갑니다.
+ * 인증 정보가 담긴 헤더는 값을 가려서 기록합니다.
+ */
+@Component
+public class HeaderDebugToggle {
+
+    private static final Set<String> MASKED_HEADERS = Set.of("authorization", "cookie", "set-cookie", "x-api-key");
+
+    // 경로 접두사 → 만료 시각(epoch millis)
+    private final Map<String, Long> enabledPrefixes = new ConcurrentHashMap<>();
+
+    public void enable(String pathPrefix, Duration duration) {
+        enabledPrefixes.put(pathPrefix, System.currentTimeMillis() + duration.toMillis());
+    }
+
+    public void disable(String pathPrefix) {
+        enabledPrefixes.remove(pathPrefix);
+    }
+
+    public void disableAll() {
+        enabledPrefixes.clear();
+    }
+
+    /**
+     * 현재 켜진 경로 접두사와 만료 시각
+     */
+    public Map<String, Instant> activePrefixes() {
+        long now = System.currentTimeMillis();
+        Map<String, Instant> active = new TreeMap<>();
+        enabledPrefixes.forEach((prefix, expiresAt) -> {
+            if (expiresAt > now) {
+                active.put(prefix, Instant.ofEpochMilli(expiresAt));
+            }
+        });
+        return active;
+    }
+
+    public boolean isEnabled(String path) {
+        if (enabledPrefixes.isEmpty()) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, Long> entry : enabledPrefixes.entrySet()) {
+            if (entry.getValue() <= now) {
+                enabledPrefixes.remove(entry.getKey(), entry.getValue());
+            } else if (path.startsWith(entry.getKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청 헤더를 한 줄 문자열로 변환 (민감 헤더는 마스킹)
+     */
+    public String describeHeaders(HttpServletRequest request) {
+        StringBuilder builder = new StringBuilder(256);
+        Enumeration<String> names = request.getHeaderNames();
+        for (String name : names != null ? Collections.list(names) : Collections.<String>emptyList()) {
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(name).append('=');
+            builder.append(MASKED_HEADERS.contains(name.toLowerCase()) ? "***" : request.getHeader(name));
+        }
+        return builder.toString();
+    }
+}
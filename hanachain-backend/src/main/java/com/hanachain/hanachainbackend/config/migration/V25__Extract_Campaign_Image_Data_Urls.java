@@ -0,0 +1,117 @@
+package com.hanachain.hanachainbackend.config.migration;
+
+import com.hanachain.hanachainbackend.service.image.ImageStorage;
+import com.hanachain.hanachainbackend.service.image.StoredImage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * V25: campaigns.image_url에 저장된 Base64 data URL을 이미지 저장소로 추출
+ *
+ * 예전 업로드 방식은 이미지 전체를 "data:image/png;base64,..." 문자열로 행에 저장했기 때문에
+ * 목록/상세 응답마다 수 MB가 실렸습니다. 각 data URL을 디코딩해 {@link ImageStorage}에 내용 주소 방식으로
+ * 저장하고 image_url을 짧은 URL로 교체합니다.
+ *
+ * 블롭 저장소가 필요하므로 SQL이 아닌 Spring 빈 Java 마이그레이션으로 두며, Spring Boot가 JavaMigration 빈을
+ * Flyway에 등록합니다 (db/migration 클래스패스 스캔 대상이 아니므로 중복 등록되지 않음).
+ * id 기준 키셋 페이지로 나눠 읽고, 디코딩할 수 없는 값은 건너뛰고 그대로 둡니다.
+ * 트랜잭션이 롤백돼도 이미 저장된 블롭은 같은 내용이면 같은 키이므로 재실행 시 그대로 재사용됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class V25__Extract_Campaign_Image_Data_Urls extends BaseJavaMigration {
+
+    private static final int PAGE_SIZE = 50;
+
+    private static final String SELECT_PAGE =
+            "SELECT id, image_url FROM campaigns " +
+            " WHERE image_url LIKE 'data:%' AND id > ? " +
+            " ORDER BY id FETCH FIRST " + PAGE_SIZE + " ROWS ONLY";
+
+    private static final String UPDATE_IMAGE_URL = "UPDATE campaigns SET image_url = ? WHERE id = ?";
+
+    private final ImageStorage imageStorage;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        long lastId = 0;
+        int extracted = 0;
+        int skipped = 0;
+
+        while (true) {
+            List<Long> ids = new ArrayList<>(PAGE_SIZE);
+            List<String> dataUrls = new ArrayList<>(PAGE_SIZE);
+            try (PreparedStatement select = connection.prepareStatement(SELECT_PAGE)) {
+                select.setLong(1, lastId);
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        ids.add(rs.getLong(1));
+                        dataUrls.add(rs.getString(2));
+                    }
+                }
+            }
+            if (ids.isEmpty()) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+
+            try (PreparedStatement update = connection.prepareStatement(UPDATE_IMAGE_URL)) {
+                int pending = 0;
+                for (int i = 0; i < ids.size(); i++) {
+                    StoredImage stored = extract(ids.get(i), dataUrls.get(i));
+                    if (stored == null) {
+                        skipped++;
+                        continue;
+                    }
+                    update.setString(1, stored.getUrl());
+                    update.setLong(2, ids.get(i));
+                    update.addBatch();
+                    pending++;
+                }
+                if (pending > 0) {
+                    update.executeBatch();
+                    extracted += pending;
+                }
+            }
+        }
+
+        log.info("캠페인 이미지 data URL 추출 완료 - 추출: {}, 건너뜀: {}", extracted, skipped);
+    }
+
+    /**
+     * data:&lt;mime&gt;;base64,&lt;data&gt; 형식만 처리 (그 외 형식이나 깨진 값은 null)
+     */
+    private StoredImage extract(Long campaignId, String dataUrl) {
+        int comma = dataUrl.indexOf(',');
+        if (comma < 0) {
+            log.warn("data URL 형식이 아니므로 건너뜀 - campaignId: {}", campaignId);
+            return null;
+        }
+        String header = dataUrl.substring("data:".length(), comma);
+        if (!header.endsWith(";base64")) {
+            log.warn("Base64 인코딩이 아닌 data URL이므로 건너뜀 - campaignId: {}", campaignId);
+            return null;
+        }
+        String contentType = header.substring(0, header.length() - ";base64".length());
+
+        try {
+            byte[] content = Base64.getMimeDecoder().decode(dataUrl.substring(comma + 1));
+            return imageStorage.store(content, contentType);
+        } catch (Exception e) {
+            log.warn("캠페인 이미지 추출 실패로 건너뜀 - campaignId: {}", campaignId, e);
+            return null;
+        }
+    }
+}
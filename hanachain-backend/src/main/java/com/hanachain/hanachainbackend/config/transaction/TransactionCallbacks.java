@@ -0,0 +1,33 @@
+package com.hanachain.hanachainbackend.config.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후 실행 도우미
+ *
+ * 캐시 무효화, 메모리 카운터, 감사 로그처럼 DB 변경과 함께 반영되어야 하는 부수 작업을
+ * 커밋 전에 실행하면 롤백 시 어긋나거나 다른 요청이 커밋 전 값을 다시 캐싱할 수 있습니다.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행 (롤백되면 실행하지 않음, 트랜잭션 밖이면 즉시 실행)
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package com.hanachain.hanachainbackend.config.transaction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Interceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+import java.util.Locale;
+
+/**
+ * 트랜잭션 안 외부 I/O 감지기
+ *
+ * 트랜잭션이 열려 있으면 JDBC 커넥션이 트랜잭션 끝까지 묶여 있으므로, 그 안에서 블록체인 RPC나
+ * 결제/FDS API를 호출하면 커넥션 풀 점유 시간이 DB 작업이 아니라 네트워크 지연에 비례하게 됩니다.
+ * 외부 HTTP 클라이언트(OkHttp, RestTemplate, WebClient)에 이 감지기를 걸어 호출 시점에
+ * 트랜잭션이 활성 상태인지 확인합니다.
+ *
+ * 모드 (transaction.io-guard.mode)
+ * - off: 검사하지 않음
+ * - metric: 경고 로그와 transaction.io.violations 지표만 남김 (운영 기본값)
+ * - fail: {@link IllegalStateException}으로 호출을 막음 (테스트)
+ */
+@Slf4j
+@Component
+public class TransactionalIoGuard {
+
+    public enum Mode { OFF, METRIC, FAIL }
+
+    private final Mode mode;
+    private final MeterRegistry meterRegistry;
+
+    public TransactionalIoGuard(MeterRegistry meterRegistry,
+                                @Value("${transaction.io-guard.mode:metric}") String mode) {
+        this.meterRegistry = meterRegistry;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        log.info("Transactional I/O guard mode: {}", this.mode);
+    }
+
+    /**
+     * 외부 호출 직전 검사
+     *
+     * @param client 지표 태그 (blockchain-rpc, portone, fds 등)
+     * @param target 로그용 호출 대상 (호스트/경로)
+     */
+    public void check(String client, String target) {
+        if (mode == Mode.OFF || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+
+        String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        Counter.builder("transaction.io.violations")
+                .description("Outbound calls made while a database transaction was open")
+                .tag("client", client)
+                .register(meterRegistry)
+                .increment();
+
+        if (mode == Mode.FAIL) {
+            throw new IllegalStateException("Outbound " + client + " call to " + target
+                    + " inside transaction " + transactionName);
+        }
+        log.warn("Outbound {} call to {} inside transaction {}", client, target, transactionName);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * OkHttp 인터셉터 (Web3j HttpService)
+     */
+    public Interceptor okHttpInterceptor(String client) {
+        return chain -> {
+            check(client, chain.request().url().host());
+            return chain.proceed(chain.request());
+        };
+    }
+
+    /**
+     * RestTemplate 인터셉터
+     */
+    public ClientHttpRequestInterceptor restTemplateInterceptor(String client) {
+        return (request, body, execution) -> {
+            check(client, request.getURI().getHost() + request.getURI().getPath());
+            return execution.execute(request, body);
+        };
+    }
+
+    /**
+     * WebClient 필터 (요청을 구독하는 스레드에서 검사)
+     */
+    public ExchangeFilterFunction webClientFilter(String client) {
+        return (request, next) -> {
+            check(client, request.url().getHost() + request.url().getPath());
+            return next.exchange(request);
+        };
+    }
+}
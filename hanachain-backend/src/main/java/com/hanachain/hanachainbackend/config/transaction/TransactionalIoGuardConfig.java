@@ -0,0 +1,18 @@
+package com.hanachain.hanachainbackend.config.transaction;
+
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 자동 구성된 WebClient.Builder에 트랜잭션 안 외부 I/O 감지 필터 등록
+ * (OkHttp는 BlockchainConfig, RestTemplate은 각 서비스에서 직접 등록)
+ */
+@Configuration
+public class TransactionalIoGuardConfig {
+
+    @Bean
+    public WebClientCustomizer transactionalIoGuardWebClientCustomizer(TransactionalIoGuard ioGuard) {
+        return builder -> builder.filter(ioGuard.webClientFilter("webclient"));
+    }
+}
@@ -0,0 +1,62 @@
+package com.hanachain.hanachainbackend.controller.admin;
+
+import com.hanachain.hanachainbackend.dto.audit.AuditLogResponse;
+import com.hanachain.hanachainbackend.dto.audit.AuditLogSearchCondition;
+import com.hanachain.hanachainbackend.dto.common.ApiResponse;
+import com.hanachain.hanachainbackend.entity.enums.AuditAction;
+import com.hanachain.hanachainbackend.entity.enums.AuditCategory;
+import com.hanachain.hanachainbackend.security.annotation.Audited;
+import com.hanachain.hanachainbackend.service.AuditLogService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 감사 로그 조회 컨트롤러
+ *
+ * 접근 허용/거부, 관리자 작업, FDS 오버라이드, 지갑 작업 감사 로그를 기간과 필터로 조회합니다.
+ * 감사 로그 조회 자체도 감사 로그로 남습니다.
+ */
+@RestController
+@RequestMapping("/admin/audit-logs")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Admin Audit Log", description = "관리자 감사 로그 조회 API")
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
+public class AdminAuditLogController {
+
+    private final AuditLogService auditLogService;
+
+    @Operation(
+        summary = "감사 로그 검색",
+        description = "기간(from/to, 기본 최근 7일, 최대 93일)과 사용자/작업/분류/단체/대상/성공 여부로 감사 로그를 최신순 조회합니다."
+    )
+    @GetMapping
+    @Audited(action = AuditAction.AUDIT_LOG_VIEW, category = AuditCategory.ADMIN, description = "감사 로그 조회",
+             riskLevel = "LOW")
+    public ResponseEntity<ApiResponse<Page<AuditLogResponse>>> searchAuditLogs(
+            @ModelAttribute AuditLogSearchCondition condition,
+            @PageableDefault(size = 50) Pageable pageable) {
+
+        log.info("🔍 감사 로그 조회 요청 - condition: {}, page: {}", condition, pageable.getPageNumber());
+
+        Page<AuditLogResponse> auditLogs = auditLogService.searchAuditLogs(condition, pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(
+            "감사 로그를 성공적으로 조회했습니다.",
+            auditLogs
+        ));
+    }
+}
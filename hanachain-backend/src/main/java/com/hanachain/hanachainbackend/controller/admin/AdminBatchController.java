@@ -10,9 +10,11 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 관리자 배치 작업 컨트롤러
@@ -87,6 +89,25 @@ public class AdminBatchController {
         }
     }
 
+    @Operation(
+        summary = "배치 작업 진행 상황 스트림",
+        description = "처리/성공/실패 건수, 처리량, 남은 예상 시간을 Server-Sent Events로 보냅니다. " +
+                "주기적으로 progress 이벤트를 보내고, 작업이 끝나면 complete 이벤트를 보낸 뒤 연결을 닫습니다."
+    )
+    @GetMapping(value = "/batch/jobs/{jobExecutionId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamBatchProgress(
+            @Parameter(description = "작업 실행 ID") @PathVariable Long jobExecutionId) {
+
+        log.debug("📡 배치 작업 진행 상황 구독 요청 - jobExecutionId: {}", jobExecutionId);
+
+        try {
+            return ResponseEntity.ok(batchService.subscribeProgress(jobExecutionId));
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️ 배치 작업 진행 상황 구독 불가 - jobExecutionId: {}, {}", jobExecutionId, e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @Operation(
         summary = "캠페인의 최신 배치 작업 상태 조회",
         description = "특정 캠페인에서 실행된 가장 최근 배치 작업의 상태를 조회합니다."
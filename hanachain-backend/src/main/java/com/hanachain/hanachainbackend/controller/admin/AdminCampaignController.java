@@ -9,8 +9,11 @@ import com.hanachain.hanachainbackend.dto.common.ApiResponse;
 import com.hanachain.hanachainbackend.dto.donation.DonationResponse;
 import com.hanachain.hanachainbackend.entity.Campaign;
 import com.hanachain.hanachainbackend.entity.Donation;
+import com.hanachain.hanachainbackend.entity.enums.AuditAction;
+import com.hanachain.hanachainbackend.entity.enums.AuditCategory;
 import com.hanachain.hanachainbackend.repository.DonationRepository;
 import com.hanachain.hanachainbackend.security.SecurityUtils;
+import com.hanachain.hanachainbackend.security.annotation.Audited;
 import com.hanachain.hanachainbackend.service.CampaignService;
 
 import java.util.List;
@@ -94,6 +97,7 @@ public class AdminCampaignController {
         description = "관리자가 새로운 캠페인을 생성할 수 있습니다."
     )
     @PostMapping
+    @Audited(action = AuditAction.CAMPAIGN_CREATE, category = AuditCategory.CAMPAIGN_MANAGEMENT, description = "관리자 캠페인 생성")
     public ResponseEntity<ApiResponse<CampaignDetailResponse>> createCampaign(
             @Valid @RequestBody CampaignCreateRequest createDto) {
         
@@ -150,6 +154,8 @@ public class AdminCampaignController {
         description = "관리자가 캠페인 정보를 수정할 수 있습니다."
     )
     @PutMapping("/{id}")
+    @Audited(action = AuditAction.CAMPAIGN_UPDATE, category = AuditCategory.CAMPAIGN_MANAGEMENT, description = "관리자 캠페인 수정",
+             targetType = "Campaign", targetParam = "id")
     public ResponseEntity<ApiResponse<CampaignDetailResponse>> updateCampaign(
             @Parameter(description = "캠페인 ID") @PathVariable Long id,
             @Valid @RequestBody CampaignUpdateRequest updateDto) {
@@ -175,6 +181,8 @@ public class AdminCampaignController {
         description = "관리자가 캠페인을 소프트 삭제할 수 있습니다. 실제로 삭제되지 않고 deleted_at 필드가 설정됩니다."
     )
     @DeleteMapping("/{id}")
+    @Audited(action = AuditAction.CAMPAIGN_DELETE, category = AuditCategory.CAMPAIGN_MANAGEMENT, description = "관리자 캠페인 소프트 삭제",
+             targetType = "Campaign", targetParam = "id", riskLevel = "HIGH")
     public ResponseEntity<ApiResponse<Void>> softDeleteCampaign(
             @Parameter(description = "캠페인 ID") @PathVariable Long id) {
         
@@ -197,6 +205,8 @@ public class AdminCampaignController {
         description = "관리자가 소프트 삭제된 캠페인을 복구할 수 있습니다."
     )
     @PatchMapping("/{id}/restore")
+    @Audited(action = AuditAction.CAMPAIGN_RESTORE, category = AuditCategory.CAMPAIGN_MANAGEMENT, description = "관리자 캠페인 복구",
+             targetType = "Campaign", targetParam = "id")
     public ResponseEntity<ApiResponse<CampaignDetailResponse>> restoreCampaign(
             @Parameter(description = "캠페인 ID") @PathVariable Long id) {
         
@@ -241,6 +251,8 @@ public class AdminCampaignController {
         description = "관리자가 캠페인의 상태를 변경할 수 있습니다."
     )
     @PatchMapping("/{id}/status")
+    @Audited(action = AuditAction.CAMPAIGN_STATUS_CHANGE, category = AuditCategory.CAMPAIGN_MANAGEMENT, description = "관리자 캠페인 상태 변경",
+             targetType = "Campaign", targetParam = "id")
     public ResponseEntity<ApiResponse<CampaignDetailResponse>> updateCampaignStatus(
             @Parameter(description = "캠페인 ID") @PathVariable Long id,
             @Parameter(description = "새로운 상태") @RequestParam Campaign.CampaignStatus status) {
@@ -266,6 +278,8 @@ public class AdminCampaignController {
         description = "관리자가 캠페인의 수혜자 블록체인 주소를 업데이트합니다."
     )
     @PatchMapping("/{id}/beneficiary-address")
+    @Audited(action = AuditAction.CAMPAIGN_BENEFICIARY_CHANGE, category = AuditCategory.CAMPAIGN_MANAGEMENT, description = "관리자 수혜자 주소 변경",
+             targetType = "Campaign", targetParam = "id", riskLevel = "HIGH")
     public ResponseEntity<ApiResponse<CampaignDetailResponse>> updateBeneficiaryAddress(
             @Parameter(description = "캠페인 ID") @PathVariable Long id,
             @Parameter(description = "수혜자 이더리움 주소") @RequestParam String address) {
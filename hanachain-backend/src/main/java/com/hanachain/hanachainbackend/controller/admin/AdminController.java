@@ -2,6 +2,7 @@ package com.hanachain.hanachainbackend.controller.admin;
 
 import com.hanachain.hanachainbackend.dto.admin.PermissionDelegationRequest;
 import com.hanachain.hanachainbackend.dto.admin.PermissionDelegationResponse;
+import com.hanachain.hanachainbackend.dto.admin.PermissionDelegationSearchCondition;
 import com.hanachain.hanachainbackend.dto.common.ApiResponse;
 import com.hanachain.hanachainbackend.dto.donation.AdminDonationTrendResponse;
 import com.hanachain.hanachainbackend.entity.User;
@@ -16,6 +17,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -108,11 +112,13 @@ public class AdminController {
     }
     
     @GetMapping("/permissions/delegations")
-    @Operation(summary = "활성 권한 위임 목록", description = "현재 활성화된 모든 권한 위임을 조회합니다")
+    @Operation(summary = "활성 권한 위임 목록", description = "현재 활성화된 권한 위임을 범위/대상자/단체/역할/위임자 조건으로 페이지 조회합니다")
     @RequiresRole({User.Role.ADMIN, User.Role.SUPER_ADMIN})
-    public ResponseEntity<ApiResponse<List<PermissionDelegationResponse>>> getActiveDelegations() {
+    public ResponseEntity<ApiResponse<Page<PermissionDelegationResponse>>> getActiveDelegations(
+            @ModelAttribute PermissionDelegationSearchCondition condition,
+            @PageableDefault(size = 20) Pageable pageable) {
         
-        List<PermissionDelegationResponse> delegations = adminPermissionService.getActiveDelegations();
+        Page<PermissionDelegationResponse> delegations = adminPermissionService.getActiveDelegations(condition, pageable);
         
         return ResponseEntity.ok(ApiResponse.success("활성 권한 위임 목록을 성공적으로 조회했습니다", delegations));
     }
@@ -0,0 +1,71 @@
+package com.hanachain.hanachainbackend.controller.admin;
+
+import com.hanachain.hanachainbackend.config.logging.HeaderDebugToggle;
+import com.hanachain.hanachainbackend.dto.common.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 관리자 로깅 제어 컨트롤러
+ *
+ * 특정 경로의 요청 헤더 디버그 로그를 일정 시간 동안만 켜고 끄는 API를 제공합니다.
+ */
+@RestController
+@RequestMapping("/admin/logging")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Admin Logging", description = "관리자 로깅 제어 API")
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminLoggingController {
+
+    private static final long MAX_DEBUG_MINUTES = 60;
+
+    private final HeaderDebugToggle headerDebugToggle;
+
+    @Operation(summary = "헤더 디버그 로그 활성화", description = "지정한 경로 접두사의 요청 헤더를 일정 시간 동안 로그로 남깁니다.")
+    @PostMapping("/header-debug")
+    public ResponseEntity<ApiResponse<Map<String, Instant>>> enableHeaderDebug(
+            @Parameter(description = "경로 접두사 (예: /api/donations)") @RequestParam String pathPrefix,
+            @Parameter(description = "유지 시간(분, 최대 60)") @RequestParam(defaultValue = "10") long minutes) {
+
+        if (!pathPrefix.startsWith("/") || minutes <= 0) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("경로 접두사는 '/'로 시작해야 하며 유지 시간은 1분 이상이어야 합니다."));
+        }
+
+        headerDebugToggle.enable(pathPrefix, Duration.ofMinutes(Math.min(minutes, MAX_DEBUG_MINUTES)));
+        log.info("헤더 디버그 로그 활성화 - pathPrefix: {}, minutes: {}", pathPrefix, minutes);
+        return ResponseEntity.ok(ApiResponse.success("헤더 디버그 로그를 활성화했습니다.", headerDebugToggle.activePrefixes()));
+    }
+
+    @Operation(summary = "헤더 디버그 로그 비활성화", description = "경로 접두사를 지정하지 않으면 모든 경로를 비활성화합니다.")
+    @DeleteMapping("/header-debug")
+    public ResponseEntity<ApiResponse<Map<String, Instant>>> disableHeaderDebug(
+            @Parameter(description = "경로 접두사") @RequestParam(required = false) String pathPrefix) {
+
+        if (pathPrefix == null) {
+            headerDebugToggle.disableAll();
+        } else {
+            headerDebugToggle.disable(pathPrefix);
+        }
+        log.info("헤더 디버그 로그 비활성화 - pathPrefix: {}", pathPrefix != null ? pathPrefix : "ALL");
+        return ResponseEntity.ok(ApiResponse.success("헤더 디버그 로그를 비활성화했습니다.", headerDebugToggle.activePrefixes()));
+    }
+
+    @Operation(summary = "헤더 디버그 로그 상태 조회")
+    @GetMapping("/header-debug")
+    public ResponseEntity<ApiResponse<Map<String, Instant>>> getHeaderDebug() {
+        return ResponseEntity.ok(ApiResponse.success(headerDebugToggle.activePrefixes()));
+    }
+}
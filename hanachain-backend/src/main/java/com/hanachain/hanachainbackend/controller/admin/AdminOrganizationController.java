@@ -6,7 +6,10 @@ import com.hanachain.hanachainbackend.dto.organization.OrganizationMemberRespons
 import com.hanachain.hanachainbackend.dto.organization.OrganizationMemberRoleUpdateRequest;
 import com.hanachain.hanachainbackend.dto.user.UserProfileResponse;
 import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.entity.enums.AuditAction;
+import com.hanachain.hanachainbackend.entity.enums.AuditCategory;
 import com.hanachain.hanachainbackend.security.SecurityUtils;
+import com.hanachain.hanachainbackend.security.annotation.Audited;
 import com.hanachain.hanachainbackend.service.OrganizationService;
 import com.hanachain.hanachainbackend.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -88,6 +91,8 @@ public class AdminOrganizationController {
     }
     
     @PostMapping("/{id}/users")
+    @Audited(action = AuditAction.ORGANIZATION_ROLE_ASSIGN, category = AuditCategory.ORGANIZATION_MANAGEMENT, description = "관리자 단체 구성원 추가",
+             targetType = "Organization", targetParam = "id", organizationParam = "id")
     @Operation(
         summary = "Add user to organization",
         description = "Add a user to an organization with specified role (Admin only)"
@@ -125,6 +130,8 @@ public class AdminOrganizationController {
     }
     
     @PutMapping("/{id}/users/{userId}")
+    @Audited(action = AuditAction.ORGANIZATION_ROLE_ASSIGN, category = AuditCategory.ORGANIZATION_MANAGEMENT, description = "관리자 단체 구성원 역할 변경",
+             targetType = "User", targetParam = "userId", organizationParam = "id")
     @Operation(
         summary = "Update user role in organization",
         description = "Update a user's role in an organization (Admin only)"
@@ -157,6 +164,8 @@ public class AdminOrganizationController {
     }
     
     @DeleteMapping("/{id}/users/{userId}")
+    @Audited(action = AuditAction.ORGANIZATION_ROLE_REVOKE, category = AuditCategory.ORGANIZATION_MANAGEMENT, description = "관리자 단체 구성원 제거",
+             targetType = "User", targetParam = "userId", organizationParam = "id", riskLevel = "HIGH")
     @Operation(
         summary = "Remove user from organization",
         description = "Remove a user from an organization (Admin only). Cannot remove last admin."
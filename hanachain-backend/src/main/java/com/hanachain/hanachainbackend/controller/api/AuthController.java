@@ -8,15 +8,19 @@ import com.hanachain.hanachainbackend.dto.auth.RegisterRequest;
 import com.hanachain.hanachainbackend.dto.common.ApiResponse;
 import com.hanachain.hanachainbackend.dto.user.UserProfileResponse;
 import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.exception.TooManyRequestsException;
+import com.hanachain.hanachainbackend.security.LoginThrottle;
 import com.hanachain.hanachainbackend.service.UserService;
 import com.hanachain.hanachainbackend.security.SecurityUtils;
 import org.springframework.security.access.prepost.PreAuthorize;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -30,6 +34,7 @@ import java.util.Map;
 public class AuthController {
     
     private final UserService userService;
+    private final LoginThrottle loginThrottle;
     
     @PostMapping("/register")
     @Operation(summary = "회원가입", description = "새 사용자를 등록합니다.")
@@ -51,12 +56,20 @@ public class AuthController {
     @PostMapping("/login")
     @Operation(summary = "로그인", description = "사용자 로그인을 처리합니다.")
     public ResponseEntity<ApiResponse<LoginResponse>> login(
-            @Valid @RequestBody LoginRequest request) {
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
         
         try {
+            // IP/계정별 시도 제한 (비밀번호 해시 계산 전에 확인)
+            // 프록시 뒤에서는 server.forward-headers-strategy=native로 신뢰하는 프록시가 넘긴 클라이언트 IP가 들어옴
+            loginThrottle.acquire(httpRequest.getRemoteAddr(), request.getEmail());
+            
             LoginResponse response = userService.loginUser(request);
             
             return ResponseEntity.ok(ApiResponse.success("로그인이 완료되었습니다.", response));
+        } catch (TooManyRequestsException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             log.error("Login failed", e);
             return ResponseEntity.badRequest()
@@ -87,11 +100,16 @@ public class AuthController {
     }
     
     @PostMapping("/logout")
-    @Operation(summary = "로그아웃", description = "사용자 로그아웃을 처리합니다.")
-    public ResponseEntity<ApiResponse<Void>> logout() {
-        // JWT는 stateless이므로 서버에서 특별한 로그아웃 처리가 필요하지 않음
-        // 클라이언트에서 토큰을 삭제하면 됨
-        // 추후 토큰 블랙리스트 기능을 구현할 수 있음
+    @Operation(summary = "로그아웃", description = "사용자 로그아웃을 처리합니다. 리프레시 토큰을 전달하면 해당 토큰 계열을 폐기합니다.")
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestBody(required = false) Map<String, String> request) {
+        // 액세스 토큰은 만료 시까지 유효하므로 클라이언트에서 삭제하고,
+        // 리프레시 토큰은 서버에서 폐기하여 더 이상 갱신할 수 없게 함
+        try {
+            userService.logout(request != null ? request.get("refreshToken") : null);
+        } catch (Exception e) {
+            log.warn("Refresh token revocation failed on logout", e);
+        }
         
         return ResponseEntity.ok(ApiResponse.success("로그아웃이 완료되었습니다."));
     }
@@ -3,6 +3,7 @@ package com.hanachain.hanachainbackend.controller.api;
 import com.hanachain.hanachainbackend.dto.common.ApiResponse;
 import com.hanachain.hanachainbackend.dto.user.FavoriteAddRequest;
 import com.hanachain.hanachainbackend.dto.user.FavoriteResponse;
+import com.hanachain.hanachainbackend.dto.user.FavoriteStatusResponse;
 import com.hanachain.hanachainbackend.dto.user.PagedResponse;
 import com.hanachain.hanachainbackend.service.FavoriteService;
 import com.hanachain.hanachainbackend.security.SecurityUtils;
@@ -17,6 +18,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 즐겨찾기 관리 REST API 컨트롤러
  */
@@ -118,6 +121,26 @@ public class FavoriteController {
         return ApiResponse.success("즐겨찾기 여부를 성공적으로 확인했습니다.", isFavorite);
     }
 
+    @Operation(
+        summary = "즐겨찾기 상태 일괄 조회",
+        description = "캠페인 목록 페이지의 즐겨찾기 여부와 즐겨찾기 수를 한 번에 조회합니다."
+    )
+    @GetMapping("/status")
+    @PreAuthorize("hasRole('USER')")
+    public ApiResponse<List<FavoriteStatusResponse>> getFavoriteStatuses(
+            @Parameter(description = "캠페인 ID 목록 (최대 100개)") @RequestParam List<Long> campaignIds) {
+        
+        Long currentUserId = SecurityUtils.getCurrentUser()
+                .map(user -> user.getId())
+                .orElseThrow(() -> new RuntimeException("인증된 사용자를 찾을 수 없습니다."));
+        
+        log.debug("즐겨찾기 상태 일괄 조회 요청 - 사용자 ID: {}, 캠페인 수: {}", currentUserId, campaignIds.size());
+        
+        List<FavoriteStatusResponse> statuses = favoriteService.getFavoriteStatuses(currentUserId, campaignIds);
+        
+        return ApiResponse.success("즐겨찾기 상태를 성공적으로 조회했습니다.", statuses);
+    }
+
     @Operation(
         summary = "즐겨찾기 개수 조회",
         description = "사용자의 총 즐겨찾기 개수를 조회합니다."
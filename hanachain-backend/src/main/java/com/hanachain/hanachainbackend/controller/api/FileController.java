@@ -0,0 +1,59 @@
+package com.hanachain.hanachainbackend.controller.api;
+
+import com.hanachain.hanachainbackend.service.file.UploadedFileServer;
+import com.hanachain.hanachainbackend.service.image.LocalDiskBlobStore;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 파일 서빙 컨트롤러 (캠페인/프로필 이미지)
+ * HEAD 요청은 같은 매핑으로 처리되며 본문 없이 헤더만 보냅니다.
+ */
+@Tag(name = "Files", description = "업로드 파일 조회 API")
+@RestController
+public class FileController {
+
+    /** 내용 해시 파일명은 내용이 바뀌지 않으므로 1년 캐시 */
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    /** 이전 방식 프로필 이미지 (UUID 파일명, 삭제될 수 있으므로 짧게 캐시 후 재검증) */
+    private static final CacheControl REVALIDATE = CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic();
+
+    private final UploadedFileServer fileServer;
+    private final Path imageRoot;
+    private final Path profileImageRoot;
+
+    public FileController(UploadedFileServer fileServer,
+                          LocalDiskBlobStore imageBlobStore,
+                          @Value("${app.upload.profile-images:uploads/profile-images}") String profileImageUploadPath) {
+        this.fileServer = fileServer;
+        this.imageRoot = imageBlobStore.getRoot();
+        this.profileImageRoot = Paths.get(profileImageUploadPath).toAbsolutePath().normalize();
+    }
+
+    @Operation(summary = "이미지 조회", description = "내용 주소 방식으로 저장된 이미지 원본/변환본을 조회합니다.")
+    @GetMapping("/images/{shard}/{fileName:.+}")
+    public void getImage(@PathVariable String shard, @PathVariable String fileName,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        fileServer.serve(imageRoot, shard + "/" + fileName, IMMUTABLE, request, response);
+    }
+
+    @Operation(summary = "프로필 이미지 조회", description = "이전 방식으로 저장된 프로필 이미지 파일을 조회합니다.")
+    @GetMapping("/files/profile-images/{fileName:.+}")
+    public void getProfileImage(@PathVariable String fileName,
+                                HttpServletRequest request, HttpServletResponse response) throws IOException {
+        fileServer.serve(profileImageRoot, fileName, REVALIDATE, request, response);
+    }
+}
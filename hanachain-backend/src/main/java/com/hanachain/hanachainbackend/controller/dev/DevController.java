@@ -10,6 +10,8 @@ import com.hanachain.hanachainbackend.repository.UserRepository;
 import com.hanachain.hanachainbackend.service.EmailService;
 import com.hanachain.hanachainbackend.service.WalletService;
 import com.hanachain.hanachainbackend.security.JwtTokenProvider;
+import com.hanachain.hanachainbackend.security.RefreshTokenStore;
+import com.hanachain.hanachainbackend.service.permission.PermissionDelegationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
@@ -28,7 +30,9 @@ public class DevController {
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
     private final WalletService walletService;
+    private final PermissionDelegationRegistry permissionDelegationRegistry;
     
     @PostMapping("/create-test-user")
     public ResponseEntity<ApiResponse<String>> createTestUser() {
@@ -131,8 +135,8 @@ public class DevController {
                     });
             
             // JWT 토큰 생성
-            String accessToken = jwtTokenProvider.generateAccessToken(testUser.getEmail());
-            String refreshToken = jwtTokenProvider.generateRefreshToken(testUser.getEmail());
+            String accessToken = jwtTokenProvider.generateAccessToken(testUser);
+            String refreshToken = refreshTokenStore.issue(testUser);
             
             // 사용자 정보 DTO 생성
             UserProfileResponse userDto = UserProfileResponse.fromEntity(testUser);
@@ -239,6 +243,9 @@ public class DevController {
                     .build();
 
             userRepository.save(adminUser);
+            // 관리자 권한 화면은 위임 레지스트리만 읽으므로 함께 기록
+            permissionDelegationRegistry.recordSystemRole(adminUser, User.Role.ADMIN, null, null,
+                    "개발용 관리자 계정", false, null);
             log.info("Admin user created via API: admin@example.com / AdminPassword123!");
 
             return ResponseEntity.ok(ApiResponse.success("관리자 사용자가 생성되었습니다.", "admin@example.com"));
@@ -266,12 +273,15 @@ public class DevController {
                                 .profileCompleted(true)
                                 .termsAccepted(true)
                                 .build();
-                        return userRepository.save(newAdmin);
+                        User savedAdmin = userRepository.save(newAdmin);
+                        permissionDelegationRegistry.recordSystemRole(savedAdmin, User.Role.ADMIN, null, null,
+                                "개발용 관리자 계정", false, null);
+                        return savedAdmin;
                     });
             
             // JWT 토큰 생성
-            String accessToken = jwtTokenProvider.generateAccessToken(adminUser.getEmail());
-            String refreshToken = jwtTokenProvider.generateRefreshToken(adminUser.getEmail());
+            String accessToken = jwtTokenProvider.generateAccessToken(adminUser);
+            String refreshToken = refreshTokenStore.issue(adminUser);
             
             // 사용자 정보 DTO 생성
             UserProfileResponse userDto = UserProfileResponse.fromEntity(adminUser);
@@ -0,0 +1,26 @@
+package com.hanachain.hanachainbackend.dto.admin;
+
+import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.entity.enums.DelegationScope;
+import com.hanachain.hanachainbackend.entity.enums.OrganizationRole;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 활성 권한 위임 검색 조건 (지정하지 않은 조건은 무시)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PermissionDelegationSearchCondition {
+
+    private DelegationScope scope;
+    private Long targetUserId;
+    private Long organizationId;
+    private User.Role systemRole;
+    private OrganizationRole organizationRole;
+    private Long delegatedById;
+}
@@ -0,0 +1,60 @@
+package com.hanachain.hanachainbackend.dto.audit;
+
+import com.hanachain.hanachainbackend.entity.AuditLog;
+import com.hanachain.hanachainbackend.entity.enums.AuditAction;
+import com.hanachain.hanachainbackend.entity.enums.AuditCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditLogResponse {
+
+    private Long id;
+    private LocalDateTime timestamp;
+    private Long userId;
+    private String userEmail;
+    private String userRole;
+    private AuditAction action;
+    private AuditCategory category;
+    private String description;
+    private String targetEntityType;
+    private Long targetEntityId;
+    private Long organizationId;
+    private String ipAddress;
+    private String requestMethod;
+    private String requestUrl;
+    private Boolean success;
+    private String errorMessage;
+    private String riskLevel;
+    private String additionalData;
+
+    public static AuditLogResponse fromEntity(AuditLog auditLog) {
+        return AuditLogResponse.builder()
+                .id(auditLog.getId())
+                .timestamp(auditLog.getTimestamp())
+                .userId(auditLog.getUserId())
+                .userEmail(auditLog.getUserEmail())
+                .userRole(auditLog.getUserRole())
+                .action(auditLog.getAction())
+                .category(auditLog.getCategory())
+                .description(auditLog.getDescription())
+                .targetEntityType(auditLog.getTargetEntityType())
+                .targetEntityId(auditLog.getTargetEntityId())
+                .organizationId(auditLog.getOrganizationId())
+                .ipAddress(auditLog.getIpAddress())
+                .requestMethod(auditLog.getRequestMethod())
+                .requestUrl(auditLog.getRequestUrl())
+                .success(auditLog.getSuccess())
+                .errorMessage(auditLog.getErrorMessage())
+                .riskLevel(auditLog.getRiskLevel())
+                .additionalData(auditLog.getAdditionalData())
+                .build();
+    }
+}
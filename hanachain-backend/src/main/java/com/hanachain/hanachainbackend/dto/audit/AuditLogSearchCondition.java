@@ -0,0 +1,35 @@
+package com.hanachain.hanachainbackend.dto.audit;
+
+import com.hanachain.hanachainbackend.entity.enums.AuditAction;
+import com.hanachain.hanachainbackend.entity.enums.AuditCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 검색 조건 (기간 미지정 시 최근 7일)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditLogSearchCondition {
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private Long userId;
+    private AuditAction action;
+    private AuditCategory category;
+    private Long organizationId;
+    private String targetType;
+    private Long targetId;
+    private Boolean success;
+}
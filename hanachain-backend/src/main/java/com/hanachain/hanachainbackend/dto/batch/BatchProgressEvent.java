@@ -0,0 +1,71 @@
+package com.hanachain.hanachainbackend.dto.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배치 작업 진행 상황 이벤트 DTO (SSE)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchProgressEvent {
+
+    /**
+     * 작업 실행 ID
+     */
+    private Long jobExecutionId;
+
+    /**
+     * 캠페인 ID
+     */
+    private Long campaignId;
+
+    /**
+     * 작업 상태 (STARTED, COMPLETED, FAILED, STOPPED)
+     */
+    private String status;
+
+    /**
+     * 처리 대상 기부 건수 (시작 시점 기준, 모르면 0)
+     */
+    private long totalDonations;
+
+    /**
+     * 처리(전송 시도)한 건수
+     */
+    private long processed;
+
+    /**
+     * DB 반영까지 끝난 성공 건수
+     */
+    private long succeeded;
+
+    /**
+     * DB 반영까지 끝난 실패 건수
+     */
+    private long failed;
+
+    /**
+     * 초당 처리 건수
+     */
+    private double throughputPerSecond;
+
+    /**
+     * 남은 예상 시간(초), 계산할 수 없으면 null
+     */
+    private Long etaSeconds;
+
+    /**
+     * 시작 후 경과 시간(ms)
+     */
+    private long elapsedMs;
+
+    /**
+     * 작업 종료 여부
+     */
+    private boolean finished;
+}
@@ -0,0 +1,27 @@
+package com.hanachain.hanachainbackend.dto.organization;
+
+import com.hanachain.hanachainbackend.entity.enums.OrganizationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조직 목록 조회용 읽기 모델
+ * 엔티티와 members/wallet 연관관계를 로드하지 않고 JPQL 생성자 표현식으로 한 행씩 채웁니다
+ */
+@Data
+@AllArgsConstructor
+public class OrganizationSummary {
+
+    private Long id;
+    private String name;
+    private String description;
+    private String imageUrl;
+    private OrganizationStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long memberCount;
+    private Long adminCount;
+    private String walletAddress;
+}
@@ -0,0 +1,20 @@
+package com.hanachain.hanachainbackend.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캠페인별 즐겨찾기 상태 응답 DTO (캠페인 카드 목록 일괄 조회용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FavoriteStatusResponse {
+
+    private Long campaignId;
+    private boolean favorited;
+    private long favoriteCount;
+}
@@ -13,11 +13,13 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "audit_logs", indexes = {
-        @Index(name = "idx_audit_user_id", columnList = "user_id"),
-        @Index(name = "idx_audit_action", columnList = "action"),
-        @Index(name = "idx_audit_category", columnList = "category"),
+        @Index(name = "idx_audit_user_id", columnList = "user_id, timestamp"),
+        @Index(name = "idx_audit_action", columnList = "action, timestamp"),
+        @Index(name = "idx_audit_category", columnList = "category, timestamp"),
         @Index(name = "idx_audit_timestamp", columnList = "timestamp"),
-        @Index(name = "idx_audit_ip_address", columnList = "ip_address")
+        @Index(name = "idx_audit_ip_address", columnList = "ip_address"),
+        @Index(name = "idx_audit_target", columnList = "target_entity_type, target_entity_id"),
+        @Index(name = "idx_audit_organization", columnList = "organization_id, timestamp")
 })
 @Getter
 @Setter
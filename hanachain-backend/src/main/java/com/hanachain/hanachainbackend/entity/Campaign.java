@@ -19,7 +19,7 @@ public class Campaign extends BaseEntity {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "campaign_seq")
-    @SequenceGenerator(name = "campaign_seq", sequenceName = "campaign_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "campaign_seq", sequenceName = "campaign_sequence", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 200)
@@ -139,7 +139,7 @@ public class Campaign extends BaseEntity {
     private Long batchJobExecutionId;
 
     /**
-     * 배치 작업 상태 (PENDING, RUNNING, COMPLETED, FAILED, STOPPED)
+     * 배치 작업 상태 (PENDING, STARTING, RUNNING, COMPLETED, FAILED, STOPPED)
      */
     @Column(name = "batch_job_status", length = 20)
     private String batchJobStatus;
@@ -17,7 +17,7 @@ public class CampaignManager extends BaseEntity {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "campaign_manager_seq")
-    @SequenceGenerator(name = "campaign_manager_seq", sequenceName = "campaign_manager_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "campaign_manager_seq", sequenceName = "campaign_manager_sequence", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
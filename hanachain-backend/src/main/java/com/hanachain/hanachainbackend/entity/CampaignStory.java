@@ -14,7 +14,7 @@ public class CampaignStory extends BaseEntity {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "story_seq")
-    @SequenceGenerator(name = "story_seq", sequenceName = "story_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "story_seq", sequenceName = "story_sequence", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 200)
@@ -17,7 +17,7 @@ public class Comment extends BaseEntity {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
-    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_sequence", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, columnDefinition = "CLOB")
@@ -75,7 +75,7 @@ public class Comment extends BaseEntity {
         this.reportReason = reason;
     }
     
-    // 좋아요 수 증가
+    // 좋아요 수 증가 (요청 경로에서는 WriteBehindCounter 사용 - 행 잠금 방지)
     public void incrementLikes() {
         this.likeCount++;
     }
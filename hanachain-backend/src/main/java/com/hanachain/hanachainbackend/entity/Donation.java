@@ -14,10 +14,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 public class Donation extends BaseEntity {
-    
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "donation_seq")
-    @SequenceGenerator(name = "donation_seq", sequenceName = "donation_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "donation_seq", sequenceName = "donation_sequence", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, precision = 15, scale = 2)
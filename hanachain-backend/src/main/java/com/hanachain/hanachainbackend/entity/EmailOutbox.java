@@ -0,0 +1,99 @@
+package com.hanachain.hanachainbackend.entity;
+
+import com.hanachain.hanachainbackend.entity.enums.EmailOutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이메일 발송 대기열 (outbox)
+ *
+ * 요청 트랜잭션은 렌더링된 메일을 이 테이블에 저장만 하고, 발송 워커가 커밋된 행을 가져가 SMTP로 보냅니다.
+ * 같은 트랜잭션에서 저장되므로 인증 세션 저장이 롤백되면 메일도 발송되지 않습니다.
+ *
+ * 워커는 PENDING 행을 claim_token으로 SENDING 상태로 선점한 뒤 보내고, 실패하면 지수 백오프로
+ * next_attempt_at을 미뤄 PENDING으로 되돌립니다. 선점 후 임대 시간이 지나도 SENDING이면 (워커 중단) 다시 가져갑니다.
+ * 인증 코드처럼 본문에 비밀 값이 있는 메일(purge_on_send)은 보관 기간을 기다리지 않고 발송 완료/최종 실패 즉시 삭제합니다.
+ */
+@Entity
+@Table(name = "email_outbox", indexes = {
+    @Index(name = "idx_email_outbox_due", columnList = "status, next_attempt_at"),
+    @Index(name = "idx_email_outbox_claim", columnList = "claim_token")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmailOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "email_outbox_seq")
+    @SequenceGenerator(name = "email_outbox_seq", sequenceName = "email_outbox_sequence", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "recipient", nullable = false, length = 100)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false, length = 200)
+    private String subject;
+
+    @Lob
+    @Column(name = "body", nullable = false)
+    private String body;
+
+    @Column(name = "html", nullable = false)
+    private Boolean html;
+
+    @Column(name = "purge_on_send", nullable = false)
+    private Boolean purgeOnSend;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @PrePersist
+    protected void onCreate() {
+        LocalDateTime now = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = now;
+        }
+        if (nextAttemptAt == null) {
+            nextAttemptAt = now;
+        }
+        if (status == null) {
+            status = EmailOutboxStatus.PENDING;
+        }
+        if (attempts == null) {
+            attempts = 0;
+        }
+        if (html == null) {
+            html = Boolean.FALSE;
+        }
+        if (purgeOnSend == null) {
+            purgeOnSend = Boolean.FALSE;
+        }
+    }
+}
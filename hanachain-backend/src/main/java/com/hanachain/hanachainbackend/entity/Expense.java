@@ -17,7 +17,7 @@ public class Expense extends BaseEntity {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_seq")
-    @SequenceGenerator(name = "expense_seq", sequenceName = "expense_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "expense_seq", sequenceName = "expense_sequence", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, precision = 15, scale = 2)
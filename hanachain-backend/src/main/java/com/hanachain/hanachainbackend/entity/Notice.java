@@ -31,7 +31,7 @@ public class Notice extends BaseEntity {
     @Builder.Default
     private Integer viewCount = 0;
     
-    // 조회수 증가 메서드
+    // 조회수 증가 메서드 (요청 경로에서는 WriteBehindCounter 사용 - 행 잠금 방지)
     public void incrementViewCount() {
         this.viewCount++;
     }
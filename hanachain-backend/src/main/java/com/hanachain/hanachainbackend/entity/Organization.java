@@ -2,6 +2,7 @@ package com.hanachain.hanachainbackend.entity;
 
 import com.hanachain.hanachainbackend.entity.enums.OrganizationStatus;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
@@ -15,6 +16,7 @@ import java.util.List;
  * 하나체인 플랫폼의 조직을 나타내는 엔티티
  * deleted_at 컬럼을 통한 소프트 삭제 기능 지원
  * BaseEntity를 상속받아 표준 감사 필드(createdAt, updatedAt, deletedAt) 사용
+ * 멤버/관리자 수 카운터는 별도 UPDATE로 증감되므로, 다른 필드 수정 시 덮어쓰지 않도록 변경된 컬럼만 갱신
  */
 @Entity
 @Table(name = "organizations")
@@ -23,6 +25,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 @SQLDelete(sql = "UPDATE organizations SET deleted_at = CURRENT_TIMESTAMP WHERE id_organization = ?")
 @Where(clause = "deleted_at IS NULL")
 public class Organization extends BaseEntity {
@@ -32,7 +35,7 @@ public class Organization extends BaseEntity {
     @SequenceGenerator(
         name = "organization_seq", 
         sequenceName = "organization_sequence", 
-        allocationSize = 1,
+        allocationSize = 50,
         initialValue = 1
     )
     @Column(name = "id_organization")
@@ -53,6 +56,21 @@ public class Organization extends BaseEntity {
     @Builder.Default
     private OrganizationStatus status = OrganizationStatus.ACTIVE;
 
+    /**
+     * 멤버 수 (목록 조회용 비정규화 카운터)
+     * 멤버 추가/삭제 시 OrganizationRepository.adjustMemberCounts로 함께 갱신됩니다
+     */
+    @Column(name = "member_count", nullable = false)
+    @Builder.Default
+    private Long memberCount = 0L;
+
+    /**
+     * 관리자 역할 멤버 수 (목록 조회용 비정규화 카운터)
+     */
+    @Column(name = "admin_count", nullable = false)
+    @Builder.Default
+    private Long adminMemberCount = 0L;
+
     // 관계 정의
     @OneToMany(mappedBy = "organization", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
@@ -126,13 +144,26 @@ public class Organization extends BaseEntity {
             .createdAt(LocalDateTime.now())
             .build();
         members.add(orgUser);
+        memberCount++;
+        if (role.isAdmin()) {
+            adminMemberCount++;
+        }
     }
 
     /**
      * 조직에서 멤버를 제거합니다
      */
     public void removeMember(User user) {
-        members.removeIf(member -> member.getUser().equals(user));
+        members.stream()
+            .filter(member -> member.getUser().equals(user))
+            .findFirst()
+            .ifPresent(member -> {
+                members.remove(member);
+                memberCount--;
+                if (member.getRole().isAdmin()) {
+                    adminMemberCount--;
+                }
+            });
     }
 
     /**
@@ -228,7 +259,7 @@ public class Organization extends BaseEntity {
                 "id=" + id +
                 ", name='" + name + '\'' +
                 ", status=" + status +
-                ", memberCount=" + (members != null ? members.size() : 0) +
+                ", memberCount=" + memberCount +
                 '}';
     }
 }
\ No newline at end of file
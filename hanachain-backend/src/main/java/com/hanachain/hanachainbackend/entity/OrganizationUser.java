@@ -28,7 +28,7 @@ public class OrganizationUser {
     @SequenceGenerator(
         name = "org_user_seq", 
         sequenceName = "organization_user_sequence", 
-        allocationSize = 1,
+        allocationSize = 50,
         initialValue = 1
     )
     @Column(name = "id_organization_user")
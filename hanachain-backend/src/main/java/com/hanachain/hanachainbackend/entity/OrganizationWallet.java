@@ -23,7 +23,7 @@ public class OrganizationWallet {
     @SequenceGenerator(
         name = "organization_wallet_seq",
         sequenceName = "organization_wallet_sequence",
-        allocationSize = 1,
+        allocationSize = 50,
         initialValue = 1
     )
     @Column(name = "id_org_wallet")
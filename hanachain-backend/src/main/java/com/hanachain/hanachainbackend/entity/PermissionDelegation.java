@@ -0,0 +1,103 @@
+package com.hanachain.hanachainbackend.entity;
+
+import com.hanachain.hanachainbackend.entity.enums.DelegationScope;
+import com.hanachain.hanachainbackend.entity.enums.OrganizationRole;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 권한 위임 기록 (위임 레지스트리)
+ *
+ * 시스템 역할/단체 역할이 부여될 때마다 한 행을 추가하고, 취소되거나 새 위임으로 대체되면 revokedAt을 채웁니다.
+ * 관리자 권한 화면은 users/organization_users를 훑지 않고 이 테이블의 인덱스만으로 조회합니다.
+ * 단체명과 위임자 이름은 위임 시점 값을 그대로 보관합니다.
+ */
+@Entity
+@Table(name = "permission_delegations", indexes = {
+    @Index(name = "idx_perm_deleg_grantee", columnList = "grantee_user_id, revoked_at"),
+    @Index(name = "idx_perm_deleg_organization", columnList = "organization_id, revoked_at, granted_at"),
+    @Index(name = "idx_perm_deleg_scope", columnList = "scope, revoked_at, granted_at"),
+    @Index(name = "idx_perm_deleg_granted_by", columnList = "granted_by_user_id, granted_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PermissionDelegation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "permission_delegation_seq")
+    @SequenceGenerator(name = "permission_delegation_seq", sequenceName = "permission_delegation_sequence", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "grantee_user_id", nullable = false)
+    private User grantee;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false, length = 20)
+    private DelegationScope scope;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "system_role", length = 20)
+    private User.Role systemRole;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "organization_role", length = 20)
+    private OrganizationRole organizationRole;
+
+    @Column(name = "organization_id")
+    private Long organizationId;
+
+    @Column(name = "organization_name", length = 255)
+    private String organizationName;
+
+    @Column(name = "granted_by_user_id")
+    private Long grantedById;
+
+    @Column(name = "granted_by_name", length = 50)
+    private String grantedByName;
+
+    @Column(name = "reason", length = 500)
+    private String reason;
+
+    @Column(name = "temporary")
+    private Boolean temporary;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "granted_at", nullable = false)
+    private LocalDateTime grantedAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Column(name = "revoked_by_user_id")
+    private Long revokedById;
+
+    @PrePersist
+    protected void onCreate() {
+        if (grantedAt == null) {
+            grantedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 취소되지 않은 위임인지 확인
+     */
+    public boolean isActive() {
+        return revokedAt == null;
+    }
+
+    /**
+     * 위임 취소 처리
+     */
+    public void revoke(Long revokedById) {
+        this.revokedAt = LocalDateTime.now();
+        this.revokedById = revokedById;
+    }
+}
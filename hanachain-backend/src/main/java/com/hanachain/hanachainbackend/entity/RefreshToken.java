@@ -0,0 +1,59 @@
+package com.hanachain.hanachainbackend.entity;
+
+import com.hanachain.hanachainbackend.entity.enums.RefreshTokenStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급된 리프레시 토큰 엔티티
+ *
+ * 토큰 원문 대신 토큰 ID(jti)의 SHA-256 해시를 키로 저장합니다.
+ * 같은 로그인에서 교체(rotation)되며 이어지는 토큰들은 하나의 계열(family_id)로 묶이며,
+ * 이미 교체된 토큰이 다시 사용되면 계열 전체를 폐기합니다.
+ */
+@Entity
+@Table(name = "refresh_tokens",
+       indexes = {
+           @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+           @Index(name = "idx_refresh_tokens_expires", columnList = "expires_at")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private RefreshTokenStatus status = RefreshTokenStatus.ACTIVE;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -19,7 +19,7 @@ public class SignupSession {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "signup_session_seq")
-    @SequenceGenerator(name = "signup_session_seq", sequenceName = "signup_session_seq", allocationSize = 1)
+    @SequenceGenerator(name = "signup_session_seq", sequenceName = "signup_session_seq", allocationSize = 50)
     private Long id;
     
     @Column(name = "session_id", nullable = false, unique = true, length = 36)
@@ -2,6 +2,7 @@ package com.hanachain.hanachainbackend.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,7 +24,7 @@ public class User extends BaseEntity implements UserDetails {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
-    @SequenceGenerator(name = "user_seq", sequenceName = "user_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_sequence", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false, length = 100)
@@ -84,6 +85,12 @@ public class User extends BaseEntity implements UserDetails {
     @Column
     @Builder.Default
     private Long totalDonationCount = 0L;
+
+    // 토큰 버전 (증가 시 이전에 발급된 JWT 무효화)
+    @Column(name = "token_version", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer tokenVersion = 0;
     
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<VerificationSession> verificationSessions;
@@ -23,7 +23,7 @@ public class UserFavorite extends BaseEntity {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_favorite_seq")
-    @SequenceGenerator(name = "user_favorite_seq", sequenceName = "user_favorite_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "user_favorite_seq", sequenceName = "user_favorite_sequence", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -16,7 +16,7 @@ public class UserWallet extends BaseEntity {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_wallet_seq")
-    @SequenceGenerator(name = "user_wallet_seq", sequenceName = "user_wallet_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "user_wallet_seq", sequenceName = "user_wallet_sequence", allocationSize = 50)
     private Long id;
     
     /**
@@ -16,7 +16,7 @@ public class VerificationSession extends BaseEntity {
     
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "verification_seq")
-    @SequenceGenerator(name = "verification_seq", sequenceName = "verification_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "verification_seq", sequenceName = "verification_sequence", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, length = 100)
@@ -42,13 +42,27 @@ public enum AuditAction {
     CAMPAIGN_DELETE("캠페인 삭제"),
     CAMPAIGN_PUBLISH("캠페인 발행"),
     CAMPAIGN_UNPUBLISH("캠페인 숨김"),
+    CAMPAIGN_RESTORE("캠페인 복구"),
+    CAMPAIGN_STATUS_CHANGE("캠페인 상태 변경"),
+    CAMPAIGN_BENEFICIARY_CHANGE("캠페인 수혜자 주소 변경"),
 
     // 기부 작업
     DONATION_CREATE("기부 생성"),
     DONATION_UPDATE("기부 수정"),
     DONATION_REFUND("기부 환불"),
+    FDS_OVERRIDE("FDS 결과 오버라이드"),
+
+    // 지갑 작업
+    WALLET_CREATE("지갑 생성"),
+    WALLET_CONNECT("외부 지갑 연결"),
+    WALLET_VERIFY("지갑 검증"),
+    WALLET_SET_PRIMARY("주 지갑 설정"),
+    WALLET_DELETE("지갑 삭제"),
+    WALLET_KEY_ACCESS("지갑 개인키 복호화"),
+    WALLET_SIGN("지갑 트랜잭션 서명"),
 
     // 보안 작업
+    ACCESS_GRANTED("접근 허용"),
     ACCESS_DENIED("접근 거부"),
     PERMISSION_DENIED("권한 거부"),
     SECURITY_VIOLATION("보안 위반"),
@@ -11,6 +11,7 @@ public enum AuditCategory {
     ORGANIZATION_MANAGEMENT("단체 관리"),
     CAMPAIGN_MANAGEMENT("캠페인 관리"),
     DONATION_MANAGEMENT("기부 관리"),
+    WALLET_MANAGEMENT("지갑 관리"),
     SECURITY("보안"),
     SYSTEM("시스템"),
     ADMIN("관리자"),
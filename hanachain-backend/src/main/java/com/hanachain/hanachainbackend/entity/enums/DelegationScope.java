@@ -0,0 +1,19 @@
+package com.hanachain.hanachainbackend.entity.enums;
+
+/**
+ * 권한 위임 범위
+ */
+public enum DelegationScope {
+    SYSTEM("시스템"),
+    ORGANIZATION("단체");
+
+    private final String displayName;
+
+    DelegationScope(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,21 @@
+package com.hanachain.hanachainbackend.entity.enums;
+
+/**
+ * 이메일 발송 대기열 상태
+ */
+public enum EmailOutboxStatus {
+    PENDING("발송 대기"),
+    SENDING("발송 중"),
+    SENT("발송 완료"),
+    FAILED("발송 실패");
+
+    private final String displayName;
+
+    EmailOutboxStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,25 @@
+package com.hanachain.hanachainbackend.entity.enums;
+
+/**
+ * Refresh token status enumeration
+ * Defines the lifecycle of a tracked refresh token
+ */
+public enum RefreshTokenStatus {
+    ACTIVE("사용 가능"),
+    ROTATED("교체됨"),
+    REVOKED("폐기됨");
+    
+    private final String displayName;
+    
+    RefreshTokenStatus(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    public boolean isActive() {
+        return this == ACTIVE;
+    }
+}
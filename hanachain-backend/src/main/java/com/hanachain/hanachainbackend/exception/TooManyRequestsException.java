@@ -0,0 +1,15 @@
+package com.hanachain.hanachainbackend.exception;
+
+/**
+ * Exception for throttled or overloaded requests (HTTP 429)
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+
+    public TooManyRequestsException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.hanachain.hanachainbackend.repository;
+
+import com.hanachain.hanachainbackend.entity.AuditLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 감사 로그 조회 (기록은 AuditLogBatchWriter의 JDBC 일괄 INSERT로만 수행)
+ * 관리자 검색은 {@link AuditLogSpecifications#search}로 값이 있는 필터만 조건에 넣어 조회합니다.
+ */
+@Repository
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, JpaSpecificationExecutor<AuditLog> {
+}
@@ -0,0 +1,57 @@
+package com.hanachain.hanachainbackend.repository;
+
+import com.hanachain.hanachainbackend.dto.audit.AuditLogSearchCondition;
+import com.hanachain.hanachainbackend.entity.AuditLog;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 감사 로그 검색 조건
+ *
+ * 값이 있는 필터만 WHERE 절에 넣습니다. {@code (:x IS NULL OR col = :x)} 형태로 모든 필터를 한 쿼리에 두면
+ * 바인드 값과 무관하게 하나의 실행 계획이 공유되어 (필터 컬럼, timestamp) 복합 인덱스를 타지 못하고
+ * timestamp 범위 스캔으로 떨어지기 때문입니다. 필터 조합마다 SQL이 달라져 조합별 실행 계획이 만들어집니다.
+ */
+public final class AuditLogSpecifications {
+
+    private AuditLogSpecifications() {
+    }
+
+    /**
+     * 기간 [from, to)은 필수, 나머지는 null이 아닐 때만 조건에 포함
+     */
+    public static Specification<AuditLog> search(LocalDateTime from, LocalDateTime to, AuditLogSearchCondition condition) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.greaterThanOrEqualTo(root.get("timestamp"), from));
+            predicates.add(cb.lessThan(root.get("timestamp"), to));
+
+            if (condition.getUserId() != null) {
+                predicates.add(cb.equal(root.get("userId"), condition.getUserId()));
+            }
+            if (condition.getAction() != null) {
+                predicates.add(cb.equal(root.get("action"), condition.getAction()));
+            }
+            if (condition.getCategory() != null) {
+                predicates.add(cb.equal(root.get("category"), condition.getCategory()));
+            }
+            if (condition.getOrganizationId() != null) {
+                predicates.add(cb.equal(root.get("organizationId"), condition.getOrganizationId()));
+            }
+            if (condition.getTargetType() != null) {
+                predicates.add(cb.equal(root.get("targetEntityType"), condition.getTargetType()));
+            }
+            if (condition.getTargetId() != null) {
+                predicates.add(cb.equal(root.get("targetEntityId"), condition.getTargetId()));
+            }
+            if (condition.getSuccess() != null) {
+                predicates.add(cb.equal(root.get("success"), condition.getSuccess()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
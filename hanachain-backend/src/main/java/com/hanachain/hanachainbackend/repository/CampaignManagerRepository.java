@@ -10,8 +10,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface CampaignManagerRepository extends JpaRepository<CampaignManager, Long> {
@@ -54,6 +56,12 @@ public interface CampaignManagerRepository extends JpaRepository<CampaignManager
      */
     boolean existsByCampaignIdAndUserIdAndStatus(Long campaignId, Long userId, CampaignManager.ManagerStatus status);
     
+    /**
+     * 주어진 사용자들 중 특정 캠페인의 활성 담당자 ID 집합 조회
+     */
+    @Query("SELECT cm.user.id FROM CampaignManager cm WHERE cm.campaign.id = :campaignId AND cm.user.id IN :userIds AND cm.status = 'ACTIVE'")
+    Set<Long> findActiveManagerUserIds(@Param("campaignId") Long campaignId, @Param("userIds") Collection<Long> userIds);
+    
     /**
      * 특정 캠페인의 담당자 수 조회
      */
@@ -33,8 +33,43 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
     @Query("SELECT c FROM Campaign c WHERE (c.title LIKE %:keyword% OR c.description LIKE %:keyword%) AND c.deletedAt IS NULL")
     Page<Campaign> findByKeyword(@Param("keyword") String keyword, Pageable pageable);
     
-    @Query("SELECT c FROM Campaign c WHERE c.endDate < :now AND c.status = 'ACTIVE' AND c.deletedAt IS NULL")
-    List<Campaign> findExpiredCampaigns(@Param("now") LocalDateTime now);
+    /**
+     * 만료로 마감되었지만 아직 토큰 전송 배치를 시작하지 않은 캠페인 ID (batch_job_status = PENDING)
+     */
+    @Query("SELECT c.id FROM Campaign c WHERE c.status = 'COMPLETED' AND c.batchJobStatus = 'PENDING' AND c.deletedAt IS NULL")
+    List<Long> findIdsAwaitingTokenTransfer();
+    
+    /**
+     * 배치 작업 상태를 expected일 때만 next로 변경 (여러 노드/스레드 중 하나만 선점)
+     */
+    @Modifying
+    @Query("UPDATE Campaign c SET c.batchJobStatus = :next WHERE c.id = :id AND c.batchJobStatus = :expected")
+    int compareAndSetBatchJobStatus(@Param("id") Long id, @Param("expected") String expected, @Param("next") String next);
+
+    /**
+     * 만료 캠페인 배치 시작 선점 (PENDING → STARTING, 선점 시각을 batch_started_at에 기록)
+     */
+    @Modifying
+    @Query("UPDATE Campaign c SET c.batchJobStatus = 'STARTING', c.batchStartedAt = :claimedAt " +
+           "WHERE c.id = :id AND c.batchJobStatus = 'PENDING'")
+    int claimBatchStart(@Param("id") Long id, @Param("claimedAt") LocalDateTime claimedAt);
+
+    /**
+     * 선점 후 배치를 시작하지 못한 채 남은 STARTING 캠페인을 PENDING으로 되돌림 (선점한 노드가 중간에 죽은 경우)
+     * 배치가 시작되면 Job 리스너가 RUNNING으로 바꾸므로 claimedBefore 이전의 STARTING은 버려진 선점임
+     */
+    @Modifying
+    @Query("UPDATE Campaign c SET c.batchJobStatus = 'PENDING' " +
+           "WHERE c.batchJobStatus = 'STARTING' AND (c.batchStartedAt IS NULL OR c.batchStartedAt < :claimedBefore)")
+    int releaseStaleBatchClaims(@Param("claimedBefore") LocalDateTime claimedBefore);
+
+    /**
+     * 모금액/기부자 수 원자적 증감 (엔티티를 읽고 덮어쓰지 않아 동시 완료/환불 시 갱신이 유실되지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Campaign c SET c.currentAmount = c.currentAmount + :amount, c.donorCount = c.donorCount + :donors " +
+           "WHERE c.id = :id")
+    int adjustDonationTotals(@Param("id") Long id, @Param("amount") BigDecimal amount, @Param("donors") int donors);
     
     @Query("SELECT SUM(c.currentAmount) FROM Campaign c WHERE c.status = 'COMPLETED' AND c.deletedAt IS NULL")
     BigDecimal getTotalRaisedAmount();
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,15 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
         Pageable pageable
     );
     
+    // 특정 캠페인의 최상위 활성 댓글 조회 (캠페인 엔티티 로딩 없이, 페이징)
+    @Query(value = "SELECT c FROM Comment c WHERE c.campaign.id = :campaignId AND c.status = 'ACTIVE' AND c.parent IS NULL ORDER BY c.createdAt DESC",
+           countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.campaign.id = :campaignId AND c.status = 'ACTIVE' AND c.parent IS NULL")
+    Page<Comment> findRootCommentsByCampaignId(@Param("campaignId") Long campaignId, Pageable pageable);
+    
+    // 여러 댓글의 활성 답글 일괄 조회 (IN 쿼리 1회)
+    @Query("SELECT c FROM Comment c WHERE c.parent.id IN :parentIds AND c.status = 'ACTIVE' ORDER BY c.createdAt ASC")
+    List<Comment> findActiveRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
+    
     // 특정 댓글의 답글 조회 (활성 답글만)
     List<Comment> findByParentAndStatusOrderByCreatedAtAsc(Comment parent, Comment.CommentStatus status);
     
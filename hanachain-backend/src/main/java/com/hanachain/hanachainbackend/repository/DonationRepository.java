@@ -4,19 +4,36 @@ import com.hanachain.hanachainbackend.entity.Donation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface DonationRepository extends JpaRepository<Donation, Long> {
     
     Optional<Donation> findByPaymentId(String paymentId);
+
+    /**
+     * 결제 상태 조건부 전환 (현재 상태가 expected일 때만 변경, 변경된 행 수 반환)
+     * 동시에 같은 기부를 전환하려는 요청 중 하나만 1을 받습니다.
+     * 영속성 컨텍스트를 비우지 않으므로, 호출자는 이미 로드한 엔티티에도 같은 상태를 반영해야 합니다.
+     */
+    @Modifying
+    @Query("UPDATE Donation d SET d.paymentStatus = :next, d.failureReason = :reason, d.updatedAt = :now " +
+           "WHERE d.id = :id AND d.paymentStatus = :expected")
+    int transitionPaymentStatus(@Param("id") Long id,
+                                @Param("expected") Donation.PaymentStatus expected,
+                                @Param("next") Donation.PaymentStatus next,
+                                @Param("reason") String reason,
+                                @Param("now") LocalDateTime now);
     
     @Query("SELECT d FROM Donation d WHERE d.campaign.id = :campaignId AND d.paymentStatus = 'COMPLETED' ORDER BY d.paidAt DESC")
     Page<Donation> findByCampaignIdAndCompleted(@Param("campaignId") Long campaignId, Pageable pageable);
@@ -36,13 +53,27 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
     @Query("SELECT COUNT(d) FROM Donation d WHERE d.campaign.id = :campaignId AND d.paymentStatus = 'COMPLETED'")
     long getTotalDonationCountByCampaign(@Param("campaignId") Long campaignId);
     
-    @Query("SELECT d FROM Donation d WHERE d.paidAt BETWEEN :startDate AND :endDate AND d.paymentStatus = 'COMPLETED'")
+    /**
+     * 기간 내 결제 완료된 기부 조회
+     * 결제는 생성 후 언제든(수동 승인 등) 완료될 수 있어 created_at 하한을 둘 수 없으므로,
+     * 파티션 프루닝 대신 paid_at 글로벌 인덱스(idx_donations_paid_at)로 범위를 찾음
+     * (결제는 생성 이후에만 완료되므로 created_at 상한 endDate는 결과를 바꾸지 않고 이후 월 파티션만 제외)
+     */
+    @Query("SELECT d FROM Donation d " +
+           "WHERE d.createdAt <= :endDate " +
+           "AND d.paidAt BETWEEN :startDate AND :endDate AND d.paymentStatus = 'COMPLETED'")
     List<Donation> findCompletedDonationsBetweenDates(
             @Param("startDate") LocalDateTime startDate, 
             @Param("endDate") LocalDateTime endDate);
     
-    @Query("SELECT d FROM Donation d WHERE d.paymentStatus = 'PENDING' AND d.createdAt < :before")
-    List<Donation> findPendingDonationsOlderThan(@Param("before") LocalDateTime before);
+    /**
+     * 생성 후 일정 시간이 지난 미완료 기부 조회
+     * createdAfter는 파티션 프루닝용 하한 (보관된 읽기 전용 파티션은 조회하지 않음)
+     */
+    @Query("SELECT d FROM Donation d WHERE d.paymentStatus = 'PENDING' " +
+           "AND d.createdAt >= :createdAfter AND d.createdAt < :before")
+    List<Donation> findPendingDonationsOlderThan(@Param("createdAfter") LocalDateTime createdAfter,
+                                                 @Param("before") LocalDateTime before);
     
     @Query("SELECT SUM(d.amount) FROM Donation d WHERE d.paymentStatus = 'COMPLETED'")
     BigDecimal getTotalCompletedAmount();
@@ -108,22 +139,42 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
     /**
      * 배치 처리 대상 기부 내역 조회
      * (완료된 결제 중 블록체인에 기록되지 않은 항목)
+     * createdFrom에는 캠페인 생성 시각을 전달 (그 이전 월 파티션은 프루닝됨)
      */
     @Query("SELECT d FROM Donation d " +
            "WHERE d.campaign.id = :campaignId " +
+           "AND d.createdAt >= :createdFrom " +
            "AND d.paymentStatus = 'COMPLETED' " +
            "AND (d.blockchainRecorded = false OR d.blockchainRecorded IS NULL) " +
            "ORDER BY d.paidAt ASC")
-    Page<Donation> findPendingBlockchainRecords(@Param("campaignId") Long campaignId, Pageable pageable);
+    Page<Donation> findPendingBlockchainRecords(@Param("campaignId") Long campaignId,
+                                                @Param("createdFrom") LocalDateTime createdFrom,
+                                                Pageable pageable);
 
     /**
      * 배치 처리 대상 기부 건수 조회
      */
     @Query("SELECT COUNT(d) FROM Donation d " +
            "WHERE d.campaign.id = :campaignId " +
+           "AND d.createdAt >= :createdFrom " +
            "AND d.paymentStatus = 'COMPLETED' " +
            "AND (d.blockchainRecorded = false OR d.blockchainRecorded IS NULL)")
-    long countPendingBlockchainRecords(@Param("campaignId") Long campaignId);
+    long countPendingBlockchainRecords(@Param("campaignId") Long campaignId,
+                                       @Param("createdFrom") LocalDateTime createdFrom);
+
+    /**
+     * 배치 처리 대상 기부 금액/건수를 기부자별로 합산 (토큰 전송 전 지갑 충전 계획용)
+     * 반환: [userId, 금액 합계, 건수]
+     */
+    @Query("SELECT d.user.id, SUM(d.amount), COUNT(d) FROM Donation d " +
+           "WHERE d.campaign.id = :campaignId " +
+           "AND d.createdAt >= :createdFrom " +
+           "AND d.paymentStatus = 'COMPLETED' " +
+           "AND (d.blockchainRecorded = false OR d.blockchainRecorded IS NULL) " +
+           "AND d.user IS NOT NULL " +
+           "GROUP BY d.user.id")
+    List<Object[]> sumPendingBlockchainAmountsByDonor(@Param("campaignId") Long campaignId,
+                                                      @Param("createdFrom") LocalDateTime createdFrom);
 
     // === 댓글 시스템 전용 쿼리 ===
 
@@ -138,6 +189,16 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
     boolean hasUserDonatedToCampaign(@Param("userId") Long userId,
                                      @Param("campaignId") Long campaignId);
 
+    /**
+     * 주어진 사용자들 중 특정 캠페인에 완료된 기부 이력이 있는 사용자 ID 집합 조회
+     */
+    @Query("SELECT DISTINCT d.user.id FROM Donation d " +
+           "WHERE d.campaign.id = :campaignId " +
+           "AND d.paymentStatus = 'COMPLETED' " +
+           "AND d.user.id IN :userIds")
+    Set<Long> findDonorUserIds(@Param("campaignId") Long campaignId,
+                               @Param("userIds") Collection<Long> userIds);
+
     // === 캠페인 모금 통계 전용 쿼리 ===
 
     /**
@@ -151,6 +212,7 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
 
     /**
      * 캠페인별 일별 기부 통계 조회 (날짜, 총액, 건수)
+     * created_at 범위(createdFrom ~ endDate)는 월별 파티션 프루닝용 조건
      */
     @Query("SELECT FUNCTION('TO_CHAR', d.paidAt, 'YYYY-MM-DD') as date, " +
            "SUM(d.amount) as amount, " +
@@ -158,6 +220,7 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
            "FROM Donation d " +
            "WHERE d.campaign.id = :campaignId " +
            "AND d.paymentStatus = 'COMPLETED' " +
+           "AND d.createdAt <= :endDate " +
            "AND d.paidAt BETWEEN :startDate AND :endDate " +
            "GROUP BY FUNCTION('TO_CHAR', d.paidAt, 'YYYY-MM-DD') " +
            "ORDER BY date ASC")
@@ -180,6 +243,63 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
            "ORDER BY d.amount DESC")
     List<Object[]> findTopDonationsByCampaignId(@Param("campaignId") Long campaignId, Pageable pageable);
 
+    /**
+     * 캠페인 모금 통계 통합 조회 (단일 쿼리)
+     * 캠페인 정보, 담당자 여부, 총계, 일별 추이(빈 날짜 포함), 상위 기부 목록을 한 번에 반환합니다.
+     *
+     * 컬럼: row_type, label, amount_value, extra_value, count_value, start_at, end_at, event_at, flag, sort_key
+     * - C: 캠페인 (amount=현재 모금액, extra=목표 금액, flag=담당자 여부)
+     * - T: 총계 (amount=총액, extra=고유 기부자 수, count=완료 건수)
+     * - D: 일별 추이 (label=YYYY-MM-DD, amount=일별 총액, count=일별 건수)
+     * - R: 상위 기부 (label=기부자명, amount=기부액, event_at=결제일, flag=익명 여부, count=순위)
+     *
+     * 기부는 캠페인 생성 이후에만 생기므로 created_at 하한을 캠페인 생성 시각(스칼라 서브쿼리)으로 두어
+     * 실행 시점 파티션 프루닝(KEY)이 되도록 합니다.
+     */
+    @Query(value = "WITH completed AS (" +
+                   "  SELECT d.id, d.amount, d.paid_at, d.anonymous, d.user_id, " +
+                   "         COALESCE(d.donor_name, u.name, '익명') AS donor_name " +
+                   "  FROM donations d LEFT JOIN users u ON u.id = d.user_id " +
+                   "  WHERE d.campaign_id = :campaignId AND d.payment_status = 'COMPLETED' " +
+                   "    AND d.created_at >= (SELECT cc.created_at FROM campaigns cc WHERE cc.id = :campaignId)" +
+                   "), days AS (" +
+                   "  SELECT CAST(:fromDate AS DATE) + (LEVEL - 1) AS day_start " +
+                   "  FROM dual CONNECT BY LEVEL <= :days" +
+                   "), ranked AS (" +
+                   "  SELECT c.donor_name, c.amount, c.paid_at, c.anonymous, " +
+                   "         ROW_NUMBER() OVER (ORDER BY c.amount DESC, c.paid_at DESC) AS rn " +
+                   "  FROM completed c" +
+                   ") " +
+                   "SELECT 'C' AS row_type, CAST(NULL AS VARCHAR2(100)) AS label, " +
+                   "       cp.current_amount AS amount_value, cp.target_amount AS extra_value, " +
+                   "       CAST(NULL AS NUMBER) AS count_value, cp.start_date AS start_at, cp.end_date AS end_at, " +
+                   "       CAST(NULL AS TIMESTAMP) AS event_at, " +
+                   "       CASE WHEN EXISTS (SELECT 1 FROM campaign_managers cm " +
+                   "                         WHERE cm.campaign_id = cp.id AND cm.user_id = :userId " +
+                   "                         AND cm.status = 'ACTIVE') THEN 1 ELSE 0 END AS flag, " +
+                   "       0 AS sort_key " +
+                   "FROM campaigns cp WHERE cp.id = :campaignId AND cp.deleted_at IS NULL " +
+                   "UNION ALL " +
+                   "SELECT 'T', NULL, COALESCE(SUM(c.amount), 0), COUNT(DISTINCT c.user_id), COUNT(c.id), " +
+                   "       NULL, NULL, NULL, NULL, 0 " +
+                   "FROM completed c " +
+                   "UNION ALL " +
+                   "SELECT 'D', TO_CHAR(dy.day_start, 'YYYY-MM-DD'), COALESCE(SUM(c.amount), 0), NULL, COUNT(c.id), " +
+                   "       NULL, NULL, NULL, NULL, dy.day_start - CAST(:fromDate AS DATE) " +
+                   "FROM days dy LEFT JOIN completed c " +
+                   "  ON c.paid_at >= dy.day_start AND c.paid_at < dy.day_start + 1 " +
+                   "GROUP BY dy.day_start " +
+                   "UNION ALL " +
+                   "SELECT 'R', r.donor_name, r.amount, NULL, r.rn, NULL, NULL, r.paid_at, r.anonymous, r.rn " +
+                   "FROM ranked r WHERE r.rn <= :topN " +
+                   "ORDER BY 1, 10",
+           nativeQuery = true)
+    List<Object[]> findCampaignStatsRows(@Param("campaignId") Long campaignId,
+                                         @Param("userId") Long userId,
+                                         @Param("fromDate") LocalDateTime fromDate,
+                                         @Param("days") int days,
+                                         @Param("topN") int topN);
+
     // === FDS (사기 탐지 시스템) 검증 전용 쿼리 ===
 
     /**
@@ -0,0 +1,83 @@
+package com.hanachain.hanachainbackend.repository;
+
+import com.hanachain.hanachainbackend.entity.EmailOutbox;
+import com.hanachain.hanachainbackend.entity.enums.EmailOutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * 발송할 행을 선점 (PENDING이면서 재시도 시각이 지난 행, 또는 임대 시간이 지난 SENDING 행)
+     * 바깥 WHERE에서 조건을 다시 확인하므로 여러 인스턴스가 동시에 실행해도 같은 행을 두 번 가져가지 않습니다.
+     */
+    @Modifying
+    @Query(value = "UPDATE email_outbox SET status = 'SENDING', claim_token = :token, claimed_at = :now " +
+           "WHERE id IN (SELECT id FROM email_outbox " +
+           "              WHERE (status = 'PENDING' AND next_attempt_at <= :now) " +
+           "                 OR (status = 'SENDING' AND claimed_at < :staleBefore) " +
+           "              ORDER BY next_attempt_at, id FETCH FIRST :limit ROWS ONLY) " +
+           "AND ((status = 'PENDING' AND next_attempt_at <= :now) OR (status = 'SENDING' AND claimed_at < :staleBefore))",
+           nativeQuery = true)
+    int claimDue(@Param("token") String token,
+                 @Param("now") LocalDateTime now,
+                 @Param("staleBefore") LocalDateTime staleBefore,
+                 @Param("limit") int limit);
+
+    /**
+     * 선점한 행 조회
+     */
+    @Query("SELECT e FROM EmailOutbox e WHERE e.claimToken = :token ORDER BY e.id")
+    List<EmailOutbox> findClaimed(@Param("token") String token);
+
+    /**
+     * 발송 완료 처리
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = :sent, e.sentAt = :sentAt, e.attempts = e.attempts + 1, " +
+           "e.claimToken = NULL, e.lastError = NULL WHERE e.id IN :ids AND e.claimToken = :token")
+    int markSent(@Param("ids") Collection<Long> ids,
+                 @Param("token") String token,
+                 @Param("sent") EmailOutboxStatus sent,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * 발송 실패 처리 (재시도 예정이면 PENDING + 다음 시도 시각, 한도를 넘으면 FAILED)
+     */
+    @Modifying
+    @Query("UPDATE EmailOutbox e SET e.status = :status, e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, " +
+           "e.lastError = :error, e.claimToken = NULL WHERE e.id = :id AND e.claimToken = :token")
+    int markAttemptFailed(@Param("id") Long id,
+                          @Param("token") String token,
+                          @Param("status") EmailOutboxStatus status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("error") String error);
+
+    /**
+     * 대기열 길이 (대기 + 발송 중)
+     */
+    @Query("SELECT COUNT(e) FROM EmailOutbox e WHERE e.status IN :statuses")
+    long countByStatuses(@Param("statuses") Collection<EmailOutboxStatus> statuses);
+
+    /**
+     * 비밀 값(인증 코드)을 담은 행을 발송 완료/최종 실패 즉시 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.id IN :ids AND e.purgeOnSend = true")
+    int deletePurgeOnSend(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 보관 기간이 지난 발송 완료 행 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.status = :sent AND e.sentAt < :before")
+    int deleteSentBefore(@Param("sent") EmailOutboxStatus sent, @Param("before") LocalDateTime before);
+}
@@ -1,14 +1,17 @@
 package com.hanachain.hanachainbackend.repository;
 
+import com.hanachain.hanachainbackend.dto.organization.OrganizationSummary;
 import com.hanachain.hanachainbackend.entity.Organization;
 import com.hanachain.hanachainbackend.entity.enums.OrganizationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -92,4 +95,46 @@ public interface OrganizationRepository extends JpaRepository<Organization, Long
            "COALESCE(AVG(SIZE(o.members)), 0) as avgMembers" +
            ") FROM Organization o GROUP BY o.status")
     List<Object> getOrganizationStatistics();
-}
\ No newline at end of file
+
+    /**
+     * 조직 목록 읽기 모델 페이지 조회 (상태/이름 조건은 null이면 무시)
+     * 멤버/관리자 수는 비정규화 카운터를 읽으므로 members 컬렉션을 로드하지 않습니다
+     */
+    @Query(value = "SELECT new com.hanachain.hanachainbackend.dto.organization.OrganizationSummary(" +
+                   "o.id, o.name, o.description, o.imageUrl, o.status, o.createdAt, o.updatedAt, " +
+                   "o.memberCount, o.adminMemberCount, w.walletAddress) " +
+                   "FROM Organization o LEFT JOIN o.wallet w " +
+                   "WHERE (:status IS NULL OR o.status = :status) " +
+                   "AND (:name IS NULL OR LOWER(o.name) LIKE LOWER(CONCAT('%', :name, '%')))",
+           countQuery = "SELECT COUNT(o) FROM Organization o " +
+                        "WHERE (:status IS NULL OR o.status = :status) " +
+                        "AND (:name IS NULL OR LOWER(o.name) LIKE LOWER(CONCAT('%', :name, '%')))")
+    Page<OrganizationSummary> findSummaries(
+        @Param("status") OrganizationStatus status,
+        @Param("name") String name,
+        Pageable pageable
+    );
+
+    /**
+     * 조직별 활성 캠페인 수를 한 번의 그룹 쿼리로 조회 (캠페인은 멤버 소유이므로 멤버십을 통해 집계)
+     *
+     * @return [조직 ID, 활성 캠페인 수] 목록 (활성 캠페인이 없는 조직은 포함되지 않음)
+     */
+    @Query("SELECT m.organization.id, COUNT(c) FROM OrganizationUser m " +
+           "JOIN Campaign c ON c.user = m.user " +
+           "WHERE m.organization.id IN :organizationIds AND c.status = 'ACTIVE' " +
+           "GROUP BY m.organization.id")
+    List<Object[]> countActiveCampaignsByOrganizationIds(@Param("organizationIds") Collection<Long> organizationIds);
+
+    /**
+     * 멤버/관리자 수 카운터 증감 (동시 멤버 변경에도 누락되지 않도록 UPDATE 문 안에서 계산)
+     */
+    @Modifying
+    @Query("UPDATE Organization o SET o.memberCount = o.memberCount + :memberDelta, " +
+           "o.adminMemberCount = o.adminMemberCount + :adminDelta WHERE o.id = :organizationId")
+    int adjustMemberCounts(
+        @Param("organizationId") Long organizationId,
+        @Param("memberDelta") long memberDelta,
+        @Param("adminDelta") long adminDelta
+    );
+}
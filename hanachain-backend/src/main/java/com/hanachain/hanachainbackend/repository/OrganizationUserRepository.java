@@ -4,6 +4,7 @@ import com.hanachain.hanachainbackend.entity.Organization;
 import com.hanachain.hanachainbackend.entity.OrganizationUser;
 import com.hanachain.hanachainbackend.entity.User;
 import com.hanachain.hanachainbackend.entity.enums.OrganizationRole;
+import com.hanachain.hanachainbackend.entity.enums.OrganizationStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -54,6 +55,15 @@ public interface OrganizationUserRepository extends JpaRepository<OrganizationUs
     @Query("SELECT ou FROM OrganizationUser ou WHERE ou.user.id = :userId")
     List<OrganizationUser> findByUserId(@Param("userId") Long userId);
     
+    /**
+     * Find active membership roles for a user as [organizationId, role] rows
+     * (used to build the cached membership snapshot for authorization checks)
+     */
+    @Query("SELECT ou.organization.id, ou.role FROM OrganizationUser ou " +
+           "WHERE ou.user.id = :userId AND ou.user.enabled = true " +
+           "AND ou.organization.status = :status AND ou.organization.deletedAt IS NULL")
+    List<Object[]> findActiveMembershipRoles(@Param("userId") Long userId, @Param("status") OrganizationStatus status);
+    
     /**
      * Find all members of an organization with pagination
      */
@@ -0,0 +1,50 @@
+package com.hanachain.hanachainbackend.repository;
+
+import com.hanachain.hanachainbackend.entity.PermissionDelegation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 권한 위임 레지스트리 조회/갱신
+ * 관리자 목록 검색은 {@link PermissionDelegationSpecifications#searchActive}로 값이 있는 필터만 조건에 넣어 조회합니다.
+ */
+@Repository
+public interface PermissionDelegationRepository extends JpaRepository<PermissionDelegation, Long>,
+        JpaSpecificationExecutor<PermissionDelegation> {
+
+    /**
+     * 사용자의 활성 위임 목록 (최신순)
+     */
+    @Query("SELECT d FROM PermissionDelegation d JOIN FETCH d.grantee " +
+           "WHERE d.grantee.id = :granteeId AND d.revokedAt IS NULL ORDER BY d.grantedAt DESC")
+    List<PermissionDelegation> findActiveByGranteeId(@Param("granteeId") Long granteeId);
+
+    /**
+     * 사용자의 활성 시스템 역할 위임 취소 (새 위임으로 대체되거나 역할이 회수될 때)
+     */
+    @Modifying
+    @Query("UPDATE PermissionDelegation d SET d.revokedAt = :revokedAt, d.revokedById = :revokedById " +
+           "WHERE d.grantee.id = :granteeId AND d.scope = 'SYSTEM' AND d.revokedAt IS NULL")
+    int revokeActiveSystemDelegations(@Param("granteeId") Long granteeId,
+                                      @Param("revokedAt") LocalDateTime revokedAt,
+                                      @Param("revokedById") Long revokedById);
+
+    /**
+     * 사용자의 특정 단체 활성 역할 위임 취소
+     */
+    @Modifying
+    @Query("UPDATE PermissionDelegation d SET d.revokedAt = :revokedAt, d.revokedById = :revokedById " +
+           "WHERE d.grantee.id = :granteeId AND d.scope = 'ORGANIZATION' " +
+           "AND d.organizationId = :organizationId AND d.revokedAt IS NULL")
+    int revokeActiveOrganizationDelegations(@Param("granteeId") Long granteeId,
+                                            @Param("organizationId") Long organizationId,
+                                            @Param("revokedAt") LocalDateTime revokedAt,
+                                            @Param("revokedById") Long revokedById);
+}
@@ -0,0 +1,59 @@
+package com.hanachain.hanachainbackend.repository;
+
+import com.hanachain.hanachainbackend.dto.admin.PermissionDelegationSearchCondition;
+import com.hanachain.hanachainbackend.entity.PermissionDelegation;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 활성 권한 위임 검색 조건
+ *
+ * {@link AuditLogSpecifications}와 같은 이유로 값이 있는 필터만 WHERE 절에 넣습니다.
+ * V24 인덱스 중 범위는 idx_perm_deleg_scope(scope, revoked_at, granted_at), 단체는
+ * idx_perm_deleg_organization(organization_id, revoked_at, granted_at), 대상자는
+ * idx_perm_deleg_grantee(grantee_user_id, revoked_at), 위임자는 idx_perm_deleg_granted_by(granted_by_user_id, granted_at)를
+ * 탈 수 있고, 시스템/단체 역할 조건은 전용 인덱스가 없어 다른 조건으로 좁힌 행에서 걸러집니다.
+ */
+public final class PermissionDelegationSpecifications {
+
+    private PermissionDelegationSpecifications() {
+    }
+
+    /**
+     * 회수되지 않은 위임만, 나머지 조건은 null이 아닐 때만 포함 (목록 조회 시 위임 대상 사용자는 함께 조회)
+     */
+    public static Specification<PermissionDelegation> searchActive(PermissionDelegationSearchCondition condition) {
+        return (root, query, cb) -> {
+            // count 쿼리에는 fetch join을 붙일 수 없음
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("grantee");
+            }
+
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.isNull(root.get("revokedAt")));
+
+            if (condition.getScope() != null) {
+                predicates.add(cb.equal(root.get("scope"), condition.getScope()));
+            }
+            if (condition.getTargetUserId() != null) {
+                predicates.add(cb.equal(root.get("grantee").get("id"), condition.getTargetUserId()));
+            }
+            if (condition.getOrganizationId() != null) {
+                predicates.add(cb.equal(root.get("organizationId"), condition.getOrganizationId()));
+            }
+            if (condition.getSystemRole() != null) {
+                predicates.add(cb.equal(root.get("systemRole"), condition.getSystemRole()));
+            }
+            if (condition.getOrganizationRole() != null) {
+                predicates.add(cb.equal(root.get("organizationRole"), condition.getOrganizationRole()));
+            }
+            if (condition.getDelegatedById() != null) {
+                predicates.add(cb.equal(root.get("grantedById"), condition.getDelegatedById()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
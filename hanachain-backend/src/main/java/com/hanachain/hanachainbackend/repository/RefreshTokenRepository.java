@@ -0,0 +1,43 @@
+package com.hanachain.hanachainbackend.repository;
+
+import com.hanachain.hanachainbackend.entity.RefreshToken;
+import com.hanachain.hanachainbackend.entity.enums.RefreshTokenStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    /**
+     * 사용 가능한 토큰만 교체됨으로 변경 (동시에 같은 토큰으로 갱신하면 한쪽만 1을 반환)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.status = :rotated, rt.rotatedAt = :now " +
+           "WHERE rt.tokenHash = :tokenHash AND rt.status = :active")
+    int markRotated(@Param("tokenHash") String tokenHash,
+                    @Param("now") LocalDateTime now,
+                    @Param("active") RefreshTokenStatus active,
+                    @Param("rotated") RefreshTokenStatus rotated);
+
+    /**
+     * 토큰 계열의 사용 가능한 토큰 일괄 폐기
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.status = :revoked " +
+           "WHERE rt.familyId = :familyId AND rt.status = :active")
+    int revokeFamily(@Param("familyId") String familyId,
+                     @Param("active") RefreshTokenStatus active,
+                     @Param("revoked") RefreshTokenStatus revoked);
+
+    /**
+     * 만료된 토큰 일괄 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,6 +51,19 @@ public interface UserFavoriteRepository extends JpaRepository<UserFavorite, Long
     @Query("SELECT COUNT(uf) FROM UserFavorite uf WHERE uf.campaign.id = :campaignId")
     long countByCampaignId(@Param("campaignId") Long campaignId);
     
+    /**
+     * 사용자별 즐겨찾기 캠페인 ID 목록 조회 (즐겨찾기 인덱스 로딩용)
+     */
+    @Query("SELECT uf.campaign.id FROM UserFavorite uf WHERE uf.user.id = :userId")
+    List<Long> findCampaignIdsByUserId(@Param("userId") Long userId);
+    
+    /**
+     * 여러 캠페인의 즐겨찾기 수 일괄 조회 [캠페인 ID, 즐겨찾기 수]
+     */
+    @Query("SELECT uf.campaign.id, COUNT(uf) FROM UserFavorite uf " +
+           "WHERE uf.campaign.id IN :campaignIds GROUP BY uf.campaign.id")
+    List<Object[]> countGroupedByCampaignIds(@Param("campaignIds") Collection<Long> campaignIds);
+    
     /**
      * 사용자별 즐겨찾기 캠페인 검색 (제목 기준)
      */
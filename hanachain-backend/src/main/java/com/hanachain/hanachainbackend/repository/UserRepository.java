@@ -4,6 +4,7 @@ import com.hanachain.hanachainbackend.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -45,4 +46,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Page<User> findByRole(@Param("role") User.Role role, Pageable pageable);
     
     List<User> findByRoleNot(User.Role role);
+    
+    /**
+     * 토큰 버전 증가 (이전에 발급된 토큰 무효화)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.id = :userId")
+    int incrementTokenVersion(@Param("userId") Long userId);
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +35,12 @@ public interface UserWalletRepository extends JpaRepository<UserWallet, Long> {
      */
     Optional<UserWallet> findByUserIdAndIsPrimaryTrue(Long userId);
     
+    /**
+     * 여러 사용자의 주 지갑 일괄 조회
+     */
+    @Query("SELECT w FROM UserWallet w WHERE w.user.id IN :userIds AND w.isPrimary = true")
+    List<UserWallet> findPrimaryByUserIds(@Param("userIds") Collection<Long> userIds);
+    
     /**
      * 지갑 주소로 조회
      */
@@ -1,9 +1,12 @@
 package com.hanachain.hanachainbackend.repository;
 
 import com.hanachain.hanachainbackend.entity.VerificationSession;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,6 +19,10 @@ public interface VerificationSessionRepository extends JpaRepository<Verificatio
     Optional<VerificationSession> findByEmailAndVerificationCodeAndVerifiedFalse(
             String email, String verificationCode);
     
+    /**
+     * 읽기 전용으로 조회 (시도 횟수는 지연 반영 카운터로 따로 UPDATE 하므로 엔티티 변경을 flush 하지 않음)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("SELECT vs FROM VerificationSession vs WHERE vs.email = :email " +
            "AND vs.type = :type AND vs.verified = false AND vs.expiresAt > :now " +
            "ORDER BY vs.createdAt DESC")
@@ -24,6 +31,10 @@ public interface VerificationSessionRepository extends JpaRepository<Verificatio
             @Param("type") VerificationSession.VerificationType type,
             @Param("now") LocalDateTime now);
     
+    @Modifying
+    @Query("UPDATE VerificationSession vs SET vs.verified = true WHERE vs.id = :id")
+    int markVerified(@Param("id") Long id);
+    
     @Modifying
     @Query("DELETE FROM VerificationSession vs WHERE vs.expiresAt < :now")
     void deleteExpiredSessions(@Param("now") LocalDateTime now);
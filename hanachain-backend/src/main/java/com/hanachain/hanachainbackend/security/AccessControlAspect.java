@@ -8,22 +8,40 @@ import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 권한 기반 접근 제어를 강제하는 Aspect
+ * 조직 권한은 {@link OrganizationMembershipCache}의 멤버십 스냅샷으로 판단하므로
+ * 어노테이션에 권한이 여러 개 있어도 멤버십 조회는 요청당 최대 한 번입니다.
  */
 @Aspect
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class AccessControlAspect {
+public class AccessControlAspect implements SmartInitializingSingleton {
+
+    private static final int NOT_FOUND = -1;
 
     private final SecurityUtils securityUtils;
+    private final ApplicationContext applicationContext;
+
+    /**
+     * 메서드별 조직 ID 파라미터 위치 (리플렉션은 메서드당 한 번만 수행)
+     */
+    private final Map<ParamKey, Integer> organizationParamIndexes = new ConcurrentHashMap<>();
 
     /**
      * @RequirePermission 어노테이션이 있는 메서드를 가로챕니다
@@ -66,17 +84,12 @@ public class AccessControlAspect {
         }
         
         if (!hasAccess) {
-            String resource = joinPoint.getSignature().getDeclaringTypeName() + "." + joinPoint.getSignature().getName();
-            String action = Arrays.toString(requiredPermissions);
-            securityUtils.logAccessAttempt(resource, action, false);
-            
+            logAccessAttempt(joinPoint, Arrays.toString(requiredPermissions), false);
             throw new AccessDeniedException(requirePermission.message());
         }
 
         // 성공적인 접근 로깅
-        String resource = joinPoint.getSignature().getDeclaringTypeName() + "." + joinPoint.getSignature().getName();
-        String action = Arrays.toString(requiredPermissions);
-        securityUtils.logAccessAttempt(resource, action, true);
+        logAccessAttempt(joinPoint, Arrays.toString(requiredPermissions), true);
     }
 
     /**
@@ -106,69 +119,99 @@ public class AccessControlAspect {
         }
         
         if (!hasAccess) {
-            String resource = joinPoint.getSignature().getDeclaringTypeName() + "." + joinPoint.getSignature().getName();
-            String action = adminRequired ? "ADMIN_ACCESS" : "ACCESS";
-            securityUtils.logAccessAttempt(resource, action, false);
-            
+            logAccessAttempt(joinPoint, adminRequired ? "ADMIN_ACCESS" : "ACCESS", false);
             throw new AccessDeniedException(requireOrganizationAccess.message());
         }
 
         // 성공적인 접근 로깅
-        String resource = joinPoint.getSignature().getDeclaringTypeName() + "." + joinPoint.getSignature().getName();
-        String action = adminRequired ? "ADMIN_ACCESS" : "ACCESS";
-        securityUtils.logAccessAttempt(resource, action, true);
+        logAccessAttempt(joinPoint, adminRequired ? "ADMIN_ACCESS" : "ACCESS", true);
+    }
+
+    private void logAccessAttempt(JoinPoint joinPoint, String action, boolean granted) {
+        SecurityUtils.getCurrentUser().ifPresent(user -> {
+            String resource = joinPoint.getSignature().getDeclaringTypeName() + "." + joinPoint.getSignature().getName();
+            securityUtils.logAccessAttempt(user, resource, action, granted);
+        });
+    }
+
+    /**
+     * 애플리케이션 시작 시 컨트롤러의 어노테이션 메서드별 조직 ID 파라미터 위치를 미리 계산합니다
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (Object bean : applicationContext.getBeansWithAnnotation(RestController.class).values()) {
+            ReflectionUtils.doWithMethods(AopUtils.getTargetClass(bean), method -> {
+                RequirePermission requirePermission = method.getAnnotation(RequirePermission.class);
+                if (requirePermission != null && !requirePermission.organizationParam().isEmpty()) {
+                    organizationParamIndex(method, requirePermission.organizationParam());
+                }
+                RequireOrganizationAccess requireOrganizationAccess = method.getAnnotation(RequireOrganizationAccess.class);
+                if (requireOrganizationAccess != null) {
+                    organizationParamIndex(method, requireOrganizationAccess.value());
+                }
+            });
+        }
+        log.info("Precomputed organization parameter index for {} methods", organizationParamIndexes.size());
     }
 
     /**
      * 메서드 파라미터에서 조직 ID를 추출합니다
      */
     private Long extractOrganizationId(JoinPoint joinPoint, String parameterName) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        int index = organizationParamIndex(method, parameterName);
+        if (index < 0) {
+            log.warn("Could not find organization ID parameter: {}", parameterName);
+            return null;
+        }
+
+        Object value = joinPoint.getArgs()[index];
+        if (value instanceof Long) {
+            return (Long) value;
+        } else if (value instanceof Integer) {
+            return ((Integer) value).longValue();
+        } else if (value instanceof String) {
+            try {
+                return Long.parseLong((String) value);
+            } catch (NumberFormatException e) {
+                log.warn("Could not parse organization ID from string: {}", value);
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 조직 ID 파라미터 위치 조회 (메서드별 최초 1회 계산 후 재사용)
+     */
+    private int organizationParamIndex(Method method, String parameterName) {
+        return organizationParamIndexes.computeIfAbsent(new ParamKey(method, parameterName),
+                key -> resolveParamIndex(key.method(), key.parameterName()));
+    }
+
+    /**
+     * 파라미터 이름이 일치하는 위치를 먼저 찾고, 없으면 @PathVariable 이름으로 찾습니다
+     */
+    private static int resolveParamIndex(Method method, String parameterName) {
         Parameter[] parameters = method.getParameters();
-        Object[] args = joinPoint.getArgs();
-        
+
         for (int i = 0; i < parameters.length; i++) {
             if (parameters[i].getName().equals(parameterName)) {
-                Object value = args[i];
-                if (value instanceof Long) {
-                    return (Long) value;
-                } else if (value instanceof Integer) {
-                    return ((Integer) value).longValue();
-                } else if (value instanceof String) {
-                    try {
-                        return Long.parseLong((String) value);
-                    } catch (NumberFormatException e) {
-                        log.warn("Could not parse organization ID from string: {}", value);
-                        return null;
-                    }
-                }
+                return i;
             }
         }
 
         // 경로 변수 또는 요청 파라미터에서 찾기 시도
         for (int i = 0; i < parameters.length; i++) {
-            Parameter param = parameters[i];
-            if (param.isAnnotationPresent(org.springframework.web.bind.annotation.PathVariable.class)) {
-                org.springframework.web.bind.annotation.PathVariable pathVar = 
-                    param.getAnnotation(org.springframework.web.bind.annotation.PathVariable.class);
-                if (pathVar.value().equals(parameterName) || pathVar.name().equals(parameterName)) {
-                    Object value = args[i];
-                    if (value instanceof Long) {
-                        return (Long) value;
-                    } else if (value instanceof String) {
-                        try {
-                            return Long.parseLong((String) value);
-                        } catch (NumberFormatException e) {
-                            log.warn("Could not parse organization ID from path variable: {}", value);
-                            return null;
-                        }
-                    }
-                }
+            PathVariable pathVar = parameters[i].getAnnotation(PathVariable.class);
+            if (pathVar != null && (pathVar.value().equals(parameterName) || pathVar.name().equals(parameterName))) {
+                return i;
             }
         }
-        
-        log.warn("Could not find organization ID parameter: {}", parameterName);
-        return null;
+
+        return NOT_FOUND;
+    }
+
+    private record ParamKey(Method method, String parameterName) {
     }
-}
\ No newline at end of file
+}
@@ -3,7 +3,9 @@ package com.hanachain.hanachainbackend.security;
 import com.hanachain.hanachainbackend.entity.User;
 import com.hanachain.hanachainbackend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -11,9 +13,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+@Slf4j
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
     
     @Override
     @Transactional
@@ -31,4 +35,22 @@ public class CustomUserDetailsService implements UserDetailsService {
         
         return user;
     }
+    
+    /**
+     * 로그인 성공 시 기존 형식이거나 설정된 비용보다 낮은 해시를 새 해시로 교체
+     * (DaoAuthenticationProvider가 PasswordEncoder.upgradeEncoding 결과에 따라 호출)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+        
+        user.setPassword(newPassword);
+        User saved = userRepository.save(user);
+        userSnapshotCache.evict(saved.getId());
+        log.info("Upgraded password hash for user {}", saved.getId());
+        
+        return saved;
+    }
 }
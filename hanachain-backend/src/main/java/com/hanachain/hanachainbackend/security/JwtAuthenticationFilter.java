@@ -1,5 +1,7 @@
 package com.hanachain.hanachainbackend.security;
 
+import com.hanachain.hanachainbackend.config.logging.AccessLogFilter;
+import com.hanachain.hanachainbackend.entity.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,15 +9,16 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -23,111 +26,78 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider tokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final UserSnapshotCache userSnapshotCache;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        String requestURI = request.getRequestURI();
-        String method = request.getMethod();
-        log.info("🔍 [JWT Filter] 요청 수신: {} {}", method, requestURI);
-
-        // 모든 요청 헤더 로깅 (디버깅용)
-        log.info("🔍 [JWT Filter] 요청 헤더 목록:");
-        java.util.Enumeration<String> headerNames = request.getHeaderNames();
-        while (headerNames.hasMoreElements()) {
-            String headerName = headerNames.nextElement();
-            String headerValue = request.getHeader(headerName);
-            // Authorization 헤더는 특별히 표시
-            if ("Authorization".equalsIgnoreCase(headerName)) {
-                log.info("🔍 [JWT Filter]   ⭐ {}: {}", headerName,
-                    headerValue != null ? headerValue.substring(0, Math.min(30, headerValue.length())) + "..." : "null");
-            } else {
-                log.info("🔍 [JWT Filter]   {}: {}", headerName, headerValue);
-            }
-        }
-
+        // 요청/헤더 단위 상세 로그는 AccessLogFilter가 담당 (요청당 한 줄, 샘플링, 경로별 헤더 디버그)
         try {
-            // Authorization 헤더 직접 확인
-            String rawAuthHeader = request.getHeader("Authorization");
-            log.info("🔍 [JWT Filter] Authorization 헤더 원본: {}",
-                rawAuthHeader != null ? "있음 (" + rawAuthHeader.length() + "자)" : "❌ 없음");
-
-            if (rawAuthHeader != null) {
-                log.info("🔍 [JWT Filter] Authorization 헤더 상세: {}",
-                    rawAuthHeader.substring(0, Math.min(50, rawAuthHeader.length())) + "...");
-                log.info("🔍 [JWT Filter] Bearer 접두사 확인: {}",
-                    rawAuthHeader.startsWith("Bearer ") ? "✅ 있음" : "❌ 없음");
-            }
-
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt)) {
-                log.info("✅ [JWT Filter] JWT 토큰 추출 성공: {}...", jwt.substring(0, Math.min(20, jwt.length())));
-
-                if (tokenProvider.validateToken(jwt)) {
-                    String username = tokenProvider.getUsernameFromToken(jwt);
-                    log.info("✅ [JWT Filter] JWT 검증 성공, 사용자명: {}", username);
-
-                    try {
-                        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                        log.info("✅ [JWT Filter] 사용자 정보 로드 성공: {}, 권한: {}", username, userDetails.getAuthorities());
-
-                        UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            if (jwt != null) {
+                Optional<JwtTokenProvider.TokenClaims> claims = tokenProvider.parseToken(jwt);
+                if (claims.isPresent()) {
+                    UsernamePasswordAuthenticationToken authentication = authenticate(claims.get());
+                    if (authentication != null) {
                         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
                         SecurityContextHolder.getContext().setAuthentication(authentication);
-                        log.info("✅ [JWT Filter] SecurityContext에 인증 정보 설정 완료: {}", authentication.getName());
-                    } catch (Exception userLoadEx) {
-                        log.error("❌ [JWT Filter] 사용자 정보 로드 실패: {}", username, userLoadEx);
-                        throw userLoadEx;
+
+                        if (authentication.getPrincipal() instanceof User user) {
+                            request.setAttribute(AccessLogFilter.USER_ID_ATTRIBUTE, user.getId());
+                        }
                     }
-                } else {
-                    log.warn("⚠️ [JWT Filter] 유효하지 않은 JWT 토큰");
+                } else if (log.isDebugEnabled()) {
+                    log.debug("[JWT Filter] 유효하지 않은 JWT 토큰: {} {}", request.getMethod(), request.getRequestURI());
                 }
-            } else {
-                log.warn("❌ [JWT Filter] Authorization 헤더에서 JWT 토큰을 추출하지 못함: {}", requestURI);
             }
         } catch (Exception ex) {
-            log.error("❌ [JWT Filter] JWT 인증 처리 중 오류 발생: {}", requestURI, ex);
-        }
-
-        // 현재 SecurityContext 상태 로깅
-        var context = SecurityContextHolder.getContext();
-        var auth = context.getAuthentication();
-        if (auth != null) {
-            log.info("✅ [JWT Filter] 최종 SecurityContext 인증 상태: {}, 권한: {}",
-                auth.getName(), auth.getAuthorities());
-        } else {
-            log.warn("❌ [JWT Filter] 최종 SecurityContext에 인증 정보 없음 - Anonymous 사용자로 처리됨");
+            log.error("[JWT Filter] JWT 인증 처리 중 오류 발생: {}", request.getRequestURI(), ex);
         }
 
         filterChain.doFilter(request, response);
     }
-    
-    private String getJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
 
-        log.info("🔍 [getJwtFromRequest] Authorization 헤더 추출:");
-        log.info("🔍 [getJwtFromRequest]   - 헤더 존재: {}", bearerToken != null ? "예" : "아니오");
+    /**
+     * 토큰 클레임으로 인증 정보 생성
+     * 사용자 ID/역할/토큰 버전이 있는 토큰은 사용자 스냅샷 캐시로 주체를 구성하고 (캐시 적중 시 DB 조회 없음)
+     * 권한은 토큰의 역할 클레임을 사용합니다. 사용자 ID/역할/토큰 버전이 없는 이전 형식 토큰은
+     * 토큰 버전으로 무효화할 수 없으므로 받지 않습니다.
+     * 리프레시 토큰은 폐기/재사용 감지가 RefreshTokenStore에서만 적용되므로 액세스 토큰으로 받지 않습니다.
+     */
+    private UsernamePasswordAuthenticationToken authenticate(JwtTokenProvider.TokenClaims claims) {
+        if (claims.isRefreshToken()) {
+            log.warn("[JWT Filter] 리프레시 토큰으로 API 인증 시도 - 사용자: {}", claims.userId());
+            return null;
+        }
 
-        if (bearerToken != null) {
-            log.info("🔍 [getJwtFromRequest]   - 헤더 길이: {}", bearerToken.length());
-            log.info("🔍 [getJwtFromRequest]   - 헤더 시작 부분: {}", bearerToken.substring(0, Math.min(20, bearerToken.length())));
-            log.info("🔍 [getJwtFromRequest]   - Bearer 접두사: {}", bearerToken.startsWith("Bearer ") ? "있음" : "없음");
+        if (!claims.hasUserClaims()) {
+            log.warn("[JWT Filter] 토큰 버전이 없는 이전 형식 토큰 - 사용자: {}", claims.subject());
+            return null;
         }
 
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            String token = bearerToken.substring(7);
-            log.info("✅ [getJwtFromRequest] 토큰 추출 성공 - 길이: {}, 시작: {}",
-                token.length(), token.substring(0, Math.min(20, token.length())) + "...");
-            return token;
+        User user = userSnapshotCache.get(claims.userId()).orElse(null);
+        if (user == null || !user.isEnabled()) {
+            log.warn("[JWT Filter] 존재하지 않거나 비활성화된 사용자: {}", claims.userId());
+            return null;
+        }
+        if (!claims.tokenVersion().equals(user.getTokenVersion())) {
+            log.warn("[JWT Filter] 무효화된 토큰 버전 - 사용자: {}, 토큰: {}, 현재: {}",
+                    claims.userId(), claims.tokenVersion(), user.getTokenVersion());
+            return null;
         }
 
-        log.warn("❌ [getJwtFromRequest] 토큰 추출 실패 - Bearer 접두사가 없거나 헤더가 비어있음");
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + claims.role().name()));
+        return new UsernamePasswordAuthenticationToken(user, null, authorities);
+    }
+
+    private String getJwtFromRequest(HttpServletRequest request) {
+        String bearerToken = request.getHeader("Authorization");
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
         return null;
     }
 }
@@ -1,5 +1,6 @@
 package com.hanachain.hanachainbackend.security;
 
+import com.hanachain.hanachainbackend.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
@@ -12,96 +13,204 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
-    
+
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLE = "role";
+    static final String CLAIM_TOKEN_VERSION = "ver";
+    static final String CLAIM_FAMILY_ID = "fam";
+    static final String CLAIM_TOKEN_TYPE = "typ";
+    static final String TOKEN_TYPE_REFRESH = "refresh";
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
-    
+
     @Value("${app.jwt.expiration}")
     private int jwtExpirationMs;
-    
+
     @Value("${app.jwt.refresh-expiration}")
     private int refreshExpirationMs;
-    
+
+    // 서명 키와 파서는 불변이며 스레드 안전하므로 최초 사용 시 한 번만 생성
+    private volatile SecretKey signingKey;
+    private volatile JwtParser jwtParser;
+
     private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        SecretKey key = signingKey;
+        if (key == null) {
+            synchronized (this) {
+                key = signingKey;
+                if (key == null) {
+                    key = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+                    signingKey = key;
+                }
+            }
+        }
+        return key;
     }
-    
+
+    private JwtParser getParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            synchronized (this) {
+                parser = jwtParser;
+                if (parser == null) {
+                    parser = Jwts.parserBuilder()
+                            .setSigningKey(getSigningKey())
+                            .build();
+                    jwtParser = parser;
+                }
+            }
+        }
+        return parser;
+    }
+
     public String generateAccessToken(Authentication authentication) {
         UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        if (userDetails instanceof User user) {
+            return generateAccessToken(user);
+        }
         return generateAccessToken(userDetails.getUsername());
     }
-    
+
+    /**
+     * 사용자 ID, 역할, 토큰 버전을 담은 액세스 토큰 생성
+     * (요청 인증 시 사용자 조회 없이 클레임만으로 인증 주체를 구성할 수 있음)
+     */
+    public String generateAccessToken(User user) {
+        return buildToken(user.getEmail(), user, jwtExpirationMs, false);
+    }
+
     public String generateAccessToken(String username) {
-        Date expiryDate = new Date(System.currentTimeMillis() + jwtExpirationMs);
-        
+        return buildToken(username, null, jwtExpirationMs, false);
+    }
+
+    public String generateRefreshToken(User user) {
+        return buildToken(user.getEmail(), user, refreshExpirationMs, true);
+    }
+
+    /**
+     * 토큰 ID(jti)와 토큰 계열 ID를 담은 리프레시 토큰 생성 (RefreshTokenStore에서 추적)
+     */
+    public String generateRefreshToken(User user, String tokenId, String familyId, Date expiration) {
         return Jwts.builder()
-                .setSubject(username)
+                .setSubject(user.getEmail())
+                .setId(tokenId)
                 .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
+                .setExpiration(expiration)
+                .claim(CLAIM_USER_ID, user.getId())
+                .claim(CLAIM_ROLE, user.getRole().name())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
+                .claim(CLAIM_FAMILY_ID, familyId)
+                .claim(CLAIM_TOKEN_TYPE, TOKEN_TYPE_REFRESH)
                 .signWith(getSigningKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
-    
+
     public String generateRefreshToken(String username) {
-        Date expiryDate = new Date(System.currentTimeMillis() + refreshExpirationMs);
-        
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuedAt(new Date())
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+        return buildToken(username, null, refreshExpirationMs, true);
+    }
+
+    /**
+     * 새로 발급할 리프레시 토큰의 만료 시각
+     */
+    public Date nextRefreshExpiration() {
+        return new Date(System.currentTimeMillis() + refreshExpirationMs);
+    }
+
+    private String buildToken(String subject, User user, long expirationMs, boolean refresh) {
+        Date now = new Date();
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(subject)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + expirationMs));
+
+        if (user != null) {
+            builder.claim(CLAIM_USER_ID, user.getId())
+                    .claim(CLAIM_ROLE, user.getRole().name())
+                    .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        }
+        if (refresh) {
+            builder.claim(CLAIM_TOKEN_TYPE, TOKEN_TYPE_REFRESH);
+        }
+
+        return builder.signWith(getSigningKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
-    
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        
-        return claims.getSubject();
-    }
-    
-    public boolean validateToken(String token) {
+
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하여 클레임 반환 (유효하지 않으면 empty)
+     */
+    public Optional<TokenClaims> parseToken(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
-            return true;
+            Claims claims = getParser().parseClaimsJws(token).getBody();
+
+            Number userId = claims.get(CLAIM_USER_ID, Number.class);
+            String role = claims.get(CLAIM_ROLE, String.class);
+            Number tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Number.class);
+
+            return Optional.of(new TokenClaims(
+                    claims.getSubject(),
+                    userId != null ? userId.longValue() : null,
+                    role != null ? User.Role.valueOf(role) : null,
+                    tokenVersion != null ? tokenVersion.intValue() : null,
+                    claims.getId(),
+                    claims.get(CLAIM_FAMILY_ID, String.class),
+                    claims.get(CLAIM_TOKEN_TYPE, String.class),
+                    claims.getExpiration()));
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature: {}", ex.getMessage());
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token: {}", ex.getMessage());
         } catch (ExpiredJwtException ex) {
-            log.error("Expired JWT token: {}", ex.getMessage());
+            log.debug("Expired JWT token: {}", ex.getMessage());
         } catch (UnsupportedJwtException ex) {
             log.error("Unsupported JWT token: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty: {}", ex.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    public String getUsernameFromToken(String token) {
+        return getParser().parseClaimsJws(token).getBody().getSubject();
     }
-    
+
+    public boolean validateToken(String token) {
+        return parseToken(token).isPresent();
+    }
+
     public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        
-        return claims.getExpiration();
-    }
-    
+        return getParser().parseClaimsJws(token).getBody().getExpiration();
+    }
+
     public boolean isTokenExpired(String token) {
         Date expiration = getExpirationDateFromToken(token);
         return expiration.before(new Date());
     }
+
+    /**
+     * 파싱된 토큰 클레임
+     * userId/role/tokenVersion은 이전 형식(subject만 있는) 토큰에서는 null (인증과 토큰 재발급에서 거부)
+     * tokenId/familyId는 RefreshTokenStore가 발급한 리프레시 토큰에만, tokenType은 리프레시 토큰에만 존재
+     */
+    public record TokenClaims(String subject, Long userId, User.Role role, Integer tokenVersion,
+                              String tokenId, String familyId, String tokenType, Date expiration) {
+
+        public boolean hasUserClaims() {
+            return userId != null && role != null && tokenVersion != null;
+        }
+
+        /**
+         * 리프레시 토큰 여부 (액세스 토큰 자리에 쓰일 수 없음)
+         */
+        public boolean isRefreshToken() {
+            return TOKEN_TYPE_REFRESH.equals(tokenType) || tokenId != null || familyId != null;
+        }
+    }
 }
@@ -0,0 +1,97 @@
+package com.hanachain.hanachainbackend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanachain.hanachainbackend.exception.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시도 제한 (IP별 / 계정별 토큰 버킷)
+ *
+ * 비밀번호 해시 계산 전에 확인하므로 크리덴셜 스터핑이나 로그인 폭주가 해시 실행기까지 도달하지 않습니다.
+ * 버킷은 메모리에만 보관하며 일정 시간 사용되지 않으면 제거됩니다 (인스턴스별 한도).
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> accountBuckets;
+    private final int ipCapacity;
+    private final double ipRefillPerNano;
+    private final int accountCapacity;
+    private final double accountRefillPerNano;
+
+    public LoginThrottle(@Value("${security.login-throttle.ip-capacity:30}") int ipCapacity,
+                         @Value("${security.login-throttle.ip-refill-per-minute:30}") int ipRefillPerMinute,
+                         @Value("${security.login-throttle.account-capacity:10}") int accountCapacity,
+                         @Value("${security.login-throttle.account-refill-per-minute:5}") int accountRefillPerMinute,
+                         @Value("${security.login-throttle.maximum-size:100000}") long maximumSize) {
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerNano = ipRefillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.accountCapacity = accountCapacity;
+        this.accountRefillPerNano = accountRefillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.ipBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .maximumSize(maximumSize)
+                .build();
+        this.accountBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 로그인 시도 1회 차감 (IP 또는 계정 한도를 넘으면 예외)
+     */
+    public void acquire(String clientIp, String email) {
+        long now = System.nanoTime();
+
+        if (clientIp != null
+                && !ipBuckets.get(clientIp, key -> new TokenBucket(ipCapacity, ipRefillPerNano, now)).tryConsume(now)) {
+            log.warn("Login throttled by IP: {}", clientIp);
+            throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        if (email != null) {
+            String account = email.trim().toLowerCase(Locale.ROOT);
+            if (!accountBuckets.get(account, key -> new TokenBucket(accountCapacity, accountRefillPerNano, now)).tryConsume(now)) {
+                log.warn("Login throttled by account: {}", account);
+                throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+    }
+
+    static final class TokenBucket {
+
+        private final int capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(int capacity, double refillPerNano, long now) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerNano;
+            this.tokens = capacity;
+            this.lastRefill = now;
+        }
+
+        synchronized boolean tryConsume(long now) {
+            if (now > lastRefill) {
+                tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+                lastRefill = now;
+            }
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.hanachain.hanachainbackend.security;
+
+import com.hanachain.hanachainbackend.entity.enums.OrganizationRole;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자의 활성 조직 멤버십 스냅샷 (조직 ID → 조직 역할)
+ * 활성 멤버십(삭제되지 않은 멤버십, 활성화된 사용자, 활성 조직)만 포함합니다.
+ */
+public record MembershipSnapshot(Long userId, Map<Long, OrganizationRole> roles) {
+
+    public MembershipSnapshot {
+        roles = Map.copyOf(roles);
+    }
+
+    public Optional<OrganizationRole> roleIn(Long organizationId) {
+        return Optional.ofNullable(organizationId != null ? roles.get(organizationId) : null);
+    }
+
+    public boolean isMemberOf(Long organizationId) {
+        return organizationId != null && roles.containsKey(organizationId);
+    }
+}
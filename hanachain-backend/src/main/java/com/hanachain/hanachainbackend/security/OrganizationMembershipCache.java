@@ -0,0 +1,104 @@
+package com.hanachain.hanachainbackend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanachain.hanachainbackend.config.transaction.TransactionCallbacks;
+import com.hanachain.hanachainbackend.entity.enums.OrganizationRole;
+import com.hanachain.hanachainbackend.entity.enums.OrganizationStatus;
+import com.hanachain.hanachainbackend.repository.OrganizationUserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 조직 멤버십 캐시
+ *
+ * 권한 검사마다 organization_users를 조회하지 않도록 사용자의 활성 멤버십 전체를
+ * 한 번에 읽어 {@link MembershipSnapshot}으로 보관합니다.
+ * - 요청 단위: 같은 요청 안에서는 첫 조회 결과를 요청 속성에 두고 재사용합니다.
+ * - 요청 간: 짧은 TTL 캐시로 공유하며, 멤버십/역할 변경 시 커밋 후 무효화됩니다.
+ */
+@Slf4j
+@Component
+public class OrganizationMembershipCache {
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = OrganizationMembershipCache.class.getName() + ".";
+
+    private final OrganizationUserRepository organizationUserRepository;
+    private final Cache<Long, MembershipSnapshot> snapshots;
+
+    public OrganizationMembershipCache(OrganizationUserRepository organizationUserRepository,
+                                       @Value("${security.membership-cache.ttl-seconds:30}") long ttlSeconds,
+                                       @Value("${security.membership-cache.maximum-size:10000}") long maximumSize) {
+        this.organizationUserRepository = organizationUserRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 사용자의 멤버십 스냅샷 조회 (요청 속성 → 캐시 → DB 순)
+     */
+    public MembershipSnapshot snapshotOf(Long userId) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        String attributeName = REQUEST_ATTRIBUTE_PREFIX + userId;
+
+        if (requestAttributes != null) {
+            Object cached = requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof MembershipSnapshot snapshot) {
+                return snapshot;
+            }
+        }
+
+        MembershipSnapshot snapshot = snapshots.get(userId, this::load);
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(attributeName, snapshot, RequestAttributes.SCOPE_REQUEST);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 사용자의 멤버십 변경 시 무효화 (트랜잭션 커밋 후)
+     */
+    public void evictUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> snapshots.invalidate(userId));
+    }
+
+    /**
+     * 조직 삭제 시 해당 조직 멤버십을 가진 스냅샷 무효화 (트랜잭션 커밋 후)
+     */
+    public void evictOrganization(Long organizationId) {
+        if (organizationId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> snapshots.asMap().values()
+                .removeIf(snapshot -> snapshot.isMemberOf(organizationId)));
+    }
+
+    /**
+     * 조직 상태 변경 시 전체 무효화 (비활성 조직은 스냅샷에 없으므로 재활성화 대상 사용자를 특정할 수 없음)
+     */
+    public void evictAll() {
+        TransactionCallbacks.afterCommit(snapshots::invalidateAll);
+    }
+
+    private MembershipSnapshot load(Long userId) {
+        Map<Long, OrganizationRole> roles = new HashMap<>();
+        for (Object[] row : organizationUserRepository.findActiveMembershipRoles(userId, OrganizationStatus.ACTIVE)) {
+            roles.put((Long) row[0], (OrganizationRole) row[1]);
+        }
+        log.debug("Loaded organization memberships for user {}: {}", userId, roles.size());
+        return new MembershipSnapshot(userId, roles);
+    }
+}
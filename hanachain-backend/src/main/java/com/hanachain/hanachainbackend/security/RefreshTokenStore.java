@@ -0,0 +1,187 @@
+package com.hanachain.hanachainbackend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanachain.hanachainbackend.config.transaction.TransactionCallbacks;
+import com.hanachain.hanachainbackend.entity.RefreshToken;
+import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.entity.enums.RefreshTokenStatus;
+import com.hanachain.hanachainbackend.exception.BusinessException;
+import com.hanachain.hanachainbackend.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 저장소 (교체 + 재사용 감지)
+ *
+ * 리프레시 토큰마다 토큰 ID(jti)를 부여하고 그 해시를 키로 refresh_tokens 테이블에 저장합니다.
+ * 갱신 시 사용한 토큰은 교체됨(ROTATED)으로 바뀌고 같은 계열의 새 토큰이 발급되며,
+ * 이미 교체된 토큰이 다시 제출되면 탈취로 보고 계열 전체를 폐기합니다.
+ *
+ * 토큰 상태는 메모리 캐시에 함께 보관하므로 일반적인 갱신은 조회 쿼리 없이 상태를 확인하고
+ * 조건부 UPDATE(ACTIVE → ROTATED) 한 번으로 교체합니다. 캐시가 다른 인스턴스보다 오래된 경우에도
+ * 조건부 UPDATE가 0건이 되어 재사용으로 처리되므로 캐시는 정확성에 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    // DB에 없는 토큰 ID (만료 삭제 등) - 음성 캐시용
+    private static final TokenState UNKNOWN = new TokenState(null, null, RefreshTokenStatus.REVOKED);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider tokenProvider;
+    private final TransactionTemplate requiresNewTransaction;
+    private final Cache<String, TokenState> states;
+
+    public RefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                             JwtTokenProvider tokenProvider,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${security.refresh-token.cache-ttl-seconds:3600}") long cacheTtlSeconds,
+                             @Value("${security.refresh-token.cache-maximum-size:50000}") long cacheMaximumSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.tokenProvider = tokenProvider;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.states = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .maximumSize(cacheMaximumSize)
+                .build();
+    }
+
+    /**
+     * 로그인 시 새 계열의 리프레시 토큰 발급
+     */
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰 교체
+     * 사용 가능한 토큰이면 교체됨으로 바꾸고 같은 계열의 새 토큰을 반환합니다.
+     * 교체된 토큰이 다시 사용되면 계열 전체를 폐기(별도 트랜잭션으로 커밋)하고 예외를 던집니다.
+     */
+    @Transactional
+    public String rotate(JwtTokenProvider.TokenClaims claims, User user) {
+        if (claims.tokenId() == null) {
+            throw new BusinessException("더 이상 지원하지 않는 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        String tokenHash = hash(claims.tokenId());
+        TokenState state = states.get(tokenHash, this::load);
+
+        if (state == UNKNOWN || !user.getId().equals(state.userId())) {
+            throw new BusinessException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        if (state.status() == RefreshTokenStatus.ACTIVE
+                && refreshTokenRepository.markRotated(tokenHash, LocalDateTime.now(),
+                        RefreshTokenStatus.ACTIVE, RefreshTokenStatus.ROTATED) == 1) {
+            TransactionCallbacks.afterCommit(() -> states.put(tokenHash, state.withStatus(RefreshTokenStatus.ROTATED)));
+            return issue(user, state.familyId());
+        }
+
+        // 캐시가 사용 가능으로 알고 있었더라도 다른 요청/인스턴스가 먼저 교체했을 수 있으므로 DB 상태로 판단
+        TokenState current = state.status() == RefreshTokenStatus.ACTIVE ? load(tokenHash) : state;
+        if (current.status() == RefreshTokenStatus.ROTATED) {
+            log.warn("Refresh token reuse detected - user: {}, family: {}", user.getId(), current.familyId());
+            revokeFamilyInNewTransaction(current.familyId());
+        }
+        states.invalidate(tokenHash);
+        throw new BusinessException("유효하지 않은 리프레시 토큰입니다.");
+    }
+
+    /**
+     * 로그아웃 시 리프레시 토큰 계열 폐기
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        Optional<JwtTokenProvider.TokenClaims> claims = tokenProvider.parseToken(refreshToken);
+        if (claims.isEmpty() || claims.get().familyId() == null) {
+            return;
+        }
+
+        String familyId = claims.get().familyId();
+        refreshTokenRepository.revokeFamily(familyId, RefreshTokenStatus.ACTIVE, RefreshTokenStatus.REVOKED);
+        TransactionCallbacks.afterCommit(() -> evictFamily(familyId));
+    }
+
+    /**
+     * 만료된 토큰 일괄 삭제 (매일 새벽, {@code ScheduledJobs}에서 한 노드만 실행)
+     */
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String issue(User user, String familyId) {
+        String tokenId = UUID.randomUUID().toString();
+        String tokenHash = hash(tokenId);
+        Date expiration = tokenProvider.nextRefreshExpiration();
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(tokenHash)
+                .familyId(familyId)
+                .userId(user.getId())
+                .status(RefreshTokenStatus.ACTIVE)
+                .expiresAt(LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()))
+                .build());
+
+        TokenState state = new TokenState(familyId, user.getId(), RefreshTokenStatus.ACTIVE);
+        TransactionCallbacks.afterCommit(() -> states.put(tokenHash, state));
+
+        return tokenProvider.generateRefreshToken(user, tokenId, familyId, expiration);
+    }
+
+    private void revokeFamilyInNewTransaction(String familyId) {
+        requiresNewTransaction.executeWithoutResult(status ->
+                refreshTokenRepository.revokeFamily(familyId, RefreshTokenStatus.ACTIVE, RefreshTokenStatus.REVOKED));
+        evictFamily(familyId);
+    }
+
+    private void evictFamily(String familyId) {
+        states.asMap().values().removeIf(state -> familyId.equals(state.familyId()));
+    }
+
+    private TokenState load(String tokenHash) {
+        return refreshTokenRepository.findById(tokenHash)
+                .map(token -> new TokenState(token.getFamilyId(), token.getUserId(), token.getStatus()))
+                .orElse(UNKNOWN);
+    }
+
+    static String hash(String tokenId) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(tokenId.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record TokenState(String familyId, Long userId, RefreshTokenStatus status) {
+
+        TokenState withStatus(RefreshTokenStatus newStatus) {
+            return new TokenState(familyId, userId, newStatus);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.hanachain.hanachainbackend.security;
 
+import com.hanachain.hanachainbackend.entity.AuditLog;
 import com.hanachain.hanachainbackend.entity.User;
-import com.hanachain.hanachainbackend.entity.OrganizationUser;
+import com.hanachain.hanachainbackend.entity.enums.AuditAction;
+import com.hanachain.hanachainbackend.entity.enums.AuditCategory;
 import com.hanachain.hanachainbackend.entity.enums.OrganizationRole;
 import com.hanachain.hanachainbackend.entity.enums.Permission;
 import com.hanachain.hanachainbackend.exception.UnauthorizedException;
-import com.hanachain.hanachainbackend.repository.OrganizationUserRepository;
+import com.hanachain.hanachainbackend.service.audit.AuditLogger;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
@@ -23,7 +25,10 @@ public class SecurityUtils {
     private RolePermissionMapper rolePermissionMapper;
     
     @Autowired
-    private OrganizationUserRepository organizationUserRepository;
+    private OrganizationMembershipCache organizationMembershipCache;
+    
+    @Autowired
+    private AuditLogger auditLogger;
     
     /**
      * 현재 인증된 사용자의 이메일을 반환합니다.
@@ -146,15 +151,11 @@ public class SecurityUtils {
             return true;
         }
 
-        // 조직 레벨 권한 확인
-        Optional<OrganizationUser> orgUser = organizationUserRepository
-                .findByUserAndOrganizationId(user, organizationId);
-        
-        if (orgUser.isPresent() && orgUser.get().isActive()) {
-            return rolePermissionMapper.hasPermission(orgUser.get().getRole(), permission);
-        }
-        
-        return false;
+        // 조직 레벨 권한 확인 (요청/캐시 단위 멤버십 스냅샷 사용)
+        return organizationMembershipCache.snapshotOf(user.getId())
+                .roleIn(organizationId)
+                .map(role -> rolePermissionMapper.hasPermission(role, permission))
+                .orElse(false);
     }
     
     /**
@@ -174,10 +175,7 @@ public class SecurityUtils {
         }
 
         // 사용자가 조직의 멤버인지 확인
-        return organizationUserRepository
-                .findByUserAndOrganizationId(user, organizationId)
-                .map(OrganizationUser::isActive)
-                .orElse(false);
+        return organizationMembershipCache.snapshotOf(user.getId()).isMemberOf(organizationId);
     }
     
     /**
@@ -209,10 +207,7 @@ public class SecurityUtils {
      */
     public Optional<OrganizationRole> getOrganizationRole(Long organizationId) {
         return getCurrentUser()
-                .flatMap(user -> organizationUserRepository
-                        .findByUserAndOrganizationId(user, organizationId))
-                .filter(OrganizationUser::isActive)
-                .map(OrganizationUser::getRole);
+                .flatMap(user -> organizationMembershipCache.snapshotOf(user.getId()).roleIn(organizationId));
     }
     
     /**
@@ -255,10 +250,28 @@ public class SecurityUtils {
      * 감사 목적으로 접근 시도를 로그에 기록합니다
      */
     public void logAccessAttempt(String resource, String action, boolean granted) {
-        getCurrentUser().ifPresent(user -> {
-            log.info("Access attempt - User: {}, Role: {}, Resource: {}, Action: {}, Granted: {}", 
-                    user.getEmail(), user.getRole(), resource, action, granted);
-        });
+        getCurrentUser().ifPresent(user -> logAccessAttempt(user, resource, action, granted));
+    }
+    
+    /**
+     * 이미 조회한 사용자로 접근 시도를 로그와 감사 로그에 기록합니다
+     * 허용은 debug 로그로만 남기고, 감사 로그에는 허용/거부 모두 비동기로 기록됩니다
+     */
+    public void logAccessAttempt(User user, String resource, String action, boolean granted) {
+        if (granted) {
+            log.debug("Access attempt - User: {}, Role: {}, Resource: {}, Action: {}, Granted: true",
+                    user.getEmail(), user.getRole(), resource, action);
+        } else {
+            log.info("Access attempt - User: {}, Role: {}, Resource: {}, Action: {}, Granted: false",
+                    user.getEmail(), user.getRole(), resource, action);
+        }
+
+        String description = action + " " + resource;
+        AuditLog event = granted
+                ? AuditLog.success(AuditAction.ACCESS_GRANTED, AuditCategory.AUTHORIZATION, description)
+                : AuditLog.failure(AuditAction.ACCESS_DENIED, AuditCategory.AUTHORIZATION, description, "Access denied")
+                        .withRiskLevel("MEDIUM");
+        auditLogger.record(event.withUser(user));
     }
     
     /**
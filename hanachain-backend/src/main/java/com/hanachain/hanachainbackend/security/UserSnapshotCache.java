@@ -0,0 +1,72 @@
+package com.hanachain.hanachainbackend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanachain.hanachainbackend.config.transaction.TransactionCallbacks;
+import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인증 주체용 사용자 스냅샷 캐시
+ *
+ * JWT 인증 시 요청마다 사용자를 조회하지 않도록, 토큰의 사용자 ID로 조회한 사용자 엔티티(준영속)를
+ * 짧은 TTL 동안 보관합니다. 보관된 엔티티는 여러 요청이 공유하므로 읽기 전용으로만 사용해야 하며,
+ * 수정이 필요한 서비스는 지금처럼 리포지토리에서 다시 조회합니다.
+ *
+ * 토큰 무효화는 사용자의 토큰 버전을 올리는 방식입니다. 버전은 DB에 저장되고 이 캐시의 스냅샷과 함께
+ * 비교되므로, 버전을 올린 뒤 캐시를 비우면 이전 버전으로 발급된 토큰은 즉시 거부됩니다.
+ */
+@Slf4j
+@Component
+public class UserSnapshotCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, User> snapshots;
+
+    public UserSnapshotCache(UserRepository userRepository,
+                             @Value("${security.user-snapshot.ttl-seconds:60}") long ttlSeconds,
+                             @Value("${security.user-snapshot.maximum-size:10000}") long maximumSize) {
+        this.userRepository = userRepository;
+        this.snapshots = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 사용자 스냅샷 조회 (캐시에 없으면 DB 조회 1회)
+     */
+    public Optional<User> get(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshots.get(userId, id -> userRepository.findById(id).orElse(null)));
+    }
+
+    /**
+     * 사용자 정보/역할/상태 변경 시 스냅샷 무효화 (트랜잭션 커밋 후)
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> snapshots.invalidate(userId));
+    }
+
+    /**
+     * 토큰 버전을 올려 사용자의 기존 액세스/리프레시 토큰을 모두 무효화
+     */
+    @Transactional
+    public void revokeTokens(Long userId) {
+        userRepository.incrementTokenVersion(userId);
+        evict(userId);
+        log.info("Revoked issued tokens for user {}", userId);
+    }
+}
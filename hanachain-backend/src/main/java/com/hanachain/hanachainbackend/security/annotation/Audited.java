@@ -0,0 +1,53 @@
+package com.hanachain.hanachainbackend.security.annotation;
+
+import com.hanachain.hanachainbackend.entity.enums.AuditAction;
+import com.hanachain.hanachainbackend.entity.enums.AuditCategory;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 감사 로그를 남길 메서드에 사용하는 어노테이션
+ *
+ * 메서드가 끝나면 성공(정상 반환, 2xx/3xx 응답) 또는 실패(예외, 4xx/5xx 응답)로 감사 이벤트가 비동기 기록됩니다.
+ *
+ * 사용법:
+ * @Audited(action = AuditAction.CAMPAIGN_DELETE, category = AuditCategory.CAMPAIGN_MANAGEMENT,
+ *          description = "관리자 캠페인 삭제", targetType = "Campaign", targetParam = "id")
+ * public ResponseEntity<?> softDeleteCampaign(@PathVariable Long id) { ... }
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Audited {
+
+    AuditAction action();
+
+    AuditCategory category();
+
+    /**
+     * 감사 로그 설명
+     */
+    String description();
+
+    /**
+     * 대상 엔티티 종류 (예: Campaign, UserWallet)
+     */
+    String targetType() default "";
+
+    /**
+     * 대상 엔티티 ID가 담긴 파라미터 이름 (파라미터 이름 또는 @PathVariable 이름)
+     */
+    String targetParam() default "";
+
+    /**
+     * 단체 ID가 담긴 파라미터 이름
+     */
+    String organizationParam() default "";
+
+    /**
+     * 성공 시 위험도 (실패는 항상 HIGH)
+     */
+    String riskLevel() default "MEDIUM";
+}
@@ -0,0 +1,134 @@
+package com.hanachain.hanachainbackend.security.aspect;
+
+import com.hanachain.hanachainbackend.entity.AuditLog;
+import com.hanachain.hanachainbackend.security.annotation.Audited;
+import com.hanachain.hanachainbackend.service.audit.AuditLogger;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Audited} 메서드의 결과를 감사 로그로 남기는 Aspect
+ *
+ * 이벤트는 {@link AuditLogger}의 링 버퍼에 넣기만 하므로 호출 지연은 이벤트 생성 비용 정도입니다.
+ * 가장 바깥에서 실행되어 트랜잭션 커밋 실패도 실패로 기록됩니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class AuditAspect {
+
+    private static final int NOT_FOUND = -1;
+
+    private final AuditLogger auditLogger;
+
+    /**
+     * 메서드별 파라미터 위치 (리플렉션은 메서드/이름당 한 번만 수행)
+     */
+    private final Map<ParamKey, Integer> paramIndexes = new ConcurrentHashMap<>();
+
+    @Around("@annotation(audited)")
+    public Object audit(ProceedingJoinPoint joinPoint, Audited audited) throws Throwable {
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            auditLogger.record(event(joinPoint, audited, message));
+            throw e;
+        }
+
+        if (result instanceof ResponseEntity<?> response && response.getStatusCode().isError()) {
+            auditLogger.record(event(joinPoint, audited, "HTTP " + response.getStatusCode().value()));
+        } else {
+            auditLogger.record(event(joinPoint, audited, null));
+        }
+        return result;
+    }
+
+    private AuditLog event(ProceedingJoinPoint joinPoint, Audited audited, String errorMessage) {
+        AuditLog event = errorMessage == null
+                ? AuditLog.success(audited.action(), audited.category(), audited.description())
+                        .withRiskLevel(audited.riskLevel())
+                : AuditLog.failure(audited.action(), audited.category(), audited.description(), errorMessage);
+
+        if (!audited.targetType().isEmpty()) {
+            event.withTarget(audited.targetType(), longArgument(joinPoint, audited.targetParam()));
+        }
+        if (!audited.organizationParam().isEmpty()) {
+            event.withOrganization(longArgument(joinPoint, audited.organizationParam()));
+        }
+        return event;
+    }
+
+    private Long longArgument(ProceedingJoinPoint joinPoint, String parameterName) {
+        if (parameterName.isEmpty()) {
+            return null;
+        }
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        int index = paramIndexes.computeIfAbsent(new ParamKey(method, parameterName),
+                key -> resolveParamIndex(key.method(), key.parameterName()));
+        if (index == NOT_FOUND) {
+            return null;
+        }
+
+        Object value = joinPoint.getArgs()[index];
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 파라미터 이름이 일치하는 위치를 먼저 찾고, 없으면 @PathVariable/@RequestParam 이름으로 찾습니다
+     */
+    private static int resolveParamIndex(Method method, String parameterName) {
+        Parameter[] parameters = method.getParameters();
+
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].getName().equals(parameterName)) {
+                return i;
+            }
+        }
+
+        for (int i = 0; i < parameters.length; i++) {
+            PathVariable pathVariable = parameters[i].getAnnotation(PathVariable.class);
+            if (pathVariable != null
+                    && (parameterName.equals(pathVariable.value()) || parameterName.equals(pathVariable.name()))) {
+                return i;
+            }
+            RequestParam requestParam = parameters[i].getAnnotation(RequestParam.class);
+            if (requestParam != null
+                    && (parameterName.equals(requestParam.value()) || parameterName.equals(requestParam.name()))) {
+                return i;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
+    private record ParamKey(Method method, String parameterName) {
+    }
+}
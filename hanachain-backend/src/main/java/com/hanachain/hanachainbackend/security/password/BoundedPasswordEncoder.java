@@ -0,0 +1,35 @@
+package com.hanachain.hanachainbackend.security.password;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해시 계산을 {@link PasswordHashExecutor}에서 실행하는 PasswordEncoder
+ *
+ * 실제 인코딩/검증은 위임 인코더(DelegatingPasswordEncoder)가 하며,
+ * 비용이 없는 upgradeEncoding 판정은 호출 스레드에서 바로 처리합니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashExecutor executor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashExecutor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
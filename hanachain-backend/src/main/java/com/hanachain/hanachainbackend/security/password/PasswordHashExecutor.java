@@ -0,0 +1,121 @@
+package com.hanachain.hanachainbackend.security.password;
+
+import com.hanachain.hanachainbackend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ *
+ * bcrypt 계산을 요청 스레드에서 직접 하지 않고 크기가 고정된 전용 스레드 풀에서 실행합니다.
+ * 로그인이 몰려도 해시 계산에 쓰이는 CPU는 스레드 수만큼으로 제한되어 다른 API가 굶지 않으며,
+ * 대기열이 가득 차거나 대기 시간이 한도를 넘으면 즉시 {@link TooManyRequestsException}으로 거절합니다.
+ *
+ * 지표: auth.password.hash.duration(계산 시간), auth.password.hash.queue.wait(대기 시간),
+ * auth.password.hash.rejected(거절 수), auth.password.hash.queue.size(대기열 길이)
+ */
+@Slf4j
+@Component
+public class PasswordHashExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+    private final MeterRegistry meterRegistry;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashExecutor(MeterRegistry meterRegistry,
+                                @Value("${security.password.hash-threads:0}") int threads,
+                                @Value("${security.password.queue-capacity:64}") int queueCapacity,
+                                @Value("${security.password.max-wait-ms:3000}") long maxWaitMillis) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.maxWaitMillis = maxWaitMillis;
+        this.meterRegistry = meterRegistry;
+        this.queueWaitTimer = Timer.builder("auth.password.hash.queue.wait")
+                .description("Time password hashing tasks spend waiting for a worker")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .description("Password hashing tasks rejected because the executor was saturated")
+                .register(meterRegistry);
+        meterRegistry.gauge("auth.password.hash.queue.size", executor, e -> e.getQueue().size());
+
+        log.info("Password hash executor started - threads: {}, queue: {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * 해시 작업 실행 후 결과 대기 (포화 시 즉시 거절)
+     *
+     * @param operation 지표 태그 (encode, matches 등)
+     */
+    public <T> T execute(String operation, Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Timer durationTimer = Timer.builder("auth.password.hash.duration")
+                .description("Password hashing time on the dedicated executor")
+                .tag("operation", operation)
+                .register(meterRegistry);
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return task.call();
+                } finally {
+                    durationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new TooManyRequestsException("요청이 많아 잠시 후 다시 시도해주세요.", e);
+        }
+
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new TooManyRequestsException("요청이 많아 잠시 후 다시 시도해주세요.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Password hashing was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -2,8 +2,11 @@ package com.hanachain.hanachainbackend.service;
 
 import com.hanachain.hanachainbackend.dto.admin.PermissionDelegationRequest;
 import com.hanachain.hanachainbackend.dto.admin.PermissionDelegationResponse;
+import com.hanachain.hanachainbackend.dto.admin.PermissionDelegationSearchCondition;
 import com.hanachain.hanachainbackend.entity.User;
 import com.hanachain.hanachainbackend.entity.enums.OrganizationRole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -51,10 +54,12 @@ public interface AdminPermissionService {
     List<PermissionDelegationResponse> getUserDelegatedPermissions(Long userId);
     
     /**
-     * Get all active permission delegations
-     * @return List of active delegations
+     * Search active permission delegations from the delegation registry
+     * @param condition Filters (null fields are ignored)
+     * @param pageable Page request
+     * @return Page of active delegations
      */
-    List<PermissionDelegationResponse> getActiveDelegations();
+    Page<PermissionDelegationResponse> getActiveDelegations(PermissionDelegationSearchCondition condition, Pageable pageable);
     
     /**
      * Check if admin can delegate a specific system role
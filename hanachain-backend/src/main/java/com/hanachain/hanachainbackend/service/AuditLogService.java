@@ -0,0 +1,14 @@
+package com.hanachain.hanachainbackend.service;
+
+import com.hanachain.hanachainbackend.dto.audit.AuditLogResponse;
+import com.hanachain.hanachainbackend.dto.audit.AuditLogSearchCondition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface AuditLogService {
+
+    /**
+     * 감사 로그를 검색합니다. (최신순, 페이징)
+     */
+    Page<AuditLogResponse> searchAuditLogs(AuditLogSearchCondition condition, Pageable pageable);
+}
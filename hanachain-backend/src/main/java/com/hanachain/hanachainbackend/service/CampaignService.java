@@ -7,6 +7,7 @@ import com.hanachain.hanachainbackend.dto.campaign.CampaignImageUploadResponse;
 import com.hanachain.hanachainbackend.dto.campaign.CampaignListResponse;
 import com.hanachain.hanachainbackend.dto.campaign.CampaignUpdateRequest;
 import com.hanachain.hanachainbackend.entity.Campaign;
+import com.hanachain.hanachainbackend.service.scheduling.JobShard;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.multipart.MultipartFile;
@@ -79,9 +80,14 @@ public interface CampaignService {
     Campaign updateCampaignStatus(Long campaignId, Campaign.CampaignStatus status);
     
     /**
-     * 만료된 캠페인들의 상태를 완료로 변경합니다.
+     * 블록체인 처리 중인 캠페인들의 트랜잭션 상태를 확인합니다. (shard에 속한 캠페인만)
      */
-    void completeExpiredCampaigns();
+    void monitorBlockchainCampaigns(JobShard shard);
+    
+    /**
+     * 활성 캠페인들을 블록체인 상태와 동기화합니다. (shard에 속한 캠페인만)
+     */
+    void synchronizeActiveCampaigns(JobShard shard);
     
     /**
      * 캠페인 이미지를 업로드합니다. (Base64 인코딩하여 CLOB 저장)
@@ -0,0 +1,33 @@
+package com.hanachain.hanachainbackend.service;
+
+import com.hanachain.hanachainbackend.dto.campaign.CampaignFundraisingStats;
+import com.hanachain.hanachainbackend.dto.donation.DonationStats;
+
+/**
+ * 캠페인 통계 조회 서비스 인터페이스
+ * 모금 통계를 단일 쿼리로 조회하고 캠페인 단위로 짧게 캐싱합니다.
+ */
+public interface CampaignStatsService {
+
+    /**
+     * 캠페인 담당자용 모금 통계 조회 (담당자 권한 확인 포함)
+     * @param campaignId 캠페인 ID
+     * @param userId 요청 사용자 ID
+     * @return 모금 통계 정보
+     */
+    CampaignFundraisingStats getFundraisingStats(Long campaignId, Long userId);
+
+    /**
+     * 캠페인별 기부 통계 조회
+     * @param campaignId 캠페인 ID
+     * @return 기부 통계
+     */
+    DonationStats getDonationStats(Long campaignId);
+
+    /**
+     * 캠페인 통계 캐시 무효화 (트랜잭션 안에서 호출되면 커밋 후)
+     * 모금액/기부자 수가 바뀌는 기부 완료, 환불, 캠페인 마감 경로에서 호출합니다.
+     * @param campaignId 캠페인 ID
+     */
+    void evict(Long campaignId);
+}
@@ -2,6 +2,11 @@ package com.hanachain.hanachainbackend.service;
 
 import com.hanachain.hanachainbackend.entity.VerificationSession;
 
+/**
+ * 이메일 발송 서비스
+ * 모든 발송 메서드는 메일을 발송 대기열(email_outbox)에 저장만 하고 바로 반환하며,
+ * 실제 SMTP 발송은 EmailOutboxWorker가 호출자 트랜잭션 커밋 후 비동기로 수행합니다.
+ */
 public interface EmailService {
     
     /**
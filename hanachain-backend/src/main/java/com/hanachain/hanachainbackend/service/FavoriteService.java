@@ -2,9 +2,12 @@ package com.hanachain.hanachainbackend.service;
 
 import com.hanachain.hanachainbackend.dto.user.FavoriteAddRequest;
 import com.hanachain.hanachainbackend.dto.user.FavoriteResponse;
+import com.hanachain.hanachainbackend.dto.user.FavoriteStatusResponse;
 import com.hanachain.hanachainbackend.dto.user.PagedResponse;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * 즐겨찾기 관리 서비스 인터페이스
  */
@@ -50,6 +53,14 @@ public interface FavoriteService {
      */
     boolean isFavorite(Long userId, Long campaignId);
     
+    /**
+     * 캠페인 목록의 즐겨찾기 여부와 즐겨찾기 수 일괄 조회
+     * @param userId 사용자 ID (비로그인 시 null)
+     * @param campaignIds 캠페인 ID 목록
+     * @return 요청 순서대로 정렬된 캠페인별 즐겨찾기 상태
+     */
+    List<FavoriteStatusResponse> getFavoriteStatuses(Long userId, List<Long> campaignIds);
+    
     /**
      * 사용자 즐겨찾기 개수 조회
      * @param userId 사용자 ID
@@ -25,6 +25,11 @@ public interface UserService {
      */
     LoginResponse refreshToken(String refreshToken);
     
+    /**
+     * 로그아웃 시 리프레시 토큰을 폐기합니다.
+     */
+    void logout(String refreshToken);
+    
     /**
      * 사용자 프로필을 조회합니다.
      */
@@ -0,0 +1,145 @@
+package com.hanachain.hanachainbackend.service.archive;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 기부(donations) 월별 파티션 보관 작업
+ *
+ * V21에서 created_at 기준 월별 인터벌 파티션으로 전환된 donations 테이블에서
+ * 상한(high value)이 보관 기준(현재 월 - N개월)보다 이전인 파티션을
+ * 압축하여 다시 쓰고(MOVE PARTITION ... COMPRESS, 지정 시 보관용 테이블스페이스로 이동) 읽기 전용으로 바꿉니다.
+ *
+ * - 이미 읽기 전용인 파티션은 건너뛰므로 여러 번 실행해도 안전합니다.
+ * - 로컬 인덱스는 UPDATE INDEXES로 함께 유지되고, 이동은 ONLINE으로 수행되어 조회가 막히지 않습니다.
+ * - 읽기 전용 파티션의 행은 수정할 수 없으므로(ORA-14466) 환불/배치 처리 기간보다 충분히 긴 보관 기준을 사용해야 합니다.
+ * - Oracle 12.2 이상 전용이므로 donation.partition.archive.enabled=true일 때만 등록됩니다.
+ *
+ * 지표: donation.partition.archived (result=success|failure)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "donation.partition.archive", name = "enabled", havingValue = "true")
+public class DonationPartitionArchiver {
+
+    private static final String PARTITIONS_QUERY =
+            "SELECT partition_name, high_value FROM user_tab_partitions " +
+            "WHERE table_name = 'DONATIONS' AND read_only = 'NO' " +
+            "ORDER BY partition_position";
+
+    private static final Pattern HIGH_VALUE_PATTERN =
+            Pattern.compile("(\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2})");
+    private static final DateTimeFormatter HIGH_VALUE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("[A-Za-z][A-Za-z0-9_$#]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int afterMonths;
+    private final String tablespace;
+    private final String compression;
+
+    public DonationPartitionArchiver(JdbcTemplate jdbcTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${donation.partition.archive.after-months:24}") int afterMonths,
+                                     @Value("${donation.partition.archive.tablespace:}") String tablespace,
+                                     @Value("${donation.partition.archive.compression:ROW STORE COMPRESS BASIC}") String compression) {
+        if (afterMonths < 1) {
+            throw new IllegalArgumentException("donation.partition.archive.after-months must be at least 1: " + afterMonths);
+        }
+        if (StringUtils.hasText(tablespace) && !IDENTIFIER_PATTERN.matcher(tablespace).matches()) {
+            throw new IllegalArgumentException("Invalid archive tablespace name: " + tablespace);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.afterMonths = afterMonths;
+        this.tablespace = tablespace;
+        this.compression = compression;
+    }
+
+    /**
+     * 보관 기준보다 오래된 파티션 압축 및 읽기 전용 전환 (매월 1일 새벽, {@code ScheduledJobs}에서 한 노드만 실행)
+     *
+     * @return 이번 실행에서 보관 처리한 파티션 수
+     */
+    public int archiveOldPartitions() {
+        LocalDateTime cutoff = YearMonth.now().minusMonths(afterMonths).atDay(1).atStartOfDay();
+
+        List<Partition> partitions = jdbcTemplate.query(PARTITIONS_QUERY,
+                (rs, rowNum) -> new Partition(rs.getString("partition_name"), parseHighValue(rs.getString("high_value"))));
+
+        int archived = 0;
+        for (Partition partition : partitions) {
+            if (partition.highValue() == null || partition.highValue().isAfter(cutoff)) {
+                continue;
+            }
+            if (archive(partition)) {
+                archived++;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} donation partitions older than {}", archived, cutoff.toLocalDate());
+        }
+        return archived;
+    }
+
+    private boolean archive(Partition partition) {
+        String name = "\"" + partition.name() + "\"";
+        StringBuilder move = new StringBuilder("ALTER TABLE donations MOVE PARTITION ").append(name);
+        if (StringUtils.hasText(tablespace)) {
+            move.append(" TABLESPACE ").append(tablespace);
+        }
+        move.append(' ').append(compression).append(" UPDATE INDEXES ONLINE");
+
+        try {
+            jdbcTemplate.execute(move.toString());
+            jdbcTemplate.execute("ALTER TABLE donations MODIFY PARTITION " + name + " READ ONLY");
+        } catch (DataAccessException e) {
+            log.error("Failed to archive donation partition {} (< {}): {}",
+                    partition.name(), partition.highValue(), e.getMessage());
+            count("failure");
+            return false;
+        }
+
+        log.info("Archived donation partition {} (< {})", partition.name(), partition.highValue());
+        count("success");
+        return true;
+    }
+
+    /**
+     * user_tab_partitions.high_value 해석 (예: TIMESTAMP' 2025-01-01 00:00:00')
+     * MAXVALUE 등 날짜가 아닌 경우 null
+     */
+    static LocalDateTime parseHighValue(String highValue) {
+        if (highValue == null) {
+            return null;
+        }
+        Matcher matcher = HIGH_VALUE_PATTERN.matcher(highValue);
+        return matcher.find() ? LocalDateTime.parse(matcher.group(1), HIGH_VALUE_FORMAT) : null;
+    }
+
+    private void count(String result) {
+        Counter.builder("donation.partition.archived")
+                .description("Donation partitions compressed and made read-only")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private record Partition(String name, LocalDateTime highValue) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.hanachain.hanachainbackend.service.audit;
+
+import com.hanachain.hanachainbackend.entity.AuditLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 감사 로그 JDBC 일괄 INSERT
+ *
+ * JPA 영속성 컨텍스트를 거치지 않고 한 번의 batchUpdate로 audit_logs에 기록합니다.
+ * id는 INSERT 문에서 시퀀스로 채우고, 문자열은 컬럼 길이에 맞게 잘라 배치 전체가 실패하지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditLogBatchWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (id, user_id, user_email, user_role, action, category, description, " +
+            "target_entity_type, target_entity_id, organization_id, ip_address, user_agent, request_method, " +
+            "request_url, session_id, request_body, additional_data, timestamp, success, error_message, risk_level) " +
+            "VALUES (audit_log_sequence.NEXTVAL, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이벤트 목록을 하나의 JDBC 배치로 기록
+     */
+    public void write(List<AuditLog> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), this::bind);
+    }
+
+    private void bind(PreparedStatement ps, AuditLog event) throws SQLException {
+        setLong(ps, 1, event.getUserId());
+        ps.setString(2, truncate(event.getUserEmail(), 100));
+        ps.setString(3, truncate(event.getUserRole(), 50));
+        ps.setString(4, event.getAction().name());
+        ps.setString(5, event.getCategory().name());
+        ps.setString(6, truncate(event.getDescription(), 500));
+        ps.setString(7, truncate(event.getTargetEntityType(), 100));
+        setLong(ps, 8, event.getTargetEntityId());
+        setLong(ps, 9, event.getOrganizationId());
+        ps.setString(10, truncate(event.getIpAddress(), 45));
+        ps.setString(11, truncate(event.getUserAgent(), 500));
+        ps.setString(12, truncate(event.getRequestMethod(), 10));
+        ps.setString(13, truncate(event.getRequestUrl(), 1000));
+        ps.setString(14, truncate(event.getSessionId(), 100));
+        ps.setString(15, event.getRequestBody());
+        ps.setString(16, event.getAdditionalData());
+        LocalDateTime timestamp = event.getTimestamp() != null ? event.getTimestamp() : LocalDateTime.now();
+        ps.setTimestamp(17, Timestamp.valueOf(timestamp));
+        ps.setInt(18, Boolean.FALSE.equals(event.getSuccess()) ? 0 : 1);
+        ps.setString(19, truncate(event.getErrorMessage(), 1000));
+        ps.setString(20, truncate(event.getRiskLevel(), 20));
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.NUMERIC);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value == null || value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+}
@@ -0,0 +1,252 @@
+package com.hanachain.hanachainbackend.service.audit;
+
+import com.hanachain.hanachainbackend.config.transaction.TransactionCallbacks;
+import com.hanachain.hanachainbackend.entity.AuditLog;
+import com.hanachain.hanachainbackend.security.SecurityUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 비동기 감사 로그 기록기
+ *
+ * 요청 스레드는 {@link #record}로 이벤트에 사용자/요청 정보를 채워 무잠금 링 버퍼에 넣기만 하고,
+ * 전용 스레드 하나(audit-log-writer)가 버퍼를 비우며 JDBC 배치로 audit_logs에 기록합니다.
+ *
+ * - 기록 스레드는 flush 주기마다, 또는 버퍼에 배치 크기만큼 쌓이면 즉시 깨어납니다.
+ * - 버퍼가 가득 찼을 때: drop(버리고 지표 기록) 또는 block(최대 대기 시간까지 기다린 뒤 버림)
+ * - 배치 기록 실패 시 같은 배치를 다음 주기에 재시도하고, 재시도 한도를 넘으면 버립니다.
+ * - 애플리케이션 종료 시 기록 스레드를 멈추고 남은 이벤트를 모두 기록합니다.
+ *
+ * 지표: audit.events (result=written|dropped|failed), audit.buffer.size
+ */
+@Slf4j
+@Component
+public class AuditLogger {
+
+    enum OverflowPolicy { DROP, BLOCK }
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final AuditRingBuffer<AuditLog> buffer;
+    private final AuditLogBatchWriter batchWriter;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final int maxRetries;
+
+    private final List<AuditLog> batch = new ArrayList<>();
+    private int batchAttempts;
+
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    public AuditLogger(AuditLogBatchWriter batchWriter,
+                       MeterRegistry meterRegistry,
+                       @Value("${audit.buffer.capacity:16384}") int capacity,
+                       @Value("${audit.writer.batch-size:500}") int batchSize,
+                       @Value("${audit.writer.flush-interval-ms:1000}") long flushIntervalMs,
+                       @Value("${audit.buffer.overflow-policy:drop}") String overflowPolicy,
+                       @Value("${audit.buffer.block-timeout-ms:50}") long blockTimeoutMs,
+                       @Value("${audit.writer.max-retries:3}") int maxRetries) {
+        this.buffer = new AuditRingBuffer<>(capacity);
+        this.batchWriter = batchWriter;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.trim().toUpperCase(Locale.ROOT));
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+        this.maxRetries = maxRetries;
+
+        meterRegistry.gauge("audit.buffer.size", buffer, AuditRingBuffer::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::writeLoop, "audit-log-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+        log.info("Audit log writer started (capacity: {}, batch: {}, overflow: {})",
+                buffer.capacity(), batchSize, overflowPolicy);
+    }
+
+    /**
+     * 감사 이벤트 기록 요청 (호출 스레드에서 사용자/요청 정보를 채운 뒤 버퍼에 추가)
+     *
+     * @return 버퍼에 추가되었으면 true, 가득 차서 버려졌으면 false
+     */
+    public boolean record(AuditLog event) {
+        enrich(event);
+
+        boolean accepted = buffer.offer(event);
+        if (!accepted && overflowPolicy == OverflowPolicy.BLOCK && running) {
+            accepted = offerWithin(event, blockTimeoutNanos);
+        }
+
+        if (!accepted) {
+            count("dropped", 1);
+            log.warn("Audit buffer full, dropped event: {} {}", event.getAction(), event.getDescription());
+            return false;
+        }
+
+        if (buffer.size() >= batchSize) {
+            wakeWriter();
+        }
+        return true;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 기록 (롤백되면 기록하지 않음, 트랜잭션 밖이면 즉시 기록)
+     */
+    public void recordAfterCommit(AuditLog event) {
+        TransactionCallbacks.afterCommit(() -> record(event));
+    }
+
+    /**
+     * 버퍼에 쌓인 이벤트를 한 배치 기록 (기록 스레드 또는 종료 시에만 호출)
+     *
+     * @return 기록한 이벤트 수
+     */
+    synchronized int flushBatch() {
+        if (batch.isEmpty()) {
+            buffer.drainTo(batch, batchSize);
+            batchAttempts = 0;
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        int size = batch.size();
+        try {
+            batchWriter.write(batch);
+            count("written", size);
+            batch.clear();
+            return size;
+        } catch (RuntimeException e) {
+            batchAttempts++;
+            if (batchAttempts > maxRetries) {
+                log.error("Dropping {} audit events after {} failed attempts", size, batchAttempts, e);
+                count("failed", size);
+                batch.clear();
+            } else {
+                log.warn("Audit batch write failed (attempt {}/{}), will retry: {}",
+                        batchAttempts, maxRetries, e.getMessage());
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * 종료 시 기록 스레드를 멈추고 남은 이벤트를 모두 기록
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(Duration.ofSeconds(10).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        log.info("Application shutdown - flushing {} pending audit events", buffer.size());
+        int retries = 0;
+        while ((buffer.size() > 0 || hasPendingBatch()) && retries <= maxRetries) {
+            if (flushBatch() == 0) {
+                retries++;
+            }
+        }
+    }
+
+    int pendingCount() {
+        return buffer.size();
+    }
+
+    private void writeLoop() {
+        while (running) {
+            int written;
+            try {
+                written = flushBatch();
+            } catch (RuntimeException e) {
+                log.error("Unexpected audit writer error", e);
+                written = 0;
+            }
+
+            // 한 배치를 가득 채웠으면 바로 다음 배치, 아니면 다음 주기 또는 깨울 때까지 대기
+            if (written < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+    }
+
+    private boolean offerWithin(AuditLog event, long timeoutNanos) {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (System.nanoTime() < deadline) {
+            wakeWriter();
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (buffer.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized boolean hasPendingBatch() {
+        return !batch.isEmpty();
+    }
+
+    private void wakeWriter() {
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * 현재 스레드의 인증 사용자와 HTTP 요청 정보로 비어 있는 항목 채우기
+     */
+    private static void enrich(AuditLog event) {
+        if (event.getUserId() == null && event.getUserEmail() == null) {
+            SecurityUtils.getCurrentUser().ifPresent(event::withUser);
+        }
+
+        if (event.getRequestUrl() == null) {
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes instanceof ServletRequestAttributes servletAttributes) {
+                HttpServletRequest request = servletAttributes.getRequest();
+                event.withRequest(request.getMethod(), request.getRequestURI(),
+                        request.getRemoteAddr(), request.getHeader("User-Agent"));
+            }
+        }
+    }
+
+    private void count(String result, int amount) {
+        Counter.builder("audit.events")
+                .description("Audit events by outcome")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(amount);
+    }
+}
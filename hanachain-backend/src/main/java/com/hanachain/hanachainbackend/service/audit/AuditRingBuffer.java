@@ -0,0 +1,105 @@
+package com.hanachain.hanachainbackend.service.audit;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 감사 이벤트용 고정 크기 무잠금 링 버퍼 (다중 생산자 / 단일 소비자)
+ *
+ * 슬롯마다 시퀀스 번호를 두어 생산자는 tail 위치를 CAS로 선점한 뒤 값을 쓰고 시퀀스를 올려 공개하며,
+ * 소비자는 시퀀스가 공개된 슬롯만 읽고 한 바퀴 뒤의 시퀀스로 돌려 재사용을 허락합니다.
+ * 버퍼가 가득 차면 {@link #offer}는 기다리지 않고 false를 반환하므로 대기 여부는 호출 측 정책이 정합니다.
+ *
+ * {@link #poll}/{@link #drainTo}는 단일 소비자(감사 로그 기록 스레드)에서만 호출해야 합니다.
+ */
+public class AuditRingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    public AuditRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("Ring buffer capacity must be at least 2: " + requestedCapacity);
+        }
+        int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 이벤트 추가 (가득 차 있으면 즉시 false)
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 가장 오래된 이벤트 꺼내기 (비어 있으면 null)
+     */
+    public E poll() {
+        long position = head.get();
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+
+        E element = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.set(index, position + mask + 1);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    /**
+     * 최대 maxElements개의 이벤트를 순서대로 꺼내 target에 담기
+     *
+     * @return 꺼낸 이벤트 수
+     */
+    public int drainTo(Collection<? super E> target, int maxElements) {
+        int drained = 0;
+        E element;
+        while (drained < maxElements && (element = poll()) != null) {
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 대기 중인 이벤트 수 (동시 추가 중에는 근사값)
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
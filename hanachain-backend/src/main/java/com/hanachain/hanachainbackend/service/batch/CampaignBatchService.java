@@ -2,6 +2,7 @@ package com.hanachain.hanachainbackend.service.batch;
 
 import com.hanachain.hanachainbackend.dto.batch.BatchJobStatusResponse;
 import com.hanachain.hanachainbackend.dto.batch.CampaignCloseResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 캠페인 배치 처리 서비스 인터페이스
@@ -31,4 +32,42 @@ public interface CampaignBatchService {
      * @return 배치 작업 상태
      */
     BatchJobStatusResponse getLatestBatchStatus(Long campaignId);
+
+    /**
+     * 배치 작업 진행 상황 구독 (SSE)
+     *
+     * 처리/성공/실패 건수와 처리량, 남은 예상 시간을 주기적으로 보내고 Job이 끝나면 연결을 닫습니다.
+     *
+     * @param jobExecutionId 작업 실행 ID
+     * @return 진행 상황 이벤트 스트림
+     * @throws IllegalArgumentException 이 서버에서 실행 중이거나 최근에 끝난 작업이 아닌 경우
+     */
+    SseEmitter subscribeProgress(Long jobExecutionId);
+
+    /**
+     * 만료로 마감된 캠페인(batch_job_status = PENDING)의 토큰 전송 배치 작업 시작
+     *
+     * PENDING → STARTING 조건부 변경으로 캠페인을 선점한 호출만 배치를 시작하므로
+     * 같은 캠페인에 대해 여러 번, 여러 노드에서 호출되어도 배치는 한 번만 실행됩니다.
+     *
+     * @param campaignId 캠페인 ID
+     * @return 처리 결과
+     */
+    ExpiredCampaignOutcome startTransferForExpiredCampaign(Long campaignId);
+
+    /**
+     * 만료 캠페인 자동 마감 처리 결과
+     */
+    enum ExpiredCampaignOutcome {
+        /** 배치 작업을 실행함 */
+        LAUNCHED,
+        /** 전송할 기부 내역이 없어 바로 완료 처리함 */
+        NO_DONATIONS,
+        /** FDS 검증 미통과 거래가 있어 다음 실행으로 미룸 (PENDING 유지) */
+        DEFERRED,
+        /** 이미 다른 실행이 선점했거나 대상이 아님 */
+        SKIPPED,
+        /** 배치 작업 시작 또는 실행 실패 */
+        FAILED
+    }
 }
@@ -0,0 +1,184 @@
+package com.hanachain.hanachainbackend.service.batch;
+
+import com.hanachain.hanachainbackend.repository.CampaignRepository;
+import com.hanachain.hanachainbackend.service.batch.CampaignBatchService.ExpiredCampaignOutcome;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.CallableStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 만료 캠페인 마감 파이프라인
+ *
+ * 1. 종료일이 지난 ACTIVE 캠페인을 UPDATE 한 번으로 COMPLETED(batch_job_status = PENDING)로 바꾸고
+ *    RETURNING ... BULK COLLECT로 바뀐 캠페인 ID를 돌려받습니다.
+ * 2. 이전 실행에서 마감만 되고 배치를 시작하지 못한 PENDING 캠페인도 함께 큐에 넣습니다.
+ *    선점(STARTING) 후 campaign.expiry.claim-timeout-minutes가 지나도록 배치가 시작되지 않은 캠페인은
+ *    선점한 노드가 죽은 것으로 보고 먼저 PENDING으로 되돌려 다시 처리합니다.
+ * 3. 캠페인마다 {@link CampaignBatchService#startTransferForExpiredCampaign}을 campaignCloseTaskExecutor
+ *    (campaign.expiry.concurrency개 스레드)에서 실행하므로 동시에 도는 배치 작업 수가 제한됩니다.
+ *    캠페인 선점은 batch_job_status 조건부 UPDATE로 하므로 같은 캠페인이 두 번 처리되지 않습니다.
+ * 4. 결과별 건수와 처리량을 로그와 지표로 남깁니다.
+ *
+ * 지표: campaign.expiry.processed (outcome), campaign.expiry.duration
+ */
+@Slf4j
+@Component
+public class ExpiredCampaignPipeline {
+
+    private static final String COMPLETE_EXPIRED_SQL =
+            "DECLARE ids SYS.ODCINUMBERLIST; " +
+            "BEGIN " +
+            "UPDATE campaigns SET status = 'COMPLETED', batch_job_status = 'PENDING', updated_at = LOCALTIMESTAMP " +
+            "WHERE end_date < ? AND status = 'ACTIVE' AND deleted_at IS NULL " +
+            "RETURNING id BULK COLLECT INTO ids; " +
+            "? := ids; " +
+            "END;";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTransaction;
+    private final CampaignRepository campaignRepository;
+    private final CampaignBatchService campaignBatchService;
+    private final Executor campaignCloseTaskExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Duration claimTimeout;
+
+    public ExpiredCampaignPipeline(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   CampaignRepository campaignRepository,
+                                   CampaignBatchService campaignBatchService,
+                                   @Qualifier("campaignCloseTaskExecutor") Executor campaignCloseTaskExecutor,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${campaign.expiry.claim-timeout-minutes:15}") long claimTimeoutMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.campaignRepository = campaignRepository;
+        this.campaignBatchService = campaignBatchService;
+        this.campaignCloseTaskExecutor = campaignCloseTaskExecutor;
+        this.meterRegistry = meterRegistry;
+        this.claimTimeout = Duration.ofMinutes(claimTimeoutMinutes);
+    }
+
+    /**
+     * 만료 캠페인을 마감하고 토큰 전송 배치를 모두 처리할 때까지 대기
+     */
+    public Report run() {
+        long started = System.nanoTime();
+
+        LocalDateTime now = LocalDateTime.now();
+        releaseStaleClaims(now);
+        List<Long> expired = completeExpiredCampaigns(now);
+        Set<Long> queue = new LinkedHashSet<>(expired);
+        queue.addAll(campaignRepository.findIdsAwaitingTokenTransfer());
+
+        Map<ExpiredCampaignOutcome, Integer> outcomes = Collections.synchronizedMap(new EnumMap<>(ExpiredCampaignOutcome.class));
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(queue.size());
+        for (Long campaignId : queue) {
+            tasks.add(CompletableFuture.runAsync(() -> {
+                ExpiredCampaignOutcome outcome = process(campaignId);
+                outcomes.merge(outcome, 1, Integer::sum);
+                meterRegistry.counter("campaign.expiry.processed", "outcome", outcome.name().toLowerCase()).increment();
+            }, campaignCloseTaskExecutor));
+        }
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        meterRegistry.timer("campaign.expiry.duration").record(elapsed);
+
+        Report report = new Report(expired.size(), queue.size() - expired.size(), new EnumMap<>(outcomes), elapsed);
+        if (report.total() > 0) {
+            log.info("Expired campaign pipeline: expired={}, carriedOver={}, outcomes={}, elapsed={}ms, throughput={}/s",
+                    report.expired(), report.carriedOver(), report.outcomes(), elapsed.toMillis(),
+                    String.format("%.2f", report.throughputPerSecond()));
+        }
+        return report;
+    }
+
+    /**
+     * 만료 캠페인 일괄 마감 후 바뀐 캠페인 ID 반환 (바로 커밋)
+     */
+    List<Long> completeExpiredCampaigns(LocalDateTime now) {
+        List<Long> ids = requiresNewTransaction.execute(status -> jdbcTemplate.execute(COMPLETE_EXPIRED_SQL,
+                (CallableStatement cs) -> {
+                    cs.setTimestamp(1, Timestamp.valueOf(now));
+                    cs.registerOutParameter(2, Types.ARRAY, "SYS.ODCINUMBERLIST");
+                    cs.execute();
+                    Array array = cs.getArray(2);
+                    List<Long> result = new ArrayList<>();
+                    if (array != null) {
+                        for (Object id : (Object[]) array.getArray()) {
+                            result.add(((Number) id).longValue());
+                        }
+                        array.free();
+                    }
+                    return result;
+                }));
+        return ids != null ? ids : List.of();
+    }
+
+    /**
+     * 배치를 시작하지 못한 채 남은 오래된 선점(STARTING)을 PENDING으로 되돌림 (바로 커밋)
+     */
+    void releaseStaleClaims(LocalDateTime now) {
+        Integer released = requiresNewTransaction.execute(status ->
+                campaignRepository.releaseStaleBatchClaims(now.minus(claimTimeout)));
+        if (released != null && released > 0) {
+            log.warn("Released {} stale campaign batch claims older than {}", released, claimTimeout);
+        }
+    }
+
+    private ExpiredCampaignOutcome process(Long campaignId) {
+        try {
+            return campaignBatchService.startTransferForExpiredCampaign(campaignId);
+        } catch (RuntimeException e) {
+            log.error("Failed to process expired campaign {}", campaignId, e);
+            return ExpiredCampaignOutcome.FAILED;
+        }
+    }
+
+    /**
+     * 한 번 실행한 결과
+     *
+     * @param expired     이번 실행에서 마감한 캠페인 수
+     * @param carriedOver 이전 실행에서 넘어온 PENDING 캠페인 수
+     * @param outcomes    처리 결과별 캠페인 수
+     * @param elapsed     마감부터 모든 배치 완료까지 걸린 시간
+     */
+    public record Report(int expired, int carriedOver, Map<ExpiredCampaignOutcome, Integer> outcomes, Duration elapsed) {
+
+        public int total() {
+            return expired + carriedOver;
+        }
+
+        public int count(ExpiredCampaignOutcome outcome) {
+            return outcomes.getOrDefault(outcome, 0);
+        }
+
+        public double throughputPerSecond() {
+            long millis = Math.max(1, elapsed.toMillis());
+            return total() * 1000.0 / millis;
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.hanachain.hanachainbackend.service.batch.impl;
 
+import com.hanachain.hanachainbackend.batch.progress.BatchProgressTracker;
 import com.hanachain.hanachainbackend.dto.batch.BatchJobStatusResponse;
 import com.hanachain.hanachainbackend.dto.batch.CampaignCloseResponse;
 import com.hanachain.hanachainbackend.entity.Campaign;
 import com.hanachain.hanachainbackend.repository.CampaignRepository;
 import com.hanachain.hanachainbackend.repository.DonationRepository;
+import com.hanachain.hanachainbackend.service.CampaignStatsService;
 import com.hanachain.hanachainbackend.service.batch.CampaignBatchService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.*;
 import org.springframework.batch.core.explore.JobExplorer;
@@ -14,8 +15,12 @@ import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
@@ -27,17 +32,46 @@ import java.util.Set;
  *
  * Spring Batch를 사용하여 캠페인 마감 시 기부 내역을
  * 블록체인 트랜잭션으로 전송하는 배치 작업을 관리합니다.
+ *
+ * 관리자 마감 요청은 batch.launch.async=true(기본값)이면 asyncJobLauncher로 Job을 넘기고
+ * 실행 ID를 바로 반환합니다. 만료 캠페인 자동 마감은 호출 스레드에서 끝까지 실행합니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CampaignBatchServiceImpl implements CampaignBatchService {
 
     private final JobLauncher jobLauncher;
+    private final JobLauncher asyncJobLauncher;
     private final JobExplorer jobExplorer;
     private final Job donationTokenTransferJob;
     private final CampaignRepository campaignRepository;
     private final DonationRepository donationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchProgressTracker batchProgressTracker;
+    private final CampaignStatsService campaignStatsService;
+    private final boolean asyncLaunch;
+
+    public CampaignBatchServiceImpl(@Qualifier("jobLauncher") JobLauncher jobLauncher,
+                                    @Qualifier("asyncJobLauncher") JobLauncher asyncJobLauncher,
+                                    JobExplorer jobExplorer,
+                                    Job donationTokenTransferJob,
+                                    CampaignRepository campaignRepository,
+                                    DonationRepository donationRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    BatchProgressTracker batchProgressTracker,
+                                    CampaignStatsService campaignStatsService,
+                                    @Value("${batch.launch.async:true}") boolean asyncLaunch) {
+        this.jobLauncher = jobLauncher;
+        this.asyncJobLauncher = asyncJobLauncher;
+        this.jobExplorer = jobExplorer;
+        this.donationTokenTransferJob = donationTokenTransferJob;
+        this.campaignRepository = campaignRepository;
+        this.donationRepository = donationRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchProgressTracker = batchProgressTracker;
+        this.campaignStatsService = campaignStatsService;
+        this.asyncLaunch = asyncLaunch;
+    }
 
     @Override
     public CampaignCloseResponse closeCampaignAndStartBatch(Long campaignId) {
@@ -52,9 +86,10 @@ public class CampaignBatchServiceImpl implements CampaignBatchService {
 
         // 3. 캠페인 상태 업데이트 (별도 트랜잭션으로 처리)
         updateCampaignStatusToCompleted(campaign);
+        campaignStatsService.evict(campaignId);
 
         // 4. 배치 처리 대상 기부 건수 조회
-        long totalDonations = donationRepository.countPendingBlockchainRecords(campaignId);
+        long totalDonations = donationRepository.countPendingBlockchainRecords(campaignId, campaign.getCreatedAt());
         log.info("📊 배치 처리 대상 기부 건수: {} 건", totalDonations);
 
         if (totalDonations == 0) {
@@ -70,18 +105,32 @@ public class CampaignBatchServiceImpl implements CampaignBatchService {
                     .build();
         }
 
-        // 5. Spring Batch Job 실행
+        // 5. Spring Batch Job 실행 (비동기 모드에서는 시작만 하고 바로 반환)
         try {
-            JobParameters jobParameters = new JobParametersBuilder()
-                    .addString("campaignId", campaignId.toString())
-                    .addLong("timestamp", System.currentTimeMillis())
-                    .toJobParameters();
-
-            JobExecution jobExecution = jobLauncher.run(donationTokenTransferJob, jobParameters);
+            JobLauncher launcher = asyncLaunch ? asyncJobLauncher : jobLauncher;
+            JobExecution jobExecution = launcher.run(donationTokenTransferJob,
+                    transferJobParameters(campaignId, totalDonations));
             Long jobExecutionId = jobExecution.getId();
 
-            log.info("✅ 배치 작업 시작 성공 - jobExecutionId: {}, campaignId: {}",
-                    jobExecutionId, campaignId);
+            // 비동기 실행 큐(batchJobTaskExecutor)가 가득 차 거부되면 Job이 시작되지 않고 FAILED로 돌아오며,
+            // 리스너가 실행되지 않아 진행 상황 등록과 캠페인 배치 상태 기록이 남지 않음
+            if (jobExecution.getStatus().isUnsuccessful()) {
+                if (asyncLaunch) {
+                    // 만료 캠페인 파이프라인이 다음 실행에서 다시 시작하도록 넘김
+                    markBatchPending(campaignId);
+                }
+                log.error("❌ 배치 작업이 시작되지 못함 - jobExecutionId: {}, campaignId: {}, status: {}, exitStatus: {}",
+                        jobExecutionId, campaignId, jobExecution.getStatus(), jobExecution.getExitStatus());
+                throw new IllegalStateException(asyncLaunch
+                        ? "배치 작업 대기열이 가득 차 작업을 시작하지 못했습니다. 자동 전송 작업에서 다시 시도합니다."
+                        : "배치 작업이 실패했습니다: " + jobExecution.getExitStatus().getExitDescription());
+            }
+
+            // beforeJob 전에 구독해도 404가 나지 않도록 바로 등록
+            batchProgressTracker.queue(jobExecution, campaignId);
+
+            log.info("✅ 배치 작업 시작 성공 - jobExecutionId: {}, campaignId: {}, async: {}",
+                    jobExecutionId, campaignId, asyncLaunch);
 
             return CampaignCloseResponse.builder()
                     .campaignId(campaignId)
@@ -154,6 +203,93 @@ public class CampaignBatchServiceImpl implements CampaignBatchService {
         throw new IllegalArgumentException("해당 캠페인의 배치 작업 이력이 없습니다: " + campaignId);
     }
 
+    @Override
+    public ExpiredCampaignOutcome startTransferForExpiredCampaign(Long campaignId) {
+        // 1. PENDING → STARTING 선점 (선점하지 못하면 다른 실행이 처리 중이거나 이미 처리됨)
+        //    선점 시각을 남겨, 배치를 시작하기 전에 노드가 죽으면 파이프라인이 오래된 선점을 PENDING으로 되돌림
+        Integer claimed = transactionTemplate.execute(status ->
+                campaignRepository.claimBatchStart(campaignId, LocalDateTime.now()));
+        if (claimed == null || claimed != 1) {
+            log.debug("만료 캠페인 배치 선점 실패 (이미 처리 중) - campaignId: {}", campaignId);
+            return ExpiredCampaignOutcome.SKIPPED;
+        }
+        // 마감된 캠페인의 최종 통계가 TTL을 기다리지 않고 보이도록
+        campaignStatsService.evict(campaignId);
+
+        try {
+            Campaign campaign = campaignRepository.findByIdForAdmin(campaignId).orElse(null);
+            if (campaign == null || campaign.getDeletedAt() != null) {
+                transitionBatchStatus(campaignId, "STARTING", "STOPPED");
+                return ExpiredCampaignOutcome.SKIPPED;
+            }
+
+            // 2. FDS 검증 미통과 거래가 있으면 관리자가 처리할 때까지 다음 실행으로 미룸
+            if (donationRepository.existsUnverifiedFdsDonations(campaignId)) {
+                log.warn("⚠️ FDS 검증 미통과 거래가 있어 자동 전송을 미룹니다 - campaignId: {}", campaignId);
+                transitionBatchStatus(campaignId, "STARTING", "PENDING");
+                return ExpiredCampaignOutcome.DEFERRED;
+            }
+
+            // 3. 전송할 기부 내역이 없으면 배치 없이 완료
+            long totalDonations = donationRepository.countPendingBlockchainRecords(campaignId, campaign.getCreatedAt());
+            if (totalDonations == 0) {
+                transitionBatchStatus(campaignId, "STARTING", "COMPLETED");
+                return ExpiredCampaignOutcome.NO_DONATIONS;
+            }
+
+            // 4. 배치 실행 (상태는 DonationTransferJobListener가 RUNNING → COMPLETED/FAILED로 기록)
+            JobExecution jobExecution = jobLauncher.run(donationTokenTransferJob,
+                    transferJobParameters(campaignId, totalDonations));
+            log.info("✅ 만료 캠페인 배치 작업 실행 - jobExecutionId: {}, campaignId: {}, 대상: {} 건, 상태: {}",
+                    jobExecution.getId(), campaignId, totalDonations, jobExecution.getStatus());
+
+            return jobExecution.getStatus() == BatchStatus.FAILED
+                    ? ExpiredCampaignOutcome.FAILED
+                    : ExpiredCampaignOutcome.LAUNCHED;
+
+        } catch (JobExecutionException | RuntimeException e) {
+            // Job이 시작되기 전에 실패한 경우만 STARTING이 남아 있음
+            log.error("❌ 만료 캠페인 배치 작업 시작 실패 - campaignId: {}", campaignId, e);
+            transitionBatchStatus(campaignId, "STARTING", "FAILED");
+            return ExpiredCampaignOutcome.FAILED;
+        }
+    }
+
+    @Override
+    public SseEmitter subscribeProgress(Long jobExecutionId) {
+        return batchProgressTracker.subscribe(jobExecutionId)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "이 서버에서 실행 중이거나 최근에 끝난 배치 작업이 아닙니다: " + jobExecutionId));
+    }
+
+    /**
+     * 토큰 전송 Job 파라미터 (totalDonations는 진행률 계산용으로 Job 식별에는 쓰지 않음)
+     */
+    private JobParameters transferJobParameters(Long campaignId, long totalDonations) {
+        return new JobParametersBuilder()
+                .addString("campaignId", campaignId.toString())
+                .addLong("timestamp", System.currentTimeMillis())
+                .addLong("totalDonations", totalDonations, false)
+                .toJobParameters();
+    }
+
+    /**
+     * 마감된 캠페인의 전송을 만료 캠페인 파이프라인으로 넘김 (바로 커밋)
+     */
+    private void markBatchPending(Long campaignId) {
+        transactionTemplate.executeWithoutResult(status -> campaignRepository.findById(campaignId)
+                .ifPresent(campaign -> campaign.setBatchJobStatus("PENDING")));
+    }
+
+    /**
+     * 배치 작업 상태 조건부 변경 (바로 커밋)
+     */
+    private boolean transitionBatchStatus(Long campaignId, String expected, String next) {
+        Integer updated = transactionTemplate.execute(status ->
+                campaignRepository.compareAndSetBatchJobStatus(campaignId, expected, next));
+        return updated != null && updated == 1;
+    }
+
     /**
      * 캠페인 마감 가능 여부 검증
      */
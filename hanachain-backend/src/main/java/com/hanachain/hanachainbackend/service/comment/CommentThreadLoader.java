@@ -0,0 +1,175 @@
+package com.hanachain.hanachainbackend.service.comment;
+
+import com.hanachain.hanachainbackend.dto.comment.CommentAuthor;
+import com.hanachain.hanachainbackend.dto.comment.CommentResponse;
+import com.hanachain.hanachainbackend.entity.Comment;
+import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.repository.CampaignManagerRepository;
+import com.hanachain.hanachainbackend.repository.CommentRepository;
+import com.hanachain.hanachainbackend.repository.DonationRepository;
+import com.hanachain.hanachainbackend.repository.UserRepository;
+import com.hanachain.hanachainbackend.service.counter.CounterType;
+import com.hanachain.hanachainbackend.service.counter.WriteBehindCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 스레드 일괄 로더
+ *
+ * 댓글 페이지를 DTO로 변환할 때 댓글마다 작성자/담당자 여부/기부 여부를 개별 조회하지 않고
+ * 다음 순서로 묶어서 조회한 뒤 메모리에서 조립합니다.
+ * 1. 최상위 댓글 페이지 조회
+ * 2. 답글 단계별 IN 쿼리 (일반적인 1단계 답글은 1회)
+ * 3. 작성자 일괄 조회 (IN 쿼리 1회)
+ * 4. 캠페인 담당자 ID 집합, 기부자 ID 집합 조회 (각 1회)
+ *
+ * 쿼리 수는 댓글 수와 무관하게 일정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CommentThreadLoader {
+
+    private final CommentRepository commentRepository;
+    private final UserRepository userRepository;
+    private final CampaignManagerRepository campaignManagerRepository;
+    private final DonationRepository donationRepository;
+    private final WriteBehindCounter writeBehindCounter;
+
+    /**
+     * 캠페인의 최상위 댓글 페이지와 모든 답글을 조회하여 DTO로 조립
+     */
+    public Page<CommentResponse> loadCampaignThreads(Long campaignId, Pageable pageable) {
+        Page<Comment> roots = commentRepository.findRootCommentsByCampaignId(campaignId, pageable);
+
+        List<CommentResponse> content = assemble(roots.getContent(), campaignId);
+        log.debug("댓글 스레드 조립 완료: 캠페인 ID {}, 최상위 댓글 {} 개", campaignId, content.size());
+
+        return new PageImpl<>(content, pageable, roots.getTotalElements());
+    }
+
+    /**
+     * 단일 댓글(및 하위 답글)을 DTO로 조립
+     */
+    public CommentResponse loadThread(Comment comment) {
+        // Campaign이 null인 경우 처리
+        if (comment.getCampaign() == null) {
+            throw new IllegalStateException("댓글의 캠페인 정보가 없습니다: " + comment.getId());
+        }
+
+        return assemble(List.of(comment), comment.getCampaign().getId()).get(0);
+    }
+
+    private List<CommentResponse> assemble(List<Comment> roots, Long campaignId) {
+        if (roots.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 답글을 단계별로 일괄 조회 (부모 ID → 답글 목록)
+        Map<Long, List<Comment>> repliesByParent = new HashMap<>();
+        List<Comment> allComments = new ArrayList<>(roots);
+        Set<Long> frontier = roots.stream().map(Comment::getId).collect(Collectors.toSet());
+
+        while (!frontier.isEmpty()) {
+            List<Comment> replies = commentRepository.findActiveRepliesByParentIds(frontier);
+            Set<Long> nextFrontier = new HashSet<>();
+            for (Comment reply : replies) {
+                repliesByParent.computeIfAbsent(reply.getParent().getId(), id -> new ArrayList<>()).add(reply);
+                allComments.add(reply);
+                nextFrontier.add(reply.getId());
+            }
+            frontier = nextFrontier;
+        }
+
+        // 작성자 일괄 조회
+        Set<Long> authorIds = new LinkedHashSet<>();
+        for (Comment comment : allComments) {
+            if (comment.getUser() != null) {
+                authorIds.add(comment.getUser().getId());
+            }
+        }
+
+        Map<Long, User> authors = Collections.emptyMap();
+        Set<Long> managerIds = Collections.emptySet();
+        Set<Long> donorIds = Collections.emptySet();
+
+        if (!authorIds.isEmpty()) {
+            authors = userRepository.findAllById(authorIds).stream()
+                    .collect(Collectors.toMap(User::getId, Function.identity()));
+            managerIds = campaignManagerRepository.findActiveManagerUserIds(campaignId, authorIds);
+            donorIds = donationRepository.findDonorUserIds(campaignId, authorIds);
+        }
+
+        ThreadContext context = new ThreadContext(repliesByParent, authors, managerIds, donorIds);
+        return roots.stream()
+                .map(root -> toResponse(root, context))
+                .collect(Collectors.toList());
+    }
+
+    private CommentResponse toResponse(Comment comment, ThreadContext context) {
+        Long userId = comment.getUser() != null ? comment.getUser().getId() : null;
+
+        // 작성자 정보 생성
+        CommentAuthor authorDto = null;
+        User user = userId != null ? context.authors().get(userId) : null;
+        if (user != null) {
+            authorDto = CommentAuthor.builder()
+                    .id(user.getId())
+                    .name(user.getName())
+                    .email(user.getEmail())
+                    .profileImageUrl(user.getProfileImage())
+                    .nickname(user.getNickname())
+                    .build();
+        }
+
+        List<CommentResponse> replyDtos = context.repliesByParent()
+                .getOrDefault(comment.getId(), Collections.emptyList()).stream()
+                .map(reply -> toResponse(reply, context))
+                .collect(Collectors.toList());
+
+        return CommentResponse.builder()
+                .id(comment.getId())
+                .content(comment.getContent())
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .author(authorDto)
+                .isCampaignManager(userId != null && context.managerIds().contains(userId))
+                .hasDonated(userId != null && context.donorIds().contains(userId))
+                .isDeleted(comment.isDeleted())
+                .replies(replyDtos)
+                .likeCount(withPending(comment.getLikeCount(), CounterType.COMMENT_LIKES, comment.getId()))
+                .replyCount(withPending(comment.getReplyCount(), CounterType.COMMENT_REPLIES, comment.getId()))
+                .build();
+    }
+
+    /**
+     * DB 카운트에 아직 반영되지 않은 증감분을 더함
+     */
+    private Integer withPending(Integer stored, CounterType type, Long commentId) {
+        long value = (stored != null ? stored : 0) + writeBehindCounter.pending(type, commentId);
+        return (int) Math.max(value, 0L);
+    }
+
+    private record ThreadContext(Map<Long, List<Comment>> repliesByParent,
+                                 Map<Long, User> authors,
+                                 Set<Long> managerIds,
+                                 Set<Long> donorIds) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.hanachain.hanachainbackend.service.counter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 지연 반영(write-behind) 카운터 종류
+ * 각 카운터는 대상 테이블과 컬럼에 대응하며, 누적된 증감분은 일괄 UPDATE로 반영됩니다.
+ * afterCommit이 true인 카운터는 호출 트랜잭션이 커밋된 뒤에만 누적되고, false인 카운터(인증 시도 횟수)는
+ * 호출 트랜잭션이 롤백되어도 시도가 빠지지 않도록 즉시 누적됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CounterType {
+
+    COMMENT_LIKES("comments", "like_count", true),
+    COMMENT_REPLIES("comments", "reply_count", true),
+    NOTICE_VIEWS("notices", "view_count", true),
+    VERIFICATION_ATTEMPTS("verification_sessions", "attempt_count", false);
+
+    private final String table;
+    private final String column;
+    private final boolean afterCommit;
+
+    /**
+     * 증감분 반영 SQL (음수가 되지 않도록 0 하한 적용)
+     */
+    public String updateSql() {
+        return "UPDATE " + table + " SET " + column + " = GREATEST(" + column + " + ?, 0) WHERE id = ?";
+    }
+}
@@ -0,0 +1,210 @@
+package com.hanachain.hanachainbackend.service.counter;
+
+import com.hanachain.hanachainbackend.config.transaction.TransactionCallbacks;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 지연 반영(write-behind) 카운터
+ *
+ * 좋아요 수, 답글 수, 조회수처럼 자주 바뀌는 카운터를 요청마다 UPDATE 하지 않고
+ * 메모리에 키별 증감분으로 누적한 뒤 주기적으로 {@code UPDATE ... SET x = x + ?} 일괄 실행으로 반영합니다.
+ *
+ * - 키별 누적은 ConcurrentHashMap.merge로 처리되어 버킷 단위로 경합이 분산됩니다.
+ * - 트랜잭션 안에서 호출되면 커밋 후에 누적하므로 롤백된 작업의 증감분은 반영되지 않습니다.
+ *   (인증 시도 횟수처럼 {@link CounterType#isAfterCommit()}이 false인 카운터는 즉시 누적)
+ * - 보류 중인 키 수가 상한을 넘으면 새 키는 별도 쓰기 트랜잭션(REQUIRES_NEW)으로 즉시 DB에 반영하여
+ *   메모리 사용량을 제한합니다. 호출 측의 읽기 전용(복제본) 트랜잭션에서 UPDATE가 실행되지 않습니다.
+ * - 조회 시 {@link #pending}으로 아직 반영되지 않은 증감분을 더합니다. 호출 측의 DB 조회와 flush는 서로 맞물리지 않으므로
+ *   flush와 겹친 조회는 그 한 번의 flush 분량만큼 많게(보류 → 반영 중 이동을 두 번 읽은 경우) 또는
+ *   적게(DB를 읽은 뒤 반영이 커밋되고 반영 중 목록이 비워진 경우) 보일 수 있는 근사치이며, 다음 조회에서 바로잡힙니다.
+ * - 애플리케이션 종료 시 남은 증감분을 모두 반영합니다.
+ */
+@Slf4j
+@Component
+public class WriteBehindCounter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate writeThroughTransaction;
+    private final int maxPendingKeys;
+
+    private final Map<CounterType, ConcurrentHashMap<Long, Long>> pendingDeltas = new EnumMap<>(CounterType.class);
+    private final Map<CounterType, ConcurrentHashMap<Long, Long>> inflightDeltas = new EnumMap<>(CounterType.class);
+    private final AtomicInteger pendingKeyCount = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public WriteBehindCounter(JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${counter.write-behind.max-pending-keys:10000}") int maxPendingKeys) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.writeThroughTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.writeThroughTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxPendingKeys = maxPendingKeys;
+
+        for (CounterType type : CounterType.values()) {
+            pendingDeltas.put(type, new ConcurrentHashMap<>());
+            inflightDeltas.put(type, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void increment(CounterType type, Long id) {
+        add(type, id, 1L);
+    }
+
+    public void decrement(CounterType type, Long id) {
+        add(type, id, -1L);
+    }
+
+    /**
+     * 증감분 누적 (트랜잭션 안이면 커밋 후, 즉시 누적하는 카운터 제외)
+     */
+    public void add(CounterType type, Long id, long delta) {
+        if (id == null || delta == 0) {
+            return;
+        }
+
+        if (type.isAfterCommit()) {
+            TransactionCallbacks.afterCommit(() -> accumulate(type, id, delta));
+            return;
+        }
+        accumulate(type, id, delta);
+    }
+
+    private void accumulate(CounterType type, Long id, long delta) {
+        ConcurrentHashMap<Long, Long> deltas = pendingDeltas.get(type);
+
+        // 이미 누적 중인 키는 상한과 무관하게 합산
+        if (deltas.computeIfPresent(id, (key, current) -> current + delta) != null) {
+            return;
+        }
+
+        if (pendingKeyCount.get() >= maxPendingKeys && writeThrough(type, id, delta)) {
+            return;
+        }
+
+        // 그 사이 다른 스레드가 같은 키를 넣었을 수 있으므로 실제로 새로 넣은 경우에만 키 수를 셈
+        // (합산 결과가 delta와 같은지로 판단하면 동시 증감으로 0을 거친 키가 두 번 세어짐)
+        boolean[] inserted = new boolean[1];
+        deltas.compute(id, (key, current) -> {
+            if (current == null) {
+                inserted[0] = true;
+                return delta;
+            }
+            return current + delta;
+        });
+        if (inserted[0]) {
+            pendingKeyCount.incrementAndGet();
+        }
+    }
+
+    int pendingKeyCount() {
+        return pendingKeyCount.get();
+    }
+
+    /**
+     * 메모리 상한 초과 시 새 키를 별도 쓰기 트랜잭션으로 즉시 반영 (실패하면 false, 호출 측이 누적)
+     */
+    private boolean writeThrough(CounterType type, Long id, long delta) {
+        log.debug("카운터 보류 키 상한 초과 - 즉시 반영: {} {}", type, id);
+        try {
+            writeThroughTransaction.executeWithoutResult(status -> jdbcTemplate.update(type.updateSql(), delta, id));
+            return true;
+        } catch (Exception e) {
+            log.warn("카운터 즉시 반영 실패 - 보류 목록에 누적: {} {}", type, id, e);
+            return false;
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증감분 (조회 시 DB 값에 더해서 사용)
+     * flush와 겹치면 한 번의 flush 분량만큼 어긋날 수 있는 근사치입니다 (클래스 설명 참고).
+     */
+    public long pending(CounterType type, Long id) {
+        if (id == null) {
+            return 0L;
+        }
+        return pendingDeltas.get(type).getOrDefault(id, 0L)
+                + inflightDeltas.get(type).getOrDefault(id, 0L);
+    }
+
+    /**
+     * 누적된 증감분을 일괄 UPDATE로 반영
+     */
+    @Scheduled(fixedDelayString = "${counter.write-behind.flush-interval-ms:5000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+
+        try {
+            for (CounterType type : CounterType.values()) {
+                flushType(type);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushType(CounterType type) {
+        ConcurrentHashMap<Long, Long> deltas = pendingDeltas.get(type);
+        ConcurrentHashMap<Long, Long> inflight = inflightDeltas.get(type);
+
+        if (deltas.isEmpty() && inflight.isEmpty()) {
+            return;
+        }
+
+        // 보류 중인 증감분을 반영 중 목록으로 이동 (조회 시에는 계속 합산됨)
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long id : deltas.keySet()) {
+            deltas.computeIfPresent(id, (key, delta) -> {
+                inflight.merge(key, delta, Long::sum);
+                pendingKeyCount.decrementAndGet();
+                return null;
+            });
+        }
+        inflight.forEach((id, delta) -> {
+            if (delta != 0) {
+                batchArgs.add(new Object[]{delta, id});
+            }
+        });
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(type.updateSql(), batchArgs));
+            inflight.clear();
+            log.debug("카운터 반영 완료 - {}: {} 건", type, batchArgs.size());
+        } catch (Exception e) {
+            // 반영 실패 시 증감분은 반영 중 목록에 남아 다음 주기에 재시도됨
+            log.error("카운터 반영 실패 - {}: {} 건", type, batchArgs.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("애플리케이션 종료 - 보류 중인 카운터 반영");
+        flushLock.lock();
+        try {
+            for (CounterType type : CounterType.values()) {
+                flushType(type);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.hanachain.hanachainbackend.service.favorite;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanachain.hanachainbackend.config.transaction.TransactionCallbacks;
+import com.hanachain.hanachainbackend.repository.UserFavoriteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 즐겨찾기 인메모리 인덱스
+ *
+ * 캠페인 카드마다 즐겨찾기 여부/즐겨찾기 수를 COUNT 쿼리로 확인하지 않도록
+ * 다음 두 가지를 메모리에 보관합니다.
+ * - 사용자별 즐겨찾기 캠페인 ID 집합 ({@link SortedLongSet}, 최초 조회 시 1회 로딩)
+ * - 캠페인별 즐겨찾기 수 (없는 캠페인만 GROUP BY 쿼리 1회로 일괄 로딩)
+ *
+ * 두 캐시 모두 최대 크기를 넘으면 오래 사용되지 않은 항목부터 제거됩니다.
+ * 즐겨찾기 추가/제거는 트랜잭션 커밋 후 인덱스에 반영되며, 사용자 집합 갱신은 멱등이라
+ * 로딩과 겹쳐도 정확합니다. 캠페인별 수는 커밋 직후 로딩과 겹치면 1만큼 어긋날 수 있으므로
+ * 쓰기 후 만료 시간으로 오차가 남는 시간을 제한합니다.
+ * 사용자 집합도 다른 노드에서의 변경이나 이 인덱스를 거치지 않은 삭제가 남아 있는 시간을 제한하도록
+ * 쓰기 후 만료 시간을 둡니다.
+ */
+@Slf4j
+@Component
+public class FavoriteIndex {
+
+    private final UserFavoriteRepository userFavoriteRepository;
+    private final Cache<Long, SortedLongSet> userFavorites;
+    private final Cache<Long, Long> campaignCounts;
+
+    public FavoriteIndex(UserFavoriteRepository userFavoriteRepository,
+                         @Value("${favorite.index.max-users:50000}") long maxUsers,
+                         @Value("${favorite.index.max-campaigns:20000}") long maxCampaigns,
+                         @Value("${favorite.index.user-ttl-seconds:1800}") long userTtlSeconds,
+                         @Value("${favorite.index.count-ttl-seconds:600}") long countTtlSeconds) {
+        this.userFavoriteRepository = userFavoriteRepository;
+        this.userFavorites = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofSeconds(userTtlSeconds))
+                .build();
+        this.campaignCounts = Caffeine.newBuilder()
+                .maximumSize(maxCampaigns)
+                .expireAfterWrite(Duration.ofSeconds(countTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 사용자의 즐겨찾기 캠페인 ID 집합 (없으면 로딩)
+     */
+    public SortedLongSet favoritesOf(Long userId) {
+        if (userId == null) {
+            return SortedLongSet.empty();
+        }
+        return userFavorites.get(userId, id -> {
+            SortedLongSet loaded = SortedLongSet.of(userFavoriteRepository.findCampaignIdsByUserId(id));
+            log.debug("즐겨찾기 인덱스 로딩 - 사용자 ID: {}, {} 건", id, loaded.size());
+            return loaded;
+        });
+    }
+
+    public boolean isFavorite(Long userId, Long campaignId) {
+        return campaignId != null && favoritesOf(userId).contains(campaignId);
+    }
+
+    /**
+     * 여러 캠페인의 즐겨찾기 수를 한 번에 조회 (캐시에 없는 캠페인만 쿼리 1회)
+     */
+    public Map<Long, Long> countsOf(Collection<Long> campaignIds) {
+        Set<Long> keys = new LinkedHashSet<>(campaignIds);
+        keys.remove(null);
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        return campaignCounts.getAll(keys, missing -> {
+            Map<Long, Long> loaded = new HashMap<>();
+            for (Long campaignId : missing) {
+                loaded.put(campaignId, 0L);
+            }
+            for (Object[] row : userFavoriteRepository.countGroupedByCampaignIds(List.copyOf(missing))) {
+                loaded.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * 즐겨찾기 추가 반영 (트랜잭션 커밋 후)
+     */
+    public void onAdded(Long userId, Long campaignId) {
+        TransactionCallbacks.afterCommit(() -> {
+            userFavorites.asMap().computeIfPresent(userId, (id, favorites) -> favorites.with(campaignId));
+            campaignCounts.asMap().computeIfPresent(campaignId, (id, count) -> count + 1);
+        });
+    }
+
+    /**
+     * 즐겨찾기 제거 반영 (트랜잭션 커밋 후)
+     */
+    public void onRemoved(Long userId, Long campaignId) {
+        TransactionCallbacks.afterCommit(() -> {
+            userFavorites.asMap().computeIfPresent(userId, (id, favorites) -> favorites.without(campaignId));
+            campaignCounts.asMap().computeIfPresent(campaignId, (id, count) -> Math.max(count - 1, 0L));
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.hanachain.hanachainbackend.service.favorite;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 정렬된 long 배열 기반의 불변 집합
+ *
+ * 사용자별 즐겨찾기 캠페인 ID처럼 원소 수가 적고 조회가 대부분인 집합을
+ * 박싱 없이 원소당 8바이트로 보관합니다. 포함 여부는 이진 탐색으로 확인하고,
+ * 추가/삭제는 새 배열을 만들어 반환하므로 여러 스레드가 잠금 없이 읽을 수 있습니다.
+ */
+public final class SortedLongSet {
+
+    private static final SortedLongSet EMPTY = new SortedLongSet(new long[0]);
+
+    private final long[] values;
+
+    private SortedLongSet(long[] values) {
+        this.values = values;
+    }
+
+    public static SortedLongSet empty() {
+        return EMPTY;
+    }
+
+    public static SortedLongSet of(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] sorted = ids.stream()
+                .filter(id -> id != null)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return sorted.length == 0 ? EMPTY : new SortedLongSet(sorted);
+    }
+
+    public boolean contains(long value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /**
+     * 원소를 추가한 집합 반환 (이미 있으면 자기 자신)
+     */
+    public SortedLongSet with(long value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index >= 0) {
+            return this;
+        }
+
+        int insertAt = -index - 1;
+        long[] next = new long[values.length + 1];
+        System.arraycopy(values, 0, next, 0, insertAt);
+        next[insertAt] = value;
+        System.arraycopy(values, insertAt, next, insertAt + 1, values.length - insertAt);
+        return new SortedLongSet(next);
+    }
+
+    /**
+     * 원소를 제거한 집합 반환 (없으면 자기 자신)
+     */
+    public SortedLongSet without(long value) {
+        int index = Arrays.binarySearch(values, value);
+        if (index < 0) {
+            return this;
+        }
+        if (values.length == 1) {
+            return EMPTY;
+        }
+
+        long[] next = new long[values.length - 1];
+        System.arraycopy(values, 0, next, 0, index);
+        System.arraycopy(values, index + 1, next, index, values.length - index - 1);
+        return new SortedLongSet(next);
+    }
+
+    public long[] toArray() {
+        return values.clone();
+    }
+}
@@ -0,0 +1,34 @@
+package com.hanachain.hanachainbackend.service.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 서빙용 파일 메타데이터 (색인 시 한 번만 파일 시스템에서 읽음)
+ */
+@Getter
+@AllArgsConstructor
+public class FileMetadata {
+
+    private final Path path;
+
+    private final long size;
+
+    /** 초 단위로 내린 수정 시각 (HTTP 날짜 정밀도와 맞춤) */
+    private final long lastModified;
+
+    /** 내용 SHA-256 앞 16바이트 16진수 (인코딩 변형은 "-gzip" 등 접미사) */
+    private final String etag;
+
+    private final MediaType mediaType;
+
+    /** Content-Encoding 값 (원본이면 null) */
+    private final String contentEncoding;
+
+    /** 미리 압축된 변형 (Content-Encoding → 메타데이터, 선호 순서 유지) */
+    private final Map<String, FileMetadata> precompressed;
+}
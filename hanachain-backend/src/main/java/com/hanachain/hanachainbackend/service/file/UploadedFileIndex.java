@@ -0,0 +1,175 @@
+package com.hanachain.hanachainbackend.service.file;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 업로드 파일 메타데이터 메모리 색인
+ *
+ * 파일별 크기/수정 시각/내용 해시와 미리 압축된 변형(.br, .gz)을 처음 요청될 때 한 번만 읽어 두고,
+ * 이후 요청은 파일 시스템 stat 없이 색인만으로 조건부 요청과 Range를 판단합니다.
+ * 업로드 파일은 이름이 매번 새로 생성되거나(UUID) 내용 해시이므로 같은 경로의 내용이 바뀌지 않는다고 보고,
+ * 삭제된 파일은 서빙 시 열기에 실패하면 {@link #invalidate(Path)}로 제거합니다.
+ * 없는 파일은 색인하지 않으므로 나중에 업로드되면 바로 조회됩니다.
+ *
+ * 압축 효과가 있는 형식(텍스트, SVG, JSON)인데 .gz 변형이 없으면 색인 시 한 번 생성합니다.
+ */
+@Slf4j
+@Component
+public class UploadedFileIndex {
+
+    static final String BROTLI = "br";
+    static final String GZIP = "gzip";
+
+    private static final Map<String, String> ENCODING_SUFFIXES = Map.of(BROTLI, ".br", GZIP, ".gz");
+
+    private final Cache<Path, FileMetadata> entries;
+    private final long precompressMinSize;
+
+    public UploadedFileIndex(@Value("${file.index.maximum-size:20000}") long maximumSize,
+                             @Value("${file.index.expire-after-access-minutes:60}") long expireAfterAccessMinutes,
+                             @Value("${file.serving.precompress-min-size:1024}") long precompressMinSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .build();
+        this.precompressMinSize = precompressMinSize;
+    }
+
+    /**
+     * 파일 메타데이터 조회 (없거나 일반 파일이 아니면 empty)
+     */
+    public Optional<FileMetadata> lookup(Path path) {
+        return Optional.ofNullable(entries.get(path, this::load));
+    }
+
+    /**
+     * 색인에서 제거 (삭제/교체된 파일)
+     */
+    public void invalidate(Path path) {
+        entries.invalidate(path);
+    }
+
+    private FileMetadata load(Path path) {
+        try {
+            BasicFileAttributes attributes = readAttributes(path);
+            if (attributes == null || !attributes.isRegularFile()) {
+                return null;
+            }
+            MediaType mediaType = MediaTypeFactory.getMediaType(path.getFileName().toString())
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM);
+            String etag = hash(path);
+            long lastModified = truncateToSeconds(attributes.lastModifiedTime().toMillis());
+
+            Map<String, FileMetadata> precompressed = new LinkedHashMap<>();
+            for (String encoding : new String[]{BROTLI, GZIP}) {
+                Path variant = path.resolveSibling(path.getFileName() + ENCODING_SUFFIXES.get(encoding));
+                BasicFileAttributes variantAttributes = readAttributes(variant);
+                if (variantAttributes == null && GZIP.equals(encoding) && isCompressible(mediaType)
+                        && attributes.size() >= precompressMinSize) {
+                    variantAttributes = writeGzip(path, variant);
+                }
+                // 원본보다 오래된 변형은 원본 교체 전에 만들어진 것이므로 사용하지 않음
+                if (variantAttributes != null && variantAttributes.isRegularFile()
+                        && variantAttributes.lastModifiedTime().toMillis() >= attributes.lastModifiedTime().toMillis()
+                        && variantAttributes.size() < attributes.size()) {
+                    precompressed.put(encoding, new FileMetadata(variant, variantAttributes.size(), lastModified,
+                            etag + "-" + encoding, mediaType, encoding, Collections.emptyMap()));
+                }
+            }
+
+            return new FileMetadata(path, attributes.size(), lastModified, etag, mediaType, null,
+                    Collections.unmodifiableMap(precompressed));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) throws IOException {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private static String hash(Path path) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(Files.newInputStream(path), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * gzip 변형 생성 (쓰기 실패는 변형 없이 진행)
+     */
+    private BasicFileAttributes writeGzip(Path source, Path target) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(target.getParent(), ".gzip-", ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                Files.copy(source, out);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            log.debug("gzip 변형 생성 - {}", target);
+            return Files.readAttributes(target, BasicFileAttributes.class);
+        } catch (IOException e) {
+            log.warn("gzip 변형 생성 실패 - {}", source, e);
+            return null;
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // 임시 파일 정리 실패는 무시
+                }
+            }
+        }
+    }
+
+    private static boolean isCompressible(MediaType mediaType) {
+        return "text".equals(mediaType.getType())
+                || mediaType.getSubtype().endsWith("xml")
+                || mediaType.getSubtype().endsWith("json")
+                || "javascript".equals(mediaType.getSubtype());
+    }
+
+    private static long truncateToSeconds(long millis) {
+        return millis - Math.floorMod(millis, 1000L);
+    }
+}
@@ -0,0 +1,225 @@
+package com.hanachain.hanachainbackend.service.file;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 업로드 디렉터리 파일 서빙
+ *
+ * - 메타데이터는 {@link UploadedFileIndex}에서 가져오므로 요청마다 파일 시스템을 stat 하지 않습니다.
+ * - If-None-Match / If-Modified-Since (및 If-Match 계열)는 {@link ServletWebRequest#checkNotModified}로 처리합니다.
+ * - 단일 바이트 Range와 If-Range를 지원하며, 다중 Range나 잘못된 Range 헤더는 무시하고 전체를 보냅니다.
+ * - Accept-Encoding에 맞는 .br/.gz 변형이 있으면 그대로 보냅니다 (Range 요청에는 원본 사용).
+ * - 본문은 Tomcat sendfile(커널 복사)을 우선 사용하고, 지원하지 않거나 작은 파일이면
+ *   FileChannel.transferTo로 힙 버퍼 없이 출력 스트림 채널에 보냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadedFileServer {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /** 업로드 파일은 사용자 콘텐츠이므로 문서로 실행되지 않도록 제한 (SVG 내 스크립트 등) */
+    private static final String CONTENT_SECURITY_POLICY = "default-src 'none'; style-src 'unsafe-inline'; sandbox";
+
+    private final UploadedFileIndex fileIndex;
+
+    @Value("${file.serving.sendfile-threshold:49152}")
+    private long sendfileThreshold;
+
+    /**
+     * root 아래 relativePath 파일을 응답으로 전송
+     */
+    public void serve(Path root, String relativePath, CacheControl cacheControl,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path path = resolve(root, relativePath);
+        Optional<FileMetadata> found = path == null ? Optional.empty() : fileIndex.lookup(path);
+        if (found.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        FileMetadata file = found.get();
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        FileMetadata representation = rangeHeader == null ? selectEncoding(file, request) : file;
+
+        if (!file.getPrecompressed().isEmpty()) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader("Content-Security-Policy", CONTENT_SECURITY_POLICY);
+
+        if (new ServletWebRequest(request, response)
+                .checkNotModified(representation.getEtag(), representation.getLastModified())) {
+            return;
+        }
+
+        response.setContentType(file.getMediaType().toString());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (representation.getContentEncoding() != null) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, representation.getContentEncoding());
+        }
+
+        long size = representation.getSize();
+        long start = 0;
+        long length = size;
+
+        if (rangeHeader != null && ifRangeMatches(request, file)) {
+            HttpRange range = parseSingleRange(rangeHeader);
+            if (range != null) {
+                try {
+                    start = range.getRangeStart(size);
+                    length = range.getRangeEnd(size) - start + 1;
+                } catch (IllegalArgumentException e) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + start + "-" + (start + length - 1) + "/" + size);
+            }
+        }
+
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (length >= sendfileThreshold && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 서블릿이 반환한 뒤 커넥터가 커널 sendfile로 전송
+            request.setAttribute(SENDFILE_FILENAME, representation.getPath().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            return;
+        }
+        transfer(representation, start, length, response);
+    }
+
+    private void transfer(FileMetadata file, long start, long length, HttpServletResponse response) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file.getPath(), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            // 색인 이후 삭제된 파일
+            fileIndex.invalidate(file.getPath());
+            response.reset();
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        try (channel) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * Accept-Encoding에 맞는 미리 압축된 변형 선택 (br 우선, q=0은 거부로 처리)
+     */
+    private static FileMetadata selectEncoding(FileMetadata file, HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null || file.getPrecompressed().isEmpty()) {
+            return file;
+        }
+        for (FileMetadata variant : file.getPrecompressed().values()) {
+            if (accepts(acceptEncoding, variant.getContentEncoding())) {
+                return variant;
+            }
+        }
+        return file;
+    }
+
+    private static boolean accepts(String acceptEncoding, String encoding) {
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!parts[0].trim().equalsIgnoreCase(encoding)) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * If-Range가 없거나 현재 ETag/수정 시각과 일치하면 Range 적용
+     */
+    private static boolean ifRangeMatches(HttpServletRequest request, FileMetadata file) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals("\"" + file.getEtag() + "\"");
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) == file.getLastModified();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static HttpRange parseSingleRange(String rangeHeader) {
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * root 밖을 가리키는 경로와 숨김 파일(임시 파일) 요청은 거부
+     */
+    private static Path resolve(Path root, String relativePath) {
+        if (relativePath == null || relativePath.isBlank()) {
+            return null;
+        }
+        Path path = root.resolve(relativePath).normalize();
+        if (!path.startsWith(root) || path.equals(root) || path.getFileName().toString().startsWith(".")) {
+            return null;
+        }
+        return path;
+    }
+}
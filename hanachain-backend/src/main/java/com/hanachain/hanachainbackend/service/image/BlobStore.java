@@ -0,0 +1,33 @@
+package com.hanachain.hanachainbackend.service.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 이미지 원본과 변환본을 보관하는 블롭 저장소
+ *
+ * 키는 "ab/abcdef...jpg" 형태의 상대 경로이며 내용 해시에서 파생되므로
+ * 같은 키에 다른 내용이 쓰이지 않습니다. 로컬 디스크 외에 오브젝트 스토리지 구현으로 교체할 수 있습니다.
+ */
+public interface BlobStore {
+
+    /**
+     * 키에 해당하는 블롭 존재 여부
+     */
+    boolean exists(String key) throws IOException;
+
+    /**
+     * 블롭 저장 (쓰기 도중의 부분 파일이 조회되지 않도록 원자적으로 교체)
+     */
+    void put(String key, byte[] content) throws IOException;
+
+    /**
+     * 블롭 읽기 스트림 (호출자가 닫아야 함)
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 블롭 삭제 (없으면 무시)
+     */
+    void delete(String key) throws IOException;
+}
@@ -0,0 +1,179 @@
+package com.hanachain.hanachainbackend.service.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Locale;
+
+/**
+ * ImageIO 기반 디코딩/리사이즈/인코딩 도우미
+ *
+ * JDK 기본 ImageIO는 JPEG/PNG/GIF/BMP만 읽고 쓰며, WebP는 클래스패스에 WebP ImageIO 플러그인이 있을 때만 사용할 수 있습니다.
+ */
+final class ImageCodec {
+
+    static final String JPEG = "jpg";
+    static final String WEBP = "webp";
+
+    private ImageCodec() {
+    }
+
+    /**
+     * 픽셀을 디코딩하지 않고 헤더만 읽은 이미지 형식과 크기
+     *
+     * @param extension 감지된 형식의 저장 확장자 (JPEG/PNG/GIF/WebP가 아니면 null)
+     */
+    record Header(String extension, int width, int height) {
+
+        long pixels() {
+            return (long) width * height;
+        }
+    }
+
+    /**
+     * 내용에 맞는 ImageReader로 헤더만 읽기 (읽을 수 있는 형식이 아니면 null)
+     */
+    static Header probe(byte[] content) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                return new Header(extensionOfFormat(reader.getFormatName()), reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 이미지 디코딩 (지원하지 않는 형식이면 null, 크기 확인은 호출자가 probe로 먼저 수행)
+     */
+    static BufferedImage read(byte[] content) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * 가로 폭 기준 비율 유지 축소
+     */
+    static BufferedImage scaleToWidth(BufferedImage source, int width) {
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+        return scale(source, width, height);
+    }
+
+    /**
+     * 긴 변이 maxDimension을 넘지 않도록 비율 유지 축소 (이미 작으면 RGB 변환만 수행)
+     */
+    static BufferedImage fitWithin(BufferedImage source, int maxDimension) {
+        int longest = Math.max(source.getWidth(), source.getHeight());
+        if (longest <= maxDimension) {
+            return scale(source, source.getWidth(), source.getHeight());
+        }
+        float ratio = (float) maxDimension / longest;
+        return scale(source,
+                Math.max(1, Math.round(source.getWidth() * ratio)),
+                Math.max(1, Math.round(source.getHeight() * ratio)));
+    }
+
+    /**
+     * 손실 압축 인코딩 (해당 형식의 ImageWriter가 없으면 null)
+     */
+    static byte[] encode(BufferedImage image, String format, float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersBySuffix(format);
+        if (!writers.hasNext()) {
+            return null;
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionType() == null && param.getCompressionTypes().length > 0) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 해당 형식으로 인코딩 가능한지 여부
+     */
+    static boolean canWrite(String format) {
+        return ImageIO.getImageWritersBySuffix(format).hasNext();
+    }
+
+    /**
+     * 허용된 MIME 타입(JPEG/PNG/GIF/WebP)에 대응하는 저장 확장자 (그 밖의 형식이면 null)
+     */
+    static String extensionOf(String contentType) {
+        String subtype = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        if (!subtype.startsWith("image/")) {
+            return null;
+        }
+        subtype = subtype.substring("image/".length());
+        int semicolon = subtype.indexOf(';');
+        if (semicolon >= 0) {
+            subtype = subtype.substring(0, semicolon);
+        }
+        return switch (subtype.trim()) {
+            case "jpeg", "jpg", "pjpeg" -> JPEG;
+            case "png" -> "png";
+            case "gif" -> "gif";
+            case "webp" -> WEBP;
+            default -> null;
+        };
+    }
+
+    /**
+     * ImageReader 형식 이름에 대응하는 저장 확장자 (허용 목록 밖의 형식이면 null)
+     */
+    private static String extensionOfFormat(String formatName) {
+        return switch (formatName == null ? "" : formatName.toLowerCase(Locale.ROOT)) {
+            case "jpeg", "jpg" -> JPEG;
+            case "png" -> "png";
+            case "gif" -> "gif";
+            case "webp" -> WEBP;
+            default -> null;
+        };
+    }
+
+    /**
+     * 투명 영역을 흰 배경으로 채운 RGB 이미지로 다시 그리기 (JPEG는 알파 채널을 지원하지 않음)
+     */
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
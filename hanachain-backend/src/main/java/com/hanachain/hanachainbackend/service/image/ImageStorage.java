@@ -0,0 +1,151 @@
+package com.hanachain.hanachainbackend.service.image;
+
+import com.hanachain.hanachainbackend.exception.ValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 내용 주소 방식 이미지 저장소
+ *
+ * 원본을 SHA-256 해시로 키를 만들어 블롭 저장소에 한 번만 저장하고, DB에는 짧은 URL만 남깁니다.
+ * 같은 내용의 키는 항상 같은 바이트를 가리키므로 서빙 시 파일명을 강한 ETag로 쓰고 장기 캐시할 수 있습니다.
+ * 키는 해시 앞 두 글자로 디렉터리를 나눠 한 디렉터리에 파일이 몰리지 않게 합니다.
+ *
+ * 업로드는 JPEG/PNG/GIF/WebP만 받고, 그 밖의 형식은 {@link ValidationException}으로 거부합니다.
+ * 형식과 크기는 픽셀을 디코딩하기 전에 ImageReader로 헤더만 읽어 확인하며, 저장 확장자도 클라이언트가 보낸
+ * Content-Type이 아니라 감지된 형식을 따릅니다. 픽셀 수가 image.upload.max-pixels를 넘는 이미지는
+ * 작은 파일로 거대한 버퍼를 할당시키는 압축 폭탄일 수 있으므로 디코딩 없이 거부합니다.
+ *
+ * 같은 이미지를 여러 캠페인/사용자가 공유할 수 있으므로 참조가 끊겨도 원본을 즉시 삭제하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageStorage {
+
+    /** 공개 URL 경로 (context path 포함) */
+    public static final String URL_PATH = "/api/images/";
+
+    private final BlobStore blobStore;
+    private final ImageVariantGenerator variantGenerator;
+
+    @Value("${app.base-url:http://localhost:8080}")
+    private String baseUrl;
+
+    @Value("${image.variants.quality:0.82}")
+    private float quality;
+
+    @Value("${image.upload.max-pixels:40000000}")
+    private long maxPixels;
+
+    /**
+     * 원본 그대로 저장하고 변환본 생성을 예약
+     * 헤더만 확인하므로 요청 스레드는 디코딩 비용을 치르지 않습니다 (디코딩은 변환본 생성 시 비동기로 수행).
+     */
+    public StoredImage store(byte[] content, String contentType) throws IOException {
+        ImageCodec.Header header = inspect(content, contentType);
+        StoredImage stored = put(content, header.extension());
+        variantGenerator.generateVariants(stored.getHash(), stored.getKey());
+        return stored;
+    }
+
+    /**
+     * 긴 변이 maxDimension 이하인 JPEG로 정규화해 저장 (프로필 이미지처럼 표시 크기가 고정된 경우)
+     */
+    public StoredImage storeNormalized(byte[] content, String contentType, int maxDimension) throws IOException {
+        inspect(content, contentType);
+        BufferedImage decoded = decode(content, contentType);
+        byte[] normalized = ImageCodec.encode(ImageCodec.fitWithin(decoded, maxDimension), ImageCodec.JPEG, quality);
+        return put(normalized, ImageCodec.JPEG);
+    }
+
+    /**
+     * 이 저장소가 발급한 URL인지 여부
+     */
+    public boolean isStoredImageUrl(String url) {
+        return url != null && url.startsWith(baseUrl + URL_PATH);
+    }
+
+    /**
+     * 해시 기반 키 (ab/&lt;hash&gt;&lt;suffix&gt;.&lt;ext&gt;)
+     */
+    static String keyOf(String hash, String suffix, String extension) {
+        return hash.substring(0, 2) + "/" + hash + suffix + "." + extension;
+    }
+
+    /**
+     * 선언된 형식과 감지된 형식이 모두 허용 목록에 있고 픽셀 수가 상한 이하인지 헤더만 읽어 확인
+     * (SVG/HTML처럼 스크립트를 담을 수 있는 형식은 거부, WebP는 WebP ImageIO 플러그인이 있을 때만 통과)
+     */
+    private ImageCodec.Header inspect(byte[] content, String contentType) {
+        if (ImageCodec.extensionOf(contentType) == null) {
+            throw unsupported();
+        }
+        ImageCodec.Header header;
+        try {
+            header = ImageCodec.probe(content);
+        } catch (IOException | RuntimeException e) {
+            log.debug("이미지 헤더 읽기 실패 - contentType: {}", contentType, e);
+            header = null;
+        }
+        if (header == null) {
+            throw new ValidationException("이미지 파일을 읽을 수 없습니다: " + contentType);
+        }
+        if (header.extension() == null) {
+            throw unsupported();
+        }
+        if (header.pixels() > maxPixels) {
+            log.warn("픽셀 수 상한 초과 이미지 거부 - {}x{}, contentType: {}", header.width(), header.height(), contentType);
+            throw new ValidationException("이미지 해상도가 너무 큽니다. 최대 " + maxPixels + "픽셀까지 업로드할 수 있습니다.");
+        }
+        return header;
+    }
+
+    private static ValidationException unsupported() {
+        return new ValidationException("지원하지 않는 이미지 형식입니다. JPEG, PNG, GIF, WebP만 업로드할 수 있습니다.");
+    }
+
+    /**
+     * 픽셀 디코딩 (inspect로 형식과 크기를 확인한 뒤에만 호출)
+     */
+    private static BufferedImage decode(byte[] content, String contentType) {
+        BufferedImage decoded;
+        try {
+            decoded = ImageCodec.read(content);
+        } catch (IOException | RuntimeException e) {
+            log.debug("이미지 디코딩 실패 - contentType: {}", contentType, e);
+            decoded = null;
+        }
+        if (decoded == null) {
+            throw new ValidationException("이미지 파일을 읽을 수 없습니다: " + contentType);
+        }
+        return decoded;
+    }
+
+    private StoredImage put(byte[] content, String extension) throws IOException {
+        String hash = sha256(content);
+        String key = keyOf(hash, "", extension);
+        if (blobStore.exists(key)) {
+            log.debug("이미 저장된 이미지 재사용 - key: {}", key);
+        } else {
+            blobStore.put(key, content);
+        }
+        return new StoredImage(hash, key, baseUrl + URL_PATH + key, content.length);
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.hanachain.hanachainbackend.service.image;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리사이즈 변환본 생성기
+ *
+ * 업로드 요청 스레드가 디코딩/리사이즈 비용을 치르지 않도록 imageTaskExecutor에서 비동기로 실행합니다.
+ * 변환본 키는 원본 해시에 폭을 붙인 &lt;hash&gt;_w&lt;width&gt;.&lt;ext&gt; 이므로 클라이언트는 원본 URL에서
+ * 변환본 URL을 유도할 수 있고, 아직 생성되지 않았으면 원본으로 대체하면 됩니다.
+ * 원본보다 큰 폭으로는 확대하지 않으며, 이미 있는 변환본은 다시 만들지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantGenerator {
+
+    private final BlobStore blobStore;
+
+    @Value("${image.variants.widths:320,640,1280}")
+    private int[] widths;
+
+    @Value("${image.variants.quality:0.82}")
+    private float quality;
+
+    /**
+     * JPEG는 항상, WebP는 ImageIO 플러그인이 등록된 경우에만 생성
+     */
+    private final List<String> formats = supportedFormats();
+
+    @Async("imageTaskExecutor")
+    public void generateVariants(String hash, String originalKey) {
+        try {
+            BufferedImage original;
+            try (InputStream in = blobStore.open(originalKey)) {
+                original = ImageIO.read(in);
+            }
+            if (original == null) {
+                log.debug("변환본을 만들 수 없는 이미지 형식 - key: {}", originalKey);
+                return;
+            }
+
+            int created = 0;
+            for (int width : widths) {
+                if (width >= original.getWidth()) {
+                    continue;
+                }
+                BufferedImage scaled = null;
+                for (String format : formats) {
+                    String key = ImageStorage.keyOf(hash, "_w" + width, format);
+                    if (blobStore.exists(key)) {
+                        continue;
+                    }
+                    if (scaled == null) {
+                        scaled = ImageCodec.scaleToWidth(original, width);
+                    }
+                    byte[] encoded = ImageCodec.encode(scaled, format, quality);
+                    if (encoded != null) {
+                        blobStore.put(key, encoded);
+                        created++;
+                    }
+                }
+            }
+            log.debug("이미지 변환본 생성 완료 - key: {}, 생성 수: {}", originalKey, created);
+        } catch (IOException | RuntimeException e) {
+            // 변환본은 부가 자원이므로 실패해도 원본 서빙에는 영향 없음
+            log.warn("이미지 변환본 생성 실패 - key: {}", originalKey, e);
+        }
+    }
+
+    private static List<String> supportedFormats() {
+        List<String> formats = new ArrayList<>();
+        formats.add(ImageCodec.JPEG);
+        if (ImageCodec.canWrite(ImageCodec.WEBP)) {
+            formats.add(ImageCodec.WEBP);
+        }
+        return formats;
+    }
+}
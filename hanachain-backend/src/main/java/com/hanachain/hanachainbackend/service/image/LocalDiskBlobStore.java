@@ -0,0 +1,82 @@
+package com.hanachain.hanachainbackend.service.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 디스크 블롭 저장소
+ *
+ * app.upload.images 디렉터리 아래에 키 그대로 저장하며, FileController가 같은 디렉터리를 직접 서빙합니다.
+ * 임시 파일에 쓴 뒤 같은 디렉터리 안에서 이동하므로 동시 업로드나 조회 중에 부분 파일이 노출되지 않습니다.
+ */
+@Slf4j
+@Component
+public class LocalDiskBlobStore implements BlobStore {
+
+    private final Path root;
+
+    public LocalDiskBlobStore(@Value("${app.upload.images:uploads/images}") String rootPath) {
+        this.root = Paths.get(rootPath).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 저장 루트 디렉터리 (파일 서빙 위치로 사용)
+     */
+    public Path getRoot() {
+        return root;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.exists(resolve(key));
+    }
+
+    @Override
+    public void put(String key, byte[] content) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            Files.write(temp, content);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        log.debug("블롭 저장 완료 - key: {}, size: {}", key, content.length);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    /**
+     * 키를 루트 아래 경로로 변환 (루트 밖을 가리키는 키는 거부)
+     */
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("잘못된 블롭 키입니다: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,24 @@
+package com.hanachain.hanachainbackend.service.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 내용 주소 방식으로 저장된 이미지 원본
+ */
+@Getter
+@AllArgsConstructor
+public class StoredImage {
+
+    /** SHA-256 내용 해시 (16진수) */
+    private final String hash;
+
+    /** 블롭 저장소 키 (ab/&lt;hash&gt;.&lt;ext&gt;) */
+    private final String key;
+
+    /** 공개 URL */
+    private final String url;
+
+    /** 저장된 바이트 수 */
+    private final long size;
+}
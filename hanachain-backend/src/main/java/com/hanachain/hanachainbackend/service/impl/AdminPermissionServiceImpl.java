@@ -2,24 +2,34 @@ package com.hanachain.hanachainbackend.service.impl;
 
 import com.hanachain.hanachainbackend.dto.admin.PermissionDelegationRequest;
 import com.hanachain.hanachainbackend.dto.admin.PermissionDelegationResponse;
+import com.hanachain.hanachainbackend.dto.admin.PermissionDelegationSearchCondition;
 import com.hanachain.hanachainbackend.entity.Organization;
 import com.hanachain.hanachainbackend.entity.OrganizationUser;
+import com.hanachain.hanachainbackend.entity.PermissionDelegation;
 import com.hanachain.hanachainbackend.entity.User;
 import com.hanachain.hanachainbackend.entity.enums.OrganizationRole;
 import com.hanachain.hanachainbackend.repository.OrganizationRepository;
 import com.hanachain.hanachainbackend.repository.OrganizationUserRepository;
+import com.hanachain.hanachainbackend.repository.PermissionDelegationRepository;
+import com.hanachain.hanachainbackend.repository.PermissionDelegationSpecifications;
 import com.hanachain.hanachainbackend.repository.UserRepository;
+import com.hanachain.hanachainbackend.security.OrganizationMembershipCache;
+import com.hanachain.hanachainbackend.security.UserSnapshotCache;
 import com.hanachain.hanachainbackend.security.exceptions.InsufficientPermissionException;
 import com.hanachain.hanachainbackend.security.exceptions.OrganizationAccessDeniedException;
 import com.hanachain.hanachainbackend.security.exceptions.RoleElevationDeniedException;
 import com.hanachain.hanachainbackend.service.AdminPermissionService;
+import com.hanachain.hanachainbackend.service.permission.PermissionDelegationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +45,12 @@ public class AdminPermissionServiceImpl implements AdminPermissionService {
     private final UserRepository userRepository;
     private final OrganizationRepository organizationRepository;
     private final OrganizationUserRepository organizationUserRepository;
+    private final OrganizationMembershipCache organizationMembershipCache;
+    private final UserSnapshotCache userSnapshotCache;
+    private final PermissionDelegationRegistry permissionDelegationRegistry;
+    private final PermissionDelegationRepository permissionDelegationRepository;
+
+    private static final int MAX_DELEGATION_PAGE_SIZE = 100;
 
     @Override
     public PermissionDelegationResponse delegateSystemRole(PermissionDelegationRequest request, User adminUser) {
@@ -57,12 +73,18 @@ public class AdminPermissionServiceImpl implements AdminPermissionService {
         User.Role previousRole = targetUser.getRole();
         targetUser.setRole(request.getSystemRole());
         userRepository.save(targetUser);
+        PermissionDelegation delegation = permissionDelegationRegistry.recordSystemRole(
+                targetUser, request.getSystemRole(), adminUser.getId(), adminUser.getName(),
+                request.getReason(), request.getTemporary(), request.getExpiresAt());
+        // 이전 역할이 담긴 토큰 무효화
+        userSnapshotCache.revokeTokens(targetUser.getId());
 
         log.info("System role updated: User {} role changed from {} to {} by admin {}",
                 targetUser.getId(), previousRole, request.getSystemRole(), adminUser.getId());
 
         // 응답 생성
         return PermissionDelegationResponse.builder()
+                .id(delegation != null ? delegation.getId() : null)
                 .targetUserId(targetUser.getId())
                 .targetUserName(targetUser.getName())
                 .targetUserEmail(targetUser.getEmail())
@@ -71,7 +93,7 @@ public class AdminPermissionServiceImpl implements AdminPermissionService {
                 .expiresAt(request.getExpiresAt())
                 .temporary(request.getTemporary())
                 .delegatedBy(adminUser.getName())
-                .delegatedAt(LocalDateTime.now())
+                .delegatedAt(delegation != null ? delegation.getGrantedAt() : LocalDateTime.now())
                 .build();
     }
     
@@ -97,10 +119,14 @@ public class AdminPermissionServiceImpl implements AdminPermissionService {
                 .findByUserIdAndOrganizationId(targetUser.getId(), organization.getId());
         
         OrganizationUser organizationUser;
+        long memberDelta;
+        long adminDelta = request.getOrganizationRole().isAdmin() ? 1 : 0;
         if (existingRelation.isPresent()) {
             organizationUser = existingRelation.get();
             OrganizationRole previousRole = organizationUser.getRole();
             organizationUser.setRole(request.getOrganizationRole());
+            memberDelta = 0;
+            adminDelta -= previousRole.isAdmin() ? 1 : 0;
             log.info("Organization role updated: User {} role changed from {} to {} in organization {} by admin {}", 
                     targetUser.getId(), previousRole, request.getOrganizationRole(), organization.getId(), adminUser.getId());
         } else {
@@ -109,14 +135,23 @@ public class AdminPermissionServiceImpl implements AdminPermissionService {
                     .organization(organization)
                     .role(request.getOrganizationRole())
                     .build();
+            memberDelta = 1;
             log.info("New organization membership created: User {} assigned role {} in organization {} by admin {}", 
                     targetUser.getId(), request.getOrganizationRole(), organization.getId(), adminUser.getId());
         }
         
         organizationUserRepository.save(organizationUser);
+        if (memberDelta != 0 || adminDelta != 0) {
+            organizationRepository.adjustMemberCounts(organization.getId(), memberDelta, adminDelta);
+        }
+        PermissionDelegation delegation = permissionDelegationRegistry.recordOrganizationRole(
+                targetUser, organization, request.getOrganizationRole(), adminUser.getId(), adminUser.getName(),
+                request.getReason(), request.getTemporary(), request.getExpiresAt());
+        organizationMembershipCache.evictUser(targetUser.getId());
 
         // 응답 생성
         return PermissionDelegationResponse.builder()
+                .id(delegation.getId())
                 .targetUserId(targetUser.getId())
                 .targetUserName(targetUser.getName())
                 .targetUserEmail(targetUser.getEmail())
@@ -127,7 +162,7 @@ public class AdminPermissionServiceImpl implements AdminPermissionService {
                 .expiresAt(request.getExpiresAt())
                 .temporary(request.getTemporary())
                 .delegatedBy(adminUser.getName())
-                .delegatedAt(LocalDateTime.now())
+                .delegatedAt(delegation.getGrantedAt())
                 .build();
     }
 
@@ -146,6 +181,9 @@ public class AdminPermissionServiceImpl implements AdminPermissionService {
         User.Role previousRole = targetUser.getRole();
         targetUser.setRole(User.Role.USER); // 기본 사용자 역할로 재설정
         userRepository.save(targetUser);
+        permissionDelegationRegistry.revokeSystemRole(targetUser.getId(), adminUser.getId());
+        // 이전 역할이 담긴 토큰 무효화
+        userSnapshotCache.revokeTokens(targetUser.getId());
 
         log.info("System role revoked: User {} role changed from {} to USER by admin {}",
                 targetUser.getId(), previousRole, adminUser.getId());
@@ -167,6 +205,9 @@ public class AdminPermissionServiceImpl implements AdminPermissionService {
         
         OrganizationRole previousRole = organizationUser.getRole();
         organizationUserRepository.delete(organizationUser);
+        organizationRepository.adjustMemberCounts(organizationId, -1, previousRole.isAdmin() ? -1 : 0);
+        permissionDelegationRegistry.revokeOrganizationRole(targetUserId, organizationId, adminUser.getId());
+        organizationMembershipCache.evictUser(targetUserId);
         
         log.info("Organization membership revoked: User {} with role {} removed from organization {} by admin {}", 
                 targetUserId, previousRole, organizationId, adminUser.getId());
@@ -175,71 +216,27 @@ public class AdminPermissionServiceImpl implements AdminPermissionService {
     @Override
     @Transactional(readOnly = true)
     public List<PermissionDelegationResponse> getUserDelegatedPermissions(Long userId) {
-        // 이 구현에서는 현재 사용자 역할과 조직 멤버십을 반환합니다
-        // 더 복잡한 시스템에서는 위임 기록을 별도 테이블에 저장할 수 있습니다
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-        List<PermissionDelegationResponse> permissions = new ArrayList<>();
-
-        // 기본 USER가 아닌 경우 시스템 역할 추가
-        if (user.getRole() != User.Role.USER) {
-            permissions.add(PermissionDelegationResponse.builder()
-                    .targetUserId(user.getId())
-                    .targetUserName(user.getName())
-                    .targetUserEmail(user.getEmail())
-                    .systemRole(user.getRole())
-                    .build());
-        }
-
-        // 조직 역할 추가
-        List<OrganizationUser> organizationMemberships = organizationUserRepository.findByUserId(userId);
-        for (OrganizationUser membership : organizationMemberships) {
-            permissions.add(PermissionDelegationResponse.builder()
-                    .targetUserId(user.getId())
-                    .targetUserName(user.getName())
-                    .targetUserEmail(user.getEmail())
-                    .organizationRole(membership.getRole())
-                    .organizationId(membership.getOrganization().getId())
-                    .organizationName(membership.getOrganization().getName())
-                    .build());
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
         }
 
-        return permissions;
+        return permissionDelegationRepository.findActiveByGranteeId(userId)
+                .stream()
+                .map(this::toResponse)
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<PermissionDelegationResponse> getActiveDelegations() {
-        // 상승된 역할 및 조직 멤버십을 가진 모든 사용자 반환
-        List<PermissionDelegationResponse> delegations = new ArrayList<>();
-
-        // 상승된 시스템 역할을 가진 사용자들
-        List<User> elevatedUsers = userRepository.findByRoleNot(User.Role.USER);
-        for (User user : elevatedUsers) {
-            delegations.add(PermissionDelegationResponse.builder()
-                    .targetUserId(user.getId())
-                    .targetUserName(user.getName())
-                    .targetUserEmail(user.getEmail())
-                    .systemRole(user.getRole())
-                    .build());
-        }
-
-        // 조직 역할을 가진 사용자들
-        List<OrganizationUser> allMemberships = organizationUserRepository.findAll();
-        for (OrganizationUser membership : allMemberships) {
-            delegations.add(PermissionDelegationResponse.builder()
-                    .targetUserId(membership.getUser().getId())
-                    .targetUserName(membership.getUser().getName())
-                    .targetUserEmail(membership.getUser().getEmail())
-                    .organizationRole(membership.getRole())
-                    .organizationId(membership.getOrganization().getId())
-                    .organizationName(membership.getOrganization().getName())
-                    .build());
-        }
-
-        return delegations;
+    public Page<PermissionDelegationResponse> getActiveDelegations(PermissionDelegationSearchCondition condition,
+                                                                   Pageable pageable) {
+        // 위임 레지스트리만 조회 (정렬 미지정 시 최신 위임순, 페이지 크기 상한 적용)
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : Sort.by(Sort.Direction.DESC, "grantedAt");
+        Pageable page = PageRequest.of(pageable.getPageNumber(),
+                Math.min(pageable.getPageSize(), MAX_DELEGATION_PAGE_SIZE), sort);
+
+        return permissionDelegationRepository.findAll(PermissionDelegationSpecifications.searchActive(condition), page)
+                .map(this::toResponse);
     }
     
     @Override
@@ -297,6 +294,25 @@ public class AdminPermissionServiceImpl implements AdminPermissionService {
         log.info("Processing expired delegations - not implemented yet");
     }
 
+    private PermissionDelegationResponse toResponse(PermissionDelegation delegation) {
+        User grantee = delegation.getGrantee();
+        return PermissionDelegationResponse.builder()
+                .id(delegation.getId())
+                .targetUserId(grantee.getId())
+                .targetUserName(grantee.getName())
+                .targetUserEmail(grantee.getEmail())
+                .systemRole(delegation.getSystemRole())
+                .organizationRole(delegation.getOrganizationRole())
+                .organizationId(delegation.getOrganizationId())
+                .organizationName(delegation.getOrganizationName())
+                .reason(delegation.getReason())
+                .expiresAt(delegation.getExpiresAt())
+                .temporary(delegation.getTemporary())
+                .delegatedBy(delegation.getGrantedByName())
+                .delegatedAt(delegation.getGrantedAt())
+                .build();
+    }
+
     private void validateSystemRoleElevation(User adminUser, User targetUser, User.Role newRole) {
         // 자신의 권한을 더 높은 역할로 상승시키는 것을 방지
         if (adminUser.getId().equals(targetUser.getId()) &&
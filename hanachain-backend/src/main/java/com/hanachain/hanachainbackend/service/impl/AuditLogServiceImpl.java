@@ -0,0 +1,49 @@
+package com.hanachain.hanachainbackend.service.impl;
+
+import com.hanachain.hanachainbackend.dto.audit.AuditLogResponse;
+import com.hanachain.hanachainbackend.dto.audit.AuditLogSearchCondition;
+import com.hanachain.hanachainbackend.exception.ValidationException;
+import com.hanachain.hanachainbackend.repository.AuditLogRepository;
+import com.hanachain.hanachainbackend.repository.AuditLogSpecifications;
+import com.hanachain.hanachainbackend.service.AuditLogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AuditLogServiceImpl implements AuditLogService {
+
+    private static final Duration DEFAULT_RANGE = Duration.ofDays(7);
+    private static final Duration MAX_RANGE = Duration.ofDays(93);
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final AuditLogRepository auditLogRepository;
+
+    @Override
+    public Page<AuditLogResponse> searchAuditLogs(AuditLogSearchCondition condition, Pageable pageable) {
+        LocalDateTime to = condition.getTo() != null ? condition.getTo() : LocalDateTime.now();
+        LocalDateTime from = condition.getFrom() != null ? condition.getFrom() : to.minus(DEFAULT_RANGE);
+
+        if (!from.isBefore(to)) {
+            throw new ValidationException("조회 시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+        if (Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+            throw new ValidationException("감사 로그는 한 번에 최대 " + MAX_RANGE.toDays() + "일까지 조회할 수 있습니다.");
+        }
+
+        // 정렬은 timestamp 내림차순으로 고정 (인덱스 순서와 일치)
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE),
+                Sort.by(Sort.Direction.DESC, "timestamp"));
+        return auditLogRepository.findAll(AuditLogSpecifications.search(from, to, condition), page)
+                .map(AuditLogResponse::fromEntity);
+    }
+}
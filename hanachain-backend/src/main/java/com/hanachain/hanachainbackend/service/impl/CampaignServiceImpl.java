@@ -10,37 +10,35 @@ import com.hanachain.hanachainbackend.entity.BlockchainStatus;
 import com.hanachain.hanachainbackend.entity.Campaign;
 import com.hanachain.hanachainbackend.entity.Organization;
 import com.hanachain.hanachainbackend.entity.User;
-import com.hanachain.hanachainbackend.repository.CampaignManagerRepository;
 import com.hanachain.hanachainbackend.repository.CampaignRepository;
-import com.hanachain.hanachainbackend.repository.DonationRepository;
 import com.hanachain.hanachainbackend.repository.OrganizationRepository;
 import com.hanachain.hanachainbackend.service.CampaignService;
+import com.hanachain.hanachainbackend.service.CampaignStatsService;
 import com.hanachain.hanachainbackend.service.UserService;
 import com.hanachain.hanachainbackend.service.blockchain.BlockchainService;
+import com.hanachain.hanachainbackend.service.image.ImageStorage;
+import com.hanachain.hanachainbackend.service.image.StoredImage;
+import com.hanachain.hanachainbackend.service.scheduling.JobShard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -49,11 +47,12 @@ import java.util.stream.Collectors;
 public class CampaignServiceImpl implements CampaignService {
     
     private final CampaignRepository campaignRepository;
-    private final DonationRepository donationRepository;
-    private final CampaignManagerRepository campaignManagerRepository;
     private final UserService userService;
     private final BlockchainService blockchainService;
     private final OrganizationRepository organizationRepository;
+    private final CampaignStatsService campaignStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final ImageStorage imageStorage;
     
     @Override
     public Campaign createCampaign(Long userId, CampaignCreateRequest request) {
@@ -261,26 +260,7 @@ public class CampaignServiceImpl implements CampaignService {
     }
     
     @Override
-    @Scheduled(fixedRate = 3600000) // 1시간마다 실행
-    public void completeExpiredCampaigns() {
-        try {
-            List<Campaign> expiredCampaigns = campaignRepository.findExpiredCampaigns(LocalDateTime.now());
-            
-            for (Campaign campaign : expiredCampaigns) {
-                campaign.setStatus(Campaign.CampaignStatus.COMPLETED);
-                campaignRepository.save(campaign);
-                log.info("Campaign {} marked as completed due to expiration", campaign.getId());
-            }
-            
-            if (!expiredCampaigns.isEmpty()) {
-                log.info("Completed {} expired campaigns", expiredCampaigns.size());
-            }
-        } catch (Exception e) {
-            log.error("Failed to complete expired campaigns", e);
-        }
-    }
-    
-    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CampaignImageUploadResponse uploadCampaignImage(MultipartFile image) {
         log.info("캠페인 이미지 업로드 시작 - 파일명: {}, 크기: {}", image.getOriginalFilename(), image.getSize());
         
@@ -288,18 +268,12 @@ public class CampaignServiceImpl implements CampaignService {
             // 파일 검증
             validateImageFile(image);
             
-            // Base64 인코딩
-            byte[] imageBytes = image.getBytes();
-            String base64EncodedImage = Base64.getEncoder().encodeToString(imageBytes);
+            // 내용 주소 방식으로 원본 저장 (변환본은 비동기 생성), 캠페인 행에는 URL만 저장
+            StoredImage stored = imageStorage.store(image.getBytes(), image.getContentType());
             
-            // 데이터 URL 형식으로 생성 (data:image/png;base64,...)
-            String contentType = image.getContentType();
-            String dataUrl = "data:" + contentType + ";base64," + base64EncodedImage;
+            log.info("캠페인 이미지 저장 완료 - 파일명: {}, 이미지 URL: {}", image.getOriginalFilename(), stored.getUrl());
             
-            log.info("캠페인 이미지 Base64 인코딩 완료 - 파일명: {}, 인코딩 크기: {} 문자", 
-                    image.getOriginalFilename(), dataUrl.length());
-            
-            return CampaignImageUploadResponse.success(dataUrl, image.getOriginalFilename(), image.getSize());
+            return CampaignImageUploadResponse.success(stored.getUrl(), image.getOriginalFilename(), image.getSize());
             
         } catch (IOException e) {
             log.error("캠페인 이미지 업로드 실패 - 파일명: {}", image.getOriginalFilename(), e);
@@ -569,29 +543,7 @@ public class CampaignServiceImpl implements CampaignService {
             campaign.updateBlockchainStatus(BlockchainStatus.BLOCKCHAIN_PENDING, null);
             campaignRepository.save(campaign);
             
-            // 캠페인 기간 계산 (초 단위)
-            BigInteger duration = BigInteger.valueOf(
-                ChronoUnit.SECONDS.between(campaign.getStartDate(), campaign.getEndDate())
-            );
-            
-            // 목표 금액 (USDC는 6 decimals이므로 변환)
-            BigInteger goalAmount = campaign.getTargetAmount()
-                .multiply(new BigDecimal("1000000")) // 10^6 for 6 decimals
-                .toBigInteger();
-            
-            // 비동기 블록체인 캠페인 생성 요청
-            blockchainService.createCampaignAsync(
-                campaign.getId(),
-                campaign.getBeneficiaryAddress(),
-                goalAmount,
-                duration,
-                campaign.getTitle(),
-                campaign.getDescription()
-            ).whenComplete((transactionHash, throwable) -> {
-                handleBlockchainCampaignResult(campaign.getId(), transactionHash, throwable);
-            });
-            
-            log.info("블록체인 캠페인 생성 요청 완료 - campaignId: {}", campaign.getId());
+            submitBlockchainRegistration(campaign);
             
         } catch (Exception e) {
             log.error("블록체인 캠페인 등록 실패 - campaignId: " + campaign.getId(), e);
@@ -601,6 +553,35 @@ public class CampaignServiceImpl implements CampaignService {
         }
     }
     
+    /**
+     * 블록체인 캠페인 생성 요청을 제출합니다 (대기 상태 전환과 검증은 호출하는 쪽에서 처리)
+     */
+    private void submitBlockchainRegistration(Campaign campaign) {
+        // 캠페인 기간 계산 (초 단위)
+        BigInteger duration = BigInteger.valueOf(
+            ChronoUnit.SECONDS.between(campaign.getStartDate(), campaign.getEndDate())
+        );
+        
+        // 목표 금액 (USDC는 6 decimals이므로 변환)
+        BigInteger goalAmount = campaign.getTargetAmount()
+            .multiply(new BigDecimal("1000000")) // 10^6 for 6 decimals
+            .toBigInteger();
+        
+        // 비동기 블록체인 캠페인 생성 요청
+        blockchainService.createCampaignAsync(
+            campaign.getId(),
+            campaign.getBeneficiaryAddress(),
+            goalAmount,
+            duration,
+            campaign.getTitle(),
+            campaign.getDescription()
+        ).whenComplete((transactionHash, throwable) -> {
+            handleBlockchainCampaignResult(campaign.getId(), transactionHash, throwable);
+        });
+        
+        log.info("블록체인 캠페인 생성 요청 완료 - campaignId: {}", campaign.getId());
+    }
+    
     /**
      * 블록체인 캠페인 생성 결과를 처리합니다 (향상된 오류 처리 포함)
      */
@@ -813,30 +794,30 @@ public class CampaignServiceImpl implements CampaignService {
     }
     
     /**
-     * 블록체인 상태가 처리 중인 캠페인들을 모니터링하고 상태를 업데이트합니다 (향상된 동기화 포함)
+     * 블록체인 상태가 처리 중인 캠페인들을 모니터링하고 상태를 업데이트합니다
+     * RPC 조회는 트랜잭션 밖에서 하고, 변경이 있는 캠페인만 짧은 쓰기 트랜잭션으로 반영합니다.
+     * 여러 노드에서는 각 노드가 자기 몫(shard)의 캠페인만 조회합니다.
      */
-    @Scheduled(fixedRate = 300000) // 5분마다 실행
-    @Transactional
-    public void monitorBlockchainCampaigns() {
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void monitorBlockchainCampaigns(JobShard shard) {
         try {
-            // 처리 중인 캠페인들 모니터링
+            // 처리 중인 캠페인들 모니터링 (조회는 리포지토리의 읽기 트랜잭션으로 끝남)
             List<Campaign> processingCampaigns = campaignRepository.findByBlockchainStatus(
                 BlockchainStatus.BLOCKCHAIN_PROCESSING);
             
+            int monitored = 0;
             for (Campaign campaign : processingCampaigns) {
-                if (StringUtils.hasText(campaign.getBlockchainTransactionHash())) {
+                if (shard.owns(campaign.getId()) && StringUtils.hasText(campaign.getBlockchainTransactionHash())) {
                     // 트랜잭션 상태 확인 및 업데이트
                     updateCampaignBlockchainStatus(campaign);
+                    monitored++;
                 }
             }
             
-            // 활성 상태 캠페인들의 데이터 동기화 (1시간에 한번씩)
-            if (shouldRunFullSync()) {
-                synchronizeActiveCampaigns();
-            }
-            
-            if (!processingCampaigns.isEmpty()) {
-                log.info("블록체인 캠페인 상태 모니터링 완료 - 처리 중인 캠페인: {}", processingCampaigns.size());
+            if (monitored > 0) {
+                log.info("블록체인 캠페인 상태 모니터링 완료 - 처리 중인 캠페인: {} (shard {}/{})",
+                        monitored, shard.index(), shard.count());
             }
             
         } catch (Exception e) {
@@ -847,17 +828,20 @@ public class CampaignServiceImpl implements CampaignService {
     /**
      * 활성 상태 캠페인들과 블록체인 상태를 동기화합니다
      */
-    @Transactional
-    public void synchronizeActiveCampaigns() {
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void synchronizeActiveCampaigns(JobShard shard) {
         try {
-            log.info("활성 캠페인 블록체인 동기화 시작");
+            log.info("활성 캠페인 블록체인 동기화 시작 (shard {}/{})", shard.index(), shard.count());
             
             // 블록체인에 등록된 모든 활성 캠페인 조회
             List<Campaign> activeCampaigns = campaignRepository.findByBlockchainStatus(BlockchainStatus.ACTIVE);
             
             int syncCount = 0;
+            int assigned = 0;
             for (Campaign campaign : activeCampaigns) {
-                if (campaign.getBlockchainCampaignId() != null) {
+                if (campaign.getBlockchainCampaignId() != null && shard.owns(campaign.getId())) {
+                    assigned++;
                     try {
                         syncCampaignWithBlockchain(campaign);
                         syncCount++;
@@ -868,7 +852,7 @@ public class CampaignServiceImpl implements CampaignService {
             }
             
             log.info("활성 캠페인 블록체인 동기화 완료 - 동기화된 캠페인: {}/{}", 
-                    syncCount, activeCampaigns.size());
+                    syncCount, assigned);
             
         } catch (Exception e) {
             log.error("활성 캠페인 동기화 중 오류 발생", e);
@@ -889,34 +873,48 @@ public class CampaignServiceImpl implements CampaignService {
                 return;
             }
             
-            boolean updated = false;
-            
-            // 1. 모금액 동기화
+            // 1~2. 모금액/완료 상태 동기화 (RPC 대기 중 바뀌었을 수 있으므로 쓰기 트랜잭션에서 다시 조회해 비교)
             BigDecimal blockchainRaised = convertFromBlockchainAmount(blockchainInfo.getTotalRaised());
-            if (campaign.getCurrentAmount().compareTo(blockchainRaised) != 0) {
+            transactionTemplate.execute(status -> {
+                Campaign current = campaignRepository.findById(campaign.getId()).orElse(null);
+                if (current == null) {
+                    return null;
+                }
                 
-                // 차이가 임계값(1 USDC) 이상인 경우에만 업데이트
-                BigDecimal difference = blockchainRaised.subtract(campaign.getCurrentAmount()).abs();
-                if (difference.compareTo(BigDecimal.ONE) >= 0) {
-                    
-                    log.info("캠페인 {} 모금액 동기화: {} -> {}", 
-                            campaign.getId(), campaign.getCurrentAmount(), blockchainRaised);
+                boolean updated = false;
+                
+                // 1. 모금액 동기화
+                if (current.getCurrentAmount().compareTo(blockchainRaised) != 0) {
                     
-                    campaign.setCurrentAmount(blockchainRaised);
+                    // 차이가 임계값(1 USDC) 이상인 경우에만 업데이트
+                    BigDecimal difference = blockchainRaised.subtract(current.getCurrentAmount()).abs();
+                    if (difference.compareTo(BigDecimal.ONE) >= 0) {
+                        
+                        log.info("캠페인 {} 모금액 동기화: {} -> {}", 
+                                current.getId(), current.getCurrentAmount(), blockchainRaised);
+                        
+                        current.setCurrentAmount(blockchainRaised);
+                        updated = true;
+                        
+                        // 기부자 수 재계산 (실제 구현에서는 기부 내역 조회)
+                        // TODO: 블록체인에서 기부자 수 조회하여 동기화
+                    }
+                }
+                
+                // 2. 완료 상태 동기화
+                if (blockchainInfo.isFinalized() && 
+                    current.getStatus() != Campaign.CampaignStatus.COMPLETED) {
+                    log.info("캠페인 {} 상태 동기화: 완료로 변경", current.getId());
+                    current.setStatus(Campaign.CampaignStatus.COMPLETED);
                     updated = true;
-                    
-                    // 기부자 수 재계산 (실제 구현에서는 기부 내역 조회)
-                    // TODO: 블록체인에서 기부자 수 조회하여 동기화
                 }
-            }
-            
-            // 2. 완료 상태 동기화
-            if (blockchainInfo.isFinalized() && 
-                campaign.getStatus() != Campaign.CampaignStatus.COMPLETED) {
-                log.info("캠페인 {} 상태 동기화: 완료로 변경", campaign.getId());
-                campaign.setStatus(Campaign.CampaignStatus.COMPLETED);
-                updated = true;
-            }
+                
+                if (updated) {
+                    campaignRepository.save(current);
+                    log.debug("캠페인 {} 블록체인 동기화 완료", current.getId());
+                }
+                return null;
+            });
             
             // 3. 목표 금액 검증 (블록체인과 데이터베이스 불일치 확인)
             BigDecimal blockchainGoal = convertFromBlockchainAmount(blockchainInfo.getGoalAmount());
@@ -933,11 +931,6 @@ public class CampaignServiceImpl implements CampaignService {
                         campaign.getId(), campaign.getEndDate(), blockchainDeadline);
             }
             
-            if (updated) {
-                campaignRepository.save(campaign);
-                log.debug("캠페인 {} 블록체인 동기화 완료", campaign.getId());
-            }
-            
         } catch (Exception e) {
             log.error("캠페인 {} 블록체인 동기화 실패", campaign.getId(), e);
         }
@@ -958,20 +951,6 @@ public class CampaignServiceImpl implements CampaignService {
         return amount.multiply(new BigDecimal("1000000")).toBigInteger();
     }
     
-    /**
-     * 전체 동기화 실행 여부 결정 (마지막 실행으로부터 1시간 경과 여부)
-     */
-    private static LocalDateTime lastFullSyncTime = LocalDateTime.now().minusHours(2);
-    
-    private boolean shouldRunFullSync() {
-        LocalDateTime now = LocalDateTime.now();
-        if (now.isAfter(lastFullSyncTime.plusHours(1))) {
-            lastFullSyncTime = now;
-            return true;
-        }
-        return false;
-    }
-    
     /**
      * 개별 캠페인의 블록체인 상태를 업데이트합니다
      */
@@ -981,23 +960,37 @@ public class CampaignServiceImpl implements CampaignService {
             BlockchainService.TransactionStatus txStatus = blockchainService.getTransactionStatus(
                 campaign.getBlockchainTransactionHash());
             
-            if (txStatus.isConfirmed()) {
+            if (!txStatus.isConfirmed()) {
+                return;
+            }
+            
+            transactionTemplate.execute(status -> {
+                // RPC 대기 중 다른 요청이 상태를 바꿨다면 덮어쓰지 않음
+                Campaign current = campaignRepository.findById(campaign.getId()).orElse(null);
+                if (current == null
+                        || current.getBlockchainStatus() != BlockchainStatus.BLOCKCHAIN_PROCESSING
+                        || !campaign.getBlockchainTransactionHash().equals(current.getBlockchainTransactionHash())) {
+                    log.debug("캠페인 {} 상태가 조회 중 변경되어 반영하지 않음", campaign.getId());
+                    return null;
+                }
+                
                 if (txStatus.isSuccessful()) {
                     // 성공: 블록체인 캠페인 정보 조회하여 캠페인 ID 저장
                     // TODO: 실제 구현에서는 트랜잭션 로그에서 캠페인 ID 추출
-                    campaign.updateBlockchainStatus(BlockchainStatus.ACTIVE, null);
-                    log.info("캠페인 {} 블록체인 등록 완료", campaign.getId());
+                    current.updateBlockchainStatus(BlockchainStatus.ACTIVE, null);
+                    log.info("캠페인 {} 블록체인 등록 완료", current.getId());
                 } else {
                     // 실패: 실패 상태로 업데이트
                     String errorMsg = StringUtils.hasText(txStatus.getErrorMessage()) 
                         ? txStatus.getErrorMessage() 
                         : "블록체인 트랜잭션 실행 실패";
-                    campaign.updateBlockchainStatus(BlockchainStatus.BLOCKCHAIN_FAILED, errorMsg);
-                    log.warn("캠페인 {} 블록체인 등록 실패: {}", campaign.getId(), errorMsg);
+                    current.updateBlockchainStatus(BlockchainStatus.BLOCKCHAIN_FAILED, errorMsg);
+                    log.warn("캠페인 {} 블록체인 등록 실패: {}", current.getId(), errorMsg);
                 }
                 
-                campaignRepository.save(campaign);
-            }
+                campaignRepository.save(current);
+                return null;
+            });
             
         } catch (Exception e) {
             log.error("캠페인 {} 블록체인 상태 업데이트 중 오류", campaign.getId(), e);
@@ -1036,25 +1029,25 @@ public class CampaignServiceImpl implements CampaignService {
     }
     
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CampaignDetailResponse getBlockchainStatus(Long campaignId) {
         log.info("캠페인 블록체인 상태 조회 - campaignId: {}", campaignId);
         
-        Campaign campaign = findCampaignById(campaignId);
+        // 데이터베이스 정보는 짧은 트랜잭션에서 응답으로 변환하고, RPC는 트랜잭션 밖에서 호출
+        CampaignDetailResponse dto = transactionTemplate.execute(status ->
+                CampaignDetailResponse.fromEntity(findCampaignById(campaignId)));
         
         // 블록체인 상태가 ACTIVE이고 블록체인 컨트랙트 주소가 있는 경우, 최신 정보 조회
-        if (campaign.isBlockchainActive() && campaign.getBlockchainContractAddress() != null) {
+        if (dto.getBlockchainStatus() == BlockchainStatus.ACTIVE && dto.getBlockchainCampaignId() != null
+                && dto.getBlockchainContractAddress() != null) {
             try {
                 BlockchainService.CampaignInfo blockchainInfo = blockchainService.getCampaignFromBlockchain(
-                    campaign.getBlockchainContractAddress());
+                    dto.getBlockchainContractAddress());
 
                 log.info("블록체인에서 캠페인 정보 조회 성공 - campaignId: {}, blockchainContractAddress: {}",
-                        campaignId, campaign.getBlockchainContractAddress());
+                        campaignId, dto.getBlockchainContractAddress());
                 
-                // 블록체인 정보를 포함한 상세 응답 생성
-                CampaignDetailResponse dto = CampaignDetailResponse.fromEntity(campaign);
                 // TODO: 필요시 블록체인에서 조회한 추가 정보를 DTO에 포함
-                return dto;
                 
             } catch (Exception e) {
                 log.error("블록체인에서 캠페인 정보 조회 실패 - campaignId: " + campaignId, e);
@@ -1062,41 +1055,43 @@ public class CampaignServiceImpl implements CampaignService {
             }
         }
         
-        return CampaignDetailResponse.fromEntity(campaign);
+        return dto;
     }
     
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Campaign finalizeCampaignOnBlockchain(Long campaignId, Long userId) {
         log.info("블록체인 캠페인 완료 처리 시작 - campaignId: {}, userId: {}", campaignId, userId);
         
-        Campaign campaign = findCampaignById(campaignId);
-        
-        // 권한 확인 (캠페인 소유자 또는 관리자만)
-        if (!campaign.getUser().getId().equals(userId)) {
-            throw new RuntimeException("캠페인을 완료할 권한이 없습니다.");
-        }
-        
-        // 캠페인이 블록체인에 등록되어 있는지 확인
-        if (!campaign.isBlockchainActive() || campaign.getBlockchainCampaignId() == null) {
-            throw new RuntimeException("블록체인에 등록되지 않은 캠페인입니다.");
-        }
-        
-        // 캠페인이 완료 가능한 상태인지 확인
-        if (campaign.getStatus() != Campaign.CampaignStatus.ACTIVE) {
-            throw new RuntimeException("활성 상태의 캠페인만 완료할 수 있습니다.");
-        }
+        // 1. 검증 후 완료 처리 시작 상태로 변경 (커밋 후 요청하므로 완료 콜백이 이 변경보다 먼저 반영되지 않음)
+        Campaign campaign = transactionTemplate.execute(status -> {
+            Campaign target = findCampaignById(campaignId);
+            
+            // 권한 확인 (캠페인 소유자 또는 관리자만)
+            if (!target.getUser().getId().equals(userId)) {
+                throw new RuntimeException("캠페인을 완료할 권한이 없습니다.");
+            }
+            
+            // 캠페인이 블록체인에 등록되어 있는지 확인
+            if (!target.isBlockchainActive() || target.getBlockchainCampaignId() == null) {
+                throw new RuntimeException("블록체인에 등록되지 않은 캠페인입니다.");
+            }
+            
+            // 캠페인이 완료 가능한 상태인지 확인
+            if (target.getStatus() != Campaign.CampaignStatus.ACTIVE) {
+                throw new RuntimeException("활성 상태의 캠페인만 완료할 수 있습니다.");
+            }
+            
+            target.updateBlockchainStatus(BlockchainStatus.BLOCKCHAIN_PROCESSING, 
+                "캠페인 완료 처리 중");
+            return campaignRepository.save(target);
+        });
         
+        // 2. 트랜잭션 밖에서 블록체인 완료 처리 요청
         try {
-            // 블록체인에서 캠페인 완료 처리 요청
             CompletableFuture<String> finalizeFuture = blockchainService.finalizeCampaignAsync(
                 campaign.getBlockchainContractAddress());
             
-            // 완료 처리 시작 상태로 변경
-            campaign.updateBlockchainStatus(BlockchainStatus.BLOCKCHAIN_PROCESSING, 
-                "캠페인 완료 처리 중");
-            campaign = campaignRepository.save(campaign);
-            
             // 비동기 완료 처리
             finalizeFuture.whenComplete((transactionHash, throwable) -> {
                 handleCampaignFinalizationResult(campaignId, transactionHash, throwable);
@@ -1107,56 +1102,54 @@ public class CampaignServiceImpl implements CampaignService {
             
         } catch (Exception e) {
             log.error("캠페인 {} 블록체인 완료 처리 실패", campaignId, e);
-            campaign.updateBlockchainStatus(BlockchainStatus.BLOCKCHAIN_FAILED, 
-                "캠페인 완료 처리 실패: " + e.getMessage());
-            return campaignRepository.save(campaign);
+            return markBlockchainFailed(campaignId, "캠페인 완료 처리 실패: " + e.getMessage());
         }
     }
     
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Campaign retryBlockchainOperation(Long campaignId, Long userId) {
         log.info("블록체인 작업 재시도 - campaignId: {}, userId: {}", campaignId, userId);
         
-        Campaign campaign = findCampaignById(campaignId);
-        
-        // 권한 확인
-        if (!campaign.getUser().getId().equals(userId)) {
-            throw new RuntimeException("캠페인을 수정할 권한이 없습니다.");
-        }
-        
-        // 실패 상태인 경우만 재시도 가능
-        if (!campaign.isBlockchainFailed()) {
-            throw new RuntimeException("실패 상태의 캠페인만 재시도할 수 있습니다.");
-        }
-        
-        // 수혜자 주소 확인
-        if (!StringUtils.hasText(campaign.getBeneficiaryAddress())) {
-            throw new RuntimeException("수혜자 주소가 설정되지 않았습니다.");
-        }
+        // 1. 검증 후 재시도 전 상태 초기화 (대기 상태로 바뀌므로 동시 재시도 요청은 실패 상태 확인에서 걸러짐)
+        Campaign campaign = transactionTemplate.execute(status -> {
+            Campaign target = findCampaignById(campaignId);
+            
+            // 권한 확인
+            if (!target.getUser().getId().equals(userId)) {
+                throw new RuntimeException("캠페인을 수정할 권한이 없습니다.");
+            }
+            
+            // 실패 상태인 경우만 재시도 가능
+            if (!target.isBlockchainFailed()) {
+                throw new RuntimeException("실패 상태의 캠페인만 재시도할 수 있습니다.");
+            }
+            
+            // 수혜자 주소 확인
+            if (!StringUtils.hasText(target.getBeneficiaryAddress())) {
+                throw new RuntimeException("수혜자 주소가 설정되지 않았습니다.");
+            }
+            
+            target.setBlockchainTransactionHash(null);
+            target.updateBlockchainStatus(BlockchainStatus.BLOCKCHAIN_PENDING, null);
+            return campaignRepository.save(target);
+        });
         
+        // 2. 트랜잭션 밖에서 블록체인 등록 재시도 (최대 3회, 재시도 간 대기 중에도 커넥션을 점유하지 않음)
         try {
-            // 재시도 전 상태 초기화
-            campaign.setBlockchainTransactionHash(null);
-            campaign.updateBlockchainStatus(BlockchainStatus.BLOCKCHAIN_PENDING, null);
-            campaign = campaignRepository.save(campaign);
-            
-            // 블록체인 등록 재시도 (최대 3회)
-            initiateBlockchainRegistrationWithRetry(campaign, 3);
+            withRetries(campaign, 3, () -> submitBlockchainRegistration(campaign));
             
             log.info("캠페인 {} 블록체인 작업 재시도 완료", campaignId);
             return campaign;
             
         } catch (Exception e) {
             log.error("캠페인 {} 블록체인 작업 재시도 실패", campaignId, e);
-            campaign.updateBlockchainStatus(BlockchainStatus.BLOCKCHAIN_FAILED, 
-                "재시도 실패: " + e.getMessage());
-            return campaignRepository.save(campaign);
+            return markBlockchainFailed(campaignId, "재시도 실패: " + e.getMessage());
         }
     }
     
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void syncBlockchainStatus(Long campaignId) {
         log.info("블록체인 상태 동기화 시작 - campaignId: {}", campaignId);
         
@@ -1169,37 +1162,41 @@ public class CampaignServiceImpl implements CampaignService {
         }
         
         try {
-            // 블록체인에서 최신 정보 조회
+            // 블록체인에서 최신 정보 조회 (트랜잭션 밖)
             BlockchainService.CampaignInfo blockchainInfo = blockchainService.getCampaignFromBlockchain(
                 campaign.getBlockchainContractAddress());
             
             if (blockchainInfo.isExists()) {
-                // 블록체인 정보와 데이터베이스 정보 동기화
-                boolean updated = false;
-                
                 // 모금액 동기화 (USDC 6 decimals를 일반 decimal로 변환)
                 BigDecimal blockchainRaised = new BigDecimal(blockchainInfo.getTotalRaised())
                     .divide(new BigDecimal("1000000"), 2, BigDecimal.ROUND_HALF_UP);
                 
-                if (campaign.getCurrentAmount().compareTo(blockchainRaised) != 0) {
-                    campaign.setCurrentAmount(blockchainRaised);
-                    updated = true;
-                    log.info("캠페인 {} 모금액 동기화: {} -> {}", 
-                            campaignId, campaign.getCurrentAmount(), blockchainRaised);
-                }
-                
-                // 완료 상태 동기화
-                if (blockchainInfo.isFinalized() && 
-                    campaign.getStatus() != Campaign.CampaignStatus.COMPLETED) {
-                    campaign.setStatus(Campaign.CampaignStatus.COMPLETED);
-                    updated = true;
-                    log.info("캠페인 {} 상태 동기화: 완료로 변경", campaignId);
-                }
-                
-                if (updated) {
-                    campaignRepository.save(campaign);
-                    log.info("캠페인 {} 블록체인 동기화 완료", campaignId);
-                }
+                // 블록체인 정보와 데이터베이스 정보 동기화 (짧은 쓰기 트랜잭션에서 다시 조회해 반영)
+                transactionTemplate.execute(status -> {
+                    Campaign current = findCampaignById(campaignId);
+                    boolean updated = false;
+                    
+                    if (current.getCurrentAmount().compareTo(blockchainRaised) != 0) {
+                        log.info("캠페인 {} 모금액 동기화: {} -> {}", 
+                                campaignId, current.getCurrentAmount(), blockchainRaised);
+                        current.setCurrentAmount(blockchainRaised);
+                        updated = true;
+                    }
+                    
+                    // 완료 상태 동기화
+                    if (blockchainInfo.isFinalized() && 
+                        current.getStatus() != Campaign.CampaignStatus.COMPLETED) {
+                        current.setStatus(Campaign.CampaignStatus.COMPLETED);
+                        updated = true;
+                        log.info("캠페인 {} 상태 동기화: 완료로 변경", campaignId);
+                    }
+                    
+                    if (updated) {
+                        campaignRepository.save(current);
+                        log.info("캠페인 {} 블록체인 동기화 완료", campaignId);
+                    }
+                    return null;
+                });
                 
             } else {
                 log.warn("블록체인에서 캠페인 {} 정보를 찾을 수 없음", campaignId);
@@ -1214,12 +1211,18 @@ public class CampaignServiceImpl implements CampaignService {
      * 재시도 로직을 포함한 블록체인 등록
      */
     private void initiateBlockchainRegistrationWithRetry(Campaign campaign, int maxRetries) {
+        withRetries(campaign, maxRetries, () -> initiateBlockchainRegistration(campaign));
+    }
+    
+    /**
+     * 블록체인 등록 시도를 점진적 대기와 함께 최대 maxRetries회 반복
+     */
+    private void withRetries(Campaign campaign, int maxRetries, Runnable registration) {
         for (int attempt = 1; attempt <= maxRetries; attempt++) {
             try {
                 log.info("캠페인 {} 블록체인 등록 시도 {}/{}", campaign.getId(), attempt, maxRetries);
                 
-                // 기존 initiateBlockchainRegistration 메서드 호출
-                initiateBlockchainRegistration(campaign);
+                registration.run();
                 
                 // 성공 시 리턴
                 return;
@@ -1244,6 +1247,18 @@ public class CampaignServiceImpl implements CampaignService {
         }
     }
     
+    /**
+     * 짧은 쓰기 트랜잭션에서 캠페인을 블록체인 실패 상태로 기록합니다 (외부 요청 실패 시)
+     */
+    private Campaign markBlockchainFailed(Long campaignId, String errorMessage) {
+        return transactionTemplate.execute(status -> {
+            Campaign campaign = campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new RuntimeException("캠페인을 찾을 수 없습니다: " + campaignId));
+            campaign.updateBlockchainStatus(BlockchainStatus.BLOCKCHAIN_FAILED, errorMessage);
+            return campaignRepository.save(campaign);
+        });
+    }
+    
     /**
      * 캠페인 완료 처리 결과를 처리합니다
      */
@@ -1278,137 +1293,7 @@ public class CampaignServiceImpl implements CampaignService {
     @Override
     @Transactional(readOnly = true)
     public CampaignFundraisingStats getCampaignFundraisingStats(Long campaignId, Long userId) {
-        // 캠페인 존재 여부 확인
-        Campaign campaign = findCampaignById(campaignId);
-
-        // 캠페인 담당자 권한 확인
-        boolean isManager = campaignManagerRepository.existsByCampaignIdAndUserIdAndStatus(
-            campaignId,
-            userId,
-            com.hanachain.hanachainbackend.entity.CampaignManager.ManagerStatus.ACTIVE
-        );
-
-        if (!isManager) {
-            throw new RuntimeException("캠페인 담당자만 모금 통계를 조회할 수 있습니다.");
-        }
-
-        // 기본 통계 계산
-        BigDecimal currentAmountDecimal = campaign.getCurrentAmount() != null ? campaign.getCurrentAmount() : BigDecimal.ZERO;
-        BigDecimal targetAmountDecimal = campaign.getTargetAmount();
-
-        Long currentAmount = currentAmountDecimal.longValue();
-        Long targetAmount = targetAmountDecimal.longValue();
-        Double progressPercentage = targetAmount > 0 ? (currentAmount.doubleValue() / targetAmount.doubleValue() * 100.0) : 0.0;
-
-        // 기부자 수 조회
-        Integer donorCount = donationRepository.countDistinctUserIdByCampaignId(campaignId);
-
-        // 평균 기부 금액 계산
-        Long averageDonationAmount = donorCount > 0 ? currentAmount / donorCount : 0L;
-
-        // 남은 일수 계산
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime endDate = campaign.getEndDate();
-        Integer daysLeft = endDate.isAfter(now) ?
-            (int) ChronoUnit.DAYS.between(now, endDate) : 0;
-
-        // 최근 7일 일별 기부 추이 조회
-        List<CampaignFundraisingStats.DailyDonationTrend> dailyTrend = getDailyDonationTrend(campaignId);
-
-        // 상위 기부 목록 조회 (Top 5)
-        List<CampaignFundraisingStats.TopDonation> topDonations = getTopDonations(campaignId, 5);
-
-        return CampaignFundraisingStats.builder()
-            .currentAmount(currentAmount)
-            .targetAmount(targetAmount)
-            .progressPercentage(progressPercentage)
-            .donorCount(donorCount)
-            .daysLeft(daysLeft)
-            .startDate(campaign.getStartDate())
-            .endDate(campaign.getEndDate())
-            .averageDonationAmount(averageDonationAmount)
-            .dailyDonationTrend(dailyTrend)
-            .topDonations(topDonations)
-            .build();
-    }
-
-    /**
-     * 최근 7일간 일별 기부 추이 조회
-     */
-    private List<CampaignFundraisingStats.DailyDonationTrend> getDailyDonationTrend(Long campaignId) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(6); // 최근 7일
-
-        // Repository에서 일별 통계 조회 (JPQL 또는 Native Query 사용)
-        List<Object[]> results = donationRepository.findDailyDonationStats(
-            campaignId,
-            startDate.atStartOfDay(),
-            endDate.plusDays(1).atStartOfDay()
-        );
-
-        // 날짜별 Map 생성 (0으로 초기화)
-        Map<LocalDate, CampaignFundraisingStats.DailyDonationTrend> trendMap = new LinkedHashMap<>();
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            trendMap.put(date, CampaignFundraisingStats.DailyDonationTrend.builder()
-                .date(date.format(DateTimeFormatter.ISO_LOCAL_DATE))
-                .amount(0L)
-                .count(0)
-                .build());
-        }
-
-        // 실제 데이터로 업데이트
-        for (Object[] row : results) {
-            // TO_CHAR 함수는 String을 반환하므로 String으로 캐스팅
-            String dateStr = (String) row[0];
-            LocalDate date = LocalDate.parse(dateStr, DateTimeFormatter.ISO_LOCAL_DATE);
-            Long amount = ((Number) row[1]).longValue();
-            Integer count = ((Number) row[2]).intValue();
-
-            trendMap.put(date, CampaignFundraisingStats.DailyDonationTrend.builder()
-                .date(date.format(DateTimeFormatter.ISO_LOCAL_DATE))
-                .amount(amount)
-                .count(count)
-                .build());
-        }
-
-        return new ArrayList<>(trendMap.values());
-    }
-
-    /**
-     * 상위 기부자 목록 조회
-     */
-    private List<CampaignFundraisingStats.TopDonation> getTopDonations(Long campaignId, int limit) {
-        // Repository에서 상위 기부 조회
-        Pageable pageable = PageRequest.of(0, limit);
-        List<Object[]> results = donationRepository.findTopDonationsByCampaignId(campaignId, pageable);
-
-        return results.stream()
-            .map(row -> {
-                String donorName = (String) row[0];
-                Long amount = ((Number) row[1]).longValue();
-                LocalDateTime donatedAt = (LocalDateTime) row[2];
-                Boolean anonymous = (Boolean) row[3];
-
-                // 익명 처리
-                String displayName = Boolean.TRUE.equals(anonymous) ? "익명" : maskName(donorName);
-
-                return CampaignFundraisingStats.TopDonation.builder()
-                    .donorName(displayName)
-                    .amount(amount)
-                    .donatedAt(donatedAt)
-                    .anonymous(anonymous)
-                    .build();
-            })
-            .collect(Collectors.toList());
-    }
-
-    /**
-     * 이름 마스킹 처리 (예: 김철수 → 김**)
-     */
-    private String maskName(String name) {
-        if (name == null || name.length() <= 1) {
-            return name;
-        }
-        return name.charAt(0) + "**";
+        // 캠페인 존재 여부, 담당자 권한 확인, 통계 집계를 단일 쿼리로 처리 (캠페인 단위 캐싱)
+        return campaignStatsService.getFundraisingStats(campaignId, userId);
     }
 }
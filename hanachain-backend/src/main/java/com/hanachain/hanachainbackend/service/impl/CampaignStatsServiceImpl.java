@@ -0,0 +1,264 @@
+package com.hanachain.hanachainbackend.service.impl;
+
+import com.hanachain.hanachainbackend.config.CacheConfig;
+import com.hanachain.hanachainbackend.config.transaction.TransactionCallbacks;
+import com.hanachain.hanachainbackend.dto.campaign.CampaignFundraisingStats;
+import com.hanachain.hanachainbackend.dto.donation.DonationStats;
+import com.hanachain.hanachainbackend.entity.CampaignManager;
+import com.hanachain.hanachainbackend.repository.CampaignManagerRepository;
+import com.hanachain.hanachainbackend.repository.DonationRepository;
+import com.hanachain.hanachainbackend.service.CampaignStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 캠페인 통계 조회 서비스 구현체
+ *
+ * 캠페인 정보, 담당자 여부, 총계, 일별 추이, 상위 기부 목록을
+ * {@link DonationRepository#findCampaignStatsRows} 단일 쿼리로 조회합니다.
+ * 결과는 캠페인 단위로 짧은 TTL 동안 캐싱되며, 캐시 적중 시에는 담당자 권한 확인 쿼리만 실행됩니다.
+ * 기부 완료/환불과 캠페인 마감 시에는 {@link #evict}로 TTL을 기다리지 않고 바로 무효화합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CampaignStatsServiceImpl implements CampaignStatsService {
+
+    private static final int TREND_DAYS = 7;
+    private static final int TOP_DONATION_LIMIT = 5;
+
+    // 담당자 확인이 필요 없는 조회에 사용하는 사용자 ID (시퀀스는 1부터 시작)
+    private static final long NO_USER = 0L;
+
+    private final DonationRepository donationRepository;
+    private final CampaignManagerRepository campaignManagerRepository;
+    private final CacheManager cacheManager;
+
+    @Override
+    public CampaignFundraisingStats getFundraisingStats(Long campaignId, Long userId) {
+        CampaignStatsSnapshot snapshot = getCache().get(campaignId, CampaignStatsSnapshot.class);
+
+        if (snapshot != null) {
+            boolean isManager = campaignManagerRepository.existsByCampaignIdAndUserIdAndStatus(
+                    campaignId, userId, CampaignManager.ManagerStatus.ACTIVE);
+            checkManager(isManager);
+            return toFundraisingStats(snapshot);
+        }
+
+        LoadResult result = load(campaignId, userId);
+        if (result.snapshot() == null) {
+            throw new RuntimeException("캠페인을 찾을 수 없습니다: " + campaignId);
+        }
+        checkManager(result.manager());
+
+        getCache().put(campaignId, result.snapshot());
+        return toFundraisingStats(result.snapshot());
+    }
+
+    @Override
+    public DonationStats getDonationStats(Long campaignId) {
+        CampaignStatsSnapshot snapshot = getCache().get(campaignId, CampaignStatsSnapshot.class);
+        Totals totals;
+
+        if (snapshot != null) {
+            totals = snapshot.totals();
+        } else {
+            LoadResult result = load(campaignId, NO_USER);
+            totals = result.totals();
+            if (result.snapshot() != null) {
+                getCache().put(campaignId, result.snapshot());
+            }
+        }
+
+        DonationStats stats = DonationStats.builder()
+                .totalAmount(totals.totalAmount())
+                .totalCount(totals.completedCount())
+                .completedCount(totals.completedCount()) // 완료된 기부만 조회하므로 동일
+                .pendingCount(0L)
+                .failedCount(0L)
+                .uniqueDonorCount(totals.donorCount())
+                .build();
+
+        stats.calculateAverageAmount();
+        return stats;
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 후에 무효화 (커밋 전에 다른 요청이 이전 값을 다시 캐싱하지 않도록)
+     */
+    @Override
+    public void evict(Long campaignId) {
+        if (campaignId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> getCache().evict(campaignId));
+    }
+
+    private Cache getCache() {
+        return cacheManager.getCache(CacheConfig.CAMPAIGN_STATS_CACHE);
+    }
+
+    private void checkManager(boolean isManager) {
+        if (!isManager) {
+            throw new RuntimeException("캠페인 담당자만 모금 통계를 조회할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 통합 통계 쿼리 실행 및 결과 행 해석
+     */
+    private LoadResult load(Long campaignId, Long userId) {
+        LocalDate fromDate = LocalDate.now().minusDays(TREND_DAYS - 1);
+        List<Object[]> rows = donationRepository.findCampaignStatsRows(
+                campaignId, userId, fromDate.atStartOfDay(), TREND_DAYS, TOP_DONATION_LIMIT);
+
+        Object[] campaignRow = null;
+        Totals totals = new Totals(BigDecimal.ZERO, 0L, 0L);
+        List<DailyPoint> daily = new ArrayList<>(TREND_DAYS);
+        List<TopEntry> top = new ArrayList<>(TOP_DONATION_LIMIT);
+
+        for (Object[] row : rows) {
+            switch ((String) row[0]) {
+                case "C" -> campaignRow = row;
+                case "T" -> totals = new Totals(
+                        toBigDecimal(row[2]), toLong(row[3]), toLong(row[4]));
+                case "D" -> daily.add(new DailyPoint(
+                        (String) row[1], toLong(row[2]), (int) toLong(row[4])));
+                case "R" -> {
+                    boolean anonymous = toLong(row[8]) == 1L;
+                    top.add(new TopEntry(
+                            anonymous ? "익명" : maskName((String) row[1]),
+                            toLong(row[2]), toLocalDateTime(row[7]), anonymous));
+                }
+                default -> log.warn("알 수 없는 통계 행 타입: {}", row[0]);
+            }
+        }
+
+        if (campaignRow == null) {
+            return new LoadResult(null, totals, false);
+        }
+
+        CampaignStatsSnapshot snapshot = new CampaignStatsSnapshot(
+                toBigDecimal(campaignRow[2]),
+                toBigDecimal(campaignRow[3]),
+                toLocalDateTime(campaignRow[5]),
+                toLocalDateTime(campaignRow[6]),
+                totals,
+                List.copyOf(daily),
+                List.copyOf(top));
+
+        log.debug("캠페인 통계 조회 완료 - campaignId: {}, rows: {}", campaignId, rows.size());
+        return new LoadResult(snapshot, totals, toLong(campaignRow[8]) == 1L);
+    }
+
+    private CampaignFundraisingStats toFundraisingStats(CampaignStatsSnapshot snapshot) {
+        Long currentAmount = snapshot.currentAmount().longValue();
+        Long targetAmount = snapshot.targetAmount().longValue();
+        Double progressPercentage = targetAmount > 0 ? (currentAmount.doubleValue() / targetAmount.doubleValue() * 100.0) : 0.0;
+
+        int donorCount = (int) snapshot.totals().donorCount();
+        Long averageDonationAmount = donorCount > 0 ? currentAmount / donorCount : 0L;
+
+        // 남은 일수 계산
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime endDate = snapshot.endDate();
+        Integer daysLeft = endDate.isAfter(now) ?
+            (int) ChronoUnit.DAYS.between(now, endDate) : 0;
+
+        List<CampaignFundraisingStats.DailyDonationTrend> dailyTrend = snapshot.daily().stream()
+                .map(point -> CampaignFundraisingStats.DailyDonationTrend.builder()
+                        .date(point.date())
+                        .amount(point.amount())
+                        .count(point.count())
+                        .build())
+                .collect(Collectors.toList());
+
+        List<CampaignFundraisingStats.TopDonation> topDonations = snapshot.topDonations().stream()
+                .map(entry -> CampaignFundraisingStats.TopDonation.builder()
+                        .donorName(entry.donorName())
+                        .amount(entry.amount())
+                        .donatedAt(entry.donatedAt())
+                        .anonymous(entry.anonymous())
+                        .build())
+                .collect(Collectors.toList());
+
+        return CampaignFundraisingStats.builder()
+            .currentAmount(currentAmount)
+            .targetAmount(targetAmount)
+            .progressPercentage(progressPercentage)
+            .donorCount(donorCount)
+            .daysLeft(daysLeft)
+            .startDate(snapshot.startDate())
+            .endDate(snapshot.endDate())
+            .averageDonationAmount(averageDonationAmount)
+            .dailyDonationTrend(dailyTrend)
+            .topDonations(topDonations)
+            .build();
+    }
+
+    /**
+     * 이름 마스킹 처리 (예: 김철수 → 김**)
+     */
+    private String maskName(String name) {
+        if (name == null || name.length() <= 1) {
+            return name;
+        }
+        return name.charAt(0) + "**";
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    private record Totals(BigDecimal totalAmount, long donorCount, long completedCount) {
+    }
+
+    private record DailyPoint(String date, long amount, int count) {
+    }
+
+    private record TopEntry(String donorName, long amount, LocalDateTime donatedAt, boolean anonymous) {
+    }
+
+    private record LoadResult(CampaignStatsSnapshot snapshot, Totals totals, boolean manager) {
+    }
+
+    /**
+     * 캐시에 저장되는 캠페인 통계 스냅샷 (사용자와 무관한 값만 보관)
+     */
+    private record CampaignStatsSnapshot(BigDecimal currentAmount,
+                                         BigDecimal targetAmount,
+                                         LocalDateTime startDate,
+                                         LocalDateTime endDate,
+                                         Totals totals,
+                                         List<DailyPoint> daily,
+                                         List<TopEntry> topDonations) {
+    }
+}
@@ -6,10 +6,12 @@ import com.hanachain.hanachainbackend.entity.Comment;
 import com.hanachain.hanachainbackend.entity.User;
 import com.hanachain.hanachainbackend.repository.CampaignRepository;
 import com.hanachain.hanachainbackend.repository.CommentRepository;
-import com.hanachain.hanachainbackend.repository.DonationRepository;
 import com.hanachain.hanachainbackend.repository.UserRepository;
 import com.hanachain.hanachainbackend.security.CampaignManagerPermissionService;
 import com.hanachain.hanachainbackend.service.CommentService;
+import com.hanachain.hanachainbackend.service.comment.CommentThreadLoader;
+import com.hanachain.hanachainbackend.service.counter.CounterType;
+import com.hanachain.hanachainbackend.service.counter.WriteBehindCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -17,10 +19,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -30,28 +28,22 @@ public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final CampaignRepository campaignRepository;
     private final UserRepository userRepository;
-    private final DonationRepository donationRepository;
     private final CampaignManagerPermissionService permissionService;
+    private final CommentThreadLoader commentThreadLoader;
+    private final WriteBehindCounter writeBehindCounter;
 
     @Override
     public Page<CommentResponse> getCampaignComments(Long campaignId, Pageable pageable) {
         log.debug("댓글 조회 시작: 캠페인 ID {}", campaignId);
 
-        Campaign campaign = campaignRepository.findById(campaignId)
-                .orElseThrow(() -> {
-                    log.error("캠페인을 찾을 수 없음: ID {}", campaignId);
-                    return new IllegalArgumentException("캠페인을 찾을 수 없습니다: " + campaignId);
-                });
-
-        log.debug("캠페인 조회 성공: ID {}, 제목 {}", campaign.getId(), campaign.getTitle());
-
-        Page<Comment> comments = commentRepository.findByCampaignAndStatusAndParentIsNullOrderByCreatedAtDesc(
-                campaign, Comment.CommentStatus.ACTIVE, pageable);
-
-        log.debug("댓글 엔티티 조회 완료: {} 개", comments.getTotalElements());
+        if (!campaignRepository.existsById(campaignId)) {
+            log.error("캠페인을 찾을 수 없음: ID {}", campaignId);
+            throw new IllegalArgumentException("캠페인을 찾을 수 없습니다: " + campaignId);
+        }
 
         try {
-            Page<CommentResponse> result = comments.map(this::convertToDto);
+            // 답글, 작성자, 담당자/기부자 여부를 일괄 조회하여 조립
+            Page<CommentResponse> result = commentThreadLoader.loadCampaignThreads(campaignId, pageable);
             log.debug("DTO 변환 완료: {} 개", result.getTotalElements());
             return result;
         } catch (Exception e) {
@@ -65,7 +57,7 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = commentRepository.findByIdWithCampaignAndUser(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다: " + commentId));
 
-        return convertToDto(comment);
+        return commentThreadLoader.loadThread(comment);
     }
 
     @Override
@@ -88,7 +80,7 @@ public class CommentServiceImpl implements CommentService {
         Comment savedComment = commentRepository.save(comment);
         log.info("댓글 작성 완료: 사용자 {}, 캠페인 ID {}, 댓글 ID {}", username, campaignId, savedComment.getId());
 
-        return convertToDto(savedComment);
+        return commentThreadLoader.loadThread(savedComment);
     }
 
     @Override
@@ -119,13 +111,12 @@ public class CommentServiceImpl implements CommentService {
 
         Comment savedReply = commentRepository.save(reply);
 
-        // 부모 댓글의 답글 수 업데이트
-        parentComment.updateReplyCount();
-        commentRepository.save(parentComment);
+        // 부모 댓글의 답글 수 증가 (커밋 후 지연 반영)
+        writeBehindCounter.increment(CounterType.COMMENT_REPLIES, parentComment.getId());
 
         log.info("답글 작성 완료: 사용자 {}, 부모 댓글 ID {}, 답글 ID {}", username, parentCommentId, savedReply.getId());
 
-        return convertToDto(savedReply);
+        return commentThreadLoader.loadThread(savedReply);
     }
 
     @Override
@@ -147,7 +138,7 @@ public class CommentServiceImpl implements CommentService {
 
         log.info("댓글 수정 완료: 사용자 {}, 댓글 ID {}", username, commentId);
 
-        return convertToDto(updatedComment);
+        return commentThreadLoader.loadThread(updatedComment);
     }
 
     @Override
@@ -164,79 +155,15 @@ public class CommentServiceImpl implements CommentService {
             throw new IllegalStateException("본인이 작성한 댓글만 삭제할 수 있습니다");
         }
 
+        boolean wasActive = comment.isActive();
         comment.delete(); // 소프트 삭제
         commentRepository.save(comment);
 
-        // 부모 댓글이 있다면 답글 수 업데이트
-        if (comment.getParent() != null) {
-            Comment parent = comment.getParent();
-            parent.updateReplyCount();
-            commentRepository.save(parent);
+        // 부모 댓글이 있다면 답글 수 감소 (커밋 후 지연 반영)
+        if (wasActive && comment.getParent() != null) {
+            writeBehindCounter.decrement(CounterType.COMMENT_REPLIES, comment.getParent().getId());
         }
 
         log.info("댓글 삭제 완료: 사용자 {}, 댓글 ID {}", username, commentId);
     }
-
-    /**
-     * Comment 엔티티를 CommentResponse로 변환
-     */
-    private CommentResponse convertToDto(Comment comment) {
-        // Campaign이 null인 경우 처리
-        if (comment.getCampaign() == null) {
-            throw new IllegalStateException("댓글의 캠페인 정보가 없습니다: " + comment.getId());
-        }
-
-        Long campaignId = comment.getCampaign().getId();
-        Long userId = comment.getUser() != null ? comment.getUser().getId() : null;
-
-        // 작성자 정보 생성
-        CommentAuthor authorDto = null;
-        if (comment.getUser() != null) {
-            User user = comment.getUser();
-            authorDto = CommentAuthor.builder()
-                    .id(user.getId())
-                    .name(user.getName())
-                    .email(user.getEmail())
-                    .profileImageUrl(user.getProfileImage())
-                    .nickname(user.getNickname())
-                    .build();
-        }
-
-        // 캠페인 담당자 여부 확인
-        boolean isCampaignManager = userId != null &&
-                permissionService.isActiveCampaignManager(userId, campaignId);
-
-        // 기부 이력 여부 확인 (천사 로고 표시용)
-        boolean hasDonated = userId != null &&
-                donationRepository.hasUserDonatedToCampaign(userId, campaignId);
-
-        // 답글 목록 변환 (replies가 초기화되지 않았을 수 있음)
-        List<CommentResponse> replyDtos = new ArrayList<>();
-        try {
-            if (comment.getReplies() != null) {
-                replyDtos = comment.getReplies().stream()
-                        .filter(Comment::isActive)
-                        .map(this::convertToDto)
-                        .collect(Collectors.toList());
-            }
-        } catch (Exception e) {
-            // LazyInitializationException 등의 경우 빈 리스트 반환
-            log.warn("답글 목록 로딩 실패: {}", e.getMessage());
-            replyDtos = new ArrayList<>();
-        }
-
-        return CommentResponse.builder()
-                .id(comment.getId())
-                .content(comment.getContent())
-                .createdAt(comment.getCreatedAt())
-                .updatedAt(comment.getUpdatedAt())
-                .author(authorDto)
-                .isCampaignManager(isCampaignManager)
-                .hasDonated(hasDonated)
-                .isDeleted(comment.isDeleted())
-                .replies(replyDtos)
-                .likeCount(comment.getLikeCount())
-                .replyCount(comment.getReplyCount())
-                .build();
-    }
 }
@@ -5,9 +5,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hanachain.hanachainbackend.dto.donation.*;
 import com.hanachain.hanachainbackend.dto.fds.FdsRequest;
 import com.hanachain.hanachainbackend.dto.fds.FdsResponse;
+import com.hanachain.hanachainbackend.entity.AuditLog;
 import com.hanachain.hanachainbackend.entity.Campaign;
 import com.hanachain.hanachainbackend.entity.Donation;
 import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.entity.enums.AuditAction;
+import com.hanachain.hanachainbackend.entity.enums.AuditCategory;
 import com.hanachain.hanachainbackend.exception.BusinessException;
 import com.hanachain.hanachainbackend.exception.ForbiddenException;
 import com.hanachain.hanachainbackend.exception.InternalServerErrorException;
@@ -17,15 +20,20 @@ import com.hanachain.hanachainbackend.repository.CampaignRepository;
 import com.hanachain.hanachainbackend.repository.DonationRepository;
 import com.hanachain.hanachainbackend.repository.UserRepository;
 import com.hanachain.hanachainbackend.security.SecurityUtils;
+import com.hanachain.hanachainbackend.service.CampaignStatsService;
 import com.hanachain.hanachainbackend.service.DonationService;
 import com.hanachain.hanachainbackend.service.FdsService;
 import com.hanachain.hanachainbackend.service.PortoneService;
+import com.hanachain.hanachainbackend.service.audit.AuditLogger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.Duration;
@@ -49,6 +57,16 @@ public class DonationServiceImpl implements DonationService {
     private final UserRepository userRepository;
     private final FdsService fdsService;
     private final PortoneService portoneService;
+    private final CampaignStatsService campaignStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditLogger auditLogger;
+    
+    /**
+     * 미완료 기부 정리 시 거슬러 올라가 확인하는 기간 (파티션 프루닝용 하한)
+     * 스케줄러가 멈춰 있던 기간보다 길어야 하며, 기본값은 보관(읽기 전용) 전 파티션 전체(24개월)
+     */
+    @Value("${donation.pending-cleanup.lookback-days:730}")
+    private int pendingCleanupLookbackDays;
     
     /**
      * 기부 생성 (결제 전 사전 등록)
@@ -378,12 +396,10 @@ public class DonationServiceImpl implements DonationService {
             log.info("Campaign before update: currentAmount={}, donorCount={}", 
                     campaign.getCurrentAmount(), campaign.getDonorCount());
             
-            campaign.addDonation(donation.getAmount());
-            campaignRepository.saveAndFlush(campaign);
+            // 엔티티를 읽고 덮어쓰지 않고 원자적으로 증가 (동시 완료/환불 시 갱신 유실 방지)
+            campaignRepository.adjustDonationTotals(campaign.getId(), donation.getAmount(), 1);
+            campaignStatsService.evict(campaign.getId());
             log.info("Campaign statistics immediately saved to DB");
-            
-            log.info("Campaign after update: currentAmount={}, donorCount={}", 
-                    campaign.getCurrentAmount(), campaign.getDonorCount());
             log.info("Payment completed successfully. Donation ID: {}, Amount: {}", 
                     donation.getId(), donation.getAmount());
             
@@ -469,21 +485,7 @@ public class DonationServiceImpl implements DonationService {
      */
     @Override
     public DonationStats getCampaignDonationStats(Long campaignId) {
-        BigDecimal totalAmount = donationRepository.getTotalAmountByCampaign(campaignId);
-        long totalCount = donationRepository.getTotalDonationCountByCampaign(campaignId);
-        long uniqueDonorCount = donationRepository.getUniqueDonorCountByCampaign(campaignId);
-        
-        DonationStats stats = DonationStats.builder()
-                .totalAmount(totalAmount != null ? totalAmount : BigDecimal.ZERO)
-                .totalCount(totalCount)
-                .completedCount(totalCount) // 완료된 기부만 조회하므로 동일
-                .pendingCount(0L)
-                .failedCount(0L)
-                .uniqueDonorCount(uniqueDonorCount)
-                .build();
-        
-        stats.calculateAverageAmount();
-        return stats;
+        return campaignStatsService.getDonationStats(campaignId);
     }
     
     /**
@@ -544,9 +546,10 @@ public class DonationServiceImpl implements DonationService {
     
     /**
      * 기부 환불 처리
+     * PortOne 취소 요청 동안 커넥션을 점유하지 않도록 조회 → 결제 취소(트랜잭션 밖) → 짧은 쓰기 트랜잭션 순으로 처리합니다.
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DonationResponse refundDonation(Long donationId, String reason) {
         Donation donation = donationRepository.findById(donationId)
                 .orElseThrow(() -> new NotFoundException("기부 정보를 찾을 수 없습니다: " + donationId));
@@ -559,18 +562,32 @@ public class DonationServiceImpl implements DonationService {
         log.info("DonationId: {}, Amount: {}, Reason: {}", donationId, donation.getAmount(), reason);
 
         // 1. PortOne API를 통한 실제 결제 취소
+        cancelPortonePayment(donation, reason);
+
+        // 2~3. 결제 취소 후 짧은 쓰기 트랜잭션에서 다시 조회해 DB 반영
         try {
-            boolean cancelled = portoneService.cancelPayment(
-                    donation.getPaymentId(),
-                    reason
-            );
+            return transactionTemplate.execute(status -> DonationResponse.fromEntity(applyRefund(donationId, reason)));
+        } catch (RuntimeException e) {
+            // PortOne 취소는 이미 완료되었으므로 DB 불일치를 수동으로 정리할 수 있도록 남김
+            log.error("❌ PortOne payment cancelled but refund could not be recorded: donationId={}, paymentId={}",
+                    donationId, donation.getPaymentId(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * PortOne 결제 취소 (트랜잭션 밖에서 호출)
+     */
+    private void cancelPortonePayment(Donation donation, String reason) {
+        try {
+            boolean cancelled = portoneService.cancelPayment(donation.getPaymentId(), reason);
 
             if (!cancelled) {
-                log.error("❌ PortOne payment cancellation failed for donation: {}", donationId);
+                log.error("❌ PortOne payment cancellation failed for donation: {}", donation.getId());
                 throw new BusinessException("실제 결제 취소에 실패했습니다. PortOne 관리자 콘솔을 확인해주세요.");
             }
 
-            log.info("✅ PortOne payment cancelled successfully for donation: {}", donationId);
+            log.info("✅ PortOne payment cancelled successfully for donation: {}", donation.getId());
 
         } catch (BusinessException e) {
             // 비즈니스 예외는 그대로 전파
@@ -579,28 +596,35 @@ public class DonationServiceImpl implements DonationService {
             log.error("❌ Unexpected error during PortOne cancellation: {}", e.getMessage(), e);
             throw new InternalServerErrorException("결제 취소 중 오류가 발생했습니다: " + e.getMessage());
         }
+    }
 
-        // 2. 캠페인에서 기부 금액 차감
-        Campaign campaign = donation.getCampaign();
-        log.info("Campaign before refund: ID={}, currentAmount={}, donorCount={}",
-                campaign.getId(), campaign.getCurrentAmount(), campaign.getDonorCount());
+    /**
+     * 환불 DB 반영 (쓰기 트랜잭션 안에서 호출, 영속 상태의 기부를 반환)
+     */
+    private Donation applyRefund(Long donationId, String reason) {
+        Donation donation = donationRepository.findById(donationId)
+                .orElseThrow(() -> new NotFoundException("기부 정보를 찾을 수 없습니다: " + donationId));
+        Long campaignId = donation.getCampaign().getId();
 
-        campaign.setCurrentAmount(campaign.getCurrentAmount().subtract(donation.getAmount()));
-        campaign.setDonorCount(campaign.getDonorCount() - 1);
-        campaignRepository.save(campaign);
+        // 2. 기부 상태를 환불로 변경 (COMPLETED일 때만 - 동시 환불/변경 요청 중 하나만 성공하여 중복 차감 방지)
+        int transitioned = donationRepository.transitionPaymentStatus(donationId,
+                Donation.PaymentStatus.COMPLETED, Donation.PaymentStatus.REFUNDED, reason, LocalDateTime.now());
+        if (transitioned == 0) {
+            throw new BusinessException("환불 가능한 상태가 아닙니다.");
+        }
 
-        log.info("Campaign after refund: currentAmount={}, donorCount={}",
-                campaign.getCurrentAmount(), campaign.getDonorCount());
+        // 3. 캠페인에서 기부 금액 차감 (원자적 UPDATE)
+        campaignRepository.adjustDonationTotals(campaignId, donation.getAmount().negate(), -1);
+        campaignStatsService.evict(campaignId);
+        log.info("Campaign totals decreased by refund: ID={}, amount={}", campaignId, donation.getAmount());
 
-        // 3. 기부 상태를 환불로 변경
         donation.setPaymentStatus(Donation.PaymentStatus.REFUNDED);
         donation.setFailureReason(reason);
-        donation = donationRepository.save(donation);
 
         log.info("✅ Donation refunded successfully (both PortOne and DB): ID={}, Amount={}, Reason={}",
                 donationId, donation.getAmount(), reason);
 
-        return DonationResponse.fromEntity(donation);
+        return donation;
     }
     
     /**
@@ -610,7 +634,8 @@ public class DonationServiceImpl implements DonationService {
     @Transactional
     public void cleanupPendingDonations() {
         LocalDateTime cutoffTime = LocalDateTime.now().minusHours(24); // 24시간 전
-        List<Donation> pendingDonations = donationRepository.findPendingDonationsOlderThan(cutoffTime);
+        List<Donation> pendingDonations = donationRepository.findPendingDonationsOlderThan(
+                cutoffTime.minusDays(pendingCleanupLookbackDays), cutoffTime);
         
         for (Donation donation : pendingDonations) {
             donation.markAsFailed("자동 취소 - 결제 시간 초과");
@@ -668,13 +693,11 @@ public class DonationServiceImpl implements DonationService {
         log.info("Campaign before update: currentAmount={}, donorCount={}", 
                 campaign.getCurrentAmount(), campaign.getDonorCount());
         
-        campaign.addDonation(donation.getAmount());
-        campaignRepository.saveAndFlush(campaign);
+        // 엔티티를 읽고 덮어쓰지 않고 원자적으로 증가 (동시 완료/환불 시 갱신 유실 방지)
+        campaignRepository.adjustDonationTotals(campaign.getId(), donation.getAmount(), 1);
+        campaignStatsService.evict(campaign.getId());
         log.info("Campaign statistics immediately saved to DB (manual approval)");
         
-        log.info("Campaign after update: currentAmount={}, donorCount={}", 
-                campaign.getCurrentAmount(), campaign.getDonorCount());
-        
         // 기부 정보 저장
         donation = donationRepository.save(donation);
         
@@ -737,12 +760,10 @@ public class DonationServiceImpl implements DonationService {
         log.info("Campaign before update: currentAmount={}, donorCount={}", 
                 campaign.getCurrentAmount(), campaign.getDonorCount());
         
-        campaign.addDonation(donation.getAmount());
-        campaignRepository.saveAndFlush(campaign);
+        // 엔티티를 읽고 덮어쓰지 않고 원자적으로 증가 (동시 완료/환불 시 갱신 유실 방지)
+        campaignRepository.adjustDonationTotals(campaign.getId(), donation.getAmount(), 1);
+        campaignStatsService.evict(campaign.getId());
         log.info("Campaign statistics immediately saved to DB (immediate approval)");
-        
-        log.info("Campaign after update: currentAmount={}, donorCount={}", 
-                campaign.getCurrentAmount(), campaign.getDonorCount());
         log.info("Immediate payment approval completed successfully for paymentId: {}", paymentId);
         
         return DonationResponse.fromEntity(donation);
@@ -861,9 +882,10 @@ public class DonationServiceImpl implements DonationService {
 
     /**
      * FDS 검증 결과 오버라이드 (관리자 승인/차단)
+     * 완료된 결제를 차단하면 refundDonation과 같이 조회 → 결제 취소(트랜잭션 밖) → 조건부 환불 반영 순으로 처리합니다.
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DonationResponse overrideFdsResult(Long donationId, FdsOverrideRequest request) {
         log.info("=== FDS Override Request ===");
         log.info("DonationId: {}, Action: {}, Reason: {}", donationId, request.getAction(), request.getReason());
@@ -875,6 +897,10 @@ public class DonationServiceImpl implements DonationService {
         if (!currentUser.getRole().isSystemLevelAdmin()) {
             log.warn("Non-admin user {} attempted FDS override for donation {}",
                     currentUser.getEmail(), donationId);
+            auditLogger.record(AuditLog.failure(AuditAction.FDS_OVERRIDE, AuditCategory.DONATION_MANAGEMENT,
+                            "FDS 결과 오버라이드 시도 (관리자 아님)", "관리자 권한이 필요합니다")
+                    .withUser(currentUser)
+                    .withTarget("Donation", donationId));
             throw new ForbiddenException("관리자 권한이 필요합니다");
         }
 
@@ -885,6 +911,32 @@ public class DonationServiceImpl implements DonationService {
         log.info("Found donation - Current FDS Action: {}, Payment Status: {}",
                 donation.getFdsAction(), donation.getPaymentStatus());
 
+        validateFdsOverridable(donation);
+
+        String newAction = request.getAction().equalsIgnoreCase("approve") ? "APPROVE" : "BLOCK";
+        String blockReason = "FDS 차단: " + request.getReason();
+        boolean refund = "BLOCK".equals(newAction) && donation.getPaymentStatus() == Donation.PaymentStatus.COMPLETED;
+
+        // 완료된 결제 차단은 PortOne 취소를 먼저 (커넥션을 점유하지 않도록 트랜잭션 밖에서)
+        if (refund) {
+            log.info("Refunding completed payment - Donation ID: {}, Amount: {}", donationId, donation.getAmount());
+            cancelPortonePayment(donation, blockReason);
+        }
+
+        try {
+            return transactionTemplate.execute(status ->
+                    applyFdsOverride(donationId, newAction, request.getReason(), blockReason, refund, currentUser));
+        } catch (RuntimeException e) {
+            if (refund) {
+                // PortOne 취소는 이미 완료되었으므로 DB 불일치를 수동으로 정리할 수 있도록 남김
+                log.error("❌ PortOne payment cancelled but FDS block could not be recorded: donationId={}, paymentId={}",
+                        donationId, donation.getPaymentId(), e);
+            }
+            throw e;
+        }
+    }
+
+    private void validateFdsOverridable(Donation donation) {
         // 이미 APPROVE인 경우 변경 불가
         if ("APPROVE".equals(donation.getFdsAction())) {
             throw new BusinessException("이미 승인된 기부는 변경할 수 없습니다");
@@ -895,84 +947,55 @@ public class DonationServiceImpl implements DonationService {
             donation.getPaymentStatus() == Donation.PaymentStatus.CANCELLED) {
             throw new BusinessException("이미 환불 또는 취소된 기부는 변경할 수 없습니다");
         }
+    }
+
+    /**
+     * FDS 오버라이드 DB 반영 (쓰기 트랜잭션 안에서 호출)
+     * 환불은 applyRefund의 조건부 전환을 거치므로 동시 환불/차단 요청이 있어도 금액은 한 번만 차감됩니다.
+     */
+    private DonationResponse applyFdsOverride(Long donationId, String newAction, String reason, String blockReason,
+                                              boolean refund, User currentUser) {
+        Donation donation;
+        if (refund) {
+            donation = applyRefund(donationId, blockReason);
+        } else {
+            donation = donationRepository.findById(donationId)
+                    .orElseThrow(() -> new NotFoundException("기부를 찾을 수 없습니다: " + donationId));
+            // 조회 이후 다른 요청이 상태를 바꿨을 수 있으므로 다시 확인
+            validateFdsOverridable(donation);
+        }
 
         // 이전 액션 저장 (로깅용)
         String previousAction = donation.getFdsAction();
 
         // 액션 업데이트
-        String newAction = request.getAction().equalsIgnoreCase("approve") ? "APPROVE" : "BLOCK";
         donation.setFdsAction(newAction);
 
         // 설명에 관리자 오버라이드 정보 추가
         String overrideExplanation = String.format("관리자 오버라이드 (이전: %s → 현재: %s) - %s",
-                previousAction, newAction, request.getReason());
+                previousAction, newAction, reason);
         donation.setFdsExplanation(overrideExplanation);
         donation.setFdsCheckedAt(LocalDateTime.now());
 
-        // BLOCK인 경우 자동 환불/취소 처리
-        if ("BLOCK".equals(newAction)) {
-            log.info("Processing payment cancellation/refund for blocked donation");
-
-            if (donation.getPaymentStatus() == Donation.PaymentStatus.COMPLETED) {
-                // 완료된 결제는 환불 처리
-                log.info("Refunding completed payment - Donation ID: {}, Amount: {}",
-                        donationId, donation.getAmount());
-
-                // 1. PortOne API를 통한 실제 결제 취소
-                try {
-                    String cancellationReason = "FDS 차단: " + request.getReason();
-                    boolean cancelled = portoneService.cancelPayment(
-                            donation.getPaymentId(),
-                            cancellationReason
-                    );
-
-                    if (!cancelled) {
-                        log.error("❌ PortOne payment cancellation failed for donation: {}", donationId);
-                        throw new BusinessException("실제 결제 취소에 실패했습니다. PortOne 관리자 콘솔을 확인해주세요.");
-                    }
-
-                    log.info("✅ PortOne payment cancelled successfully for donation: {}", donationId);
-
-                } catch (BusinessException e) {
-                    // 비즈니스 예외는 그대로 전파
-                    throw e;
-                } catch (Exception e) {
-                    log.error("❌ Unexpected error during PortOne cancellation: {}", e.getMessage(), e);
-                    throw new InternalServerErrorException("결제 취소 중 오류가 발생했습니다: " + e.getMessage());
-                }
-
-                // 2. 캠페인에서 기부 금액 차감
-                Campaign campaign = donation.getCampaign();
-                log.info("Campaign before refund: ID={}, currentAmount={}, donorCount={}",
-                        campaign.getId(), campaign.getCurrentAmount(), campaign.getDonorCount());
-
-                campaign.setCurrentAmount(campaign.getCurrentAmount().subtract(donation.getAmount()));
-                campaign.setDonorCount(campaign.getDonorCount() - 1);
-                campaignRepository.save(campaign);
-
-                log.info("Campaign after refund: currentAmount={}, donorCount={}",
-                        campaign.getCurrentAmount(), campaign.getDonorCount());
-
-                // 3. 기부 상태를 환불로 변경
-                donation.setPaymentStatus(Donation.PaymentStatus.REFUNDED);
-                donation.setFailureReason("FDS 차단: " + request.getReason());
-
-                log.info("✅ Payment refunded successfully (both PortOne and DB) for donation: {}", donationId);
-
-            } else if (donation.getPaymentStatus() == Donation.PaymentStatus.PENDING ||
-                       donation.getPaymentStatus() == Donation.PaymentStatus.PROCESSING) {
-                // 대기 중인 결제는 취소 처리
+        // BLOCK인 경우 대기 중인 결제는 취소 처리 (완료된 결제는 위에서 환불 처리됨)
+        if ("BLOCK".equals(newAction) && !refund) {
+            if (donation.getPaymentStatus() == Donation.PaymentStatus.PENDING ||
+                donation.getPaymentStatus() == Donation.PaymentStatus.PROCESSING) {
                 log.info("Cancelling pending/processing payment - Donation ID: {}", donationId);
 
                 donation.setPaymentStatus(Donation.PaymentStatus.CANCELLED);
-                donation.setFailureReason("FDS 차단: " + request.getReason());
+                donation.setFailureReason(blockReason);
 
                 log.info("✅ Payment cancelled successfully for donation: {}", donationId);
 
             } else if (donation.getPaymentStatus() == Donation.PaymentStatus.FAILED) {
                 // 실패한 결제는 상태 변경 없이 사유만 업데이트
                 log.info("Payment already failed - Donation ID: {}", donationId);
-                donation.setFailureReason("FDS 차단: " + request.getReason());
+                donation.setFailureReason(blockReason);
+
+            } else if (donation.getPaymentStatus() == Donation.PaymentStatus.COMPLETED) {
+                // 조회 이후 결제가 완료된 경우 - PortOne 취소 없이 차단만 기록하면 금액이 어긋나므로 거부
+                throw new BusinessException("결제 상태가 변경되었습니다. 다시 시도해주세요.");
             }
         }
 
@@ -985,7 +1008,15 @@ public class DonationServiceImpl implements DonationService {
         log.info("  - Donation: {}", donationId);
         log.info("  - Action: {} → {}", previousAction, newAction);
         log.info("  - Payment Status: {}", savedDonation.getPaymentStatus());
-        log.info("  - Reason: {}", request.getReason());
+        log.info("  - Reason: {}", reason);
+
+        auditLogger.recordAfterCommit(AuditLog.success(AuditAction.FDS_OVERRIDE, AuditCategory.DONATION_MANAGEMENT,
+                        overrideExplanation)
+                .withUser(currentUser)
+                .withTarget("Donation", donationId)
+                .withRiskLevel("HIGH")
+                .withAdditionalData(String.format("{\"previousAction\":\"%s\",\"newAction\":\"%s\",\"paymentStatus\":\"%s\"}",
+                        previousAction, newAction, savedDonation.getPaymentStatus())));
 
         return DonationResponse.fromEntity(savedDonation);
     }
@@ -1,23 +1,29 @@
 package com.hanachain.hanachainbackend.service.impl;
 
+import com.hanachain.hanachainbackend.config.transaction.TransactionCallbacks;
+import com.hanachain.hanachainbackend.entity.EmailOutbox;
 import com.hanachain.hanachainbackend.entity.VerificationSession;
+import com.hanachain.hanachainbackend.repository.EmailOutboxRepository;
 import com.hanachain.hanachainbackend.service.EmailService;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
+import com.hanachain.hanachainbackend.service.mail.EmailOutboxWorker;
+import com.hanachain.hanachainbackend.service.mail.MailTemplate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailServiceImpl implements EmailService {
     
-    private final JavaMailSender mailSender;
+    /** 인증 코드 메일 템플릿 (기동 시 한 번 컴파일) */
+    private static final MailTemplate VERIFICATION_TEMPLATE = MailTemplate.load("mail/verification-code.html");
+    
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailOutboxWorker outboxWorker;
     
     @Value("${app.mail.from}")
     private String fromAddress;
@@ -29,9 +35,6 @@ public class EmailServiceImpl implements EmailService {
         if (fromAddress == null || fromAddress.isEmpty()) {
             throw new RuntimeException("Email from address is not configured");
         }
-        if (mailSender == null) {
-            throw new RuntimeException("JavaMailSender is not configured");
-        }
         log.debug("Email configuration validated - From: {}", fromAddress);
     }
     
@@ -52,11 +55,12 @@ public class EmailServiceImpl implements EmailService {
         String subject = getSubjectByType(type);
         String content = createVerificationEmailContent(verificationCode, type);
         
-        log.debug("Sending verification email - To: {}, Subject: {}, Code: {}", to, subject, verificationCode);
+        log.debug("Queueing verification email - To: {}, Subject: {}", to, subject);
         
-        sendHtmlEmail(to, subject, content);
+        // 인증 코드가 보관 기간 동안 평문으로 남지 않도록 발송 즉시 대기열에서 삭제
+        enqueue(to, subject, content, true, true);
         
-        log.info("Verification email sent successfully to: {}", to);
+        log.info("Verification email queued for: {}", to);
     }
     
     @Override
@@ -71,47 +75,32 @@ public class EmailServiceImpl implements EmailService {
     
     @Override
     public void sendSimpleEmail(String to, String subject, String content) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromAddress);
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(content);
-            
-            mailSender.send(message);
-            log.info("Simple email sent successfully to: {}", to);
-        } catch (Exception e) {
-            log.error("Failed to send simple email to: {}", to, e);
-            throw new RuntimeException("Failed to send email", e);
-        }
+        enqueue(to, subject, content, false, false);
+        log.info("Simple email queued for: {}", to);
     }
     
     @Override
     public void sendHtmlEmail(String to, String subject, String htmlContent) {
-        try {
-            log.debug("Creating HTML email message - To: {}, Subject: {}", to, subject);
-            
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            
-            helper.setFrom(fromAddress);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
-            
-            log.debug("Sending HTML email via JavaMailSender...");
-            mailSender.send(message);
-            
-            log.info("HTML email sent successfully to: {}", to);
-            
-        } catch (MessagingException e) {
-            log.error("MessagingException while sending HTML email to: {} - Error: {}", to, e.getMessage(), e);
-            throw new RuntimeException("Failed to send HTML email due to messaging error: " + e.getMessage(), e);
-            
-        } catch (Exception e) {
-            log.error("Unexpected error while sending HTML email to: {} - Error: {}", to, e.getMessage(), e);
-            throw new RuntimeException("Failed to send HTML email due to unexpected error: " + e.getMessage(), e);
-        }
+        log.debug("Queueing HTML email - To: {}, Subject: {}", to, subject);
+        enqueue(to, subject, htmlContent, true, false);
+        log.info("HTML email queued for: {}", to);
+    }
+    
+    /**
+     * 발송 대기열에 저장하고, 현재 트랜잭션이 커밋되면 발송 워커를 깨웁니다.
+     * 호출자의 트랜잭션에 참여하므로 호출자가 롤백하면 메일도 발송되지 않습니다.
+     * purgeOnSend이면 발송 완료/최종 실패 즉시 행을 삭제합니다 (본문에 인증 코드 등 비밀 값이 있는 메일).
+     */
+    private void enqueue(String to, String subject, String body, boolean html, boolean purgeOnSend) {
+        outboxRepository.save(EmailOutbox.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(body)
+                .html(html)
+                .purgeOnSend(purgeOnSend)
+                .build());
+        
+        TransactionCallbacks.afterCommit(outboxWorker::wakeUp);
     }
     
     private String getSubjectByType(VerificationSession.VerificationType type) {
@@ -123,183 +112,9 @@ public class EmailServiceImpl implements EmailService {
     }
     
     private String createVerificationEmailContent(String verificationCode, VerificationSession.VerificationType type) {
-        String action = getActionByType(type);
-        
-        return String.format("""
-            <!DOCTYPE html>
-<html>
-  <head>
-    <meta charset="UTF-8" />
-    <title>위아하나 인증 코드</title>
-    <style>
-      @import url("https://fonts.googleapis.com/css2?family=Noto+Sans+KR:wght@300;400;500;700;800&display=swap");
-      @import url("https://cdn.jsdelivr.net/gh/orioncactus/pretendard@v1.3.9/dist/web/static/pretendard.min.css");
-    </style>
-  </head>
-  <body
-    style="
-      font-family: 'Pretendard', 'Apple SD Gothic Neo', 'Noto Sans KR',
-        -apple-system, BlinkMacSystemFont, 'Segoe UI', sans-serif;
-      max-width: 600px;
-      margin: 0 auto;
-      padding: 0;
-      background-color: #f8f9fa;
-    "
-  >
-    <!-- Header with Logo -->
-    <div
-      style="
-        background-color: white;
-        padding: 24px 32px;
-        border-bottom: 1px solid #e9ecef;
-      "
-    >
-      <div style="display: flex; align-items: center">
-        <img
-          src="https://www.hanafn.com/assets/img/ko/info/img-hana-symbol.png"
-          alt="HanaChain Logo"
-          style="
-            width: 40px;
-            height: 40px;
-            margin-right: 12px;
-            object-fit: contain;
-          "
-        />
-        <h1
-          style="
-            color: #009591;
-            margin: 0;
-            font-size: 24px;
-            font-weight: 700;
-            letter-spacing: -0.5px;
-          "
-        >
-          HanaChain
-        </h1>
-      </div>
-    </div>
-
-    <!-- Main Content -->
-    <div style="background-color: white; padding: 40px 32px">
-      <h2
-        style="
-          color: #212529;
-          margin: 0 0 24px 0;
-          font-size: 20px;
-          font-weight: 500;
-          line-height: 1.4;
-        "
-      >
-        안녕하세요.
-      </h2>
-
-      <p
-        style="
-          color: #495057;
-          margin: 0 0 16px 0;
-          font-size: 16px;
-          line-height: 1.6;
-          font-weight: 500;
-        "
-      >
-        HanaChain 계정 %s 확인을 위한<br />
-        인증코드 안내드립니다.
-      </p>
-
-      <div style="margin: 32px 0">
-        <p
-          style="
-            color: #6c757d;
-            margin: 0 0 24px 0;
-            font-size: 14px;
-            line-height: 1.5;
-          "
-        >
-          HanaChain 계정 %s 확인을 위한 인증코드를 아래와 같이<br />
-          안내해 드립니다.
-        </p>
-
-        <p
-          style="
-            color: #009591;
-            margin: 0 0 16px 0;
-            font-size: 14px;
-            font-weight: 500;
-          "
-        >
-          본 안내 메일 발송 후 10분 이내에 HanaChain 인증코드 확인<br />
-          화면에 입력해 주세요.
-        </p>
-      </div>
-
-      <!-- Verification Code Box -->
-      <div
-        style="
-          background-color: #f0fffe;
-          border-radius: 8px;
-          padding: 24px;
-          text-align: center;
-          margin: 32px 0;
-        "
-      >
-        <div
-          style="
-            color: #009591;
-            font-size: 36px;
-            font-weight: 700;
-            letter-spacing: 8px;
-            font-family: 'Courier New', monospace;
-          "
-        >
-          %s
-        </div>
-      </div>
-
-      <p
-        style="
-          color: #6c757d;
-          margin: 24px 0 0 0;
-          font-size: 14px;
-          line-height: 1.5;
-        "
-      >
-        만약 본인이 이메일 주소 확인 신청을 한 것이 아니라면, 본<br />
-        메일은 무시해 주세요.
-      </p>
-
-      <p
-        style="
-          color: #6c757d;
-          margin: 16px 0 0 0;
-          font-size: 14px;
-          line-height: 1.5;
-        "
-      >
-        기타 문의 사항이 있으시면,
-        <span style="color: #009591; text-decoration: underline"
-          >support@wearehana.org</span
-        >로<br />
-        보내주세요.
-      </p>
-    </div>
-
-    <!-- Footer -->
-    <div
-      style="
-        background-color: #f8f9fa;
-        padding: 24px 32px;
-        text-align: center;
-        border-top: 1px solid #e9ecef;
-      "
-    >
-      <p style="color: #6c757d; margin: 0; font-size: 14px; font-weight: 500">
-        HanaChain 팀
-      </p>
-    </div>
-  </body>
-</html>
-
-            """, action, action, verificationCode);
+        return VERIFICATION_TEMPLATE.render(Map.of(
+                "action", getActionByType(type),
+                "code", verificationCode));
     }
     
     private String getActionByType(VerificationSession.VerificationType type) {
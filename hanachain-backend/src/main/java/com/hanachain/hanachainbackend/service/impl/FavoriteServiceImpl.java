@@ -5,9 +5,12 @@ import com.hanachain.hanachainbackend.entity.User;
 import com.hanachain.hanachainbackend.entity.UserFavorite;
 import com.hanachain.hanachainbackend.dto.user.FavoriteAddRequest;
 import com.hanachain.hanachainbackend.dto.user.FavoriteResponse;
+import com.hanachain.hanachainbackend.dto.user.FavoriteStatusResponse;
 import com.hanachain.hanachainbackend.dto.user.PagedResponse;
 import com.hanachain.hanachainbackend.exception.ProfileNotFoundException;
 import com.hanachain.hanachainbackend.service.FavoriteService;
+import com.hanachain.hanachainbackend.service.favorite.FavoriteIndex;
+import com.hanachain.hanachainbackend.service.favorite.SortedLongSet;
 import com.hanachain.hanachainbackend.repository.CampaignRepository;
 import com.hanachain.hanachainbackend.repository.UserFavoriteRepository;
 import com.hanachain.hanachainbackend.repository.UserRepository;
@@ -20,6 +23,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -31,9 +36,12 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class FavoriteServiceImpl implements FavoriteService {
 
+    private static final int MAX_STATUS_BATCH_SIZE = 100;
+
     private final UserRepository userRepository;
     private final CampaignRepository campaignRepository;
     private final UserFavoriteRepository userFavoriteRepository;
+    private final FavoriteIndex favoriteIndex;
 
     @Override
     @Transactional
@@ -58,6 +66,7 @@ public class FavoriteServiceImpl implements FavoriteService {
                     .build();
             
             UserFavorite savedFavorite = userFavoriteRepository.save(favorite);
+            favoriteIndex.onAdded(userId, request.getCampaignId());
             
             log.info("즐겨찾기 추가 완료 - 사용자 ID: {}, 캠페인 ID: {}", userId, request.getCampaignId());
             
@@ -78,6 +87,7 @@ public class FavoriteServiceImpl implements FavoriteService {
                 .orElseThrow(() -> new IllegalArgumentException("즐겨찾기에서 찾을 수 없는 캠페인입니다."));
         
         userFavoriteRepository.delete(favorite);
+        favoriteIndex.onRemoved(userId, campaignId);
         
         log.info("즐겨찾기 제거 완료 - 사용자 ID: {}, 캠페인 ID: {}", userId, campaignId);
     }
@@ -136,7 +146,29 @@ public class FavoriteServiceImpl implements FavoriteService {
 
     @Override
     public boolean isFavorite(Long userId, Long campaignId) {
-        return userFavoriteRepository.existsByUserIdAndCampaignId(userId, campaignId);
+        return favoriteIndex.isFavorite(userId, campaignId);
+    }
+
+    @Override
+    public List<FavoriteStatusResponse> getFavoriteStatuses(Long userId, List<Long> campaignIds) {
+        if (campaignIds == null || campaignIds.isEmpty()) {
+            return List.of();
+        }
+        if (campaignIds.size() > MAX_STATUS_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 캠페인은 최대 " + MAX_STATUS_BATCH_SIZE + "개입니다.");
+        }
+        
+        SortedLongSet favorites = favoriteIndex.favoritesOf(userId);
+        Map<Long, Long> counts = favoriteIndex.countsOf(campaignIds);
+        
+        return campaignIds.stream()
+                .filter(Objects::nonNull)
+                .map(campaignId -> FavoriteStatusResponse.builder()
+                        .campaignId(campaignId)
+                        .favorited(favorites.contains(campaignId))
+                        .favoriteCount(counts.getOrDefault(campaignId, 0L))
+                        .build())
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -6,6 +6,8 @@ import com.hanachain.hanachainbackend.entity.Notice;
 import com.hanachain.hanachainbackend.exception.NotFoundException;
 import com.hanachain.hanachainbackend.repository.NoticeRepository;
 import com.hanachain.hanachainbackend.service.NoticeService;
+import com.hanachain.hanachainbackend.service.counter.CounterType;
+import com.hanachain.hanachainbackend.service.counter.WriteBehindCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -24,12 +26,13 @@ import java.util.stream.Collectors;
 public class NoticeServiceImpl implements NoticeService {
     
     private final NoticeRepository noticeRepository;
+    private final WriteBehindCounter writeBehindCounter;
     
     @Override
     public Page<NoticeListResponse> getNotices(Pageable pageable) {
         log.debug("공지사항 목록 조회 - 페이지: {}", pageable.getPageNumber());
         Page<Notice> notices = noticeRepository.findAllActive(pageable);
-        return notices.map(NoticeListResponse::fromEntity);
+        return notices.map(this::toListResponse);
     }
     
     @Override
@@ -38,7 +41,7 @@ public class NoticeServiceImpl implements NoticeService {
         Pageable pageable = PageRequest.of(0, limit);
         List<Notice> notices = noticeRepository.findRecentNotices(pageable);
         return notices.stream()
-                .map(NoticeListResponse::fromEntity)
+                .map(this::toListResponse)
                 .collect(Collectors.toList());
     }
     
@@ -48,22 +51,37 @@ public class NoticeServiceImpl implements NoticeService {
         Pageable pageable = PageRequest.of(0, limit);
         List<Notice> notices = noticeRepository.findImportantNotices(pageable);
         return notices.stream()
-                .map(NoticeListResponse::fromEntity)
+                .map(this::toListResponse)
                 .collect(Collectors.toList());
     }
     
     @Override
-    @Transactional
     public NoticeResponse getNoticeDetail(Long id) {
         log.debug("공지사항 상세 조회 - ID: {}", id);
         Notice notice = noticeRepository.findByIdActive(id)
                 .orElseThrow(() -> new NotFoundException("공지사항을 찾을 수 없습니다. ID: " + id));
         
-        // 조회수 증가
-        notice.incrementViewCount();
-        noticeRepository.save(notice);
+        // 조회수 증가 (커밋 후 지연 반영, 상한 초과 시 즉시 반영도 별도 쓰기 트랜잭션이라 조회 트랜잭션은 읽기 전용 유지)
+        writeBehindCounter.increment(CounterType.NOTICE_VIEWS, notice.getId());
         
-        return NoticeResponse.fromEntity(notice);
+        NoticeResponse response = NoticeResponse.fromEntity(notice);
+        // 이번 조회분은 커밋 후에 누적되므로 직접 더함
+        response.setViewCount(viewCountOf(notice) + 1);
+        return response;
+    }
+    
+    private NoticeListResponse toListResponse(Notice notice) {
+        NoticeListResponse response = NoticeListResponse.fromEntity(notice);
+        response.setViewCount(viewCountOf(notice));
+        return response;
+    }
+    
+    /**
+     * DB 조회수에 아직 반영되지 않은 증가분을 더함
+     */
+    private Integer viewCountOf(Notice notice) {
+        int stored = notice.getViewCount() != null ? notice.getViewCount() : 0;
+        return (int) (stored + writeBehindCounter.pending(CounterType.NOTICE_VIEWS, notice.getId()));
     }
 }
 
@@ -13,7 +13,9 @@ import com.hanachain.hanachainbackend.repository.OrganizationRepository;
 import com.hanachain.hanachainbackend.repository.OrganizationUserRepository;
 import com.hanachain.hanachainbackend.repository.UserRepository;
 import com.hanachain.hanachainbackend.security.OrganizationAccessService;
+import com.hanachain.hanachainbackend.security.OrganizationMembershipCache;
 import com.hanachain.hanachainbackend.service.OrganizationService;
+import com.hanachain.hanachainbackend.service.permission.PermissionDelegationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -23,7 +25,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -39,8 +44,10 @@ public class OrganizationServiceImpl implements OrganizationService {
     private final OrganizationUserRepository organizationUserRepository;
     private final UserRepository userRepository;
     private final OrganizationAccessService organizationAccessService;
+    private final OrganizationMembershipCache organizationMembershipCache;
     private final com.hanachain.hanachainbackend.repository.OrganizationWalletRepository organizationWalletRepository;
     private final com.hanachain.hanachainbackend.service.WalletService walletService;
+    private final PermissionDelegationRegistry permissionDelegationRegistry;
 
     @Override
     @Transactional
@@ -69,6 +76,9 @@ public class OrganizationServiceImpl implements OrganizationService {
         // 생성자를 관리자로 추가
         organization.addMember(creator, OrganizationRole.ORG_ADMIN);
         organization = organizationRepository.save(organization);
+        permissionDelegationRegistry.recordOrganizationRole(creator, organization, OrganizationRole.ORG_ADMIN,
+            creatorUserId, creator.getName(), null, false, null);
+        organizationMembershipCache.evictUser(creatorUserId);
 
         // 조직을 위한 블록체인 지갑 자동 생성
         try {
@@ -104,31 +114,17 @@ public class OrganizationServiceImpl implements OrganizationService {
     
     @Override
     public Page<OrganizationResponse> getAllOrganizations(Pageable pageable) {
-        return organizationRepository.findAll(pageable)
-            .map(this::convertToDTO);
+        return toSummaryPage(organizationRepository.findSummaries(null, null, pageable));
     }
     
     @Override
     public Page<OrganizationResponse> getOrganizationsByStatus(OrganizationStatus status, Pageable pageable) {
-        return organizationRepository.findByStatus(status, pageable)
-            .map(this::convertToDTO);
+        return toSummaryPage(organizationRepository.findSummaries(status, null, pageable));
     }
     
     @Override
     public Page<OrganizationResponse> searchOrganizations(String name, OrganizationStatus status, Pageable pageable) {
-        if (name != null && status != null) {
-            return organizationRepository.findByStatusAndNameContainingIgnoreCase(status, name, pageable)
-                .map(this::convertToDTO);
-        } else if (name != null) {
-            return organizationRepository.findByNameContainingIgnoreCase(name, pageable)
-                .map(this::convertToDTO);
-        } else if (status != null) {
-            return organizationRepository.findByStatus(status, pageable)
-                .map(this::convertToDTO);
-        } else {
-            return organizationRepository.findAll(pageable)
-                .map(this::convertToDTO);
-        }
+        return toSummaryPage(organizationRepository.findSummaries(status, name, pageable));
     }
     
     @Override
@@ -148,12 +144,16 @@ public class OrganizationServiceImpl implements OrganizationService {
         }
 
         // 조직 업데이트
+        boolean statusChanged = organization.getStatus() != request.getStatus();
         organization.setName(request.getName());
         organization.setDescription(request.getDescription());
         organization.setImageUrl(request.getImageUrl());
         organization.setStatus(request.getStatus());
         
         organization = organizationRepository.save(organization);
+        if (statusChanged) {
+            organizationMembershipCache.evictAll();
+        }
         
         log.info("Updated organization ID: {}", id);
         return convertToDTO(organization);
@@ -175,6 +175,7 @@ public class OrganizationServiceImpl implements OrganizationService {
 
         // 소프트 삭제 (@SQLDelete 어노테이션으로 처리됨)
         organizationRepository.delete(organization);
+        organizationMembershipCache.evictOrganization(id);
         
         log.info("Deleted organization ID: {}", id);
     }
@@ -237,6 +238,10 @@ public class OrganizationServiceImpl implements OrganizationService {
             .build();
         
         orgUser = organizationUserRepository.save(orgUser);
+        organizationRepository.adjustMemberCounts(organizationId, 1, request.getRole().isAdmin() ? 1 : 0);
+        permissionDelegationRegistry.recordOrganizationRole(user, organization, request.getRole(),
+            adminUserId, null, null, false, null);
+        organizationMembershipCache.evictUser(request.getUserId());
         
         log.info("Added user {} to organization {} with role {}", request.getUserId(), organizationId, request.getRole());
         return convertToMemberDTO(orgUser);
@@ -262,8 +267,15 @@ public class OrganizationServiceImpl implements OrganizationService {
             .orElseThrow(() -> new NotFoundException("User is not a member of this organization"));
 
         // 역할 업데이트
+        boolean wasAdmin = orgUser.getRole().isAdmin();
         orgUser.setRole(request.getRole());
         orgUser = organizationUserRepository.save(orgUser);
+        if (wasAdmin != request.getRole().isAdmin()) {
+            organizationRepository.adjustMemberCounts(organizationId, 0, wasAdmin ? -1 : 1);
+        }
+        permissionDelegationRegistry.recordOrganizationRole(orgUser.getUser(), orgUser.getOrganization(),
+            request.getRole(), adminUserId, null, null, false, null);
+        organizationMembershipCache.evictUser(userId);
         
         log.info("Updated role of user {} in organization {} to {}", userId, organizationId, request.getRole());
         return convertToMemberDTO(orgUser);
@@ -287,6 +299,9 @@ public class OrganizationServiceImpl implements OrganizationService {
 
         // 멤버십 제거 (소프트 삭제)
         organizationUserRepository.delete(orgUser);
+        organizationRepository.adjustMemberCounts(organizationId, -1, orgUser.getRole().isAdmin() ? -1 : 0);
+        permissionDelegationRegistry.revokeOrganizationRole(userId, organizationId, adminUserId);
+        organizationMembershipCache.evictUser(userId);
         
         log.info("Removed user {} from organization {}", userId, organizationId);
     }
@@ -303,18 +318,15 @@ public class OrganizationServiceImpl implements OrganizationService {
     
     @Override
     public List<OrganizationResponse> getOrganizationsForUser(Long userId) {
-        return organizationUserRepository.findByUserId(userId)
+        return convertToDTOs(organizationUserRepository.findByUserId(userId)
             .stream()
-            .map(orgUser -> convertToDTO(orgUser.getOrganization()))
-            .collect(Collectors.toList());
+            .map(OrganizationUser::getOrganization)
+            .collect(Collectors.toList()));
     }
     
     @Override
     public List<OrganizationResponse> getOrganizationsWhereUserIsAdmin(Long userId) {
-        return organizationUserRepository.findOrganizationsWhereUserIsAdmin(userId)
-            .stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(organizationUserRepository.findOrganizationsWhereUserIsAdmin(userId));
     }
     
     @Override
@@ -339,23 +351,68 @@ public class OrganizationServiceImpl implements OrganizationService {
     
     @Override
     public List<OrganizationResponse> getOrganizationsWithActiveCampaigns() {
-        return organizationRepository.findOrganizationsWithActiveCampaigns()
-            .stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(organizationRepository.findOrganizationsWithActiveCampaigns());
     }
     
     @Override
     public List<OrganizationResponse> getDeletableOrganizations() {
-        return organizationRepository.findDeletableOrganizations()
-            .stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(organizationRepository.findDeletableOrganizations());
     }
 
     // DTO 변환을 위한 헬퍼 메서드
 
+    /**
+     * 목록 읽기 모델 페이지를 응답으로 변환 (활성 캠페인 수는 페이지 전체를 한 번의 그룹 쿼리로 조회)
+     */
+    private Page<OrganizationResponse> toSummaryPage(Page<OrganizationSummary> summaries) {
+        Map<Long, Long> activeCampaignCounts = countActiveCampaigns(
+            summaries.getContent().stream().map(OrganizationSummary::getId).collect(Collectors.toList()));
+
+        return summaries.map(summary -> OrganizationResponse.builder()
+            .id(summary.getId())
+            .name(summary.getName())
+            .description(summary.getDescription())
+            .imageUrl(summary.getImageUrl())
+            .status(summary.getStatus())
+            .createdAt(summary.getCreatedAt())
+            .updatedAt(summary.getUpdatedAt())
+            .memberCount(summary.getMemberCount())
+            .adminCount(summary.getAdminCount())
+            .activeCampaignCount(activeCampaignCounts.getOrDefault(summary.getId(), 0L))
+            .walletAddress(summary.getWalletAddress())
+            .build());
+    }
+
+    private List<OrganizationResponse> convertToDTOs(List<Organization> organizations) {
+        Map<Long, Long> activeCampaignCounts = countActiveCampaigns(
+            organizations.stream().map(Organization::getId).collect(Collectors.toList()));
+        return organizations.stream()
+            .map(organization -> convertToDTO(organization, activeCampaignCounts))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 조직 ID별 활성 캠페인 수 (조회 결과에 없는 조직은 0)
+     */
+    private Map<Long, Long> countActiveCampaigns(Collection<Long> organizationIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (organizationIds.isEmpty()) {
+            return counts;
+        }
+        for (Object[] row : organizationRepository.countActiveCampaignsByOrganizationIds(organizationIds)) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
     private OrganizationResponse convertToDTO(Organization organization) {
+        Map<Long, Long> activeCampaignCounts = organization.getId() != null
+            ? countActiveCampaigns(List.of(organization.getId()))
+            : Map.of();
+        return convertToDTO(organization, activeCampaignCounts);
+    }
+
+    private OrganizationResponse convertToDTO(Organization organization, Map<Long, Long> activeCampaignCounts) {
         OrganizationResponse dto = OrganizationResponse.builder()
             .id(organization.getId())
             .name(organization.getName())
@@ -364,9 +421,9 @@ public class OrganizationServiceImpl implements OrganizationService {
             .status(organization.getStatus())
             .createdAt(organization.getCreatedAt())
             .updatedAt(organization.getUpdatedAt())
-            .memberCount((long) organization.getMembers().size())
-            .adminCount(organization.getAdminCount())
-            .activeCampaignCount(organization.getActiveCampaignCount())
+            .memberCount(organization.getMemberCount())
+            .adminCount(organization.getAdminMemberCount())
+            .activeCampaignCount(activeCampaignCounts.getOrDefault(organization.getId(), 0L))
             .walletAddress(organization.getWalletAddress())  // 블록체인 지갑 주소 추가
             .build();
 
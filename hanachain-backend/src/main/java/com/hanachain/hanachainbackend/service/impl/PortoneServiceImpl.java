@@ -1,5 +1,6 @@
 package com.hanachain.hanachainbackend.service.impl;
 
+import com.hanachain.hanachainbackend.config.transaction.TransactionalIoGuard;
 import com.hanachain.hanachainbackend.exception.BusinessException;
 import com.hanachain.hanachainbackend.exception.InternalServerErrorException;
 import com.hanachain.hanachainbackend.service.PortoneService;
@@ -32,8 +33,9 @@ public class PortoneServiceImpl implements PortoneService {
 
     private final RestTemplate restTemplate;
 
-    public PortoneServiceImpl() {
+    public PortoneServiceImpl(TransactionalIoGuard ioGuard) {
         this.restTemplate = new RestTemplate();
+        this.restTemplate.getInterceptors().add(ioGuard.restTemplateInterceptor("portone"));
     }
 
     /**
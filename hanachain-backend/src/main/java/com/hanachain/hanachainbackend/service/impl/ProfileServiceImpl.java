@@ -7,7 +7,11 @@ import com.hanachain.hanachainbackend.dto.user.ProfileUpdateRequest;
 import com.hanachain.hanachainbackend.exception.ProfileNotFoundException;
 import com.hanachain.hanachainbackend.exception.ProfileUpdateException;
 import com.hanachain.hanachainbackend.service.ProfileService;
+import com.hanachain.hanachainbackend.service.file.UploadedFileIndex;
+import com.hanachain.hanachainbackend.service.image.ImageStorage;
+import com.hanachain.hanachainbackend.service.image.StoredImage;
 import com.hanachain.hanachainbackend.repository.UserRepository;
+import com.hanachain.hanachainbackend.security.UserSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,9 +24,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.Objects;
-import java.util.UUID;
 
 /**
  * 프로필 관리 서비스 구현체
@@ -34,12 +36,15 @@ import java.util.UUID;
 public class ProfileServiceImpl implements ProfileService {
 
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
+    private final ImageStorage imageStorage;
+    private final UploadedFileIndex uploadedFileIndex;
 
     @Value("${app.upload.profile-images:uploads/profile-images}")
     private String profileImageUploadPath;
 
-    @Value("${app.base-url:http://localhost:8080}")
-    private String baseUrl;
+    @Value("${image.profile.max-dimension:512}")
+    private int profileImageMaxDimension;
 
     @Override
     public ProfileResponse getProfile(Long userId) {
@@ -65,6 +70,7 @@ public class ProfileServiceImpl implements ProfileService {
             user.updateProfileCompleteness();
             
             User updatedUser = userRepository.save(user);
+            userSnapshotCache.evict(updatedUser.getId());
             log.info("프로필 업데이트 완료 - 사용자 ID: {}, 완성도: {}", userId, updatedUser.getProfileCompleted());
             
             return ProfileResponse.from(updatedUser);
@@ -84,23 +90,19 @@ public class ProfileServiceImpl implements ProfileService {
             // 파일 검증
             validateImageFile(image);
             
+            // 표시 크기로 축소한 JPEG를 내용 주소 방식으로 저장 (지원하지 않는 형식이면 기존 이미지를 지우기 전에 거부)
+            StoredImage stored = imageStorage.storeNormalized(image.getBytes(), image.getContentType(), profileImageMaxDimension);
+            
             // 기존 이미지 삭제
             deleteExistingProfileImage(userId);
             
-            // 새 파일 저장
-            String fileName = generateUniqueFileName(image.getOriginalFilename());
-            Path uploadPath = Paths.get(profileImageUploadPath);
-            Files.createDirectories(uploadPath);
-            
-            Path filePath = uploadPath.resolve(fileName);
-            Files.copy(image.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-            
             // 사용자 프로필 이미지 URL 업데이트
-            String imageUrl = baseUrl + "/api/files/profile-images/" + fileName;
+            String imageUrl = stored.getUrl();
             User user = findUserById(userId);
             user.setProfileImage(imageUrl);
             user.updateProfileCompleteness();
             userRepository.save(user);
+            userSnapshotCache.evict(user.getId());
             
             log.info("프로필 이미지 업로드 완료 - 사용자 ID: {}, 이미지 URL: {}", userId, imageUrl);
             
@@ -127,6 +129,7 @@ public class ProfileServiceImpl implements ProfileService {
             user.setProfileImage(null);
             user.updateProfileCompleteness();
             userRepository.save(user);
+            userSnapshotCache.evict(user.getId());
             
             log.info("프로필 이미지 삭제 완료 - 사용자 ID: {}", userId);
             
@@ -148,6 +151,7 @@ public class ProfileServiceImpl implements ProfileService {
         User user = findUserById(userId);
         user.updateProfileCompleteness();
         userRepository.save(user);
+        userSnapshotCache.evict(user.getId());
         log.debug("프로필 완성도 업데이트 완료 - 사용자 ID: {}, 완성도: {}", userId, user.getProfileCompleted());
     }
 
@@ -179,35 +183,24 @@ public class ProfileServiceImpl implements ProfileService {
         }
     }
 
-    /**
-     * 고유한 파일명 생성
-     */
-    private String generateUniqueFileName(String originalFilename) {
-        String extension = "";
-        if (StringUtils.hasText(originalFilename)) {
-            int dotIndex = originalFilename.lastIndexOf('.');
-            if (dotIndex > 0) {
-                extension = originalFilename.substring(dotIndex);
-            }
-        }
-        return UUID.randomUUID().toString() + extension;
-    }
-
     /**
      * 기존 프로필 이미지 파일 삭제
+     * 이미지 저장소의 원본은 다른 사용자/캠페인과 공유될 수 있으므로 삭제하지 않고,
+     * 이전 방식으로 profile-images 디렉터리에 저장된 파일만 삭제합니다.
      */
     private void deleteExistingProfileImage(Long userId) {
         try {
             User user = findUserById(userId);
             String currentImageUrl = user.getProfileImage();
             
-            if (StringUtils.hasText(currentImageUrl)) {
+            if (StringUtils.hasText(currentImageUrl) && !imageStorage.isStoredImageUrl(currentImageUrl)) {
                 // URL에서 파일명 추출
                 String fileName = currentImageUrl.substring(currentImageUrl.lastIndexOf('/') + 1);
                 Path filePath = Paths.get(profileImageUploadPath, fileName);
                 
                 if (Files.exists(filePath)) {
                     Files.delete(filePath);
+                    uploadedFileIndex.invalidate(filePath.toAbsolutePath().normalize());
                     log.debug("기존 프로필 이미지 파일 삭제: {}", filePath);
                 }
             }
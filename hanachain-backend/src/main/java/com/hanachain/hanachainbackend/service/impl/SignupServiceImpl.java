@@ -3,13 +3,12 @@ package com.hanachain.hanachainbackend.service.impl;
 import com.hanachain.hanachainbackend.entity.SignupSession;
 import com.hanachain.hanachainbackend.entity.User;
 import com.hanachain.hanachainbackend.entity.UserWallet;
-import com.hanachain.hanachainbackend.repository.SignupSessionRepository;
 import com.hanachain.hanachainbackend.repository.UserRepository;
 import com.hanachain.hanachainbackend.service.SignupService;
 import com.hanachain.hanachainbackend.service.WalletService;
+import com.hanachain.hanachainbackend.service.session.SignupSessionStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,7 +22,7 @@ import java.util.UUID;
 @Transactional
 public class SignupServiceImpl implements SignupService {
     
-    private final SignupSessionRepository signupSessionRepository;
+    private final SignupSessionStore signupSessionStore;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final WalletService walletService;
@@ -43,7 +42,7 @@ public class SignupServiceImpl implements SignupService {
                 .expiresAt(LocalDateTime.now().plusMinutes(30))
                 .build();
         
-        signupSessionRepository.save(session);
+        signupSessionStore.save(session);
         log.info("Created signup session with ID: {}", sessionId);
         
         return sessionId;
@@ -58,14 +57,14 @@ public class SignupServiceImpl implements SignupService {
         }
         
         // 기존 세션에서 같은 이메일이 있는지 확인하여 중복 세션 삭제
-        signupSessionRepository.deleteByEmail(email);
+        signupSessionStore.deleteByEmail(email);
         
         // 세션에 이메일과 비밀번호 정보 추가
         session.setEmail(email);
         session.setPasswordHash(passwordEncoder.encode(password));
         session.setCurrentStep(SignupSession.SignupStep.ACCOUNT);
         
-        signupSessionRepository.save(session);
+        signupSessionStore.save(session);
         log.info("Saved account info for session: {} with email: {}", sessionId, email);
     }
     
@@ -84,7 +83,7 @@ public class SignupServiceImpl implements SignupService {
         session.setEmailVerified(true);
         session.setCurrentStep(SignupSession.SignupStep.VERIFICATION);
         
-        signupSessionRepository.save(session);
+        signupSessionStore.save(session);
         log.info("Marked email verified for session: {}", sessionId);
     }
     
@@ -147,7 +146,7 @@ public class SignupServiceImpl implements SignupService {
         }
 
         // 세션 완료 표시 후 삭제
-        signupSessionRepository.deleteByEmail(session.getEmail());
+        signupSessionStore.deleteByEmail(session.getEmail());
 
         log.info("Signup completed for email: {}", session.getEmail());
         return savedUser.getId();
@@ -171,10 +170,9 @@ public class SignupServiceImpl implements SignupService {
     }
     
     @Override
-    @Scheduled(fixedRate = 600000) // 10분마다 실행
     public void cleanupExpiredSessions() {
         try {
-            signupSessionRepository.deleteExpiredSessions(LocalDateTime.now());
+            signupSessionStore.deleteExpired(LocalDateTime.now());
             log.debug("Expired signup sessions cleaned up");
         } catch (Exception e) {
             log.error("Failed to cleanup expired signup sessions", e);
@@ -182,7 +180,7 @@ public class SignupServiceImpl implements SignupService {
     }
     
     private SignupSession getValidSession(String sessionId) {
-        SignupSession session = signupSessionRepository.findBySessionIdAndNotExpired(sessionId, LocalDateTime.now())
+        SignupSession session = signupSessionStore.findActive(sessionId, LocalDateTime.now())
                 .orElseThrow(() -> new RuntimeException("Invalid or expired session"));
         
         if (session.isExpired()) {
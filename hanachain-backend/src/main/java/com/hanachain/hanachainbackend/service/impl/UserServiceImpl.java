@@ -9,6 +9,8 @@ import com.hanachain.hanachainbackend.entity.VerificationSession;
 import com.hanachain.hanachainbackend.entity.UserWallet;
 import com.hanachain.hanachainbackend.repository.UserRepository;
 import com.hanachain.hanachainbackend.security.JwtTokenProvider;
+import com.hanachain.hanachainbackend.security.RefreshTokenStore;
+import com.hanachain.hanachainbackend.security.UserSnapshotCache;
 import com.hanachain.hanachainbackend.service.UserService;
 import com.hanachain.hanachainbackend.service.VerificationService;
 import com.hanachain.hanachainbackend.service.WalletService;
@@ -19,7 +21,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -38,6 +39,8 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserSnapshotCache userSnapshotCache;
     private final VerificationService verificationService;
     private final WalletService walletService;
 
@@ -118,16 +121,16 @@ public class UserServiceImpl implements UserService {
     public LoginResponse loginUser(LoginRequest request) {
         try {
             // 인증 처리
-            Authentication authentication = authenticationManager.authenticate(
+            authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
             );
 
-            // 토큰 생성
-            String accessToken = tokenProvider.generateAccessToken(authentication);
-            String refreshToken = tokenProvider.generateRefreshToken(request.getEmail());
-
             // 사용자 정보 조회
             User user = findByEmail(request.getEmail());
+
+            // 토큰 생성 (사용자 ID, 역할, 토큰 버전 클레임 포함, 리프레시 토큰은 저장소에서 추적)
+            String accessToken = tokenProvider.generateAccessToken(user);
+            String refreshToken = refreshTokenStore.issue(user);
             UserProfileResponse userProfile = UserProfileResponse.fromEntity(user);
 
             log.info("User logged in successfully: {}", request.getEmail());
@@ -147,18 +150,22 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public LoginResponse refreshToken(String refreshToken) {
-        // 토큰 유효성 검증
-        if (!tokenProvider.validateToken(refreshToken)) {
-            throw new RuntimeException("유효하지 않은 리프레시 토큰입니다.");
-        }
+        // 토큰 유효성 검증 (파싱 1회)
+        JwtTokenProvider.TokenClaims claims = tokenProvider.parseToken(refreshToken)
+                .orElseThrow(() -> new RuntimeException("유효하지 않은 리프레시 토큰입니다."));
 
         // 사용자 정보 추출
-        String email = tokenProvider.getUsernameFromToken(refreshToken);
+        String email = claims.subject();
         User user = findByEmail(email);
 
-        // 새 토큰 발급
-        String newAccessToken = tokenProvider.generateAccessToken(email);
-        String newRefreshToken = tokenProvider.generateRefreshToken(email);
+        // 토큰 버전이 없거나 올라간(무효화된) 리프레시 토큰 거부
+        if (claims.tokenVersion() == null || !claims.tokenVersion().equals(user.getTokenVersion())) {
+            throw new RuntimeException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        // 리프레시 토큰 교체 (교체된 토큰 재사용 시 계열 전체 폐기) 후 새 토큰 발급
+        String newRefreshToken = refreshTokenStore.rotate(claims, user);
+        String newAccessToken = tokenProvider.generateAccessToken(user);
 
         UserProfileResponse userProfile = UserProfileResponse.fromEntity(user);
 
@@ -172,6 +179,13 @@ public class UserServiceImpl implements UserService {
                 .build();
     }
 
+    @Override
+    public void logout(String refreshToken) {
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenStore.revoke(refreshToken);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public UserProfileResponse getUserProfile(Long userId) {
@@ -195,6 +209,7 @@ public class UserServiceImpl implements UserService {
         }
 
         User updatedUser = userRepository.save(user);
+        userSnapshotCache.evict(updatedUser.getId());
         log.info("User profile updated: {}", updatedUser.getEmail());
 
         return UserProfileResponse.fromEntity(updatedUser);
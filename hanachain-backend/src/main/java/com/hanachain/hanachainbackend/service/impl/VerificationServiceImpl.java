@@ -1,14 +1,13 @@
 package com.hanachain.hanachainbackend.service.impl;
 
 import com.hanachain.hanachainbackend.entity.VerificationSession;
-import com.hanachain.hanachainbackend.repository.VerificationSessionRepository;
 import com.hanachain.hanachainbackend.service.EmailService;
 import com.hanachain.hanachainbackend.service.VerificationService;
+import com.hanachain.hanachainbackend.service.session.VerificationSessionStore;
 import com.hanachain.hanachainbackend.util.VerificationCodeGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,7 +20,7 @@ import java.util.Optional;
 @Transactional
 public class VerificationServiceImpl implements VerificationService {
     
-    private final VerificationSessionRepository verificationSessionRepository;
+    private final VerificationSessionStore verificationSessionStore;
     private final EmailService emailService;
     private final VerificationCodeGenerator codeGenerator;
     
@@ -41,8 +40,7 @@ public class VerificationServiceImpl implements VerificationService {
         }
         
         // 최근 발송 기록 확인하여 중복 발송 방지 (30초 제한)
-        Optional<VerificationSession> recentSession = verificationSessionRepository
-                .findLatestSessionByEmail(email, type);
+        Optional<VerificationSession> recentSession = verificationSessionStore.findLatest(email, type);
         
         if (recentSession.isPresent()) {
             VerificationSession session = recentSession.get();
@@ -73,7 +71,7 @@ public class VerificationServiceImpl implements VerificationService {
                 .build();
         
         log.debug("Saving verification session - Email: {}, ExpiresAt: {}", email, session.getExpiresAt());
-        verificationSessionRepository.save(session);
+        verificationSessionStore.create(session);
         
         // 이메일 발송
         try {
@@ -85,7 +83,7 @@ public class VerificationServiceImpl implements VerificationService {
                     email, type, e.getMessage(), e);
             // 실패한 세션 삭제
             try {
-                verificationSessionRepository.delete(session);
+                verificationSessionStore.delete(session);
                 log.debug("Deleted failed verification session for email: {}", email);
             } catch (Exception deleteEx) {
                 log.warn("Failed to delete verification session after email send failure", deleteEx);
@@ -96,8 +94,8 @@ public class VerificationServiceImpl implements VerificationService {
     
     @Override
     public boolean verifyCode(String email, String code, VerificationSession.VerificationType type) {
-        Optional<VerificationSession> sessionOpt = verificationSessionRepository
-                .findLatestUnverifiedSession(email, type, LocalDateTime.now());
+        Optional<VerificationSession> sessionOpt = verificationSessionStore
+                .findActive(email, type, LocalDateTime.now());
         
         if (sessionOpt.isEmpty()) {
             log.warn("No valid verification session found for email: {} and type: {}", email, type);
@@ -113,8 +111,7 @@ public class VerificationServiceImpl implements VerificationService {
         }
         
         // 시도 횟수 증가
-        session.incrementAttempt();
-        verificationSessionRepository.save(session);
+        verificationSessionStore.recordAttempt(session);
         
         // 코드 검증
         if (!session.getVerificationCode().equals(code)) {
@@ -129,18 +126,16 @@ public class VerificationServiceImpl implements VerificationService {
         }
         
         // 인증 성공
-        session.setVerified(true);
-        verificationSessionRepository.save(session);
+        verificationSessionStore.markVerified(session);
         
         log.info("Verification successful for email: {} and type: {}", email, type);
         return true;
     }
     
     @Override
-    @Scheduled(fixedRate = 300000) // 5분마다 실행
     public void cleanupExpiredSessions() {
         try {
-            verificationSessionRepository.deleteExpiredSessions(LocalDateTime.now());
+            verificationSessionStore.deleteExpired(LocalDateTime.now());
             log.debug("Expired verification sessions cleaned up");
         } catch (Exception e) {
             log.error("Failed to cleanup expired verification sessions", e);
@@ -149,15 +144,15 @@ public class VerificationServiceImpl implements VerificationService {
     
     @Override
     public void deleteVerificationSessions(String email, VerificationSession.VerificationType type) {
-        verificationSessionRepository.deleteByEmailAndType(email, type);
+        verificationSessionStore.deleteByEmailAndType(email, type);
         log.debug("Deleted verification sessions for email: {} and type: {}", email, type);
     }
     
     @Override
     public void resendVerificationCode(String email, VerificationSession.VerificationType type) {
         // 기존 세션 확인
-        Optional<VerificationSession> existingSession = verificationSessionRepository
-                .findLatestUnverifiedSession(email, type, LocalDateTime.now());
+        Optional<VerificationSession> existingSession = verificationSessionStore
+                .findActive(email, type, LocalDateTime.now());
         
         if (existingSession.isPresent()) {
             VerificationSession session = existingSession.get();
@@ -2,8 +2,11 @@ package com.hanachain.hanachainbackend.service.impl;
 
 import com.hanachain.hanachainbackend.entity.User;
 import com.hanachain.hanachainbackend.entity.UserWallet;
+import com.hanachain.hanachainbackend.entity.enums.AuditAction;
+import com.hanachain.hanachainbackend.entity.enums.AuditCategory;
 import com.hanachain.hanachainbackend.exception.*;
 import com.hanachain.hanachainbackend.repository.UserWalletRepository;
+import com.hanachain.hanachainbackend.security.annotation.Audited;
 import com.hanachain.hanachainbackend.service.WalletService;
 import com.hanachain.hanachainbackend.service.blockchain.BlockchainService;
 import com.hanachain.hanachainbackend.util.WalletEncryptionUtil;
@@ -56,6 +59,7 @@ public class WalletServiceImpl implements WalletService {
     // =========================== 지갑 생성 및 관리 ===========================
     
     @Override
+    @Audited(action = AuditAction.WALLET_CREATE, category = AuditCategory.WALLET_MANAGEMENT, description = "지갑 생성", targetType = "UserWallet")
     public UserWallet createWallet(User user, String password, boolean isPrimary) {
         log.info("Creating new wallet for user: {}", user.getId());
         
@@ -118,6 +122,7 @@ public class WalletServiceImpl implements WalletService {
     }
     
     @Override
+    @Audited(action = AuditAction.WALLET_CONNECT, category = AuditCategory.WALLET_MANAGEMENT, description = "외부 지갑 연결", targetType = "UserWallet")
     public UserWallet connectExternalWallet(User user, String walletAddress, 
                                           UserWallet.WalletType walletType, boolean isPrimary) {
         log.info("Connecting external wallet for user: {}, address: {}", user.getId(), walletAddress);
@@ -162,6 +167,8 @@ public class WalletServiceImpl implements WalletService {
     }
     
     @Override
+    @Audited(action = AuditAction.WALLET_KEY_ACCESS, category = AuditCategory.WALLET_MANAGEMENT, description = "사용자 비밀번호로 지갑 개인키 복호화",
+             targetType = "UserWallet", riskLevel = "HIGH")
     public Credentials getCredentials(UserWallet userWallet, String password) {
         if (userWallet.isExternalWallet()) {
             throw WalletDecryptionException.noPrivateKey();
@@ -184,6 +191,8 @@ public class WalletServiceImpl implements WalletService {
     }
 
     @Override
+    @Audited(action = AuditAction.WALLET_KEY_ACCESS, category = AuditCategory.WALLET_MANAGEMENT, description = "마스터 키로 지갑 개인키 복호화 (배치)",
+             targetType = "UserWallet", riskLevel = "HIGH")
     public Credentials getCredentials(UserWallet userWallet) {
         if (userWallet.isExternalWallet()) {
             throw WalletDecryptionException.noPrivateKey();
@@ -282,6 +291,8 @@ public class WalletServiceImpl implements WalletService {
     // =========================== 지갑 상태 관리 ===========================
     
     @Override
+    @Audited(action = AuditAction.WALLET_VERIFY, category = AuditCategory.WALLET_MANAGEMENT, description = "지갑 검증",
+             targetType = "UserWallet", targetParam = "walletId")
     public void verifyWallet(Long walletId, User user) {
         UserWallet wallet = getUserWalletOrThrow(walletId, user);
         
@@ -293,6 +304,8 @@ public class WalletServiceImpl implements WalletService {
     }
     
     @Override
+    @Audited(action = AuditAction.WALLET_SET_PRIMARY, category = AuditCategory.WALLET_MANAGEMENT, description = "주 지갑 설정",
+             targetType = "UserWallet", targetParam = "walletId")
     public void setPrimaryWallet(Long walletId, User user) {
         UserWallet wallet = getUserWalletOrThrow(walletId, user);
         
@@ -307,6 +320,8 @@ public class WalletServiceImpl implements WalletService {
     }
     
     @Override
+    @Audited(action = AuditAction.WALLET_DELETE, category = AuditCategory.WALLET_MANAGEMENT, description = "지갑 삭제",
+             targetType = "UserWallet", targetParam = "walletId", riskLevel = "HIGH")
     public void deleteWallet(Long walletId, User user) {
         UserWallet wallet = getUserWalletOrThrow(walletId, user);
         
@@ -369,6 +384,8 @@ public class WalletServiceImpl implements WalletService {
     }
     
     @Override
+    @Audited(action = AuditAction.WALLET_SIGN, category = AuditCategory.WALLET_MANAGEMENT, description = "지갑 트랜잭션 서명",
+             targetType = "UserWallet", riskLevel = "HIGH")
     @Transactional(readOnly = true)
     public String signTransaction(UserWallet userWallet, String password, String transactionData) {
         if (userWallet.isExternalWallet()) {
@@ -425,6 +442,8 @@ public class WalletServiceImpl implements WalletService {
     // =========================== 조직 지갑 관리 구현 ===========================
 
     @Override
+    @Audited(action = AuditAction.WALLET_CREATE, category = AuditCategory.WALLET_MANAGEMENT, description = "단체 지갑 생성",
+             targetType = "Organization", targetParam = "organizationId", organizationParam = "organizationId")
     public com.hanachain.hanachainbackend.entity.OrganizationWallet generateWalletForOrganization(Long organizationId) {
         log.info("Generating wallet for organization: {}", organizationId);
 
@@ -0,0 +1,323 @@
+package com.hanachain.hanachainbackend.service.mail;
+
+import com.hanachain.hanachainbackend.entity.EmailOutbox;
+import com.hanachain.hanachainbackend.entity.enums.EmailOutboxStatus;
+import com.hanachain.hanachainbackend.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 이메일 발송 워커
+ *
+ * 워커 스레드(mail-worker-N)가 email_outbox에서 발송할 행을 배치로 선점해, 풀에서 빌린 SMTP 연결 하나로
+ * 차례로 보내고 결과를 한 트랜잭션으로 기록합니다. 요청 스레드는 SMTP를 기다리지 않습니다.
+ *
+ * - 새 메일이 커밋되면 {@link #wakeUp()}으로 즉시 깨어나고, 그 외에는 poll 주기마다 확인합니다.
+ * - 수신자 거부 등 메시지 단위 실패는 해당 행만, 연결 오류는 연결을 폐기하고 해당 행을 재시도로 돌립니다.
+ * - 재시도 간격은 backoff-base-ms부터 두 배씩 늘어 backoff-max-ms에서 멈추고, max-attempts를 넘으면 FAILED입니다.
+ * - 인증 코드 메일(purge_on_send)은 발송 완료나 최종 실패를 기록하는 트랜잭션에서 바로 삭제하고,
+ *   그 외 발송 완료 행은 retention-days가 지나면 {@link #purgeSent()}로 정리합니다.
+ *
+ * 지표: mail.send.latency (SMTP 전송 시간), mail.delivery.delay (저장부터 발송까지),
+ *       mail.messages (result=sent|retry|failed), mail.outbox.depth (대기 + 발송 중 행 수)
+ */
+@Slf4j
+@Component
+public class EmailOutboxWorker {
+
+    private static final List<EmailOutboxStatus> QUEUED = List.of(EmailOutboxStatus.PENDING, EmailOutboxStatus.SENDING);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository outboxRepository;
+    private final SmtpTransportPool transportPool;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Timer sendLatency;
+    private final Timer deliveryDelay;
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    private final String fromAddress;
+    private final int workerThreads;
+    private final int batchSize;
+    private final long pollIntervalNanos;
+    private final int maxAttempts;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+    private final Duration claimLease;
+    private final int retentionDays;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public EmailOutboxWorker(EmailOutboxRepository outboxRepository,
+                             SmtpTransportPool transportPool,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.mail.from}") String fromAddress,
+                             @Value("${mail.outbox.worker-threads:2}") int workerThreads,
+                             @Value("${mail.outbox.batch-size:20}") int batchSize,
+                             @Value("${mail.outbox.poll-interval-ms:2000}") long pollIntervalMs,
+                             @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+                             @Value("${mail.outbox.backoff-base-ms:5000}") long backoffBaseMs,
+                             @Value("${mail.outbox.backoff-max-ms:600000}") long backoffMaxMs,
+                             @Value("${mail.outbox.claim-lease-ms:300000}") long claimLeaseMs,
+                             @Value("${mail.outbox.retention-days:7}") int retentionDays) {
+        this.outboxRepository = outboxRepository;
+        this.transportPool = transportPool;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+        this.fromAddress = fromAddress;
+        this.workerThreads = workerThreads;
+        this.batchSize = batchSize;
+        this.pollIntervalNanos = TimeUnit.MILLISECONDS.toNanos(pollIntervalMs);
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseMs = backoffBaseMs;
+        this.backoffMaxMs = backoffMaxMs;
+        this.claimLease = Duration.ofMillis(claimLeaseMs);
+        this.retentionDays = retentionDays;
+
+        this.sendLatency = Timer.builder("mail.send.latency").register(meterRegistry);
+        this.deliveryDelay = Timer.builder("mail.delivery.delay").register(meterRegistry);
+        meterRegistry.gauge("mail.outbox.depth", queueDepth);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < workerThreads; i++) {
+            Thread thread = new Thread(this::workLoop, "mail-worker-" + (i + 1));
+            thread.setDaemon(true);
+            workers.add(thread);
+            thread.start();
+        }
+        log.info("Email outbox workers started (threads: {}, batch: {})", workerThreads, batchSize);
+    }
+
+    /**
+     * 새 메일이 커밋되었을 때 대기 중인 워커를 깨움
+     */
+    public void wakeUp() {
+        for (Thread worker : workers) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        for (Thread worker : workers) {
+            LockSupport.unpark(worker);
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join(Duration.ofSeconds(10).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 발송 중이던 행은 임대 시간이 지나면 다른 인스턴스나 재시작 후 다시 선점됨
+    }
+
+    /**
+     * 대기열 길이 지표 갱신
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:2000}")
+    public void refreshQueueDepth() {
+        queueDepth.set(outboxRepository.countByStatuses(QUEUED));
+    }
+
+    /**
+     * 보관 기간(retention-days)이 지난 발송 완료 행 정리 (매일 새벽, {@code ScheduledJobs}에서 한 노드만 실행)
+     */
+    public void purgeSent() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deleteSentBefore(EmailOutboxStatus.SENT, LocalDateTime.now().minusDays(retentionDays)));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} sent outbox rows", deleted);
+        }
+    }
+
+    /**
+     * 한 배치 선점 후 발송 (워커 스레드에서 호출)
+     *
+     * @return 선점한 행 수
+     */
+    int processBatch() {
+        String token = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> claimed = transactionTemplate.execute(status -> {
+            int count = outboxRepository.claimDue(token, now, now.minus(claimLease), batchSize);
+            return count == 0 ? List.<EmailOutbox>of() : outboxRepository.findClaimed(token);
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        List<Failure> failures = new ArrayList<>();
+        deliver(claimed, sentIds, failures);
+
+        LocalDateTime finishedAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> purgeIds = new ArrayList<>();
+            if (!sentIds.isEmpty()) {
+                outboxRepository.markSent(sentIds, token, EmailOutboxStatus.SENT, finishedAt);
+                for (EmailOutbox message : claimed) {
+                    if (Boolean.TRUE.equals(message.getPurgeOnSend()) && sentIds.contains(message.getId())) {
+                        purgeIds.add(message.getId());
+                    }
+                }
+            }
+            for (Failure failure : failures) {
+                if (recordFailure(failure, token, finishedAt) && Boolean.TRUE.equals(failure.message().getPurgeOnSend())) {
+                    purgeIds.add(failure.message().getId());
+                }
+            }
+            if (!purgeIds.isEmpty()) {
+                outboxRepository.deletePurgeOnSend(purgeIds);
+            }
+        });
+
+        count("sent", sentIds.size());
+        for (EmailOutbox message : claimed) {
+            if (sentIds.contains(message.getId())) {
+                deliveryDelay.record(Duration.between(message.getCreatedAt(), finishedAt));
+            }
+        }
+        return claimed.size();
+    }
+
+    private void deliver(List<EmailOutbox> messages, List<Long> sentIds, List<Failure> failures) {
+        Transport transport = null;
+        try {
+            for (int i = 0; i < messages.size(); i++) {
+                EmailOutbox message = messages.get(i);
+                if (transport == null) {
+                    try {
+                        transport = transportPool.borrow();
+                    } catch (MessagingException e) {
+                        // 연결 자체가 안 되면 남은 메시지 모두 재시도
+                        log.warn("SMTP connection failed: {}", e.getMessage());
+                        for (EmailOutbox remaining : messages.subList(i, messages.size())) {
+                            failures.add(new Failure(remaining, e));
+                        }
+                        return;
+                    }
+                }
+
+                try {
+                    MimeMessage mime = toMimeMessage(message);
+                    long started = System.nanoTime();
+                    transport.sendMessage(mime, mime.getAllRecipients());
+                    sendLatency.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                    sentIds.add(message.getId());
+                } catch (SendFailedException e) {
+                    // 수신자 거부 등 메시지 단위 실패 (연결은 계속 사용)
+                    failures.add(new Failure(message, e));
+                } catch (MessagingException | RuntimeException e) {
+                    failures.add(new Failure(message, e));
+                    transportPool.invalidate(transport);
+                    transport = null;
+                }
+            }
+        } finally {
+            transportPool.release(transport);
+        }
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox message) throws MessagingException {
+        MimeMessage mime = new MimeMessage(transportPool.getSession());
+        MimeMessageHelper helper = new MimeMessageHelper(mime, false, "UTF-8");
+        helper.setFrom(fromAddress);
+        helper.setTo(message.getRecipient());
+        helper.setSubject(message.getSubject());
+        helper.setText(message.getBody(), Boolean.TRUE.equals(message.getHtml()));
+        mime.saveChanges();
+        return mime;
+    }
+
+    /**
+     * 실패 기록
+     *
+     * @return 시도 한도를 넘어 FAILED로 끝났으면 true
+     */
+    private boolean recordFailure(Failure failure, String token, LocalDateTime now) {
+        EmailOutbox message = failure.message();
+        int attempt = message.getAttempts() + 1;
+        String error = truncate(failure.cause().getMessage());
+
+        if (attempt >= maxAttempts) {
+            outboxRepository.markAttemptFailed(message.getId(), token, EmailOutboxStatus.FAILED, now, error);
+            count("failed", 1);
+            log.error("Email to {} failed permanently after {} attempts: {}", message.getRecipient(), attempt, error);
+            return true;
+        }
+
+        LocalDateTime nextAttemptAt = now.plus(Duration.ofMillis(backoffDelayMs(attempt)));
+        outboxRepository.markAttemptFailed(message.getId(), token, EmailOutboxStatus.PENDING, nextAttemptAt, error);
+        count("retry", 1);
+        log.warn("Email to {} failed (attempt {}/{}), retrying at {}: {}",
+                message.getRecipient(), attempt, maxAttempts, nextAttemptAt, error);
+        return false;
+    }
+
+    /**
+     * attempt번째 실패 후 대기 시간 (base * 2^(attempt-1), 최대 backoffMaxMs)
+     */
+    long backoffDelayMs(int attempt) {
+        int shift = Math.min(attempt - 1, 30);
+        return Math.min(backoffBaseMs << shift, backoffMaxMs);
+    }
+
+    private void workLoop() {
+        while (running) {
+            int processed;
+            try {
+                processed = processBatch();
+            } catch (RuntimeException e) {
+                log.error("Email outbox batch failed", e);
+                processed = 0;
+            }
+            if (processed < batchSize && running) {
+                LockSupport.parkNanos(this, pollIntervalNanos);
+            }
+        }
+    }
+
+    private void count(String result, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter("mail.messages", "result", result).increment(amount);
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private record Failure(EmailOutbox message, Exception cause) {
+    }
+}
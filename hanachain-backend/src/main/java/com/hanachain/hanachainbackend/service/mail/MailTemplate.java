@@ -0,0 +1,82 @@
+package com.hanachain.hanachainbackend.service.mail;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 컴파일된 메일 템플릿
+ *
+ * 로딩 시 {{name}} 자리표시자를 기준으로 고정 문자열 조각과 변수 이름으로 한 번만 나눠 두고,
+ * 렌더링은 스레드별로 재사용하는 StringBuilder에 조각과 HTML 이스케이프한 값을 차례로 붙이기만 합니다.
+ * (매번 큰 템플릿 문자열을 String.format으로 파싱하지 않음)
+ */
+public final class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals;
+    private final String[] names;
+    private final ThreadLocal<StringBuilder> buffers;
+
+    private MailTemplate(String[] literals, String[] names, int initialCapacity) {
+        this.literals = literals;
+        this.names = names;
+        this.buffers = ThreadLocal.withInitial(() -> new StringBuilder(initialCapacity));
+    }
+
+    /**
+     * 클래스패스의 UTF-8 템플릿 파일 컴파일
+     */
+    public static MailTemplate load(String location) {
+        try (InputStream in = new ClassPathResource(location).getInputStream()) {
+            return compile(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일 템플릿을 읽을 수 없습니다: " + location, e);
+        }
+    }
+
+    public static MailTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                literals.add(source.substring(position));
+                break;
+            }
+            literals.add(source.substring(position, open));
+            names.add(source.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+        // 값 길이만큼 여유를 둔 초기 용량
+        return new MailTemplate(literals.toArray(String[]::new), names.toArray(String[]::new), source.length() + 256);
+    }
+
+    /**
+     * 값을 HTML 이스케이프해 채운 결과 (없는 변수는 빈 문자열)
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        for (int i = 0; i < names.length; i++) {
+            buffer.append(literals[i]);
+            String value = values.get(names[i]);
+            if (value != null) {
+                buffer.append(HtmlUtils.htmlEscape(value));
+            }
+        }
+        buffer.append(literals[names.length]);
+        return buffer.toString();
+    }
+}
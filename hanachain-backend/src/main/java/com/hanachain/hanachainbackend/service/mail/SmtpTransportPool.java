@@ -0,0 +1,105 @@
+package com.hanachain.hanachainbackend.service.mail;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * SMTP 연결 풀
+ *
+ * JavaMailSender.send는 호출마다 연결/EHLO/STARTTLS/AUTH를 다시 하므로, 발송 워커는 이 풀에서
+ * 연결된 Transport를 빌려 여러 메시지를 보내고 돌려줍니다.
+ * 유휴 시간이 지났거나 서버가 끊은 연결은 빌려줄 때 확인해 닫고 새로 연결합니다.
+ */
+@Slf4j
+@Component
+public class SmtpTransportPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingDeque<IdleTransport> idle = new LinkedBlockingDeque<>();
+    private final int maxIdle;
+    private final long idleTimeoutMs;
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender,
+                             @Value("${mail.transport.max-idle:4}") int maxIdle,
+                             @Value("${mail.transport.idle-timeout-ms:60000}") long idleTimeoutMs) {
+        this.mailSender = mailSender;
+        this.maxIdle = maxIdle;
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    public Session getSession() {
+        return mailSender.getSession();
+    }
+
+    /**
+     * 연결된 Transport 대여 (유휴 연결이 없거나 모두 끊겼으면 새로 연결)
+     */
+    public Transport borrow() throws MessagingException {
+        IdleTransport candidate;
+        long now = System.currentTimeMillis();
+        while ((candidate = idle.pollFirst()) != null) {
+            // isConnected는 SMTP NOOP으로 서버 쪽 연결 상태까지 확인
+            if (now - candidate.releasedAt() < idleTimeoutMs && candidate.transport().isConnected()) {
+                return candidate.transport();
+            }
+            close(candidate.transport());
+        }
+        return connect();
+    }
+
+    /**
+     * 정상 사용한 Transport 반납 (유휴 한도를 넘으면 닫음)
+     */
+    public void release(Transport transport) {
+        if (transport == null) {
+            return;
+        }
+        if (idle.size() >= maxIdle || !idle.offerFirst(new IdleTransport(transport, System.currentTimeMillis()))) {
+            close(transport);
+        }
+    }
+
+    /**
+     * 오류가 난 Transport 폐기
+     */
+    public void invalidate(Transport transport) {
+        if (transport != null) {
+            close(transport);
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        IdleTransport candidate;
+        while ((candidate = idle.pollFirst()) != null) {
+            close(candidate.transport());
+        }
+    }
+
+    private Transport connect() throws MessagingException {
+        Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        log.debug("SMTP 연결 생성 - {}:{}", mailSender.getHost(), mailSender.getPort());
+        return transport;
+    }
+
+    private static void close(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    private record IdleTransport(Transport transport, long releasedAt) {
+    }
+}
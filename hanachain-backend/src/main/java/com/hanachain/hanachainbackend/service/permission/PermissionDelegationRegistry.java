@@ -0,0 +1,99 @@
+package com.hanachain.hanachainbackend.service.permission;
+
+import com.hanachain.hanachainbackend.entity.Organization;
+import com.hanachain.hanachainbackend.entity.PermissionDelegation;
+import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.entity.enums.DelegationScope;
+import com.hanachain.hanachainbackend.entity.enums.OrganizationRole;
+import com.hanachain.hanachainbackend.repository.PermissionDelegationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 권한 위임 레지스트리 기록기
+ *
+ * 역할이 부여/변경/회수될 때 호출 측 트랜잭션 안에서 permission_delegations를 함께 갱신합니다.
+ * 같은 대상(사용자 + 범위 + 단체)의 활성 위임은 항상 하나만 남도록, 새 위임 전에 기존 위임을 취소합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional
+public class PermissionDelegationRegistry {
+
+    private final PermissionDelegationRepository permissionDelegationRepository;
+
+    /**
+     * 시스템 역할 위임 기록 (USER 역할로 돌아가는 경우는 회수로 처리)
+     *
+     * @return 새 위임 기록, 회수인 경우 null
+     */
+    public PermissionDelegation recordSystemRole(User grantee, User.Role role, Long grantedById, String grantedByName,
+                                                 String reason, Boolean temporary, LocalDateTime expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        permissionDelegationRepository.revokeActiveSystemDelegations(grantee.getId(), now, grantedById);
+        if (role == User.Role.USER) {
+            return null;
+        }
+
+        return permissionDelegationRepository.save(PermissionDelegation.builder()
+                .grantee(grantee)
+                .scope(DelegationScope.SYSTEM)
+                .systemRole(role)
+                .grantedById(grantedById)
+                .grantedByName(grantedByName)
+                .reason(reason)
+                .temporary(temporary)
+                .expiresAt(expiresAt)
+                .grantedAt(now)
+                .build());
+    }
+
+    /**
+     * 단체 역할 위임 기록 (멤버 추가 또는 역할 변경)
+     */
+    public PermissionDelegation recordOrganizationRole(User grantee, Organization organization, OrganizationRole role,
+                                                       Long grantedById, String grantedByName,
+                                                       String reason, Boolean temporary, LocalDateTime expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        permissionDelegationRepository.revokeActiveOrganizationDelegations(
+                grantee.getId(), organization.getId(), now, grantedById);
+
+        return permissionDelegationRepository.save(PermissionDelegation.builder()
+                .grantee(grantee)
+                .scope(DelegationScope.ORGANIZATION)
+                .organizationRole(role)
+                .organizationId(organization.getId())
+                .organizationName(organization.getName())
+                .grantedById(grantedById)
+                .grantedByName(grantedByName)
+                .reason(reason)
+                .temporary(temporary)
+                .expiresAt(expiresAt)
+                .grantedAt(now)
+                .build());
+    }
+
+    /**
+     * 시스템 역할 회수 기록
+     */
+    public void revokeSystemRole(Long granteeId, Long revokedById) {
+        int revoked = permissionDelegationRepository.revokeActiveSystemDelegations(
+                granteeId, LocalDateTime.now(), revokedById);
+        log.debug("Revoked {} system delegation(s) for user {}", revoked, granteeId);
+    }
+
+    /**
+     * 단체 역할 회수 기록 (멤버 제거)
+     */
+    public void revokeOrganizationRole(Long granteeId, Long organizationId, Long revokedById) {
+        int revoked = permissionDelegationRepository.revokeActiveOrganizationDelegations(
+                granteeId, organizationId, LocalDateTime.now(), revokedById);
+        log.debug("Revoked {} organization delegation(s) for user {} in organization {}",
+                revoked, granteeId, organizationId);
+    }
+}
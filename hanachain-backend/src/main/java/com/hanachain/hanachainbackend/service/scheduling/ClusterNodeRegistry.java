@@ -0,0 +1,132 @@
+package com.hanachain.hanachainbackend.service.scheduling;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 살아 있는 애플리케이션 노드 목록 (scheduler_nodes)
+ *
+ * 각 노드는 heartbeat 주기마다 자기 행의 heartbeat_at을 갱신하고, 최근 node-ttl 안에 갱신된 노드 목록을 읽어 둡니다.
+ * 샤딩 작업은 이 목록에서의 순번으로 자기 몫({@link JobShard})을 정합니다.
+ * 시각은 모두 DB의 SYS_EXTRACT_UTC(SYSTIMESTAMP)(UTC)를 사용하므로 노드 간 시계나 세션 시간대 차이의 영향을 받지 않습니다.
+ * 정상 종료 시 자기 행을 지워 다른 노드가 바로 몫을 나눠 갖게 합니다.
+ */
+@Slf4j
+@Component
+public class ClusterNodeRegistry {
+
+    private static final String HEARTBEAT_SQL =
+            "MERGE INTO scheduler_nodes n USING (SELECT ? AS node_id FROM dual) s ON (n.node_id = s.node_id) " +
+            "WHEN MATCHED THEN UPDATE SET n.heartbeat_at = SYS_EXTRACT_UTC(SYSTIMESTAMP) " +
+            "WHEN NOT MATCHED THEN INSERT (node_id, started_at, heartbeat_at) VALUES (s.node_id, SYS_EXTRACT_UTC(SYSTIMESTAMP), SYS_EXTRACT_UTC(SYSTIMESTAMP))";
+
+    private static final String LIVE_NODES_SQL =
+            "SELECT node_id FROM scheduler_nodes " +
+            "WHERE heartbeat_at > SYS_EXTRACT_UTC(SYSTIMESTAMP) - NUMTODSINTERVAL(? / 1000, 'SECOND') ORDER BY node_id";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM scheduler_nodes WHERE heartbeat_at < SYS_EXTRACT_UTC(SYSTIMESTAMP) - NUMTODSINTERVAL(? / 1000, 'SECOND')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long nodeTtlMs;
+    private final String nodeId;
+
+    private volatile List<String> liveNodes = List.of();
+
+    public ClusterNodeRegistry(JdbcTemplate jdbcTemplate,
+                               @Value("${scheduler.coordination.enabled:true}") boolean enabled,
+                               @Value("${scheduler.node.ttl-ms:30000}") long nodeTtlMs,
+                               @Value("${scheduler.node.id:}") String nodeId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.nodeTtlMs = nodeTtlMs;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : defaultNodeId();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public List<String> getLiveNodes() {
+        return liveNodes;
+    }
+
+    /**
+     * 하트비트 갱신 후 살아 있는 노드 목록 다시 읽기
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${scheduler.node.heartbeat-ms:10000}")
+    public void heartbeat() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(HEARTBEAT_SQL, nodeId);
+            List<String> nodes = jdbcTemplate.queryForList(LIVE_NODES_SQL, String.class, nodeTtlMs);
+            if (!nodes.equals(liveNodes)) {
+                log.info("Scheduler nodes changed: {} -> {} (this node: {})", liveNodes, nodes, nodeId);
+            }
+            liveNodes = List.copyOf(nodes);
+            // 오래 전에 사라진 노드 행 정리
+            jdbcTemplate.update(PURGE_SQL, nodeTtlMs * 10);
+        } catch (DataAccessException e) {
+            log.error("Scheduler heartbeat failed for node {}", nodeId, e);
+        }
+    }
+
+    /**
+     * 이 노드의 현재 몫 (목록에 아직 없으면 하트비트를 먼저 실행)
+     */
+    public JobShard currentShard() {
+        if (!enabled) {
+            return JobShard.ALL;
+        }
+        List<String> nodes = liveNodes;
+        if (!nodes.contains(nodeId)) {
+            heartbeat();
+            nodes = liveNodes;
+        }
+        int index = nodes.indexOf(nodeId);
+        if (index < 0) {
+            // DB에 닿지 못한 경우 - 임대 획득도 실패하므로 실제로 실행되지는 않음
+            return JobShard.ALL;
+        }
+        return new JobShard(index, nodes.size());
+    }
+
+    @PreDestroy
+    public void leave() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("DELETE FROM scheduler_nodes WHERE node_id = ?", nodeId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to remove scheduler node {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        // 같은 호스트에서 여러 인스턴스가 떠도 구분되도록 임의 접미사
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        String prefix = host.length() > 80 ? host.substring(0, 80) : host;
+        return prefix + "-" + suffix;
+    }
+}
@@ -0,0 +1,202 @@
+package com.hanachain.hanachainbackend.service.scheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 클러스터 작업 조정기 (DB 행 임대 방식)
+ *
+ * 작업마다 scheduled_jobs 행 하나를 두고, 조건부 UPDATE로 임대(locked_until)를 잡은 노드만 실행합니다.
+ * - 임대는 실행 중인 노드가 죽어도 lockAtMostFor가 지나면 풀리며, 정상 종료 시 바로 풀립니다.
+ * - 시작 시각 + interval을 next_run_at으로 남겨, 그 전에 다른 노드에서 트리거되어도 다시 실행하지 않습니다.
+ *   트리거 시각의 흔들림을 감안해 min(interval/10, 30초)만큼 일찍 도착한 트리거도 실행합니다.
+ * - 샤딩 작업은 노드의 몫({@link JobShard})마다 "이름#순번" 행으로 따로 임대하고, 몫에 속한 항목만 처리합니다.
+ * - 임대 조작은 별도 트랜잭션(REQUIRES_NEW)에서 바로 커밋되고, 시각은 모두 DB의 SYS_EXTRACT_UTC(SYSTIMESTAMP)(UTC)를 사용합니다.
+ *   LOCALTIMESTAMP는 세션 시간대를 따르므로 노드마다 시간대가 다르면 임대 비교가 어긋납니다.
+ * - scheduler.coordination.enabled=false이면 임대 없이 이 노드에서 바로 실행합니다 (단일 노드 개발/테스트용).
+ *
+ * 지표: scheduler.job.duration (job, result=success|failure), scheduler.job.skipped (job, reason=locked|not-due|error)
+ */
+@Slf4j
+@Component
+public class JobCoordinator {
+
+    private static final Duration MAX_EARLY_START = Duration.ofSeconds(30);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final String ENSURE_SQL =
+            "MERGE INTO scheduled_jobs j USING (SELECT ? AS job_name FROM dual) s ON (j.job_name = s.job_name) " +
+            "WHEN NOT MATCHED THEN INSERT (job_name, locked_until, run_count) VALUES (s.job_name, SYS_EXTRACT_UTC(SYSTIMESTAMP), 0)";
+
+    private static final String ACQUIRE_SQL =
+            "UPDATE scheduled_jobs SET locked_until = SYS_EXTRACT_UTC(SYSTIMESTAMP) + NUMTODSINTERVAL(? / 1000, 'SECOND'), " +
+            "locked_by = ?, lease_token = ?, last_started_at = SYS_EXTRACT_UTC(SYSTIMESTAMP) " +
+            "WHERE job_name = ? AND locked_until <= SYS_EXTRACT_UTC(SYSTIMESTAMP) " +
+            "AND (next_run_at IS NULL OR next_run_at <= SYS_EXTRACT_UTC(SYSTIMESTAMP) + NUMTODSINTERVAL(? / 1000, 'SECOND'))";
+
+    private static final String RELEASE_SQL =
+            "UPDATE scheduled_jobs SET locked_until = SYS_EXTRACT_UTC(SYSTIMESTAMP), lease_token = NULL, " +
+            "last_finished_at = SYS_EXTRACT_UTC(SYSTIMESTAMP), last_duration_ms = ?, last_status = ?, last_error = ?, " +
+            "next_run_at = last_started_at + NUMTODSINTERVAL(? / 1000, 'SECOND'), run_count = run_count + 1 " +
+            "WHERE job_name = ? AND lease_token = ?";
+
+    private static final String SKIP_REASON_SQL =
+            "SELECT CASE WHEN locked_until > SYS_EXTRACT_UTC(SYSTIMESTAMP) THEN 'locked' ELSE 'not-due' END " +
+            "FROM scheduled_jobs WHERE job_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTransaction;
+    private final ClusterNodeRegistry nodeRegistry;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    private final Set<String> knownJobs = ConcurrentHashMap.newKeySet();
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> failureTimers = new ConcurrentHashMap<>();
+
+    public JobCoordinator(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          ClusterNodeRegistry nodeRegistry,
+                          MeterRegistry meterRegistry,
+                          @Value("${scheduler.coordination.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeRegistry = nodeRegistry;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 클러스터 전체에서 한 노드만 실행
+     *
+     * @return 이 노드에서 실행했는지 여부
+     */
+    public boolean runExclusive(JobSpec job, Runnable task) {
+        return run(job, job.name(), JobShard.ALL, shard -> task.run());
+    }
+
+    /**
+     * 살아 있는 노드마다 자기 몫의 항목만 실행
+     *
+     * @return 이 노드에서 실행했는지 여부
+     */
+    public boolean runSharded(JobSpec job, Consumer<JobShard> task) {
+        JobShard shard = nodeRegistry.currentShard();
+        String lockName = shard.count() > 1 ? job.name() + "#" + shard.index() : job.name();
+        return run(job, lockName, shard, task);
+    }
+
+    private boolean run(JobSpec job, String lockName, JobShard shard, Consumer<JobShard> task) {
+        String leaseToken = null;
+        if (enabled) {
+            leaseToken = acquire(job, lockName);
+            if (leaseToken == null) {
+                return false;
+            }
+        }
+
+        long started = System.nanoTime();
+        Throwable failure = null;
+        try {
+            task.accept(shard);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            log.error("Scheduled job {} failed", lockName, e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - started;
+            timer(job.name(), failure == null).record(Duration.ofNanos(elapsedNanos));
+            if (leaseToken != null) {
+                release(job, lockName, leaseToken, Duration.ofNanos(elapsedNanos).toMillis(), failure);
+            }
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return true;
+    }
+
+    private String acquire(JobSpec job, String lockName) {
+        String leaseToken = UUID.randomUUID().toString();
+        try {
+            ensureRow(lockName);
+            Integer updated = requiresNewTransaction.execute(status -> jdbcTemplate.update(ACQUIRE_SQL,
+                    job.lockAtMostFor().toMillis(), nodeRegistry.getNodeId(), leaseToken, lockName,
+                    earlyStartTolerance(job).toMillis()));
+            if (updated != null && updated == 1) {
+                log.debug("Acquired job lease {} on {}", lockName, nodeRegistry.getNodeId());
+                return leaseToken;
+            }
+            skipped(job, jdbcTemplate.queryForObject(SKIP_REASON_SQL, String.class, lockName));
+        } catch (DataAccessException e) {
+            log.error("Failed to acquire job lease {}", lockName, e);
+            skipped(job, "error");
+        }
+        return null;
+    }
+
+    private void release(JobSpec job, String lockName, String leaseToken, long durationMs, Throwable failure) {
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> jdbcTemplate.update(RELEASE_SQL,
+                    durationMs, failure == null ? "SUCCESS" : "FAILURE", truncate(failure),
+                    job.interval().toMillis(), lockName, leaseToken));
+        } catch (DataAccessException e) {
+            // 풀지 못한 임대는 lockAtMostFor가 지나면 만료됨
+            log.error("Failed to release job lease {}", lockName, e);
+        }
+    }
+
+    private void ensureRow(String lockName) {
+        if (knownJobs.contains(lockName)) {
+            return;
+        }
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> jdbcTemplate.update(ENSURE_SQL, lockName));
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 동시에 만든 경우
+        }
+        knownJobs.add(lockName);
+    }
+
+    private static Duration earlyStartTolerance(JobSpec job) {
+        Duration tenth = job.interval().dividedBy(10);
+        return tenth.compareTo(MAX_EARLY_START) < 0 ? tenth : MAX_EARLY_START;
+    }
+
+    private Timer timer(String jobName, boolean success) {
+        Map<String, Timer> timers = success ? successTimers : failureTimers;
+        return timers.computeIfAbsent(jobName, name -> Timer.builder("scheduler.job.duration")
+                .tag("job", name)
+                .tag("result", success ? "success" : "failure")
+                .register(meterRegistry));
+    }
+
+    private void skipped(JobSpec job, String reason) {
+        meterRegistry.counter("scheduler.job.skipped", "job", job.name(), "reason", reason).increment();
+        log.debug("Skipped job {} on {} ({})", job.name(), nodeRegistry.getNodeId(), reason);
+    }
+
+    private static String truncate(Throwable failure) {
+        if (failure == null) {
+            return null;
+        }
+        String message = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
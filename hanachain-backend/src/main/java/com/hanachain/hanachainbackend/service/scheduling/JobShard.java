@@ -0,0 +1,32 @@
+package com.hanachain.hanachainbackend.service.scheduling;
+
+/**
+ * 샤딩 작업에서 이 노드가 맡은 몫
+ *
+ * 살아 있는 노드를 node_id 순으로 정렬했을 때 이 노드의 순번(index)과 전체 노드 수(count)입니다.
+ * 작업 항목 ID를 섞은(hash) 값을 count로 나눈 나머지가 index인 항목만 이 노드가 처리합니다.
+ */
+public record JobShard(int index, int count) {
+
+    /**
+     * 단일 노드 (모든 항목 처리)
+     */
+    public static final JobShard ALL = new JobShard(0, 1);
+
+    public boolean owns(Long itemId) {
+        if (count <= 1 || itemId == null) {
+            return true;
+        }
+        return Math.floorMod(mix(itemId), count) == index;
+    }
+
+    // 연속된 ID가 노드에 고르게 퍼지도록 섞음 (MurmurHash3 fmix64)
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
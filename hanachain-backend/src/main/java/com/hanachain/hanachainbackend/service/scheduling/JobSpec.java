@@ -0,0 +1,14 @@
+package com.hanachain.hanachainbackend.service.scheduling;
+
+import java.time.Duration;
+
+/**
+ * 조정 대상 작업 정의
+ *
+ * @param name          작업 이름 (scheduled_jobs.job_name, 지표의 job 태그)
+ * @param interval      실행 간격. 마지막 시작 시각 + interval이 다음 실행 시각(next_run_at)으로 기록되고,
+ *                      그 전에는 어느 노드에서 트리거되어도 건너뜀
+ * @param lockAtMostFor 임대 최대 시간. 실행 중인 노드가 죽어도 이 시간이 지나면 다른 노드가 임대를 가져감
+ */
+public record JobSpec(String name, Duration interval, Duration lockAtMostFor) {
+}
@@ -0,0 +1,110 @@
+package com.hanachain.hanachainbackend.service.scheduling;
+
+import com.hanachain.hanachainbackend.security.RefreshTokenStore;
+import com.hanachain.hanachainbackend.service.CampaignService;
+import com.hanachain.hanachainbackend.service.DonationService;
+import com.hanachain.hanachainbackend.service.SignupService;
+import com.hanachain.hanachainbackend.service.VerificationService;
+import com.hanachain.hanachainbackend.service.archive.DonationPartitionArchiver;
+import com.hanachain.hanachainbackend.service.batch.ExpiredCampaignPipeline;
+import com.hanachain.hanachainbackend.service.mail.EmailOutboxWorker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 주기 작업 트리거
+ *
+ * 모든 노드에서 트리거되지만 {@link JobCoordinator}를 거치므로 클러스터 전체에서 간격마다 한 번
+ * (샤딩 작업은 노드 몫마다 한 번)만 실행됩니다. 작업 본문은 각 서비스에 있고, 서비스 프록시를 통해 호출되므로
+ * 서비스의 트랜잭션 설정이 그대로 적용됩니다.
+ * cron 작업은 interval을 실행 주기보다 짧게 두어, 같은 시각에 다른 노드에서 도착한 트리거만 건너뛰게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobs {
+
+    static final JobSpec CAMPAIGN_EXPIRY =
+            new JobSpec("campaign-expiry", Duration.ofHours(1), Duration.ofMinutes(55));
+    static final JobSpec CAMPAIGN_BLOCKCHAIN_MONITOR =
+            new JobSpec("campaign-blockchain-monitor", Duration.ofMinutes(5), Duration.ofMinutes(4));
+    static final JobSpec CAMPAIGN_BLOCKCHAIN_SYNC =
+            new JobSpec("campaign-blockchain-sync", Duration.ofHours(1), Duration.ofMinutes(30));
+    static final JobSpec PENDING_DONATION_CLEANUP =
+            new JobSpec("pending-donation-cleanup", Duration.ofHours(1), Duration.ofMinutes(30));
+    static final JobSpec VERIFICATION_SESSION_CLEANUP =
+            new JobSpec("verification-session-cleanup", Duration.ofMinutes(5), Duration.ofMinutes(4));
+    static final JobSpec SIGNUP_SESSION_CLEANUP =
+            new JobSpec("signup-session-cleanup", Duration.ofMinutes(10), Duration.ofMinutes(5));
+    static final JobSpec DONATION_PARTITION_ARCHIVE =
+            new JobSpec("donation-partition-archive", Duration.ofHours(1), Duration.ofHours(6));
+    static final JobSpec EMAIL_OUTBOX_PURGE =
+            new JobSpec("email-outbox-purge", Duration.ofHours(1), Duration.ofMinutes(30));
+    static final JobSpec REFRESH_TOKEN_PURGE =
+            new JobSpec("refresh-token-purge", Duration.ofHours(1), Duration.ofMinutes(30));
+
+    private final JobCoordinator jobCoordinator;
+    private final CampaignService campaignService;
+    private final ExpiredCampaignPipeline expiredCampaignPipeline;
+    private final DonationService donationService;
+    private final VerificationService verificationService;
+    private final SignupService signupService;
+    private final EmailOutboxWorker emailOutboxWorker;
+    private final RefreshTokenStore refreshTokenStore;
+    // donation.partition.archive.enabled=true일 때만 등록됨
+    private final ObjectProvider<DonationPartitionArchiver> donationPartitionArchiver;
+
+    /**
+     * 만료 캠페인 마감과 토큰 전송 배치 (배치가 모두 끝날 때까지 임대를 유지)
+     */
+    @Scheduled(fixedRate = 3600000) // 1시간마다 실행
+    public void completeExpiredCampaigns() {
+        jobCoordinator.runExclusive(CAMPAIGN_EXPIRY, expiredCampaignPipeline::run);
+    }
+
+    /**
+     * 처리 중인 캠페인 상태 확인(5분)과 활성 캠페인 전체 동기화(1시간, 다음 실행 시각은 DB에 기록)
+     */
+    @Scheduled(fixedRate = 300000) // 5분마다 실행
+    public void monitorBlockchainCampaigns() {
+        jobCoordinator.runSharded(CAMPAIGN_BLOCKCHAIN_MONITOR, campaignService::monitorBlockchainCampaigns);
+        jobCoordinator.runSharded(CAMPAIGN_BLOCKCHAIN_SYNC, campaignService::synchronizeActiveCampaigns);
+    }
+
+    @Scheduled(fixedRate = 3600000) // 1시간마다 실행
+    public void cleanupPendingDonations() {
+        jobCoordinator.runExclusive(PENDING_DONATION_CLEANUP, donationService::cleanupPendingDonations);
+    }
+
+    @Scheduled(fixedRate = 300000) // 5분마다 실행
+    public void cleanupExpiredVerificationSessions() {
+        jobCoordinator.runExclusive(VERIFICATION_SESSION_CLEANUP, verificationService::cleanupExpiredSessions);
+    }
+
+    @Scheduled(fixedRate = 600000) // 10분마다 실행
+    public void cleanupExpiredSignupSessions() {
+        jobCoordinator.runExclusive(SIGNUP_SESSION_CLEANUP, signupService::cleanupExpiredSessions);
+    }
+
+    /**
+     * 오래된 기부 파티션 보관 (파티션 DDL이 노드 간에 경합하지 않도록 한 노드만 실행)
+     */
+    @Scheduled(cron = "${donation.partition.archive.cron:0 0 4 1 * *}") // 매월 1일 새벽
+    public void archiveDonationPartitions() {
+        donationPartitionArchiver.ifAvailable(archiver ->
+                jobCoordinator.runExclusive(DONATION_PARTITION_ARCHIVE, archiver::archiveOldPartitions));
+    }
+
+    @Scheduled(cron = "${mail.outbox.purge-cron:0 30 3 * * *}") // 매일 새벽
+    public void purgeSentEmails() {
+        jobCoordinator.runExclusive(EMAIL_OUTBOX_PURGE, emailOutboxWorker::purgeSent);
+    }
+
+    @Scheduled(cron = "${security.refresh-token.purge-cron:0 30 3 * * *}") // 매일 새벽
+    public void purgeExpiredRefreshTokens() {
+        jobCoordinator.runExclusive(REFRESH_TOKEN_PURGE, refreshTokenStore::purgeExpired);
+    }
+}
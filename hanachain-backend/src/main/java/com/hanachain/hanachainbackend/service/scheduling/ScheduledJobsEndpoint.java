@@ -0,0 +1,43 @@
+package com.hanachain.hanachainbackend.service.scheduling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 작업 조정 상태 조회 (/actuator/jobs, 관리자 전용)
+ * 작업별 임대 보유 노드, 마지막 실행 결과/소요 시간, 다음 실행 시각과 살아 있는 노드 목록을 보여줍니다.
+ */
+@Component
+@Endpoint(id = "jobs")
+@RequiredArgsConstructor
+public class ScheduledJobsEndpoint {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterNodeRegistry nodeRegistry;
+
+    @ReadOperation
+    public Map<String, Object> jobs() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("node", nodeRegistry.getNodeId());
+        result.put("liveNodes", nodeRegistry.getLiveNodes());
+        try {
+            List<Map<String, Object>> jobs = jdbcTemplate.queryForList(
+                    "SELECT job_name, locked_by, locked_until, last_started_at, last_finished_at, last_duration_ms, " +
+                    "last_status, last_error, next_run_at, run_count FROM scheduled_jobs ORDER BY job_name");
+            result.put("jobs", jobs);
+        } catch (DataAccessException e) {
+            // 조정이 꺼져 있어 V27 테이블이 없는 환경
+            result.put("jobs", List.of());
+            result.put("error", e.getMostSpecificCause().getMessage());
+        }
+        return result;
+    }
+}
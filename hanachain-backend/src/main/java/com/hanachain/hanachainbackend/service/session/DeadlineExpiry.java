@@ -0,0 +1,44 @@
+package com.hanachain.hanachainbackend.service.session;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 값이 가진 만료 시각(expiresAt)까지를 항목별 수명으로 쓰는 Caffeine Expiry
+ *
+ * Caffeine의 항목별 만료는 계층형 타이밍 휠로 관리되므로 항목 수와 무관하게 O(1)로 등록/만료됩니다.
+ * 조회는 수명을 바꾸지 않고, 저장(갱신) 시에는 값의 만료 시각으로 다시 계산합니다.
+ */
+final class DeadlineExpiry<K, V> implements Expiry<K, V> {
+
+    private final Function<V, LocalDateTime> deadline;
+
+    DeadlineExpiry(Function<V, LocalDateTime> deadline) {
+        this.deadline = deadline;
+    }
+
+    @Override
+    public long expireAfterCreate(K key, V value, long currentTime) {
+        return nanosUntil(deadline.apply(value));
+    }
+
+    @Override
+    public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+        return nanosUntil(deadline.apply(value));
+    }
+
+    @Override
+    public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    private static long nanosUntil(LocalDateTime expiresAt) {
+        if (expiresAt == null) {
+            return 0L;
+        }
+        return Math.max(Duration.between(LocalDateTime.now(), expiresAt).toNanos(), 0L);
+    }
+}
@@ -0,0 +1,95 @@
+package com.hanachain.hanachainbackend.service.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.hanachain.hanachainbackend.entity.SignupSession;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 회원가입 세션 저장소 (session.store.type=memory, 기본값)
+ *
+ * 세션 ID → 세션을 Caffeine 캐시에 두고 각 세션의 expiresAt에 맞춰 만료시킵니다 (타이밍 휠, 시스템 스케줄러로 즉시 제거).
+ * 항목 수는 maximum-size로 제한되며, 이메일별 삭제를 위해 이메일 → 세션 ID 색인을 함께 유지합니다.
+ * 가입 단계마다 DB를 쓰지 않지만 세션이 노드 메모리에만 있으므로 여러 노드에서는 jdbc 구현을 사용해야 합니다.
+ *
+ * 지표: session.store.size (store=signup)
+ */
+@Component
+@ConditionalOnProperty(prefix = "session.store", name = "type", havingValue = "memory", matchIfMissing = true)
+public class InMemorySignupSessionStore implements SignupSessionStore {
+
+    private final Cache<String, SignupSession> sessions;
+    private final ConcurrentHashMap<String, Set<String>> sessionIdsByEmail = new ConcurrentHashMap<>();
+
+    public InMemorySignupSessionStore(MeterRegistry meterRegistry,
+                                      @Value("${session.store.memory.maximum-size:100000}") long maximumSize) {
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new DeadlineExpiry<String, SignupSession>(SignupSession::getExpiresAt))
+                .scheduler(Scheduler.systemScheduler())
+                .removalListener((String sessionId, SignupSession session, RemovalCause cause) -> {
+                    // 만료/용량 초과로 제거된 경우에만 색인 정리 (교체·명시적 삭제는 호출한 쪽에서 처리)
+                    if (cause.wasEvicted() && session != null) {
+                        unindex(session.getEmail(), sessionId);
+                    }
+                })
+                .build();
+        meterRegistry.gauge("session.store.size", Tags.of("store", "signup"), sessions, Cache::estimatedSize);
+    }
+
+    @Override
+    public void save(SignupSession session) {
+        LocalDateTime now = LocalDateTime.now();
+        if (session.getCreatedAt() == null) {
+            session.setCreatedAt(now);
+        }
+        session.setUpdatedAt(now);
+
+        if (session.getEmail() != null) {
+            sessionIdsByEmail.computeIfAbsent(session.getEmail(), email -> ConcurrentHashMap.newKeySet())
+                    .add(session.getSessionId());
+        }
+        sessions.put(session.getSessionId(), session);
+    }
+
+    @Override
+    public Optional<SignupSession> findActive(String sessionId, LocalDateTime now) {
+        return Optional.ofNullable(sessions.getIfPresent(sessionId))
+                .filter(session -> session.getExpiresAt().isAfter(now));
+    }
+
+    @Override
+    public void deleteByEmail(String email) {
+        Set<String> sessionIds = sessionIdsByEmail.remove(email);
+        if (sessionIds != null) {
+            sessions.invalidateAll(sessionIds);
+        }
+    }
+
+    @Override
+    public void deleteExpired(LocalDateTime now) {
+        // 만료는 타이밍 휠이 처리하므로 보류 중인 정리 작업만 실행
+        sessions.cleanUp();
+    }
+
+    private void unindex(String email, String sessionId) {
+        if (email == null) {
+            return;
+        }
+        sessionIdsByEmail.computeIfPresent(email, (key, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+}
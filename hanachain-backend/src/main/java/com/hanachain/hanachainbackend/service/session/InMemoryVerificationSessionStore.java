@@ -0,0 +1,95 @@
+package com.hanachain.hanachainbackend.service.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.hanachain.hanachainbackend.entity.VerificationSession;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 메모리 이메일 인증 세션 저장소 (session.store.type=memory, 기본값)
+ *
+ * (이메일, 인증 유형) → 최근 세션을 Caffeine 캐시에 두고 세션의 expiresAt에 맞춰 만료시킵니다.
+ * 재발송 제한 확인과 시도 횟수 증가가 모두 메모리에서 끝납니다.
+ *
+ * 지표: session.store.size (store=verification)
+ */
+@Component
+@ConditionalOnProperty(prefix = "session.store", name = "type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationSessionStore implements VerificationSessionStore {
+
+    private final Cache<Key, VerificationSession> sessions;
+
+    public InMemoryVerificationSessionStore(MeterRegistry meterRegistry,
+                                            @Value("${session.store.memory.maximum-size:100000}") long maximumSize) {
+        this.sessions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new DeadlineExpiry<Key, VerificationSession>(VerificationSession::getExpiresAt))
+                .scheduler(Scheduler.systemScheduler())
+                .build();
+        meterRegistry.gauge("session.store.size", Tags.of("store", "verification"), sessions, Cache::estimatedSize);
+    }
+
+    @Override
+    public Optional<VerificationSession> findLatest(String email, VerificationSession.VerificationType type) {
+        return Optional.ofNullable(sessions.getIfPresent(new Key(email, type)));
+    }
+
+    @Override
+    public Optional<VerificationSession> findActive(String email, VerificationSession.VerificationType type, LocalDateTime now) {
+        return findLatest(email, type)
+                .filter(session -> !Boolean.TRUE.equals(session.getVerified()) && session.getExpiresAt().isAfter(now));
+    }
+
+    @Override
+    public void create(VerificationSession session) {
+        LocalDateTime now = LocalDateTime.now();
+        session.setCreatedAt(now);
+        session.setUpdatedAt(now);
+        sessions.put(keyOf(session), session);
+    }
+
+    @Override
+    public void recordAttempt(VerificationSession session) {
+        // 캐시에 있는 객체를 그대로 돌려주므로 객체 단위로 동기화하면 동시 시도도 빠짐없이 셈
+        synchronized (session) {
+            session.incrementAttempt();
+        }
+    }
+
+    @Override
+    public void markVerified(VerificationSession session) {
+        session.setVerified(true);
+        session.setUpdatedAt(LocalDateTime.now());
+    }
+
+    @Override
+    public void delete(VerificationSession session) {
+        sessions.asMap().remove(keyOf(session), session);
+    }
+
+    @Override
+    public void deleteByEmailAndType(String email, VerificationSession.VerificationType type) {
+        sessions.invalidate(new Key(email, type));
+    }
+
+    @Override
+    public void deleteExpired(LocalDateTime now) {
+        // 만료는 타이밍 휠이 처리하므로 보류 중인 정리 작업만 실행
+        sessions.cleanUp();
+    }
+
+    private static Key keyOf(VerificationSession session) {
+        return new Key(session.getEmail(), session.getType());
+    }
+
+    private record Key(String email, VerificationSession.VerificationType type) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.hanachain.hanachainbackend.service.session;
+
+import com.hanachain.hanachainbackend.entity.SignupSession;
+import com.hanachain.hanachainbackend.repository.SignupSessionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * DB 회원가입 세션 저장소 (session.store.type=jdbc)
+ *
+ * signup_sessions 테이블을 사용하므로 가입 단계가 서로 다른 노드로 가도 세션이 이어집니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "session.store", name = "type", havingValue = "jdbc")
+public class JpaSignupSessionStore implements SignupSessionStore {
+
+    private final SignupSessionRepository signupSessionRepository;
+
+    @Override
+    public void save(SignupSession session) {
+        signupSessionRepository.save(session);
+    }
+
+    @Override
+    public Optional<SignupSession> findActive(String sessionId, LocalDateTime now) {
+        return signupSessionRepository.findBySessionIdAndNotExpired(sessionId, now);
+    }
+
+    @Override
+    public void deleteByEmail(String email) {
+        signupSessionRepository.deleteByEmail(email);
+    }
+
+    @Override
+    public void deleteExpired(LocalDateTime now) {
+        signupSessionRepository.deleteExpiredSessions(now);
+    }
+}
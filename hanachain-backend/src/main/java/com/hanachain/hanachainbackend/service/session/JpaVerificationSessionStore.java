@@ -0,0 +1,120 @@
+package com.hanachain.hanachainbackend.service.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hanachain.hanachainbackend.entity.VerificationSession;
+import com.hanachain.hanachainbackend.repository.VerificationSessionRepository;
+import com.hanachain.hanachainbackend.service.counter.CounterType;
+import com.hanachain.hanachainbackend.service.counter.WriteBehindCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * DB 이메일 인증 세션 저장소 (session.store.type=jdbc)
+ *
+ * verification_sessions 테이블을 사용해 여러 노드가 세션을 공유하면서도 자주 일어나는 작업은 DB 왕복을 줄입니다.
+ * - 이 노드가 만든 세션은 재발송 제한 시간(resend-cache-seconds) 동안 메모리에 두어, 재발송 요청은 조회 없이 거절합니다.
+ *   다른 노드가 같은 시간 안에 새 세션을 만들려면 DB 조회에서 이 세션을 보고 거절되므로 캐시가 낡을 수 없습니다.
+ * - 시도 횟수 증가는 지연 반영 카운터({@link CounterType#VERIFICATION_ATTEMPTS})로 모아 일괄 UPDATE 합니다.
+ *   조회 시 반영 전 증가분을 더하지만, 다른 노드의 반영 전 증가분은 flush 주기만큼 늦게 보입니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "session.store", name = "type", havingValue = "jdbc")
+public class JpaVerificationSessionStore implements VerificationSessionStore {
+
+    private final VerificationSessionRepository verificationSessionRepository;
+    private final WriteBehindCounter writeBehindCounter;
+    private final Cache<Key, VerificationSession> recentlyCreated;
+
+    public JpaVerificationSessionStore(VerificationSessionRepository verificationSessionRepository,
+                                       WriteBehindCounter writeBehindCounter,
+                                       @Value("${session.store.jdbc.resend-cache-seconds:30}") long resendCacheSeconds,
+                                       @Value("${session.store.memory.maximum-size:100000}") long maximumSize) {
+        this.verificationSessionRepository = verificationSessionRepository;
+        this.writeBehindCounter = writeBehindCounter;
+        this.recentlyCreated = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(resendCacheSeconds))
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public Optional<VerificationSession> findLatest(String email, VerificationSession.VerificationType type) {
+        VerificationSession cached = recentlyCreated.getIfPresent(new Key(email, type));
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return verificationSessionRepository.findLatestSessionByEmail(email, type);
+    }
+
+    @Override
+    public Optional<VerificationSession> findActive(String email, VerificationSession.VerificationType type, LocalDateTime now) {
+        // 호출 측 트랜잭션의 영속 엔티티를 바꾸면 시도 횟수가 flush로 한 번 더 반영되므로 사본을 돌려줌
+        // (시도 횟수는 지연 반영 카운터로만 DB에 쓰임)
+        return verificationSessionRepository.findLatestUnverifiedSession(email, type, now)
+                .map(session -> copyWithPendingAttempts(session,
+                        writeBehindCounter.pending(CounterType.VERIFICATION_ATTEMPTS, session.getId())));
+    }
+
+    @Override
+    public void create(VerificationSession session) {
+        verificationSessionRepository.save(session);
+        recentlyCreated.put(keyOf(session), session);
+    }
+
+    @Override
+    public void recordAttempt(VerificationSession session) {
+        session.incrementAttempt();
+        writeBehindCounter.increment(CounterType.VERIFICATION_ATTEMPTS, session.getId());
+    }
+
+    @Override
+    public void markVerified(VerificationSession session) {
+        verificationSessionRepository.markVerified(session.getId());
+        session.setVerified(true);
+    }
+
+    @Override
+    public void delete(VerificationSession session) {
+        verificationSessionRepository.delete(session);
+        recentlyCreated.asMap().remove(keyOf(session), session);
+    }
+
+    @Override
+    public void deleteByEmailAndType(String email, VerificationSession.VerificationType type) {
+        verificationSessionRepository.deleteByEmailAndType(email, type);
+        recentlyCreated.invalidate(new Key(email, type));
+    }
+
+    @Override
+    public void deleteExpired(LocalDateTime now) {
+        verificationSessionRepository.deleteExpiredSessions(now);
+    }
+
+    private static VerificationSession copyWithPendingAttempts(VerificationSession session, long pending) {
+        VerificationSession copy = VerificationSession.builder()
+                .id(session.getId())
+                .email(session.getEmail())
+                .verificationCode(session.getVerificationCode())
+                .type(session.getType())
+                .expiresAt(session.getExpiresAt())
+                .attemptCount(session.getAttemptCount() + (int) pending)
+                .verified(session.getVerified())
+                .build();
+        copy.setCreatedAt(session.getCreatedAt());
+        copy.setUpdatedAt(session.getUpdatedAt());
+        return copy;
+    }
+
+    private static Key keyOf(VerificationSession session) {
+        return new Key(session.getEmail(), session.getType());
+    }
+
+    private record Key(String email, VerificationSession.VerificationType type) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.hanachain.hanachainbackend.service.session;
+
+import com.hanachain.hanachainbackend.entity.SignupSession;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 회원가입 세션 저장소
+ *
+ * 몇 분 안에 만료되는 단계별 가입 정보를 보관합니다. session.store.type 설정으로 구현을 선택합니다.
+ * - memory (기본): 프로세스 메모리 ({@link InMemorySignupSessionStore}), 단일 노드 또는 고정 세션 환경용
+ * - jdbc: signup_sessions 테이블 ({@link JpaSignupSessionStore}), 여러 노드가 세션을 공유할 때
+ */
+public interface SignupSessionStore {
+
+    /**
+     * 세션 저장 (새 세션 또는 변경된 세션)
+     */
+    void save(SignupSession session);
+
+    /**
+     * 만료되지 않은 세션 조회
+     */
+    Optional<SignupSession> findActive(String sessionId, LocalDateTime now);
+
+    /**
+     * 해당 이메일의 세션 모두 삭제
+     */
+    void deleteByEmail(String email);
+
+    /**
+     * 만료된 세션 정리
+     */
+    void deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,50 @@
+package com.hanachain.hanachainbackend.service.session;
+
+import com.hanachain.hanachainbackend.entity.VerificationSession;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 이메일 인증 세션 저장소
+ *
+ * 이메일 + 인증 유형마다 최근 세션 하나를 보관합니다. session.store.type 설정으로 구현을 선택합니다.
+ * - memory (기본): 프로세스 메모리 ({@link InMemoryVerificationSessionStore})
+ * - jdbc: verification_sessions 테이블 ({@link JpaVerificationSessionStore})
+ */
+public interface VerificationSessionStore {
+
+    /**
+     * 가장 최근 세션 (인증 여부/만료와 무관, 재발송 제한 확인용)
+     */
+    Optional<VerificationSession> findLatest(String email, VerificationSession.VerificationType type);
+
+    /**
+     * 인증되지 않았고 만료되지 않은 최근 세션
+     */
+    Optional<VerificationSession> findActive(String email, VerificationSession.VerificationType type, LocalDateTime now);
+
+    /**
+     * 새 세션 저장
+     */
+    void create(VerificationSession session);
+
+    /**
+     * 인증 시도 횟수 1 증가 (세션 객체의 attemptCount에도 반영)
+     */
+    void recordAttempt(VerificationSession session);
+
+    /**
+     * 인증 완료 처리
+     */
+    void markVerified(VerificationSession session);
+
+    void delete(VerificationSession session);
+
+    void deleteByEmailAndType(String email, VerificationSession.VerificationType type);
+
+    /**
+     * 만료된 세션 정리
+     */
+    void deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,7 @@
+-- V18: 사용자 토큰 버전 컬럼 추가
+-- 액세스/리프레시 토큰에 토큰 버전을 담고, 버전을 올려 기존 토큰을 일괄 무효화하기 위한 컬럼
+
+ALTER TABLE users ADD token_version NUMBER(10) DEFAULT 0 NOT NULL;
+
+-- 컬럼 설명 추가
+COMMENT ON COLUMN users.token_version IS '토큰 버전 (증가 시 이전에 발급된 토큰 무효화)';
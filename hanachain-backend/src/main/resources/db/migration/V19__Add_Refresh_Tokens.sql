@@ -0,0 +1,26 @@
+-- V19: 리프레시 토큰 저장소
+-- 리프레시 토큰을 교체(rotation) 방식으로 추적하고, 교체된 토큰의 재사용을 감지하기 위한 테이블
+-- 토큰 원문은 저장하지 않고 토큰 ID(jti)의 SHA-256 해시를 키로 사용
+
+CREATE TABLE refresh_tokens (
+    token_hash  VARCHAR2(64)  NOT NULL,
+    family_id   VARCHAR2(36)  NOT NULL,
+    user_id     NUMBER(19,0)  NOT NULL,
+    status      VARCHAR2(20)  DEFAULT 'ACTIVE' NOT NULL,
+    expires_at  TIMESTAMP     NOT NULL,
+    created_at  TIMESTAMP     DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    rotated_at  TIMESTAMP,
+    CONSTRAINT pk_refresh_tokens PRIMARY KEY (token_hash),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT chk_refresh_tokens_status CHECK (status IN ('ACTIVE', 'ROTATED', 'REVOKED'))
+);
+
+-- 재사용 감지 시 계열 전체 폐기, 만료 토큰 일괄 삭제용 인덱스
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens(family_id);
+CREATE INDEX idx_refresh_tokens_expires ON refresh_tokens(expires_at);
+
+-- 테이블/컬럼 설명 추가
+COMMENT ON TABLE refresh_tokens IS '발급된 리프레시 토큰 (교체 및 재사용 감지)';
+COMMENT ON COLUMN refresh_tokens.token_hash IS '토큰 ID(jti)의 SHA-256 해시';
+COMMENT ON COLUMN refresh_tokens.family_id IS '토큰 계열 ID (같은 로그인에서 교체된 토큰 묶음)';
+COMMENT ON COLUMN refresh_tokens.status IS '상태 (ACTIVE, ROTATED, REVOKED)';
@@ -0,0 +1,19 @@
+-- V20: 엔티티 시퀀스 증가 단위를 50으로 변경 (pooled-lo 옵티마이저)
+-- 엔티티의 @SequenceGenerator(allocationSize = 50)와 일치해야 하며, 애플리케이션은 NEXTVAL 1회로
+-- [값, 값 + 49] 범위를 메모리에서 할당하므로 대량 저장 시 시퀀스 조회가 50건당 1회로 줄어듦
+-- pooled-lo는 NEXTVAL 값 자체를 범위의 시작으로 쓰므로, SQL에서 직접 NEXTVAL을 쓰는 INSERT와도 충돌하지 않음
+
+ALTER SEQUENCE user_sequence INCREMENT BY 50;
+ALTER SEQUENCE campaign_sequence INCREMENT BY 50;
+ALTER SEQUENCE story_sequence INCREMENT BY 50;
+ALTER SEQUENCE donation_sequence INCREMENT BY 50;
+ALTER SEQUENCE user_favorite_sequence INCREMENT BY 50;
+ALTER SEQUENCE verification_sequence INCREMENT BY 50;
+ALTER SEQUENCE signup_session_seq INCREMENT BY 50;
+ALTER SEQUENCE comment_sequence INCREMENT BY 50;
+ALTER SEQUENCE expense_sequence INCREMENT BY 50;
+ALTER SEQUENCE campaign_manager_sequence INCREMENT BY 50;
+ALTER SEQUENCE user_wallet_sequence INCREMENT BY 50;
+ALTER SEQUENCE organization_sequence INCREMENT BY 50;
+ALTER SEQUENCE organization_user_sequence INCREMENT BY 50;
+ALTER SEQUENCE organization_wallet_sequence INCREMENT BY 50;
@@ -0,0 +1,31 @@
+-- V21: donations 테이블을 created_at 기준 월별 인터벌 파티션으로 전환
+-- Oracle 12.2 이상의 온라인 전환(ALTER TABLE ... MODIFY PARTITION BY ... ONLINE)을 사용하므로
+-- 전환 중에도 DML이 막히지 않으며, 이후 새 달의 파티션은 첫 INSERT 시 자동 생성됨
+--
+-- - 비고유 인덱스는 모두 LOCAL로 전환: 파티션 단위 유지보수(압축 이동, 읽기 전용 전환)가 다른 파티션에 영향을 주지 않음
+-- - 기본키(id)와 payment_id 고유 제약은 파티션 키를 포함하지 않으므로 GLOBAL 인덱스로 유지
+-- - 2025년 이전 데이터는 초기 파티션 하나에 모이며, 보관 작업(DonationPartitionArchiver)에서 다른 월 파티션과 동일하게 처리됨
+--
+-- 파티션 프루닝을 위해 DonationRepository의 범위/배치 쿼리는 항상 created_at 조건을 함께 전달함
+
+ALTER TABLE donations MODIFY
+    PARTITION BY RANGE (created_at) INTERVAL (NUMTOYMINTERVAL(1, 'MONTH'))
+    (PARTITION p_donations_initial VALUES LESS THAN (TIMESTAMP '2025-01-01 00:00:00'))
+    ONLINE
+    UPDATE INDEXES (
+        idx_donations_campaign_id LOCAL,
+        idx_donations_user_id LOCAL,
+        idx_donations_status LOCAL,
+        idx_donations_created_at LOCAL,
+        idx_donations_payment_id LOCAL,
+        idx_donations_payment_status LOCAL,
+        idx_donations_paid_at LOCAL,
+        idx_donations_deleted_at LOCAL,
+        idx_donations_blockchain_status LOCAL,
+        idx_donations_transaction_hash LOCAL,
+        idx_donations_wallet_address LOCAL,
+        idx_donation_batch_processing LOCAL
+    );
+
+-- 캠페인 단위 배치 조회(campaign_id + created_at 하한)를 위한 로컬 복합 인덱스
+CREATE INDEX idx_donations_campaign_created ON donations(campaign_id, created_at) LOCAL;
@@ -0,0 +1,68 @@
+-- V22: 감사 로그 테이블 (AuditLog 엔티티)
+-- 접근 허용/거부, 관리자 작업, FDS 오버라이드, 지갑 작업을 비동기 일괄 INSERT로 기록
+-- id는 INSERT 문에서 audit_log_sequence.NEXTVAL로 채우며, 엔티티의 allocationSize(1)와 맞춰 INCREMENT BY 1 (CACHE로 경합 완화)
+-- 설명/오류 메시지 등 한글이 들어가는 컬럼은 CHAR 길이 기준 (애플리케이션은 글자 수로 잘라 기록)
+--
+-- 예전 초기 스크립트(V1__init.sql)로 만들어진 다른 구조의 audit_logs가 있으면 audit_logs_legacy로 보존
+
+DECLARE
+    v_table_count NUMBER;
+    v_category_count NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_table_count FROM user_tables WHERE table_name = 'AUDIT_LOGS';
+    SELECT COUNT(*) INTO v_category_count FROM user_tab_columns
+     WHERE table_name = 'AUDIT_LOGS' AND column_name = 'CATEGORY';
+
+    IF v_table_count > 0 AND v_category_count = 0 THEN
+        EXECUTE IMMEDIATE 'ALTER TABLE audit_logs RENAME TO audit_logs_legacy';
+        FOR idx IN (SELECT index_name FROM user_indexes
+                     WHERE table_name = 'AUDIT_LOGS_LEGACY' AND index_name LIKE 'IDX_AUDIT_%') LOOP
+            EXECUTE IMMEDIATE 'ALTER INDEX ' || idx.index_name || ' RENAME TO ' || SUBSTR('LEG_' || idx.index_name, 1, 128);
+        END LOOP;
+    END IF;
+END;
+/
+
+CREATE SEQUENCE audit_log_sequence START WITH 1 INCREMENT BY 1 CACHE 1000;
+
+CREATE TABLE audit_logs (
+    id                  NUMBER(19,0)   NOT NULL,
+    user_id             NUMBER(19,0),
+    user_email          VARCHAR2(100),
+    user_role           VARCHAR2(50),
+    action              VARCHAR2(50)   NOT NULL,
+    category            VARCHAR2(50)   NOT NULL,
+    description         VARCHAR2(500 CHAR) NOT NULL,
+    target_entity_type  VARCHAR2(100),
+    target_entity_id    NUMBER(19,0),
+    organization_id     NUMBER(19,0),
+    ip_address          VARCHAR2(45),
+    user_agent          VARCHAR2(500 CHAR),
+    request_method      VARCHAR2(10),
+    request_url         VARCHAR2(1000 CHAR),
+    session_id          VARCHAR2(100),
+    request_body        CLOB,
+    additional_data     CLOB,
+    timestamp           TIMESTAMP(6)   NOT NULL,
+    success             NUMBER(1,0)    DEFAULT 1 NOT NULL,
+    error_message       VARCHAR2(1000 CHAR),
+    risk_level          VARCHAR2(20)   DEFAULT 'LOW',
+    CONSTRAINT pk_audit_logs PRIMARY KEY (id),
+    CONSTRAINT chk_audit_logs_success CHECK (success IN (0,1))
+);
+
+-- 관리자 조회 API의 필터 조합별 인덱스 (최신순 정렬을 위해 timestamp를 뒤에 포함)
+CREATE INDEX idx_audit_user_id ON audit_logs(user_id, timestamp);
+CREATE INDEX idx_audit_action ON audit_logs(action, timestamp);
+CREATE INDEX idx_audit_category ON audit_logs(category, timestamp);
+CREATE INDEX idx_audit_timestamp ON audit_logs(timestamp);
+CREATE INDEX idx_audit_ip_address ON audit_logs(ip_address);
+CREATE INDEX idx_audit_target ON audit_logs(target_entity_type, target_entity_id);
+CREATE INDEX idx_audit_organization ON audit_logs(organization_id, timestamp);
+
+-- 테이블/컬럼 설명 추가
+COMMENT ON TABLE audit_logs IS '보안/관리자 작업 감사 로그';
+COMMENT ON COLUMN audit_logs.action IS '감사 작업 (AuditAction)';
+COMMENT ON COLUMN audit_logs.category IS '감사 분류 (AuditCategory)';
+COMMENT ON COLUMN audit_logs.target_entity_type IS '대상 엔티티 종류 (Campaign, Donation, UserWallet 등)';
+COMMENT ON COLUMN audit_logs.risk_level IS '위험도 (LOW, MEDIUM, HIGH)';
@@ -0,0 +1,37 @@
+-- V23: 조직 목록 읽기 모델용 멤버/관리자 수 비정규화 카운터
+-- 목록 API가 행마다 members 컬렉션을 로드하지 않도록 organizations에 카운터를 두고,
+-- 멤버 추가/역할 변경/삭제 시 애플리케이션이 UPDATE ... SET member_count = member_count + :delta 로 함께 갱신
+-- 관리자 역할: OWNER, ADMIN, ORG_ADMIN (OrganizationRole.isAdmin)
+
+ALTER TABLE organizations ADD (
+    member_count  NUMBER(19,0) DEFAULT 0 NOT NULL,
+    admin_count   NUMBER(19,0) DEFAULT 0 NOT NULL
+);
+
+-- 기존 멤버십으로 카운터 채우기
+-- organization_users.deleted_at은 환경에 따라 없을 수 있으므로 있을 때만 소프트 삭제된 멤버십을 제외
+DECLARE
+    v_deleted_at_count NUMBER;
+    v_filter VARCHAR2(100) := '';
+BEGIN
+    SELECT COUNT(*) INTO v_deleted_at_count FROM user_tab_columns
+     WHERE table_name = 'ORGANIZATION_USERS' AND column_name = 'DELETED_AT';
+    IF v_deleted_at_count > 0 THEN
+        v_filter := ' WHERE deleted_at IS NULL';
+    END IF;
+
+    EXECUTE IMMEDIATE
+        'MERGE INTO organizations o ' ||
+        'USING (SELECT id_organization, COUNT(*) AS member_count, ' ||
+        '              SUM(CASE WHEN role IN (''OWNER'', ''ADMIN'', ''ORG_ADMIN'') THEN 1 ELSE 0 END) AS admin_count ' ||
+        '         FROM organization_users' || v_filter || ' GROUP BY id_organization) m ' ||
+        'ON (o.id_organization = m.id_organization) ' ||
+        'WHEN MATCHED THEN UPDATE SET o.member_count = m.member_count, o.admin_count = m.admin_count';
+END;
+/
+
+-- 조직별 활성 캠페인 수 그룹 쿼리 (organization_users → campaigns.user_id, status) 지원
+CREATE INDEX idx_campaigns_user_status ON campaigns(user_id, status);
+
+COMMENT ON COLUMN organizations.member_count IS '멤버 수 (비정규화 카운터)';
+COMMENT ON COLUMN organizations.admin_count IS '관리자 역할 멤버 수 (비정규화 카운터)';
@@ -0,0 +1,66 @@
+-- V24: 권한 위임 레지스트리 (PermissionDelegation 엔티티)
+-- 관리자 권한 화면이 users/organization_users 전체를 읽지 않도록 위임 기록을 별도 테이블에 보관
+-- 활성 위임 = revoked_at IS NULL, 같은 대상(사용자 + 범위 + 단체)의 활성 위임은 하나만 유지
+-- id는 엔티티의 pooled-lo 할당(allocationSize 50)과 맞춰 INCREMENT BY 50
+
+CREATE SEQUENCE permission_delegation_sequence START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE permission_delegations (
+    id                  NUMBER(19,0)   NOT NULL,
+    grantee_user_id     NUMBER(19,0)   NOT NULL,
+    scope               VARCHAR2(20)   NOT NULL,
+    system_role         VARCHAR2(20),
+    organization_role   VARCHAR2(20),
+    organization_id     NUMBER(19,0),
+    organization_name   VARCHAR2(255),
+    granted_by_user_id  NUMBER(19,0),
+    granted_by_name     VARCHAR2(50),
+    reason              VARCHAR2(500 CHAR),
+    temporary           NUMBER(1,0),
+    expires_at          TIMESTAMP(6),
+    granted_at          TIMESTAMP(6)   NOT NULL,
+    revoked_at          TIMESTAMP(6),
+    revoked_by_user_id  NUMBER(19,0),
+    CONSTRAINT pk_permission_delegations PRIMARY KEY (id),
+    CONSTRAINT fk_perm_deleg_grantee FOREIGN KEY (grantee_user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT chk_perm_deleg_scope CHECK (
+        (scope = 'SYSTEM' AND system_role IS NOT NULL) OR
+        (scope = 'ORGANIZATION' AND organization_role IS NOT NULL AND organization_id IS NOT NULL)
+    )
+);
+
+-- 대상자별 / 단체별 / 범위별 활성 위임 조회, 위임자별 이력 조회
+CREATE INDEX idx_perm_deleg_grantee ON permission_delegations(grantee_user_id, revoked_at);
+CREATE INDEX idx_perm_deleg_organization ON permission_delegations(organization_id, revoked_at, granted_at);
+CREATE INDEX idx_perm_deleg_scope ON permission_delegations(scope, revoked_at, granted_at);
+CREATE INDEX idx_perm_deleg_granted_by ON permission_delegations(granted_by_user_id, granted_at);
+
+-- 기존 상승된 시스템 역할을 활성 위임으로 이관
+INSERT INTO permission_delegations (id, grantee_user_id, scope, system_role, granted_at)
+SELECT permission_delegation_sequence.NEXTVAL, u.id, 'SYSTEM', u.role, COALESCE(u.updated_at, u.created_at, SYSTIMESTAMP)
+  FROM users u
+ WHERE u.role <> 'USER';
+
+-- 기존 단체 멤버십을 활성 위임으로 이관 (deleted_at 컬럼이 있는 환경에서는 소프트 삭제된 멤버십 제외)
+DECLARE
+    v_deleted_at_count NUMBER;
+    v_filter VARCHAR2(100) := '';
+BEGIN
+    SELECT COUNT(*) INTO v_deleted_at_count FROM user_tab_columns
+     WHERE table_name = 'ORGANIZATION_USERS' AND column_name = 'DELETED_AT';
+    IF v_deleted_at_count > 0 THEN
+        v_filter := ' AND ou.deleted_at IS NULL';
+    END IF;
+
+    EXECUTE IMMEDIATE
+        'INSERT INTO permission_delegations (id, grantee_user_id, scope, organization_role, organization_id, organization_name, granted_at) ' ||
+        'SELECT permission_delegation_sequence.NEXTVAL, ou.id_user, ''ORGANIZATION'', ou.role, o.id_organization, o.name, ' ||
+        '       COALESCE(ou.created_at, SYSTIMESTAMP) ' ||
+        '  FROM organization_users ou JOIN organizations o ON o.id_organization = ou.id_organization ' ||
+        ' WHERE o.deleted_at IS NULL' || v_filter;
+END;
+/
+
+COMMENT ON TABLE permission_delegations IS '권한 위임 레지스트리 (시스템/단체 역할 부여 및 회수 이력)';
+COMMENT ON COLUMN permission_delegations.scope IS '위임 범위 (SYSTEM, ORGANIZATION)';
+COMMENT ON COLUMN permission_delegations.revoked_at IS '회수 또는 대체 일시 (NULL이면 활성)';
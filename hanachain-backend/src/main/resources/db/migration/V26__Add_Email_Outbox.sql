@@ -0,0 +1,34 @@
+-- V26: 이메일 발송 대기열 (EmailOutbox 엔티티)
+-- 요청 트랜잭션은 렌더링된 메일을 저장만 하고, 발송 워커가 claim_token으로 선점해 SMTP 연결을 재사용하며 일괄 발송
+-- 실패 시 attempts/next_attempt_at으로 지수 백오프 재시도, 한도를 넘으면 FAILED
+-- id는 엔티티의 pooled-lo 할당(allocationSize 50)과 맞춰 INCREMENT BY 50
+
+CREATE SEQUENCE email_outbox_sequence START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE email_outbox (
+    id               NUMBER(19,0)   NOT NULL,
+    recipient        VARCHAR2(100)  NOT NULL,
+    subject          VARCHAR2(200 CHAR) NOT NULL,
+    body             CLOB           NOT NULL,
+    html             NUMBER(1,0)    DEFAULT 0 NOT NULL,
+    status           VARCHAR2(20)   DEFAULT 'PENDING' NOT NULL,
+    attempts         NUMBER(10,0)   DEFAULT 0 NOT NULL,
+    next_attempt_at  TIMESTAMP(6)   NOT NULL,
+    claim_token      VARCHAR2(36),
+    claimed_at       TIMESTAMP(6),
+    last_error       VARCHAR2(500 CHAR),
+    created_at       TIMESTAMP(6)   NOT NULL,
+    sent_at          TIMESTAMP(6),
+    CONSTRAINT pk_email_outbox PRIMARY KEY (id),
+    CONSTRAINT chk_email_outbox_status CHECK (status IN ('PENDING', 'SENDING', 'SENT', 'FAILED')),
+    CONSTRAINT chk_email_outbox_html CHECK (html IN (0,1))
+);
+
+-- 발송 대상 선점 (status, next_attempt_at) / 선점한 행 조회 (claim_token)
+CREATE INDEX idx_email_outbox_due ON email_outbox(status, next_attempt_at);
+CREATE INDEX idx_email_outbox_claim ON email_outbox(claim_token);
+
+COMMENT ON TABLE email_outbox IS '이메일 발송 대기열 (비동기 SMTP 발송)';
+COMMENT ON COLUMN email_outbox.status IS '발송 상태 (PENDING, SENDING, SENT, FAILED)';
+COMMENT ON COLUMN email_outbox.claim_token IS '발송 워커 선점 토큰 (발송 중일 때만 값 있음)';
+COMMENT ON COLUMN email_outbox.next_attempt_at IS '다음 발송 시도 가능 시각 (재시도 백오프)';
@@ -0,0 +1,36 @@
+-- V27: 클러스터 작업 조정 (JobCoordinator, ClusterNodeRegistry)
+-- scheduled_jobs: 작업(샤딩 작업은 "이름#순번")마다 한 행, 조건부 UPDATE로 locked_until 임대를 잡은 노드만 실행
+--                 마지막 실행 결과와 다음 실행 시각(next_run_at)을 남겨 재시작/노드 교체 후에도 간격을 지킴
+-- scheduler_nodes: 노드별 하트비트, 최근에 갱신된 노드 목록으로 샤딩 몫을 나눔
+-- 시각은 모두 DB의 LOCALTIMESTAMP 기준
+
+CREATE TABLE scheduled_jobs (
+    job_name          VARCHAR2(100)  NOT NULL,
+    locked_until      TIMESTAMP(6)   NOT NULL,
+    locked_by         VARCHAR2(100),
+    lease_token       VARCHAR2(36),
+    last_started_at   TIMESTAMP(6),
+    last_finished_at  TIMESTAMP(6),
+    last_duration_ms  NUMBER(19,0),
+    last_status       VARCHAR2(20),
+    last_error        VARCHAR2(500 CHAR),
+    next_run_at       TIMESTAMP(6),
+    run_count         NUMBER(19,0)   DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_scheduled_jobs PRIMARY KEY (job_name),
+    CONSTRAINT chk_scheduled_jobs_last_status CHECK (last_status IN ('SUCCESS', 'FAILURE'))
+);
+
+CREATE TABLE scheduler_nodes (
+    node_id       VARCHAR2(100)  NOT NULL,
+    started_at    TIMESTAMP(6)   NOT NULL,
+    heartbeat_at  TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_scheduler_nodes PRIMARY KEY (node_id)
+);
+
+CREATE INDEX idx_scheduler_nodes_heartbeat ON scheduler_nodes(heartbeat_at);
+
+COMMENT ON TABLE scheduled_jobs IS '주기 작업 임대 및 실행 상태 (클러스터에서 작업당 한 노드만 실행)';
+COMMENT ON COLUMN scheduled_jobs.locked_until IS '임대 만료 시각 (실행 중 노드가 죽어도 이 시각 이후 다른 노드가 임대 가능)';
+COMMENT ON COLUMN scheduled_jobs.lease_token IS '현재 임대 토큰 (실행 중일 때만 값 있음)';
+COMMENT ON COLUMN scheduled_jobs.next_run_at IS '다음 실행 가능 시각 (마지막 시작 시각 + 간격)';
+COMMENT ON TABLE scheduler_nodes IS '살아 있는 애플리케이션 노드 (하트비트)';
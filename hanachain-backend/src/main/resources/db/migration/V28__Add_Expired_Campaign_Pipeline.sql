@@ -0,0 +1,14 @@
+-- V28: 만료 캠페인 자동 마감 파이프라인 (ExpiredCampaignPipeline)
+-- 만료 시 batch_job_status = PENDING으로 마감하고, 배치를 시작할 노드가 PENDING → STARTING 조건부 UPDATE로 선점
+-- 만료 대상 일괄 UPDATE (status = 'ACTIVE' AND end_date < ?)용 복합 인덱스
+
+ALTER TABLE campaigns DROP CONSTRAINT chk_batch_status;
+
+ALTER TABLE campaigns ADD CONSTRAINT chk_batch_status CHECK (
+    batch_job_status IS NULL OR
+    batch_job_status IN ('PENDING', 'STARTING', 'RUNNING', 'COMPLETED', 'FAILED', 'STOPPED')
+);
+
+CREATE INDEX idx_campaigns_status_end_date ON campaigns(status, end_date);
+
+COMMENT ON COLUMN campaigns.batch_job_status IS '배치 작업 상태 (PENDING, STARTING, RUNNING, COMPLETED, FAILED, STOPPED)';
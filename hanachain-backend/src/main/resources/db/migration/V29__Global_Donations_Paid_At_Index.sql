@@ -0,0 +1,8 @@
+-- V29: 결제 완료 시각(paid_at) 범위 조회용 글로벌 인덱스
+-- 결제는 생성 후 언제든(수동 승인 등) 완료될 수 있어 paid_at 범위 조회에 created_at 하한(파티션 프루닝)을 둘 수 없음
+-- 로컬 인덱스는 모든 월 파티션을 각각 탐색해야 하므로, paid_at 인덱스를 파티션과 무관한 글로벌 인덱스로 전환
+-- (보관 작업의 MOVE PARTITION ... UPDATE INDEXES가 글로벌 인덱스도 함께 유지함)
+
+DROP INDEX idx_donations_paid_at;
+
+CREATE INDEX idx_donations_paid_at ON donations(paid_at, payment_status) ONLINE;
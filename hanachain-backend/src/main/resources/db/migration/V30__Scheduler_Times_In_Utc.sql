@@ -0,0 +1,15 @@
+-- V30: 작업 조정 시각을 UTC(SYS_EXTRACT_UTC(SYSTIMESTAMP)) 기준으로 전환
+-- LOCALTIMESTAMP는 세션 시간대를 따르므로 노드마다 JVM/세션 시간대가 다르면 임대 만료와 하트비트 비교가 어긋남
+-- 기존 행은 어느 세션 시간대로 기록됐는지 알 수 없어 변환하지 않고 초기화
+-- (임대를 풀고 다음 실행 시각을 지우므로 전환 직후 각 작업이 한 번 더 일찍 실행될 수 있음, 노드는 다음 하트비트에 다시 등록됨)
+
+UPDATE scheduled_jobs
+SET locked_until = SYS_EXTRACT_UTC(SYSTIMESTAMP),
+    lease_token = NULL,
+    next_run_at = NULL;
+
+DELETE FROM scheduler_nodes;
+
+COMMENT ON COLUMN scheduled_jobs.locked_until IS '임대 만료 시각 (UTC, 실행 중 노드가 죽어도 이 시각 이후 다른 노드가 임대 가능)';
+COMMENT ON COLUMN scheduled_jobs.next_run_at IS '다음 실행 가능 시각 (UTC, 마지막 시작 시각 + 간격)';
+COMMENT ON COLUMN scheduler_nodes.heartbeat_at IS '마지막 하트비트 시각 (UTC)';
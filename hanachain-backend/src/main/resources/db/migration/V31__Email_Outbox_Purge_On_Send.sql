@@ -0,0 +1,21 @@
+-- V31: 인증 코드 메일은 발송 즉시 대기열에서 삭제 (email_outbox.purge_on_send)
+-- 발송 완료 행은 retention-days(기본 7일) 동안 보관되어, 본문에 든 인증 코드가 그동안 평문으로 남았음
+-- 발송 워커가 발송 완료/최종 실패를 기록하는 트랜잭션에서 purge_on_send 행을 바로 삭제
+
+ALTER TABLE email_outbox ADD (
+    purge_on_send NUMBER(1,0) DEFAULT 0 NOT NULL,
+    CONSTRAINT chk_email_outbox_purge_on_send CHECK (purge_on_send IN (0,1))
+);
+
+-- 아직 발송 전인 인증 코드 메일도 발송 후 삭제되도록 표시
+UPDATE email_outbox
+SET purge_on_send = 1
+WHERE subject IN ('[위아하나] 이메일 인증 코드', '[위아하나] 비밀번호 재설정 인증 코드', '[위아하나] 이메일 변경 인증 코드')
+  AND status IN ('PENDING', 'SENDING');
+
+-- 이미 발송(또는 최종 실패)되어 보관 중인 인증 코드 메일 삭제
+DELETE FROM email_outbox
+WHERE subject IN ('[위아하나] 이메일 인증 코드', '[위아하나] 비밀번호 재설정 인증 코드', '[위아하나] 이메일 변경 인증 코드')
+  AND status IN ('SENT', 'FAILED');
+
+COMMENT ON COLUMN email_outbox.purge_on_send IS '발송 완료/최종 실패 즉시 삭제 여부 (본문에 인증 코드가 있는 메일)';
@@ -0,0 +1,126 @@
+package com.hanachain.hanachainbackend.batch.funding;
+
+import com.hanachain.hanachainbackend.entity.Campaign;
+import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.entity.UserWallet;
+import com.hanachain.hanachainbackend.repository.DonationRepository;
+import com.hanachain.hanachainbackend.repository.UserWalletRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.utils.Numeric;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 충전 계획은 지갑 전체 잔액이 아니라 이 캠페인 컨트랙트 승인액만 기준으로 세운다
+ */
+class DonorFundingPlannerTest {
+
+    private static final String USDC = "0x00000000000000000000000000000000000000aa";
+    private static final String CONTRACT = "0x00000000000000000000000000000000000000cc";
+    private static final String WALLET_1 = "0x0000000000000000000000000000000000000001";
+    private static final String WALLET_2 = "0x0000000000000000000000000000000000000002";
+
+    private DonationRepository donationRepository;
+    private UserWalletRepository userWalletRepository;
+    private Web3j web3j;
+    private DonorFundingPlanner planner;
+
+    /** 지갑 주소별 승인액 (6 decimals) */
+    private Map<String, Long> allowances;
+    /** ethCall 요청 순서대로의 호출 지갑 주소 */
+    private final List<String> callers = new ArrayList<>();
+    private final List<Request<?, ?>> calls = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        donationRepository = mock(DonationRepository.class);
+        userWalletRepository = mock(UserWalletRepository.class);
+        web3j = mock(Web3j.class);
+        planner = new DonorFundingPlanner(donationRepository, userWalletRepository, web3j, USDC, 1);
+
+        when(web3j.ethCall(any(Transaction.class), any())).thenAnswer(invocation -> {
+            Transaction transaction = invocation.getArgument(0);
+            Request<?, EthCall> request = new Request<>("eth_call", List.of(), null, EthCall.class);
+            callers.add(transaction.getFrom());
+            calls.add(request);
+            return request;
+        });
+        when(web3j.newBatch()).thenAnswer(invocation -> {
+            BatchRequest batch = mock(BatchRequest.class);
+            int first = calls.size();
+            when(batch.send()).thenAnswer(send -> respond(first));
+            return batch;
+        });
+    }
+
+    @Test
+    @DisplayName("지갑 USDC/ETH 잔액은 읽지 않고 캠페인 승인액만 빼서 발행량을 정한다")
+    void plansAgainstCampaignAllowanceOnly() throws Exception {
+        allowances = Map.of(WALLET_1, 0L, WALLET_2, 5_000_000L);
+        when(donationRepository.sumPendingBlockchainAmountsByDonor(any(), any())).thenReturn(List.of(
+                new Object[]{1L, new BigDecimal("20"), 2L},
+                new Object[]{2L, new BigDecimal("12.5"), 1L},
+                new Object[]{3L, new BigDecimal("7"), 1L}));
+        when(userWalletRepository.findPrimaryByUserIds(any())).thenReturn(List.of(wallet(1L, WALLET_1), wallet(2L, WALLET_2)));
+
+        List<DonorFunding> plan = planner.plan(Campaign.builder().id(1L).blockchainContractAddress(CONTRACT).build());
+
+        // 주 지갑이 없는 기부자 3은 계획에서 빠짐
+        assertThat(plan).extracting(DonorFunding::userId).containsExactly(1L, 2L);
+        assertThat(plan.get(0).usdcRequired()).isEqualTo(BigInteger.valueOf(20_000_000));
+        assertThat(plan.get(0).usdcToMint()).isEqualTo(BigInteger.valueOf(20_000_000));
+        assertThat(plan.get(1).usdcRequired()).isEqualTo(BigInteger.valueOf(12_500_000));
+        assertThat(plan.get(1).usdcToMint()).isEqualTo(BigInteger.valueOf(7_500_000));
+        assertThat(plan.get(1).donationCount()).isEqualTo(1);
+
+        assertThat(callers).containsExactlyInAnyOrder(WALLET_1, WALLET_2);
+        verify(web3j, never()).ethGetBalance(any(), any());
+    }
+
+    @Test
+    @DisplayName("미전송 기부가 없으면 잔액을 조회하지 않는다")
+    void skipsReadsWithoutPendingDonations() throws Exception {
+        when(donationRepository.sumPendingBlockchainAmountsByDonor(anyLong(), any())).thenReturn(List.of());
+
+        assertThat(planner.plan(Campaign.builder().id(1L).blockchainContractAddress(CONTRACT).build())).isEmpty();
+        verify(web3j, never()).newBatch();
+    }
+
+    private BatchResponse respond(int first) {
+        List<Request<?, ? extends Response<?>>> requests = new ArrayList<>();
+        List<EthCall> responses = new ArrayList<>();
+        for (int i = first; i < calls.size(); i++) {
+            EthCall response = new EthCall();
+            response.setId(calls.get(i).getId());
+            response.setResult(Numeric.toHexStringWithPrefixZeroPadded(
+                    BigInteger.valueOf(allowances.getOrDefault(callers.get(i), 0L)), 64));
+            responses.add(response);
+        }
+        return new BatchResponse(requests, responses);
+    }
+
+    private static UserWallet wallet(Long userId, String address) {
+        return UserWallet.builder().user(User.builder().id(userId).build()).walletAddress(address).build();
+    }
+}
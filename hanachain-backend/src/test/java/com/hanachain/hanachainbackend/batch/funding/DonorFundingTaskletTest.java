@@ -0,0 +1,119 @@
+package com.hanachain.hanachainbackend.batch.funding;
+
+import com.hanachain.hanachainbackend.entity.Campaign;
+import com.hanachain.hanachainbackend.entity.UserWallet;
+import com.hanachain.hanachainbackend.repository.CampaignRepository;
+import com.hanachain.hanachainbackend.service.WalletService;
+import com.hanachain.hanachainbackend.service.blockchain.MockUSDCWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.web3j.crypto.Credentials;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 충전 Tasklet은 계획된 이 캠페인 몫만 발행/승인하고, 지갑 하나가 실패해도 나머지를 계속 충전한다
+ * (가스비는 0으로 두어 ETH 송금은 건너뜀)
+ */
+class DonorFundingTaskletTest {
+
+    private static final String CONTRACT = "0x00000000000000000000000000000000000000cc";
+    private static final String PLATFORM_KEY = "0x" + "0".repeat(63) + "1";
+
+    private DonorFundingPlanner planner;
+    private CampaignRepository campaignRepository;
+    private WalletService walletService;
+    private MockUSDCWrapper usdc;
+    private DonorFundingTasklet tasklet;
+    private Campaign campaign;
+
+    @BeforeEach
+    void setUp() {
+        planner = mock(DonorFundingPlanner.class);
+        campaignRepository = mock(CampaignRepository.class);
+        walletService = mock(WalletService.class);
+        usdc = mock(MockUSDCWrapper.class);
+        tasklet = new DonorFundingTasklet(planner, campaignRepository, walletService, usdc, mock(Web3j.class),
+                BigDecimal.ZERO, PLATFORM_KEY);
+
+        campaign = Campaign.builder().id(1L).blockchainContractAddress(CONTRACT).build();
+        when(campaignRepository.findByIdForAdmin(1L)).thenReturn(Optional.of(campaign));
+        when(walletService.getCredentials(any(UserWallet.class))).thenReturn(Credentials.create(PLATFORM_KEY));
+        when(usdc.mint(any(), any(), any())).thenReturn(CompletableFuture.completedFuture("0xmint"));
+        when(usdc.approve(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(new TransactionReceipt()));
+    }
+
+    @Test
+    @DisplayName("승인되지 않은 금액만 발행하고 승인액이 부족한 지갑만 캠페인 합계로 approve한다")
+    void mintsAndApprovesCampaignShareOnly() throws Exception {
+        DonorFunding fresh = funding(1L, "0x0000000000000000000000000000000000000001", 20_000_000, 0);
+        DonorFunding partial = funding(2L, "0x0000000000000000000000000000000000000002", 12_000_000, 5_000_000);
+        DonorFunding ready = funding(3L, "0x0000000000000000000000000000000000000003", 8_000_000, 8_000_000);
+        when(planner.plan(campaign)).thenReturn(List.of(fresh, partial, ready));
+
+        ExecutionContext result = execute();
+
+        verify(usdc).mint(any(), eq(fresh.walletAddress()), eq(BigInteger.valueOf(20_000_000)));
+        verify(usdc).mint(any(), eq(partial.walletAddress()), eq(BigInteger.valueOf(7_000_000)));
+        verify(usdc, never()).mint(any(), eq(ready.walletAddress()), any());
+        verify(usdc).approve(any(), eq(CONTRACT), eq(BigInteger.valueOf(20_000_000)));
+        verify(usdc).approve(any(), eq(CONTRACT), eq(BigInteger.valueOf(12_000_000)));
+
+        assertThat(result.getInt("fundingWallets")).isEqualTo(3);
+        assertThat(result.getInt("fundingMints")).isEqualTo(2);
+        assertThat(result.getInt("fundingApprovals")).isEqualTo(2);
+        assertThat(result.getInt("fundingFailedWallets")).isZero();
+    }
+
+    @Test
+    @DisplayName("한 지갑의 발행이 실패해도 다음 지갑을 계속 충전한다")
+    void continuesAfterWalletFailure() throws Exception {
+        DonorFunding failing = funding(1L, "0x0000000000000000000000000000000000000001", 20_000_000, 0);
+        DonorFunding next = funding(2L, "0x0000000000000000000000000000000000000002", 10_000_000, 0);
+        when(planner.plan(campaign)).thenReturn(List.of(failing, next));
+        when(usdc.mint(any(), eq(failing.walletAddress()), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("rpc down")));
+
+        ExecutionContext result = execute();
+
+        verify(usdc).mint(any(), eq(next.walletAddress()), eq(BigInteger.valueOf(10_000_000)));
+        assertThat(result.getInt("fundingMints")).isEqualTo(1);
+        assertThat(result.getInt("fundingApprovals")).isEqualTo(1);
+        assertThat(result.getInt("fundingFailedWallets")).isEqualTo(1);
+    }
+
+    private ExecutionContext execute() throws Exception {
+        JobExecution jobExecution = new JobExecution(1L,
+                new JobParametersBuilder().addString("campaignId", "1").toJobParameters());
+        StepExecution stepExecution = new StepExecution("donorFundingStep", jobExecution);
+        tasklet.execute(new StepContribution(stepExecution), new ChunkContext(new StepContext(stepExecution)));
+        return stepExecution.getExecutionContext();
+    }
+
+    private static DonorFunding funding(Long userId, String address, long required, long allowance) {
+        UserWallet wallet = UserWallet.builder().walletAddress(address).build();
+        return new DonorFunding(userId, wallet, 1, BigInteger.valueOf(required), BigInteger.valueOf(allowance));
+    }
+}
@@ -0,0 +1,40 @@
+package com.hanachain.hanachainbackend.batch.funding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DonorFundingTest {
+
+    private static final BigInteger GAS_PER_TX = BigInteger.valueOf(1_000);
+
+    @Test
+    @DisplayName("승인액이 없으면 기부 합계만큼 USDC, approve와 donate 건수만큼 가스비가 필요하다")
+    void fundsWholeCampaign() {
+        DonorFunding funding = funding(3, 30_000_000, 0);
+
+        assertThat(funding.usdcToMint()).isEqualTo(BigInteger.valueOf(30_000_000));
+        assertThat(funding.needsApproval()).isTrue();
+        assertThat(funding.ethToSend(GAS_PER_TX)).isEqualTo(BigInteger.valueOf(4_000));
+    }
+
+    @Test
+    @DisplayName("이 캠페인 컨트랙트에 이미 승인된 금액만 빼고 발행한다")
+    void subtractsOnlyCampaignAllowance() {
+        DonorFunding partial = funding(2, 20_000_000, 15_000_000);
+        assertThat(partial.usdcToMint()).isEqualTo(BigInteger.valueOf(5_000_000));
+        assertThat(partial.ethToSend(GAS_PER_TX)).isEqualTo(BigInteger.valueOf(3_000));
+
+        DonorFunding ready = funding(2, 20_000_000, 20_000_000);
+        assertThat(ready.usdcToMint()).isZero();
+        assertThat(ready.needsApproval()).isFalse();
+        assertThat(ready.ethToSend(GAS_PER_TX)).isEqualTo(BigInteger.valueOf(2_000));
+    }
+
+    private static DonorFunding funding(int donations, long required, long allowance) {
+        return new DonorFunding(1L, null, donations, BigInteger.valueOf(required), BigInteger.valueOf(allowance));
+    }
+}
@@ -0,0 +1,113 @@
+package com.hanachain.hanachainbackend.batch.progress;
+
+import com.hanachain.hanachainbackend.dto.batch.BatchProgressEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchProgressTrackerTest {
+
+    private final BatchProgressTracker tracker = new BatchProgressTracker(30, 60_000);
+
+    @AfterEach
+    void tearDown() {
+        StepSynchronizationManager.close();
+    }
+
+    @Test
+    @DisplayName("Step 안에서 올린 카운터로 진행률과 남은 시간을 계산하고, 끝난 뒤에도 마지막 상태를 보관한다")
+    void tracksProgressOfRunningJob() throws Exception {
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "donationTokenTransferJob"), 7L,
+                new JobParametersBuilder()
+                        .addString("campaignId", "42")
+                        .addLong("totalDonations", 10L, false)
+                        .toJobParameters());
+        tracker.start(jobExecution, 42L);
+        StepSynchronizationManager.register(new StepExecution("donationProcessingStep", jobExecution));
+
+        for (int i = 0; i < 4; i++) {
+            tracker.recordProcessed();
+        }
+        tracker.recordWritten(3, 1);
+        Thread.sleep(5);
+
+        BatchProgressEvent running = tracker.snapshot(7L).orElseThrow();
+        assertThat(running.getCampaignId()).isEqualTo(42L);
+        assertThat(running.getTotalDonations()).isEqualTo(10);
+        assertThat(running.getProcessed()).isEqualTo(4);
+        assertThat(running.getSucceeded()).isEqualTo(3);
+        assertThat(running.getFailed()).isEqualTo(1);
+        assertThat(running.getThroughputPerSecond()).isPositive();
+        assertThat(running.getEtaSeconds()).isNotNull();
+        assertThat(running.isFinished()).isFalse();
+        assertThat(tracker.subscribe(7L)).isPresent();
+
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        tracker.finish(jobExecution);
+
+        BatchProgressEvent last = tracker.snapshot(7L).orElseThrow();
+        assertThat(last.isFinished()).isTrue();
+        assertThat(last.getStatus()).isEqualTo("COMPLETED");
+        assertThat(last.getEtaSeconds()).isZero();
+        assertThat(tracker.subscribe(7L)).isPresent();
+        assertThat(tracker.subscribe(8L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("실행 요청 직후 QUEUED로 등록되어 beforeJob 전에도 구독할 수 있고, 시작되면 STARTED가 된다")
+    void registersQueuedJobBeforeStart() {
+        JobExecution jobExecution = jobExecution(11L);
+
+        tracker.queue(jobExecution, 42L);
+
+        assertThat(tracker.snapshot(11L).orElseThrow().getStatus()).isEqualTo("QUEUED");
+        assertThat(tracker.subscribe(11L)).isPresent();
+
+        tracker.start(jobExecution, 42L);
+
+        BatchProgressEvent started = tracker.snapshot(11L).orElseThrow();
+        assertThat(started.getStatus()).isEqualTo("STARTED");
+        assertThat(started.getTotalDonations()).isEqualTo(10);
+        assertThat(started.isFinished()).isFalse();
+    }
+
+    @Test
+    @DisplayName("launcher.run이 반환되기 전에 끝난 Job은 다시 등록하지 않는다")
+    void doesNotRequeueFinishedJob() {
+        JobExecution jobExecution = jobExecution(12L);
+        tracker.start(jobExecution, 42L);
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        tracker.finish(jobExecution);
+
+        tracker.queue(jobExecution, 42L);
+
+        BatchProgressEvent last = tracker.snapshot(12L).orElseThrow();
+        assertThat(last.isFinished()).isTrue();
+        assertThat(last.getStatus()).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    @DisplayName("Step 밖에서의 기록은 무시한다")
+    void ignoresRecordsOutsideStep() {
+        tracker.recordProcessed();
+        tracker.recordWritten(1, 0);
+
+        assertThat(tracker.snapshot(1L)).isEmpty();
+    }
+
+    private static JobExecution jobExecution(Long id) {
+        return new JobExecution(new JobInstance(1L, "donationTokenTransferJob"), id,
+                new JobParametersBuilder()
+                        .addString("campaignId", "42")
+                        .addLong("totalDonations", 10L, false)
+                        .toJobParameters());
+    }
+}
@@ -1,6 +1,10 @@
 package com.hanachain.hanachainbackend.config;
 
+import com.hanachain.hanachainbackend.config.logging.AccessLogSampler;
+import com.hanachain.hanachainbackend.config.logging.HeaderDebugToggle;
 import com.hanachain.hanachainbackend.security.JwtTokenProvider;
+import com.hanachain.hanachainbackend.security.LoginThrottle;
+import com.hanachain.hanachainbackend.security.UserSnapshotCache;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
@@ -22,4 +26,26 @@ public class WebMvcTestConfiguration {
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
-}
\ No newline at end of file
+    
+    // JwtAuthenticationFilter / AccessLogFilter 의존성 (WebMvcTest는 필터만 스캔)
+    @Bean
+    public UserSnapshotCache userSnapshotCache() {
+        return Mockito.mock(UserSnapshotCache.class);
+    }
+    
+    @Bean
+    public AccessLogSampler accessLogSampler() {
+        return new AccessLogSampler(0.0, 0, 60000);
+    }
+    
+    @Bean
+    public HeaderDebugToggle headerDebugToggle() {
+        return new HeaderDebugToggle();
+    }
+    
+    // 로그인 시도 제한 (테스트에서는 사실상 무제한)
+    @Bean
+    public LoginThrottle loginThrottle() {
+        return new LoginThrottle(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 1000);
+    }
+}
@@ -0,0 +1,130 @@
+package com.hanachain.hanachainbackend.config.concurrency;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 고정(pinning) 감지 테스트
+ * JFR의 jdk.VirtualThreadPinned 이벤트로 동시성 제한 경로가 캐리어 스레드를 고정하지 않는지 확인합니다.
+ * Java 21 이상에서만 실행됩니다 (./gradlew test -PjavaVersion=21).
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int TASKS = 64;
+
+    private final VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("pinning-test-");
+
+    @Test
+    @DisplayName("커넥션 대여 제한 대기는 캐리어 스레드를 고정하지 않는다")
+    void connectionLimitDoesNotPin() throws Exception {
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(slowDataSource(), 4, 10_000);
+        // 프록시 클래스 생성/클래스 초기화는 측정에서 제외
+        dataSource.getConnection().close();
+
+        long pinned = countPinnedEvents(() -> runConcurrently(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.isValid(1);
+            }
+            return null;
+        }));
+
+        assertThat(pinned).isZero();
+        assertThat(dataSource.availablePermits()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("감지 확인: synchronized 안에서 블로킹하면 고정 이벤트가 기록된다")
+    void synchronizedBlockingIsDetected() throws Exception {
+        Object lock = new Object();
+
+        long pinned = countPinnedEvents(() -> runConcurrently(() -> {
+            synchronized (lock) {
+                Thread.sleep(30);
+            }
+            return null;
+        }));
+
+        assertThat(pinned).isPositive();
+    }
+
+    private long countPinnedEvents(ThrowingRunnable workload) throws Exception {
+        Path file = Files.createTempFile("pinning", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(1));
+            recording.start();
+            workload.run();
+            recording.stop();
+            recording.dump(file);
+
+            long count = 0;
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (PINNED_EVENT.equals(event.getEventType().getName())) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void runConcurrently(ThrowingCallable task) {
+        List<CompletableFuture<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.call();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * 커넥션 획득에 10ms가 걸리는 DataSource (Mockito 프록시는 내부 동기화가 있어 사용하지 않음)
+     */
+    private static DataSource slowDataSource() {
+        Connection connection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> method.getReturnType() == boolean.class ? true : null);
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(),
+                new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+                    if ("getConnection".equals(method.getName())) {
+                        Thread.sleep(10);
+                        return connection;
+                    }
+                    return null;
+                });
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingCallable {
+        Object call() throws Exception;
+    }
+}
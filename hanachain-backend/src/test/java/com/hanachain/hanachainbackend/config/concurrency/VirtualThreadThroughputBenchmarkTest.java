@@ -0,0 +1,94 @@
+package com.hanachain.hanachainbackend.config.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 블로킹 I/O 작업 처리량 비교: 고정 스레드 풀(blockchainTaskExecutor 기본 설정) vs 가상 스레드
+ * 기본 빌드에서는 실행하지 않으며 Java 21에서 -Dbenchmark=true 로 실행합니다.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadThroughputBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadThroughputBenchmarkTest.class);
+
+    private static final int TASKS = 2_000;
+    private static final long IO_MILLIS = 50;
+    // RPC 동시 요청 제한(blockchain.rpc.max-concurrent-requests)과 같은 역할
+    private static final int IO_PERMITS = 200;
+    private static final int MAX_POOL_SIZE = 20;
+    // 이론상 약 10배 (200 / 21), 측정 환경 편차를 감안한 하한
+    private static final double MIN_SPEEDUP = 3.0;
+
+    @Test
+    @DisplayName("고정 스레드 풀과 가상 스레드의 블로킹 작업 처리량 비교")
+    void compareThroughput() {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(5);
+        pool.setMaxPoolSize(MAX_POOL_SIZE);
+        pool.setQueueCapacity(100);
+        pool.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.initialize();
+
+        try {
+            double platform = measure(pool);
+            double virtual = measure(new VirtualThreadTaskExecutor("benchmark-"));
+
+            log.info("Blocking I/O throughput - thread pool: {} tasks/s, virtual threads: {} tasks/s (x{})",
+                    Math.round(platform), Math.round(virtual), String.format("%.1f", virtual / platform));
+
+            // 풀은 최대 스레드 수(+CallerRuns 호출 스레드)만큼, 가상 스레드는 I/O 허용 수만큼만 동시에 대기할 수 있음
+            assertThat(platform).isLessThanOrEqualTo(maxThroughput(MAX_POOL_SIZE + 1));
+            assertThat(virtual).isLessThanOrEqualTo(maxThroughput(IO_PERMITS));
+            assertThat(virtual).isGreaterThanOrEqualTo(platform * MIN_SPEEDUP);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private double measure(Executor executor) {
+        Semaphore ioPermits = new Semaphore(IO_PERMITS);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[TASKS];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < TASKS; i++) {
+            futures[i] = CompletableFuture.runAsync(() -> simulateIo(ioPermits), executor);
+        }
+        CompletableFuture.allOf(futures).join();
+        long elapsed = System.nanoTime() - start;
+
+        return TASKS / (elapsed / 1_000_000_000.0);
+    }
+
+    private static double maxThroughput(int concurrency) {
+        return concurrency * (1_000.0 / IO_MILLIS);
+    }
+
+    private void simulateIo(Semaphore ioPermits) {
+        try {
+            ioPermits.acquire();
+            try {
+                Thread.sleep(IO_MILLIS);
+            } finally {
+                ioPermits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.hanachain.hanachainbackend.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 로컬 H2 DB를 주 DB/복제본으로 두고 트랜잭션 종류별 라우팅을 검증
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate routed;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = h2("routing_primary");
+        DataSource replicaDataSource = h2("routing_replica");
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+
+        for (JdbcTemplate database : List.of(primary, replica)) {
+            database.execute("CREATE TABLE IF NOT EXISTS db_role (name VARCHAR(20))");
+            database.execute("DELETE FROM db_role");
+            database.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds DOUBLE)");
+            database.execute("DELETE FROM replica_lag");
+        }
+        primary.update("INSERT INTO db_role VALUES ('primary')");
+        replica.update("INSERT INTO db_role VALUES ('replica')");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(replicaDataSource, "SELECT seconds FROM replica_lag", 5, meterRegistry);
+        lagMonitor.refresh();
+
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, lagMonitor,
+                new ReadYourWritesTracker(Duration.ofSeconds(30), 1000), meterRegistry));
+        routed = new JdbcTemplate(routing);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션과 트랜잭션 밖 조회는 주 DB로 간다")
+    void routesByTransactionType() {
+        assertThat(readOnly.execute(status -> currentRole())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> currentRole())).isEqualTo("primary");
+        assertThat(currentRole()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 주 DB로 읽고, 회복되면 다시 복제본으로 읽는다")
+    void fallsBackToPrimaryWhenReplicaLags() {
+        replica.update("UPDATE replica_lag SET seconds = 30");
+        lagMonitor.refresh();
+
+        assertThat(lagMonitor.isAvailable()).isFalse();
+        assertThat(readOnly.execute(status -> currentRole())).isEqualTo("primary");
+
+        replica.update("UPDATE replica_lag SET seconds = 1");
+        lagMonitor.refresh();
+
+        assertThat(readOnly.execute(status -> currentRole())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 사용자만 잠시 동안 읽기도 주 DB로 간다")
+    void stickyReadsAfterWrite() {
+        authenticateAs("writer@example.com");
+        readWrite.execute(status -> routed.update("INSERT INTO db_role VALUES ('written')"));
+
+        assertThat(readOnly.execute(status -> currentRole())).isEqualTo("primary");
+
+        authenticateAs("reader@example.com");
+        assertThat(readOnly.execute(status -> currentRole())).isEqualTo("replica");
+    }
+
+    private String currentRole() {
+        return routed.queryForObject("SELECT name FROM db_role WHERE name IN ('primary', 'replica')", String.class);
+    }
+
+    private static void authenticateAs(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(email, null, List.of()));
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
@@ -0,0 +1,87 @@
+package com.hanachain.hanachainbackend.config.logging;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 접근 로그 필터 요청당 오버헤드 측정
+ * 샘플링 경로와 헤더 디버그 경로를 아무것도 기록하지 않는 경로(샘플링 비율 0)와 비교합니다.
+ * 기본 빌드에서는 실행하지 않으며 -Dbenchmark=true 로 실행합니다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AccessLogFilterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessLogFilterBenchmarkTest.class);
+
+    private static final int WARMUP = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    // 1% 샘플링(초당 최대 200줄)은 기준 경로 대비 이 배율 + 여유분 안에 있어야 함
+    private static final double MAX_SAMPLED_RATIO = 1.5;
+    private static final double SLACK_NANOS = 500;
+    // 헤더 디버그는 요청마다 한 줄을 남기므로 상대 비율 대신 절대 상한으로 확인
+    private static final double MAX_HEADER_DEBUG_NANOS = 50_000;
+
+    private final FilterChain noopChain = (request, response) -> { };
+
+    @Test
+    @DisplayName("샘플링 경로는 기준 경로와 비슷하고, 헤더 디버그 경로는 더 비싸지만 상한 안에 있다")
+    void comparesPathsAgainstUnsampledBaseline() throws Exception {
+        AccessLogFilter unsampled = new AccessLogFilter(new AccessLogSampler(0.0, 200, 1000), new HeaderDebugToggle());
+        AccessLogFilter sampled = new AccessLogFilter(new AccessLogSampler(0.01, 200, 1000), new HeaderDebugToggle());
+        HeaderDebugToggle toggle = new HeaderDebugToggle();
+        toggle.enable("/campaigns", Duration.ofMinutes(1));
+        AccessLogFilter headerDebug = new AccessLogFilter(new AccessLogSampler(0.01, 200, 1000), toggle);
+
+        double baselineNanos = measure(unsampled);
+        double sampledNanos = measure(sampled);
+        double headerDebugNanos = measure(headerDebug);
+
+        log.info("AccessLogFilter ns/request - unsampled: {}, sampled: {} (x{}), header debug: {} (x{})",
+                format(baselineNanos), format(sampledNanos), format(sampledNanos / baselineNanos),
+                format(headerDebugNanos), format(headerDebugNanos / baselineNanos));
+
+        assertThat(sampledNanos).isLessThanOrEqualTo(baselineNanos * MAX_SAMPLED_RATIO + SLACK_NANOS);
+        assertThat(headerDebugNanos).isGreaterThan(baselineNanos);
+        assertThat(headerDebugNanos).isLessThanOrEqualTo(MAX_HEADER_DEBUG_NANOS);
+    }
+
+    private double measure(AccessLogFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/campaigns/42");
+        request.addHeader("Authorization", "Bearer token");
+        request.addHeader("User-Agent", "benchmark");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/campaigns/{id}");
+        request.setAttribute(AccessLogFilter.USER_ID_ATTRIBUTE, 1L);
+
+        for (int i = 0; i < WARMUP; i++) {
+            runOnce(filter, request);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            runOnce(filter, request);
+        }
+        return (System.nanoTime() - start) / (double) ITERATIONS;
+    }
+
+    private void runOnce(AccessLogFilter filter, MockHttpServletRequest request) throws Exception {
+        // OncePerRequestFilter가 남기는 "이미 필터링됨" 속성을 지워 매번 필터 본문을 실행
+        request.removeAttribute(filter.getClass().getName() + ".FILTERED");
+        filter.doFilter(request, new MockHttpServletResponse(), noopChain);
+    }
+
+    private static String format(double value) {
+        return String.format("%.1f", value);
+    }
+}
@@ -0,0 +1,64 @@
+package com.hanachain.hanachainbackend.config.transaction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionalIoGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionName(null);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 외부 호출은 통과시키고 지표도 남기지 않는다")
+    void allowsCallsOutsideTransaction() {
+        TransactionalIoGuard guard = new TransactionalIoGuard(meterRegistry, "fail");
+
+        assertThatCode(() -> guard.check("portone", "api.portone.io/payments")).doesNotThrowAnyException();
+        assertThat(meterRegistry.find("transaction.io.violations").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("fail 모드에서는 트랜잭션 안의 외부 호출을 막는다")
+    void failModeRejectsCallsInsideTransaction() {
+        TransactionalIoGuard guard = new TransactionalIoGuard(meterRegistry, "fail");
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionName("DonationServiceImpl.refundDonation");
+
+        assertThatThrownBy(() -> guard.check("portone", "api.portone.io/payments"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("DonationServiceImpl.refundDonation");
+        assertThat(meterRegistry.get("transaction.io.violations").tag("client", "portone").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("metric 모드에서는 호출을 허용하고 위반 수만 기록한다")
+    void metricModeCountsCallsInsideTransaction() {
+        TransactionalIoGuard guard = new TransactionalIoGuard(meterRegistry, "metric");
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertThatCode(() -> guard.check("blockchain-rpc", "sepolia.infura.io")).doesNotThrowAnyException();
+        assertThatCode(() -> guard.check("blockchain-rpc", "sepolia.infura.io")).doesNotThrowAnyException();
+
+        assertThat(meterRegistry.get("transaction.io.violations").tag("client", "blockchain-rpc").counter().count())
+                .isEqualTo(2.0);
+    }
+}
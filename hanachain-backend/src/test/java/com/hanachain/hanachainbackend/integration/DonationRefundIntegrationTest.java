@@ -0,0 +1,152 @@
+package com.hanachain.hanachainbackend.integration;
+
+import com.hanachain.hanachainbackend.dto.donation.DonationResponse;
+import com.hanachain.hanachainbackend.dto.donation.FdsOverrideRequest;
+import com.hanachain.hanachainbackend.entity.Campaign;
+import com.hanachain.hanachainbackend.entity.Donation;
+import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.exception.BusinessException;
+import com.hanachain.hanachainbackend.repository.CampaignRepository;
+import com.hanachain.hanachainbackend.repository.DonationRepository;
+import com.hanachain.hanachainbackend.repository.UserRepository;
+import com.hanachain.hanachainbackend.service.DonationService;
+import com.hanachain.hanachainbackend.service.PortoneService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 환불과 FDS 차단 환불이 실제 리포지토리/트랜잭션 경로에서 한 번만 반영되는지 검증
+ * (테스트 트랜잭션 없이 서비스의 트랜잭션 경계를 그대로 사용, PortOne만 대체)
+ */
+@SpringBootTest
+@ActiveProfiles("integration-test")
+@DisplayName("Donation Refund Integration Test")
+class DonationRefundIntegrationTest {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("10000.00");
+
+    @Autowired
+    private DonationService donationService;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private PortoneService portoneService;
+
+    private User creator;
+    private User admin;
+    private Campaign campaign;
+    private Donation donation;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        creator = userRepository.save(User.builder()
+                .email("creator-" + suffix + "@test.com")
+                .nickname("creator")
+                .password("password")
+                .role(User.Role.USER)
+                .build());
+        admin = userRepository.save(User.builder()
+                .email("admin-" + suffix + "@test.com")
+                .nickname("admin")
+                .password("password")
+                .role(User.Role.ADMIN)
+                .build());
+        campaign = campaignRepository.save(Campaign.builder()
+                .title("Refund Campaign")
+                .description("Description")
+                .targetAmount(new BigDecimal("1000000"))
+                .currentAmount(AMOUNT)
+                .donorCount(1)
+                .category(Campaign.CampaignCategory.MEDICAL)
+                .status(Campaign.CampaignStatus.ACTIVE)
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(30))
+                .user(creator)
+                .build());
+        donation = donationRepository.save(Donation.builder()
+                .amount(AMOUNT)
+                .paymentId("payment-" + suffix)
+                .paymentMethod(Donation.PaymentMethod.CREDIT_CARD)
+                .paymentStatus(Donation.PaymentStatus.COMPLETED)
+                .campaign(campaign)
+                .build());
+
+        when(portoneService.cancelPayment(anyString(), anyString())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        donationRepository.deleteById(donation.getId());
+        campaignRepository.deleteById(campaign.getId());
+        userRepository.deleteById(admin.getId());
+        userRepository.deleteById(creator.getId());
+    }
+
+    @Test
+    @DisplayName("환불하면 캠페인 정보를 담은 응답을 반환하고 상태와 모금액을 한 번만 반영한다")
+    void refundsOnce() {
+        DonationResponse response = donationService.refundDonation(donation.getId(), "단순 변심");
+
+        assertThat(response.getPaymentStatus()).isEqualTo(Donation.PaymentStatus.REFUNDED);
+        assertThat(response.getCampaignTitle()).isEqualTo("Refund Campaign");
+        assertRefunded();
+
+        assertThatThrownBy(() -> donationService.refundDonation(donation.getId(), "단순 변심"))
+                .isInstanceOf(BusinessException.class);
+        assertRefunded();
+    }
+
+    @Test
+    @DisplayName("완료된 결제를 FDS 차단하면 환불 경로를 거쳐 모금액을 한 번만 차감한다")
+    void blockRefundsOnce() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(admin, null, List.of()));
+
+        DonationResponse response = donationService.overrideFdsResult(donation.getId(),
+                new FdsOverrideRequest("block", "관리자 검토 결과 이상 거래로 판단"));
+
+        assertThat(response.getPaymentStatus()).isEqualTo(Donation.PaymentStatus.REFUNDED);
+        assertThat(response.getCampaignTitle()).isEqualTo("Refund Campaign");
+        assertRefunded();
+
+        assertThatThrownBy(() -> donationService.refundDonation(donation.getId(), "단순 변심"))
+                .isInstanceOf(BusinessException.class);
+        assertRefunded();
+    }
+
+    private void assertRefunded() {
+        assertThat(donationRepository.findById(donation.getId()).orElseThrow().getPaymentStatus())
+                .isEqualTo(Donation.PaymentStatus.REFUNDED);
+        Campaign reloaded = campaignRepository.findById(campaign.getId()).orElseThrow();
+        assertThat(reloaded.getCurrentAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(reloaded.getDonorCount()).isZero();
+    }
+}
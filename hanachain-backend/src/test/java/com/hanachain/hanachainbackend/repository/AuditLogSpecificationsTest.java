@@ -0,0 +1,63 @@
+package com.hanachain.hanachainbackend.repository;
+
+import com.hanachain.hanachainbackend.dto.audit.AuditLogSearchCondition;
+import com.hanachain.hanachainbackend.entity.AuditLog;
+import com.hanachain.hanachainbackend.entity.enums.AuditAction;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuditLogSpecificationsTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusDays(7);
+
+    @Test
+    @DisplayName("값이 있는 필터만 조건에 넣고, 비어 있는 필터는 IS NULL 분기 없이 생략한다")
+    @SuppressWarnings("unchecked")
+    void addsOnlyPresentFilters() {
+        Root<AuditLog> root = mock(Root.class);
+        CriteriaQuery<?> query = mock(CriteriaQuery.class);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        Path<Object> path = mock(Path.class);
+        when(root.get(anyString())).thenReturn(path);
+
+        AuditLogSearchCondition condition = AuditLogSearchCondition.builder()
+                .userId(7L)
+                .action(AuditAction.LOGIN_SUCCESS)
+                .build();
+
+        AuditLogSpecifications.search(FROM, TO, condition).toPredicate(root, query, cb);
+
+        verify(root).get("userId");
+        verify(root).get("action");
+        verify(root, never()).get("category");
+        verify(root, never()).get("organizationId");
+        verify(root, never()).get("targetEntityType");
+        verify(root, never()).get("targetEntityId");
+        verify(root, never()).get("success");
+        verify(cb).equal(path, 7L);
+        verify(cb).equal(path, AuditAction.LOGIN_SUCCESS);
+        verify(cb, never()).isNull(any());
+
+        ArgumentCaptor<Predicate[]> predicates = ArgumentCaptor.forClass(Predicate[].class);
+        verify(cb).and(predicates.capture());
+        // 기간 2개 + 필터 2개
+        assertThat(predicates.getValue()).hasSize(4);
+    }
+}
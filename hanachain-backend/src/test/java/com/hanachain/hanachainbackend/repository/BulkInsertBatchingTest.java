@@ -0,0 +1,62 @@
+package com.hanachain.hanachainbackend.repository;
+
+import com.hanachain.hanachainbackend.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 저장 시 JDBC 배치와 시퀀스 사전 할당이 적용되는지 실행된 문장 수로 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class BulkInsertBatchingTest {
+
+    private static final int ROWS = 1_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void insertsThousandRowsInBatches() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<User> users = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            users.add(User.builder()
+                    .email("bulk" + i + "@example.com")
+                    .password("password")
+                    .name("Bulk User " + i)
+                    .emailVerified(true)
+                    .termsAccepted(true)
+                    .privacyAccepted(true)
+                    .build());
+        }
+
+        userRepository.saveAll(users);
+        entityManager.flush();
+
+        // 시퀀스 조회 ROWS / BATCH_SIZE회 + 배치 INSERT ROWS / BATCH_SIZE회 (건별 처리라면 각각 ROWS회)
+        long expectedStatements = 2L * ROWS / BATCH_SIZE;
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(expectedStatements + 2);
+    }
+}
@@ -0,0 +1,145 @@
+package com.hanachain.hanachainbackend.repository;
+
+import com.hanachain.hanachainbackend.dto.organization.OrganizationResponse;
+import com.hanachain.hanachainbackend.entity.Campaign;
+import com.hanachain.hanachainbackend.entity.Organization;
+import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.entity.enums.OrganizationRole;
+import com.hanachain.hanachainbackend.entity.enums.OrganizationStatus;
+import com.hanachain.hanachainbackend.service.impl.OrganizationServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조직 목록 페이지가 멤버/캠페인 컬렉션을 로드하지 않고 고정된 문장 수로 조회되는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class OrganizationSummaryQueryTest {
+
+    private static final int ORGANIZATIONS = 30;
+    private static final int MEMBERS_PER_ORGANIZATION = 10;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private OrganizationUserRepository organizationUserRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private OrganizationServiceImpl organizationService;
+
+    @BeforeEach
+    void setUp() {
+        organizationService = new OrganizationServiceImpl(
+                organizationRepository, organizationUserRepository, userRepository, null, null, null, null, null);
+
+        for (int o = 0; o < ORGANIZATIONS; o++) {
+            Organization organization = Organization.builder()
+                    .name("Organization " + o)
+                    .status(OrganizationStatus.ACTIVE)
+                    .build();
+            for (int m = 0; m < MEMBERS_PER_ORGANIZATION; m++) {
+                User user = User.builder()
+                        .email("member" + o + "_" + m + "@example.com")
+                        .name("Member " + m)
+                        .password("password")
+                        .build();
+                entityManager.persist(user);
+                organization.addMember(user, m == 0 ? OrganizationRole.ORG_ADMIN : OrganizationRole.ORG_MEMBER);
+                entityManager.persist(Campaign.builder()
+                        .title("Campaign " + o + "_" + m)
+                        .description("Description")
+                        .targetAmount(new BigDecimal("1000000"))
+                        .category(Campaign.CampaignCategory.MEDICAL)
+                        .status(Campaign.CampaignStatus.ACTIVE)
+                        .startDate(LocalDateTime.now().minusDays(1))
+                        .endDate(LocalDateTime.now().plusDays(30))
+                        .user(user)
+                        .build());
+            }
+            entityManager.persist(organization);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listsPageWithFixedStatementCountAndNoCollectionLoads() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<OrganizationResponse> page = organizationService.getAllOrganizations(pageable());
+
+        // 페이지 조회 + 전체 건수 + 활성 캠페인 그룹 쿼리 (페이지 크기와 무관)
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(ORGANIZATIONS);
+        assertThat(page.getContent()).allSatisfy(organization -> {
+            assertThat(organization.getMemberCount()).isEqualTo(MEMBERS_PER_ORGANIZATION);
+            assertThat(organization.getAdminCount()).isEqualTo(1L);
+            assertThat(organization.getActiveCampaignCount()).isEqualTo(MEMBERS_PER_ORGANIZATION);
+        });
+    }
+
+    @Test
+    void allocatesLessThanLoadingMemberCollections() {
+        // 쿼리 계획 캐시 등 첫 호출 비용 제외
+        organizationService.getAllOrganizations(pageable());
+        loadPageWithMemberCollections();
+
+        long summaryBytes = allocatedBytes(() -> organizationService.getAllOrganizations(pageable()));
+        long entityBytes = allocatedBytes(this::loadPageWithMemberCollections);
+
+        assertThat(summaryBytes).isLessThan(entityBytes);
+    }
+
+    private void loadPageWithMemberCollections() {
+        organizationRepository.findAll(pageable())
+                .forEach(organization -> organization.getMembers().forEach(member -> member.getUser().getEnabled()));
+        entityManager.clear();
+    }
+
+    private long allocatedBytes(Runnable action) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        action.run();
+        entityManager.clear();
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static Pageable pageable() {
+        return PageRequest.of(0, PAGE_SIZE, Sort.by("name"));
+    }
+}
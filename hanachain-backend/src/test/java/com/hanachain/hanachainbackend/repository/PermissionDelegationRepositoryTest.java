@@ -0,0 +1,97 @@
+package com.hanachain.hanachainbackend.repository;
+
+import com.hanachain.hanachainbackend.dto.admin.PermissionDelegationSearchCondition;
+import com.hanachain.hanachainbackend.entity.Organization;
+import com.hanachain.hanachainbackend.entity.PermissionDelegation;
+import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.entity.enums.DelegationScope;
+import com.hanachain.hanachainbackend.entity.enums.OrganizationRole;
+import com.hanachain.hanachainbackend.entity.enums.OrganizationStatus;
+import com.hanachain.hanachainbackend.service.permission.PermissionDelegationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@DisplayName("Permission Delegation Registry Test")
+class PermissionDelegationRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PermissionDelegationRepository permissionDelegationRepository;
+
+    private PermissionDelegationRegistry registry;
+    private User admin;
+    private User grantee;
+    private Organization organization;
+
+    @BeforeEach
+    void setUp() {
+        registry = new PermissionDelegationRegistry(permissionDelegationRepository);
+
+        admin = entityManager.persist(User.builder()
+                .email("admin@example.com").name("Admin").password("password").role(User.Role.SUPER_ADMIN).build());
+        grantee = entityManager.persist(User.builder()
+                .email("grantee@example.com").name("Grantee").password("password").build());
+        organization = entityManager.persist(Organization.builder()
+                .name("Delegation Org").status(OrganizationStatus.ACTIVE).build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("새 위임은 같은 대상의 기존 활성 위임을 대체한다")
+    void newDelegationReplacesActiveOne() {
+        registry.recordOrganizationRole(grantee, organization, OrganizationRole.ORG_MEMBER,
+                admin.getId(), admin.getName(), null, false, null);
+        registry.recordOrganizationRole(grantee, organization, OrganizationRole.ORG_ADMIN,
+                admin.getId(), admin.getName(), "승격", false, null);
+        registry.recordSystemRole(grantee, User.Role.CAMPAIGN_ADMIN,
+                admin.getId(), admin.getName(), null, false, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(permissionDelegationRepository.findActiveByGranteeId(grantee.getId()))
+                .extracting(PermissionDelegation::getScope, PermissionDelegation::getOrganizationRole,
+                        PermissionDelegation::getSystemRole)
+                .containsExactlyInAnyOrder(
+                        tuple(DelegationScope.ORGANIZATION, OrganizationRole.ORG_ADMIN, null),
+                        tuple(DelegationScope.SYSTEM, null, User.Role.CAMPAIGN_ADMIN));
+        assertThat(permissionDelegationRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("회수된 위임은 활성 목록 검색에서 제외된다")
+    void revokedDelegationsAreExcludedFromSearch() {
+        registry.recordOrganizationRole(grantee, organization, OrganizationRole.ORG_MEMBER,
+                admin.getId(), admin.getName(), null, false, null);
+        registry.recordSystemRole(grantee, User.Role.CAMPAIGN_ADMIN,
+                admin.getId(), admin.getName(), null, false, null);
+        registry.revokeSystemRole(grantee.getId(), admin.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        Page<PermissionDelegation> organizationScope = permissionDelegationRepository.findAll(
+                PermissionDelegationSpecifications.searchActive(PermissionDelegationSearchCondition.builder()
+                        .scope(DelegationScope.ORGANIZATION).organizationId(organization.getId()).build()),
+                PageRequest.of(0, 10));
+        Page<PermissionDelegation> systemScope = permissionDelegationRepository.findAll(
+                PermissionDelegationSpecifications.searchActive(PermissionDelegationSearchCondition.builder()
+                        .scope(DelegationScope.SYSTEM).targetUserId(grantee.getId()).build()),
+                PageRequest.of(0, 10));
+
+        assertThat(organizationScope.getTotalElements()).isEqualTo(1);
+        assertThat(organizationScope.getContent().get(0).getGrantee().getEmail()).isEqualTo("grantee@example.com");
+        assertThat(organizationScope.getContent().get(0).getGrantedByName()).isEqualTo("Admin");
+        assertThat(systemScope.getTotalElements()).isZero();
+    }
+}
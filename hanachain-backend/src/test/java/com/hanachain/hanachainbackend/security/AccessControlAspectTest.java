@@ -0,0 +1,128 @@
+package com.hanachain.hanachainbackend.security;
+
+import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.entity.enums.OrganizationRole;
+import com.hanachain.hanachainbackend.entity.enums.OrganizationStatus;
+import com.hanachain.hanachainbackend.entity.enums.Permission;
+import com.hanachain.hanachainbackend.repository.OrganizationUserRepository;
+import com.hanachain.hanachainbackend.service.audit.AuditLogger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 멤버십 캐시를 거쳐 판단하는 조직 권한 검사 (캐시 무효화 후에는 바뀐 멤버십으로 거부)
+ */
+class AccessControlAspectTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long ORGANIZATION_ID = 10L;
+
+    private OrganizationUserRepository organizationUserRepository;
+    private OrganizationMembershipCache membershipCache;
+    private OrganizationEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        organizationUserRepository = mock(OrganizationUserRepository.class);
+        membershipCache = new OrganizationMembershipCache(organizationUserRepository, 30, 100);
+
+        SecurityUtils securityUtils = new SecurityUtils();
+        ReflectionTestUtils.setField(securityUtils, "rolePermissionMapper", new RolePermissionMapper());
+        ReflectionTestUtils.setField(securityUtils, "organizationMembershipCache", membershipCache);
+        ReflectionTestUtils.setField(securityUtils, "auditLogger", mock(AuditLogger.class));
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new OrganizationEndpoint());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new AccessControlAspect(securityUtils, mock(ApplicationContext.class)));
+        endpoint = proxyFactory.getProxy();
+
+        User user = User.builder().id(USER_ID).email("member@example.com").role(User.Role.USER).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("여러 번 검사해도 멤버십은 캐시에서 한 번만 조회한다")
+    void usesCachedMembership() {
+        givenRole(OrganizationRole.ORG_ADMIN);
+
+        assertThat(endpoint.view(ORGANIZATION_ID)).isEqualTo("view");
+        assertThat(endpoint.manageMembers(ORGANIZATION_ID)).isEqualTo("manage");
+        assertThat(endpoint.adminOnly(ORGANIZATION_ID)).isEqualTo("admin");
+
+        verify(organizationUserRepository, times(1)).findActiveMembershipRoles(USER_ID, OrganizationStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("역할이 강등되고 캐시가 무효화되면 관리자 권한이 필요한 호출을 거부한다")
+    void deniesAfterDemotionIsEvicted() {
+        givenRole(OrganizationRole.ORG_ADMIN);
+        assertThat(endpoint.manageMembers(ORGANIZATION_ID)).isEqualTo("manage");
+
+        givenRole(OrganizationRole.ORG_MEMBER);
+        membershipCache.evictUser(USER_ID);
+
+        assertThatThrownBy(() -> endpoint.manageMembers(ORGANIZATION_ID)).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> endpoint.adminOnly(ORGANIZATION_ID)).isInstanceOf(AccessDeniedException.class);
+        assertThat(endpoint.view(ORGANIZATION_ID)).isEqualTo("view");
+    }
+
+    @Test
+    @DisplayName("멤버에서 제거되고 캐시가 무효화되면 조직 접근 자체를 거부한다")
+    void deniesAfterRemovalIsEvicted() {
+        givenRole(OrganizationRole.ORG_MEMBER);
+        assertThat(endpoint.view(ORGANIZATION_ID)).isEqualTo("view");
+
+        when(organizationUserRepository.findActiveMembershipRoles(USER_ID, OrganizationStatus.ACTIVE))
+                .thenReturn(List.of());
+        membershipCache.evictUser(USER_ID);
+
+        assertThatThrownBy(() -> endpoint.view(ORGANIZATION_ID)).isInstanceOf(AccessDeniedException.class);
+    }
+
+    private void givenRole(OrganizationRole role) {
+        when(organizationUserRepository.findActiveMembershipRoles(USER_ID, OrganizationStatus.ACTIVE))
+                .thenReturn(List.<Object[]>of(new Object[]{ORGANIZATION_ID, role}));
+    }
+
+    static class OrganizationEndpoint {
+
+        @RequireOrganizationAccess("organizationId")
+        public String view(@PathVariable("organizationId") Long organizationId) {
+            return "view";
+        }
+
+        @RequireOrganizationAccess(value = "organizationId", adminRequired = true)
+        public String adminOnly(@PathVariable("organizationId") Long organizationId) {
+            return "admin";
+        }
+
+        @RequirePermission(value = Permission.MANAGE_OWN_ORGANIZATION_MEMBERS, organizationParam = "organizationId")
+        public String manageMembers(@PathVariable("organizationId") Long organizationId) {
+            return "manage";
+        }
+    }
+}
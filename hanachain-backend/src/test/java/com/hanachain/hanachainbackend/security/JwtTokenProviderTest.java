@@ -1,5 +1,6 @@
 package com.hanachain.hanachainbackend.security;
 
+import com.hanachain.hanachainbackend.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.context.ActiveProfiles;
@@ -69,5 +70,43 @@ class JwtTokenProviderTest {
         assertThat(refreshToken).isNotNull();
         assertThat(refreshToken).isNotEmpty();
         assertThat(jwtTokenProvider.validateToken(refreshToken)).isTrue();
+        assertThat(jwtTokenProvider.parseToken(refreshToken).orElseThrow().isRefreshToken()).isTrue();
+    }
+    
+    @Test
+    void testParseTokenWithUserClaims() {
+        // Given
+        User user = User.builder()
+                .id(42L)
+                .email("test@example.com")
+                .role(User.Role.CAMPAIGN_ADMIN)
+                .tokenVersion(3)
+                .build();
+        String token = jwtTokenProvider.generateAccessToken(user);
+        
+        // When
+        JwtTokenProvider.TokenClaims claims = jwtTokenProvider.parseToken(token).orElseThrow();
+        
+        // Then
+        assertThat(claims.hasUserClaims()).isTrue();
+        assertThat(claims.subject()).isEqualTo("test@example.com");
+        assertThat(claims.userId()).isEqualTo(42L);
+        assertThat(claims.role()).isEqualTo(User.Role.CAMPAIGN_ADMIN);
+        assertThat(claims.tokenVersion()).isEqualTo(3);
+        assertThat(claims.isRefreshToken()).isFalse();
+        assertThat(jwtTokenProvider.parseToken("invalid-token")).isEmpty();
+    }
+    
+    @Test
+    void testParseLegacyTokenWithoutUserClaims() {
+        // Given
+        String token = jwtTokenProvider.generateAccessToken("test@example.com");
+        
+        // When
+        JwtTokenProvider.TokenClaims claims = jwtTokenProvider.parseToken(token).orElseThrow();
+        
+        // Then
+        assertThat(claims.hasUserClaims()).isFalse();
+        assertThat(claims.subject()).isEqualTo("test@example.com");
     }
 }
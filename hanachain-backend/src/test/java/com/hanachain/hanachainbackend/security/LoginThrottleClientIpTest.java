@@ -0,0 +1,57 @@
+package com.hanachain.hanachainbackend.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프록시 뒤의 로그인 시도 제한이 X-Forwarded-For로 전달된 클라이언트 IP별로 적용되는지 검증
+ * (RemoteIpValve는 실제 Tomcat에서만 동작하므로 MockMvc가 아닌 실제 서버로 요청)
+ *
+ * 테스트 클라이언트는 루프백(신뢰하는 프록시 범위)에서 접속하므로 프록시 역할을 합니다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "security.login-throttle.ip-capacity=2",
+        "security.login-throttle.ip-refill-per-minute=1",
+        "security.login-throttle.account-capacity=100"
+})
+@ActiveProfiles("integration-test")
+@DisplayName("Login Throttle Client IP Test")
+class LoginThrottleClientIpTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("전달된 클라이언트 IP마다 따로 제한하고, 같은 프록시를 거친 다른 클라이언트는 막지 않는다")
+    void throttlesPerForwardedClientIp() {
+        assertThat(login("203.0.113.10")).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(login("203.0.113.10")).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(login("203.0.113.10")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        assertThat(login("203.0.113.20")).isNotEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private HttpStatus login(String clientIp) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", clientIp);
+        Map<String, String> body = Map.of("email", "throttle@test.com", "password", "WrongPassword1!");
+
+        return HttpStatus.valueOf(restTemplate
+                .postForEntity("/auth/login", new HttpEntity<>(body, headers), String.class)
+                .getStatusCode()
+                .value());
+    }
+}
@@ -0,0 +1,133 @@
+package com.hanachain.hanachainbackend.security;
+
+import com.hanachain.hanachainbackend.entity.enums.OrganizationRole;
+import com.hanachain.hanachainbackend.entity.enums.OrganizationStatus;
+import com.hanachain.hanachainbackend.repository.OrganizationUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrganizationMembershipCacheTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long ORGANIZATION_ID = 10L;
+
+    private OrganizationUserRepository organizationUserRepository;
+    private OrganizationMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        organizationUserRepository = mock(OrganizationUserRepository.class);
+        cache = new OrganizationMembershipCache(organizationUserRepository, 30, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("요청이 달라도 TTL 안에서는 멤버십을 한 번만 조회한다")
+    void reusesSnapshotAcrossRequests() {
+        givenMemberships(OrganizationRole.ORG_MEMBER);
+
+        MembershipSnapshot first = cache.snapshotOf(USER_ID);
+        MembershipSnapshot second = cache.snapshotOf(USER_ID);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.roleIn(ORGANIZATION_ID)).contains(OrganizationRole.ORG_MEMBER);
+        verify(organizationUserRepository, times(1)).findActiveMembershipRoles(USER_ID, OrganizationStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("같은 요청 안에서는 캐시가 무효화되어도 요청 속성의 스냅샷을 재사용한다")
+    void reusesSnapshotWithinRequest() {
+        givenMemberships(OrganizationRole.ORG_MEMBER);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        MembershipSnapshot first = cache.snapshotOf(USER_ID);
+        cache.evictUser(USER_ID);
+
+        assertThat(cache.snapshotOf(USER_ID)).isSameAs(first);
+        verify(organizationUserRepository, times(1)).findActiveMembershipRoles(USER_ID, OrganizationStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("역할 변경 트랜잭션이 커밋된 뒤에야 무효화되어 새 역할을 다시 읽는다")
+    void evictsAfterRoleChangeCommits() {
+        givenMemberships(OrganizationRole.ORG_MEMBER);
+        cache.snapshotOf(USER_ID);
+
+        // OrganizationServiceImpl.updateMemberRole: 역할 저장 → adjustMemberCounts → evictUser
+        TransactionSynchronizationManager.initSynchronization();
+        givenMemberships(OrganizationRole.ORG_ADMIN);
+        cache.evictUser(USER_ID);
+
+        // 커밋 전에는 이전 스냅샷 유지 (커밋 전 값이 다시 캐싱되지 않도록)
+        assertThat(cache.snapshotOf(USER_ID).roleIn(ORGANIZATION_ID)).contains(OrganizationRole.ORG_MEMBER);
+
+        commit();
+
+        assertThat(cache.snapshotOf(USER_ID).roleIn(ORGANIZATION_ID)).contains(OrganizationRole.ORG_ADMIN);
+        verify(organizationUserRepository, times(2)).findActiveMembershipRoles(USER_ID, OrganizationStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("멤버 제거 후 무효화되면 더 이상 멤버로 보지 않는다")
+    void evictsAfterMemberRemoval() {
+        givenMemberships(OrganizationRole.ORG_MEMBER);
+        assertThat(cache.snapshotOf(USER_ID).isMemberOf(ORGANIZATION_ID)).isTrue();
+
+        // OrganizationServiceImpl.removeMemberFromOrganization: delete → adjustMemberCounts(-1) → evictUser
+        when(organizationUserRepository.findActiveMembershipRoles(USER_ID, OrganizationStatus.ACTIVE))
+                .thenReturn(List.of());
+        cache.evictUser(USER_ID);
+
+        assertThat(cache.snapshotOf(USER_ID).isMemberOf(ORGANIZATION_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("조직 삭제 시 그 조직 멤버십을 가진 스냅샷만 무효화한다")
+    void evictsOnlySnapshotsOfDeletedOrganization() {
+        givenMemberships(OrganizationRole.ORG_MEMBER);
+        when(organizationUserRepository.findActiveMembershipRoles(8L, OrganizationStatus.ACTIVE))
+                .thenReturn(List.<Object[]>of(new Object[]{20L, OrganizationRole.ORG_MEMBER}));
+        cache.snapshotOf(USER_ID);
+        cache.snapshotOf(8L);
+
+        cache.evictOrganization(ORGANIZATION_ID);
+        cache.snapshotOf(USER_ID);
+        cache.snapshotOf(8L);
+
+        verify(organizationUserRepository, times(2)).findActiveMembershipRoles(USER_ID, OrganizationStatus.ACTIVE);
+        verify(organizationUserRepository, times(1)).findActiveMembershipRoles(8L, OrganizationStatus.ACTIVE);
+    }
+
+    private void givenMemberships(OrganizationRole role) {
+        when(organizationUserRepository.findActiveMembershipRoles(USER_ID, OrganizationStatus.ACTIVE))
+                .thenReturn(List.<Object[]>of(new Object[]{ORGANIZATION_ID, role}));
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+}
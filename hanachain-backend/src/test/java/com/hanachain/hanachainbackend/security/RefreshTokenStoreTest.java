@@ -0,0 +1,122 @@
+package com.hanachain.hanachainbackend.security;
+
+import com.hanachain.hanachainbackend.entity.RefreshToken;
+import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.entity.enums.RefreshTokenStatus;
+import com.hanachain.hanachainbackend.exception.BusinessException;
+import com.hanachain.hanachainbackend.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JwtTokenProvider tokenProvider;
+    private RefreshTokenStore store;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", "test-secret-key-for-jwt-token-generation-2024-very-long-key-for-testing-purposes-to-meet-minimum-requirements-for-hs512-algorithm-security-validation-requirements-testing");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 60000);
+        ReflectionTestUtils.setField(tokenProvider, "refreshExpirationMs", 120000);
+
+        store = new RefreshTokenStore(refreshTokenRepository, tokenProvider, transactionManager, 3600, 1000);
+        user = User.builder()
+                .id(7L)
+                .email("test@example.com")
+                .role(User.Role.USER)
+                .tokenVersion(0)
+                .build();
+    }
+
+    @Test
+    @DisplayName("발급된 토큰은 조회 쿼리 없이 교체되고 같은 계열의 새 토큰이 발급된다")
+    void rotateIssuedTokenWithoutLookup() {
+        JwtTokenProvider.TokenClaims issued = tokenProvider.parseToken(store.issue(user)).orElseThrow();
+        when(refreshTokenRepository.markRotated(eq(RefreshTokenStore.hash(issued.tokenId())), any(),
+                eq(RefreshTokenStatus.ACTIVE), eq(RefreshTokenStatus.ROTATED))).thenReturn(1);
+
+        JwtTokenProvider.TokenClaims rotated = tokenProvider.parseToken(store.rotate(issued, user)).orElseThrow();
+
+        assertThat(rotated.familyId()).isEqualTo(issued.familyId());
+        assertThat(rotated.tokenId()).isNotEqualTo(issued.tokenId());
+        verify(refreshTokenRepository, never()).findById(anyString());
+        verify(refreshTokenRepository, times(2)).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("교체된 토큰을 다시 사용하면 계열 전체를 폐기한다")
+    void reuseOfRotatedTokenRevokesFamily() {
+        JwtTokenProvider.TokenClaims issued = tokenProvider.parseToken(store.issue(user)).orElseThrow();
+        String tokenHash = RefreshTokenStore.hash(issued.tokenId());
+        when(refreshTokenRepository.markRotated(eq(tokenHash), any(),
+                eq(RefreshTokenStatus.ACTIVE), eq(RefreshTokenStatus.ROTATED))).thenReturn(1);
+        store.rotate(issued, user);
+
+        assertThatThrownBy(() -> store.rotate(issued, user))
+                .isInstanceOf(BusinessException.class);
+
+        verify(refreshTokenRepository).revokeFamily(issued.familyId(), RefreshTokenStatus.ACTIVE, RefreshTokenStatus.REVOKED);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 교체한 토큰은 DB 상태로 재사용을 감지한다")
+    void concurrentRotationDetectedFromDatabase() {
+        JwtTokenProvider.TokenClaims issued = tokenProvider.parseToken(store.issue(user)).orElseThrow();
+        String tokenHash = RefreshTokenStore.hash(issued.tokenId());
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+
+        when(refreshTokenRepository.markRotated(eq(tokenHash), any(),
+                eq(RefreshTokenStatus.ACTIVE), eq(RefreshTokenStatus.ROTATED))).thenReturn(0);
+        when(refreshTokenRepository.findById(tokenHash)).thenReturn(Optional.of(RefreshToken.builder()
+                .tokenHash(tokenHash)
+                .familyId(saved.getValue().getFamilyId())
+                .userId(user.getId())
+                .status(RefreshTokenStatus.ROTATED)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build()));
+
+        assertThatThrownBy(() -> store.rotate(issued, user))
+                .isInstanceOf(BusinessException.class);
+
+        verify(refreshTokenRepository).revokeFamily(issued.familyId(), RefreshTokenStatus.ACTIVE, RefreshTokenStatus.REVOKED);
+    }
+
+    @Test
+    @DisplayName("토큰 ID가 없는 이전 형식 리프레시 토큰은 거부한다")
+    void legacyTokenWithoutIdIsRejected() {
+        JwtTokenProvider.TokenClaims legacy = tokenProvider.parseToken(tokenProvider.generateRefreshToken(user)).orElseThrow();
+
+        assertThatThrownBy(() -> store.rotate(legacy, user))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -14,6 +14,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
+import java.util.UUID;
+
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +37,9 @@ class SecurityIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
     private User regularUser;
     private User adminUser;
 
@@ -191,6 +197,37 @@ class SecurityIntegrationTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("리프레시 토큰은 Bearer 액세스 토큰으로 인증되지 않는다")
+    void testRefreshTokenRejectedAsAccessToken() throws Exception {
+        String accessToken = jwtTokenProvider.generateAccessToken(regularUser);
+        String trackedRefreshToken = jwtTokenProvider.generateRefreshToken(regularUser,
+                UUID.randomUUID().toString(), UUID.randomUUID().toString(), jwtTokenProvider.nextRefreshExpiration());
+        String legacyRefreshToken = jwtTokenProvider.generateRefreshToken(regularUser);
+
+        mockMvc.perform(get("/users/profile")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/users/profile")
+                        .header("Authorization", "Bearer " + trackedRefreshToken))
+                .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/users/profile")
+                        .header("Authorization", "Bearer " + legacyRefreshToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("토큰 버전 클레임이 없는 이전 형식 액세스 토큰은 인증되지 않는다")
+    void testTokenWithoutVersionClaimRejected() throws Exception {
+        String legacyAccessToken = jwtTokenProvider.generateAccessToken(regularUser.getEmail());
+
+        mockMvc.perform(get("/users/profile")
+                        .header("Authorization", "Bearer " + legacyAccessToken))
+                .andExpect(status().isUnauthorized());
+    }
+
     @Test
     @DisplayName("CORS 설정이 올바르게 적용된다")
     void testCorsConfiguration() throws Exception {
@@ -0,0 +1,74 @@
+package com.hanachain.hanachainbackend.security.password;
+
+import com.hanachain.hanachainbackend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashExecutor executor;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordHashExecutor(meterRegistry, 1, 4, 5000);
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(6);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        encoder = new BoundedPasswordEncoder(delegating, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("접두사 없는 기존 bcrypt 해시를 검증하고 업그레이드 대상으로 판단한다")
+    void legacyHashMatchesAndNeedsUpgrade() {
+        String legacyHash = new BCryptPasswordEncoder(4).encode("Password123!");
+
+        assertThat(encoder.matches("Password123!", legacyHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacyHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("설정된 비용보다 낮은 해시는 업그레이드 대상이고, 새 해시는 대상이 아니다")
+    void lowerCostHashNeedsUpgrade() {
+        String encoded = encoder.encode("Password123!");
+
+        assertThat(encoded).startsWith("{bcrypt}");
+        assertThat(encoder.matches("Password123!", encoded)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+        assertThat(encoder.upgradeEncoding("{bcrypt}" + new BCryptPasswordEncoder(4).encode("Password123!"))).isTrue();
+        assertThat(meterRegistry.find("auth.password.hash.duration").tag("operation", "encode").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 한도를 넘으면 즉시 거절한다")
+    void rejectsWhenSaturated() {
+        PasswordHashExecutor saturated = new PasswordHashExecutor(meterRegistry, 1, 1, 50);
+        try {
+            assertThatThrownBy(() -> saturated.execute("matches", () -> {
+                Thread.sleep(1000);
+                return true;
+            })).isInstanceOf(TooManyRequestsException.class);
+            assertThat(meterRegistry.counter("auth.password.hash.rejected").count()).isEqualTo(1);
+        } finally {
+            saturated.shutdown();
+        }
+    }
+}
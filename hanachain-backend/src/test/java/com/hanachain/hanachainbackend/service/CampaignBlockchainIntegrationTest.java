@@ -16,6 +16,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -42,6 +44,9 @@ class CampaignBlockchainIntegrationTest {
     @Mock
     private BlockchainService blockchainService;
     
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
     @InjectMocks
     private CampaignServiceImpl campaignService;
     
@@ -51,6 +56,10 @@ class CampaignBlockchainIntegrationTest {
     
     @BeforeEach
     void setUp() {
+        // 짧은 쓰기 트랜잭션 구간은 콜백을 그대로 실행
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        
         testUser = User.builder()
                 .id(1L)
                 .name("Test User")
@@ -0,0 +1,152 @@
+package com.hanachain.hanachainbackend.service;
+
+import com.hanachain.hanachainbackend.config.CacheConfig;
+import com.hanachain.hanachainbackend.dto.campaign.CampaignFundraisingStats;
+import com.hanachain.hanachainbackend.dto.donation.DonationStats;
+import com.hanachain.hanachainbackend.entity.CampaignManager;
+import com.hanachain.hanachainbackend.repository.CampaignManagerRepository;
+import com.hanachain.hanachainbackend.repository.DonationRepository;
+import com.hanachain.hanachainbackend.service.impl.CampaignStatsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CampaignStatsServiceTest {
+
+    @Mock
+    private DonationRepository donationRepository;
+
+    @Mock
+    private CampaignManagerRepository campaignManagerRepository;
+
+    private CampaignStatsServiceImpl campaignStatsService;
+
+    private final LocalDateTime endDate = LocalDateTime.now().plusDays(10);
+
+    @BeforeEach
+    void setUp() {
+        campaignStatsService = new CampaignStatsServiceImpl(
+                donationRepository, campaignManagerRepository,
+                new ConcurrentMapCacheManager(CacheConfig.CAMPAIGN_STATS_CACHE));
+    }
+
+    @Test
+    void getFundraisingStats_loadsEverythingWithSingleQuery() {
+        when(donationRepository.findCampaignStatsRows(eq(1L), eq(7L), any(), eq(7), eq(5)))
+                .thenReturn(statsRows(true));
+
+        CampaignFundraisingStats stats = campaignStatsService.getFundraisingStats(1L, 7L);
+
+        assertThat(stats.getCurrentAmount()).isEqualTo(30000L);
+        assertThat(stats.getTargetAmount()).isEqualTo(100000L);
+        assertThat(stats.getDonorCount()).isEqualTo(2);
+        assertThat(stats.getAverageDonationAmount()).isEqualTo(15000L);
+        assertThat(stats.getDailyDonationTrend()).hasSize(7);
+        assertThat(stats.getDailyDonationTrend().get(6).getAmount()).isEqualTo(30000L);
+        assertThat(stats.getTopDonations()).extracting(CampaignFundraisingStats.TopDonation::getDonorName)
+                .containsExactly("김**", "익명");
+
+        verify(donationRepository, times(1)).findCampaignStatsRows(anyLong(), anyLong(), any(), anyInt(), anyInt());
+        verify(campaignManagerRepository, never()).existsByCampaignIdAndUserIdAndStatus(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void getFundraisingStats_cacheHitOnlyChecksManager() {
+        when(donationRepository.findCampaignStatsRows(eq(1L), eq(7L), any(), eq(7), eq(5)))
+                .thenReturn(statsRows(true));
+        when(campaignManagerRepository.existsByCampaignIdAndUserIdAndStatus(1L, 8L, CampaignManager.ManagerStatus.ACTIVE))
+                .thenReturn(true);
+
+        campaignStatsService.getFundraisingStats(1L, 7L);
+        CampaignFundraisingStats cached = campaignStatsService.getFundraisingStats(1L, 8L);
+
+        assertThat(cached.getCurrentAmount()).isEqualTo(30000L);
+        verify(donationRepository, times(1)).findCampaignStatsRows(anyLong(), anyLong(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void getFundraisingStats_rejectsNonManager() {
+        when(donationRepository.findCampaignStatsRows(eq(1L), eq(7L), any(), eq(7), eq(5)))
+                .thenReturn(statsRows(false));
+
+        assertThatThrownBy(() -> campaignStatsService.getFundraisingStats(1L, 7L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("캠페인 담당자만");
+    }
+
+    @Test
+    void evict_insideTransactionWaitsForCommit() {
+        when(donationRepository.findCampaignStatsRows(eq(1L), anyLong(), any(), eq(7), eq(5)))
+                .thenReturn(statsRows(false));
+        campaignStatsService.getDonationStats(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            campaignStatsService.evict(1L);
+            campaignStatsService.getDonationStats(1L);
+            verify(donationRepository, times(1)).findCampaignStatsRows(anyLong(), anyLong(), any(), anyInt(), anyInt());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        campaignStatsService.getDonationStats(1L);
+        verify(donationRepository, times(2)).findCampaignStatsRows(anyLong(), anyLong(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void getDonationStats_usesTotalsRow() {
+        when(donationRepository.findCampaignStatsRows(eq(1L), anyLong(), any(), eq(7), eq(5)))
+                .thenReturn(statsRows(false));
+
+        DonationStats stats = campaignStatsService.getDonationStats(1L);
+
+        assertThat(stats.getTotalAmount()).isEqualByComparingTo("30000");
+        assertThat(stats.getTotalCount()).isEqualTo(2L);
+        assertThat(stats.getUniqueDonorCount()).isEqualTo(2L);
+        assertThat(stats.getAverageAmount()).isEqualByComparingTo("15000");
+    }
+
+    private List<Object[]> statsRows(boolean manager) {
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{"C", null, new BigDecimal("30000"), new BigDecimal("100000"), null,
+                Timestamp.valueOf(LocalDateTime.now().minusDays(20)), Timestamp.valueOf(endDate), null,
+                new BigDecimal(manager ? 1 : 0), new BigDecimal(0)});
+        for (int i = 0; i < 7; i++) {
+            BigDecimal amount = i == 6 ? new BigDecimal("30000") : BigDecimal.ZERO;
+            rows.add(new Object[]{"D", "2026-10-1" + i, amount, null, new BigDecimal(i == 6 ? 2 : 0),
+                    null, null, null, null, new BigDecimal(i)});
+        }
+        rows.add(new Object[]{"R", "김철수", new BigDecimal("20000"), null, new BigDecimal(1),
+                null, null, Timestamp.valueOf(LocalDateTime.now()), new BigDecimal(0), new BigDecimal(1)});
+        rows.add(new Object[]{"R", "이영희", new BigDecimal("10000"), null, new BigDecimal(2),
+                null, null, Timestamp.valueOf(LocalDateTime.now()), new BigDecimal(1), new BigDecimal(2)});
+        rows.add(new Object[]{"T", null, new BigDecimal("30000"), new BigDecimal(2), new BigDecimal(2),
+                null, null, null, null, new BigDecimal(0)});
+        return rows;
+    }
+}
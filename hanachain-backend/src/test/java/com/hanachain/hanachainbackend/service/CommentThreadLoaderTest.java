@@ -0,0 +1,152 @@
+package com.hanachain.hanachainbackend.service;
+
+import com.hanachain.hanachainbackend.dto.comment.CommentResponse;
+import com.hanachain.hanachainbackend.entity.Campaign;
+import com.hanachain.hanachainbackend.entity.CampaignManager;
+import com.hanachain.hanachainbackend.entity.Comment;
+import com.hanachain.hanachainbackend.entity.Donation;
+import com.hanachain.hanachainbackend.entity.User;
+import com.hanachain.hanachainbackend.service.comment.CommentThreadLoader;
+import com.hanachain.hanachainbackend.service.counter.WriteBehindCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 스레드 로더 쿼리 수 회귀 테스트
+ * 댓글/답글 수가 늘어나도 실행되는 SQL 문 수가 일정해야 합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({CommentThreadLoader.class, WriteBehindCounter.class})
+@DisplayName("Comment Thread Loader Statement Count Test")
+class CommentThreadLoaderTest {
+
+    private static final int ROOT_COMMENTS = 20;
+    private static final int REPLIES_PER_COMMENT = 2;
+
+    // 최상위 댓글 페이지 + 카운트 + 답글(1단계) + 답글(2단계, 빈 결과) + 작성자 + 담당자 + 기부자
+    private static final long MAX_STATEMENTS = 7;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CommentThreadLoader commentThreadLoader;
+
+    private Campaign campaign;
+    private User manager;
+    private User donor;
+
+    @BeforeEach
+    void setUp() {
+        User owner = persistUser("owner@test.com", "Owner");
+        manager = persistUser("manager@test.com", "Manager");
+        donor = persistUser("donor@test.com", "Donor");
+
+        campaign = Campaign.builder()
+                .title("Test Campaign")
+                .description("Test Description")
+                .targetAmount(new BigDecimal("1000000"))
+                .category(Campaign.CampaignCategory.MEDICAL)
+                .startDate(LocalDateTime.now().minusDays(10))
+                .endDate(LocalDateTime.now().plusDays(30))
+                .user(owner)
+                .build();
+        entityManager.persist(campaign);
+
+        entityManager.persist(CampaignManager.builder()
+                .campaign(campaign)
+                .user(manager)
+                .assignedBy(owner)
+                .assignedAt(LocalDateTime.now())
+                .build());
+
+        entityManager.persist(Donation.builder()
+                .amount(new BigDecimal("10000"))
+                .paymentId("payment-1")
+                .paymentMethod(Donation.PaymentMethod.CREDIT_CARD)
+                .paymentStatus(Donation.PaymentStatus.COMPLETED)
+                .user(donor)
+                .campaign(campaign)
+                .build());
+
+        for (int i = 0; i < ROOT_COMMENTS; i++) {
+            User author = persistUser("user" + i + "@test.com", "User" + i);
+            Comment root = persistComment(i % 2 == 0 ? author : donor, null, "comment " + i);
+            for (int j = 0; j < REPLIES_PER_COMMENT; j++) {
+                persistComment(manager, root, "reply " + i + "-" + j);
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("댓글 페이지 조립 시 SQL 문 수가 댓글 수와 무관하게 일정하다")
+    void loadCampaignThreads_usesConstantStatementCount() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<CommentResponse> page = commentThreadLoader.loadCampaignThreads(
+                campaign.getId(), PageRequest.of(0, ROOT_COMMENTS));
+
+        assertThat(page.getContent()).hasSize(ROOT_COMMENTS);
+        assertThat(page.getContent()).allSatisfy(comment -> {
+            assertThat(comment.getReplies()).hasSize(REPLIES_PER_COMMENT);
+            assertThat(comment.getReplies()).allSatisfy(reply -> {
+                assertThat(reply.getIsCampaignManager()).isTrue();
+                assertThat(reply.getAuthor().getId()).isEqualTo(manager.getId());
+            });
+        });
+        assertThat(page.getContent())
+                .filteredOn(comment -> comment.getAuthor().getId().equals(donor.getId()))
+                .isNotEmpty()
+                .allSatisfy(comment -> assertThat(comment.getHasDonated()).isTrue());
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    private User persistUser(String email, String name) {
+        User user = User.builder()
+                .email(email)
+                .name(name)
+                .password("password")
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Comment persistComment(User user, Comment parent, String content) {
+        Comment comment = Comment.builder()
+                .content(content)
+                .campaign(campaign)
+                .user(user)
+                .parent(parent)
+                .commenterName(user.getName())
+                .build();
+        entityManager.persist(comment);
+        return comment;
+    }
+}
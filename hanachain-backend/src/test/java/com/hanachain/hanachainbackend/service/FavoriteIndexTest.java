@@ -0,0 +1,73 @@
+package com.hanachain.hanachainbackend.service;
+
+import com.hanachain.hanachainbackend.repository.UserFavoriteRepository;
+import com.hanachain.hanachainbackend.service.favorite.FavoriteIndex;
+import com.hanachain.hanachainbackend.service.favorite.SortedLongSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FavoriteIndexTest {
+
+    @Mock
+    private UserFavoriteRepository userFavoriteRepository;
+
+    private FavoriteIndex favoriteIndex;
+
+    @BeforeEach
+    void setUp() {
+        favoriteIndex = new FavoriteIndex(userFavoriteRepository, 100, 100, 1800, 600);
+    }
+
+    @Test
+    void sortedLongSet_keepsValuesSortedAndUnique() {
+        SortedLongSet set = SortedLongSet.of(List.of(5L, 1L, 3L, 3L));
+
+        assertThat(set.toArray()).containsExactly(1L, 3L, 5L);
+        assertThat(set.with(4L).toArray()).containsExactly(1L, 3L, 4L, 5L);
+        assertThat(set.without(3L).toArray()).containsExactly(1L, 5L);
+        assertThat(set.with(3L)).isSameAs(set);
+        assertThat(set.without(2L)).isSameAs(set);
+    }
+
+    @Test
+    void isFavorite_loadsUserOnceAndAppliesUpdates() {
+        when(userFavoriteRepository.findCampaignIdsByUserId(1L)).thenReturn(List.of(10L, 20L));
+
+        assertThat(favoriteIndex.isFavorite(1L, 10L)).isTrue();
+        assertThat(favoriteIndex.isFavorite(1L, 30L)).isFalse();
+
+        favoriteIndex.onAdded(1L, 30L);
+        favoriteIndex.onRemoved(1L, 10L);
+
+        assertThat(favoriteIndex.isFavorite(1L, 30L)).isTrue();
+        assertThat(favoriteIndex.isFavorite(1L, 10L)).isFalse();
+        verify(userFavoriteRepository, times(1)).findCampaignIdsByUserId(1L);
+    }
+
+    @Test
+    void countsOf_loadsOnlyMissingCampaignsInOneQuery() {
+        when(userFavoriteRepository.countGroupedByCampaignIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{10L, 3L}));
+
+        Map<Long, Long> counts = favoriteIndex.countsOf(List.of(10L, 20L));
+        favoriteIndex.onAdded(2L, 10L);
+        Map<Long, Long> cached = favoriteIndex.countsOf(List.of(10L, 20L));
+
+        assertThat(counts).containsEntry(10L, 3L).containsEntry(20L, 0L);
+        assertThat(cached).containsEntry(10L, 4L).containsEntry(20L, 0L);
+        verify(userFavoriteRepository, times(1)).countGroupedByCampaignIds(anyCollection());
+    }
+}
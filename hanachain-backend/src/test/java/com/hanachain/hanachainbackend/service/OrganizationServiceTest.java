@@ -12,7 +12,9 @@ import com.hanachain.hanachainbackend.exception.ValidationException;
 import com.hanachain.hanachainbackend.repository.OrganizationRepository;
 import com.hanachain.hanachainbackend.repository.OrganizationUserRepository;
 import com.hanachain.hanachainbackend.repository.UserRepository;
+import com.hanachain.hanachainbackend.security.OrganizationMembershipCache;
 import com.hanachain.hanachainbackend.service.impl.OrganizationServiceImpl;
+import com.hanachain.hanachainbackend.service.permission.PermissionDelegationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -27,7 +29,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +52,12 @@ class OrganizationServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private OrganizationMembershipCache organizationMembershipCache;
+
+    @Mock
+    private PermissionDelegationRegistry permissionDelegationRegistry;
+
     @InjectMocks
     private OrganizationServiceImpl organizationService;
 
@@ -198,10 +205,11 @@ class OrganizationServiceTest {
         void shouldGetAllOrganizationsWithPagination() {
             // Given
             Pageable pageable = PageRequest.of(0, 20);
-            List<Organization> organizations = Arrays.asList(testOrganization);
-            Page<Organization> organizationPage = new PageImpl<>(organizations, pageable, 1);
+            Page<OrganizationSummary> organizationPage = new PageImpl<>(List.of(summaryOf(testOrganization)), pageable, 1);
 
-            when(organizationRepository.findAll(pageable)).thenReturn(organizationPage);
+            when(organizationRepository.findSummaries(null, null, pageable)).thenReturn(organizationPage);
+            when(organizationRepository.countActiveCampaignsByOrganizationIds(List.of(testOrganization.getId())))
+                .thenReturn(List.<Object[]>of(new Object[]{testOrganization.getId(), 2L}));
 
             // When
             Page<OrganizationResponse> result = organizationService.getAllOrganizations(pageable);
@@ -210,8 +218,10 @@ class OrganizationServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().get(0).getName()).isEqualTo(testOrganization.getName());
+            assertThat(result.getContent().get(0).getActiveCampaignCount()).isEqualTo(2L);
 
-            verify(organizationRepository).findAll(pageable);
+            verify(organizationRepository).findSummaries(null, null, pageable);
+            verify(organizationRepository, never()).findAll(pageable);
         }
 
         @Test
@@ -221,10 +231,9 @@ class OrganizationServiceTest {
             String searchName = "Test";
             OrganizationStatus status = OrganizationStatus.ACTIVE;
             Pageable pageable = PageRequest.of(0, 20);
-            List<Organization> organizations = Arrays.asList(testOrganization);
-            Page<Organization> organizationPage = new PageImpl<>(organizations, pageable, 1);
+            Page<OrganizationSummary> organizationPage = new PageImpl<>(List.of(summaryOf(testOrganization)), pageable, 1);
 
-            when(organizationRepository.findByStatusAndNameContainingIgnoreCase(status, searchName, pageable))
+            when(organizationRepository.findSummaries(status, searchName, pageable))
                 .thenReturn(organizationPage);
 
             // When
@@ -234,7 +243,7 @@ class OrganizationServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
 
-            verify(organizationRepository).findByStatusAndNameContainingIgnoreCase(status, searchName, pageable);
+            verify(organizationRepository).findSummaries(status, searchName, pageable);
         }
     }
 
@@ -529,4 +538,10 @@ class OrganizationServiceTest {
             verify(organizationRepository).countByStatus(OrganizationStatus.ACTIVE);
         }
     }
-}
\ No newline at end of file
+
+    private static OrganizationSummary summaryOf(Organization organization) {
+        return new OrganizationSummary(organization.getId(), organization.getName(), organization.getDescription(),
+            organization.getImageUrl(), organization.getStatus(), organization.getCreatedAt(), organization.getUpdatedAt(),
+            organization.getMemberCount(), organization.getAdminMemberCount(), null);
+    }
+}
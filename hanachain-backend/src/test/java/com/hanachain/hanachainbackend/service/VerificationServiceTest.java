@@ -1,8 +1,8 @@
 package com.hanachain.hanachainbackend.service;
 
 import com.hanachain.hanachainbackend.entity.VerificationSession;
-import com.hanachain.hanachainbackend.repository.VerificationSessionRepository;
 import com.hanachain.hanachainbackend.service.impl.VerificationServiceImpl;
+import com.hanachain.hanachainbackend.service.session.VerificationSessionStore;
 import com.hanachain.hanachainbackend.util.VerificationCodeGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,7 +26,7 @@ import static org.mockito.Mockito.*;
 class VerificationServiceTest {
     
     @Mock
-    private VerificationSessionRepository verificationSessionRepository;
+    private VerificationSessionStore verificationSessionStore;
     
     @Mock
     private EmailService emailService;
@@ -50,15 +50,13 @@ class VerificationServiceTest {
         String code = "123456";
         
         when(codeGenerator.generateCode()).thenReturn(code);
-        when(verificationSessionRepository.save(any(VerificationSession.class)))
-                .thenReturn(new VerificationSession());
         
         // When
         verificationService.createAndSendVerificationCode(email, type);
         
         // Then
-        verify(verificationSessionRepository).deleteByEmailAndType(email, type);
-        verify(verificationSessionRepository).save(any(VerificationSession.class));
+        verify(verificationSessionStore).deleteByEmailAndType(email, type);
+        verify(verificationSessionStore).create(any(VerificationSession.class));
         verify(emailService).sendVerificationEmail(email, code, type);
     }
     
@@ -78,7 +76,7 @@ class VerificationServiceTest {
                 .verified(false)
                 .build();
         
-        when(verificationSessionRepository.findLatestUnverifiedSession(
+        when(verificationSessionStore.findActive(
                 anyString(), any(VerificationSession.VerificationType.class), any(LocalDateTime.class)))
                 .thenReturn(Optional.of(session));
         
@@ -87,7 +85,8 @@ class VerificationServiceTest {
         
         // Then
         assertThat(result).isTrue();
-        verify(verificationSessionRepository, times(2)).save(session);
+        verify(verificationSessionStore).recordAttempt(session);
+        verify(verificationSessionStore).markVerified(session);
     }
     
     @Test
@@ -107,7 +106,7 @@ class VerificationServiceTest {
                 .verified(false)
                 .build();
         
-        when(verificationSessionRepository.findLatestUnverifiedSession(
+        when(verificationSessionStore.findActive(
                 anyString(), any(VerificationSession.VerificationType.class), any(LocalDateTime.class)))
                 .thenReturn(Optional.of(session));
         
@@ -116,7 +115,8 @@ class VerificationServiceTest {
         
         // Then
         assertThat(result).isFalse();
-        verify(verificationSessionRepository).save(session);
+        verify(verificationSessionStore).recordAttempt(session);
+        verify(verificationSessionStore, never()).markVerified(session);
     }
     
     @Test
@@ -135,7 +135,7 @@ class VerificationServiceTest {
                 .verified(false)
                 .build();
         
-        when(verificationSessionRepository.findLatestUnverifiedSession(
+        when(verificationSessionStore.findActive(
                 anyString(), any(VerificationSession.VerificationType.class), any(LocalDateTime.class)))
                 .thenReturn(Optional.of(session));
         
@@ -144,6 +144,7 @@ class VerificationServiceTest {
         
         // Then
         assertThat(result).isFalse();
-        verify(verificationSessionRepository).save(session);
+        verify(verificationSessionStore).recordAttempt(session);
+        verify(verificationSessionStore, never()).markVerified(session);
     }
 }
@@ -0,0 +1,85 @@
+package com.hanachain.hanachainbackend.service.archive;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DonationPartitionArchiverTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("보관 기준보다 오래된 파티션만 압축 이동 후 읽기 전용으로 바꾼다")
+    void archivesOnlyPartitionsOlderThanCutoff() throws Exception {
+        givenPartitions(
+                "P_DONATIONS_INITIAL", "TIMESTAMP' 2025-01-01 00:00:00'",
+                "SYS_P101", "TIMESTAMP' 9999-12-01 00:00:00'");
+        DonationPartitionArchiver archiver =
+                new DonationPartitionArchiver(jdbcTemplate, meterRegistry, 1, "DONATIONS_ARCHIVE", "ROW STORE COMPRESS BASIC");
+
+        assertThat(archiver.archiveOldPartitions()).isEqualTo(1);
+
+        verify(jdbcTemplate).execute("ALTER TABLE donations MOVE PARTITION \"P_DONATIONS_INITIAL\" " +
+                "TABLESPACE DONATIONS_ARCHIVE ROW STORE COMPRESS BASIC UPDATE INDEXES ONLINE");
+        verify(jdbcTemplate).execute("ALTER TABLE donations MODIFY PARTITION \"P_DONATIONS_INITIAL\" READ ONLY");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE donations MODIFY PARTITION \"SYS_P101\" READ ONLY");
+        assertThat(meterRegistry.get("donation.partition.archived").tag("result", "success").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("high_value에서 파티션 상한 시각을 읽는다")
+    void parsesHighValue() {
+        assertThat(DonationPartitionArchiver.parseHighValue("TIMESTAMP' 2025-03-01 00:00:00'"))
+                .isEqualTo(LocalDateTime.of(2025, 3, 1, 0, 0));
+        assertThat(DonationPartitionArchiver.parseHighValue("MAXVALUE")).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPartitions(String... nameAndHighValues) throws Exception {
+        List<ResultSet> rows = new ArrayList<>();
+        for (int i = 0; i < nameAndHighValues.length; i += 2) {
+            ResultSet row = mock(ResultSet.class);
+            when(row.getString("partition_name")).thenReturn(nameAndHighValues[i]);
+            when(row.getString("high_value")).thenReturn(nameAndHighValues[i + 1]);
+            rows.add(row);
+        }
+
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class))).thenAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            List<Object> mapped = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                mapped.add(mapper.mapRow(rows.get(i), i));
+            }
+            return mapped;
+        });
+    }
+}
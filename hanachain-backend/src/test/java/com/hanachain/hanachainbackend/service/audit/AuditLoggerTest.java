@@ -0,0 +1,124 @@
+package com.hanachain.hanachainbackend.service.audit;
+
+import com.hanachain.hanachainbackend.entity.AuditLog;
+import com.hanachain.hanachainbackend.entity.enums.AuditAction;
+import com.hanachain.hanachainbackend.entity.enums.AuditCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class AuditLoggerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<List<AuditLog>> writtenBatches;
+    private AuditLogBatchWriter batchWriter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writtenBatches = new ArrayList<>();
+        batchWriter = new AuditLogBatchWriter(null) {
+            @Override
+            public void write(List<AuditLog> events) {
+                writtenBatches.add(new ArrayList<>(events));
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 넣은 이벤트를 빠짐없이 한 번씩 꺼낸다")
+    void ringBufferKeepsEveryEventUnderContention() throws Exception {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(1 << 16);
+        int producers = 8;
+        int perProducer = 5_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    assertThat(buffer.offer(base + i)).isTrue();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        Set<Integer> drained = new HashSet<>();
+        List<Integer> chunk = new ArrayList<>();
+        while (buffer.drainTo(chunk, 1000) > 0) {
+            drained.addAll(chunk);
+            chunk.clear();
+        }
+        assertThat(drained).hasSize(producers * perProducer);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼 나눠 기록하고, 가득 차면 drop 정책으로 버린 수를 기록한다")
+    void writesInBatchesAndDropsWhenFull() {
+        AuditLogger auditLogger = new AuditLogger(batchWriter, meterRegistry, 4, 3, 1000, "drop", 0, 3);
+
+        for (int i = 0; i < 5; i++) {
+            auditLogger.record(event(i));
+        }
+
+        assertThat(auditLogger.flushBatch()).isEqualTo(3);
+        assertThat(auditLogger.flushBatch()).isEqualTo(1);
+        assertThat(writtenBatches).extracting(List::size).containsExactly(3, 1);
+        assertThat(meterRegistry.get("audit.events").tag("result", "dropped").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("audit.events").tag("result", "written").counter().count()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("기록 실패한 배치는 재시도 후 성공하면 한 번만 기록된다")
+    void retriesFailedBatch() {
+        AuditLogBatchWriter failingOnce = mock(AuditLogBatchWriter.class);
+        doThrow(new IllegalStateException("db down")).doNothing().when(failingOnce).write(anyList());
+        AuditLogger auditLogger = new AuditLogger(failingOnce, meterRegistry, 16, 10, 1000, "drop", 0, 3);
+
+        auditLogger.record(event(1));
+
+        assertThat(auditLogger.flushBatch()).isZero();
+        assertThat(auditLogger.flushBatch()).isEqualTo(1);
+        assertThat(meterRegistry.get("audit.events").tag("result", "written").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 이벤트를 모두 기록한다")
+    void flushesRemainingEventsOnShutdown() {
+        AuditLogger auditLogger = new AuditLogger(batchWriter, meterRegistry, 64, 10, 1000, "block", 10, 3);
+        for (int i = 0; i < 25; i++) {
+            auditLogger.record(event(i));
+        }
+
+        auditLogger.flushOnShutdown();
+
+        assertThat(auditLogger.pendingCount()).isZero();
+        assertThat(writtenBatches).extracting(List::size).containsExactly(10, 10, 5);
+    }
+
+    private static AuditLog event(int index) {
+        return AuditLog.success(AuditAction.ACCESS_GRANTED, AuditCategory.AUTHORIZATION, "event-" + index)
+                .withTarget("Test", (long) index);
+    }
+}
@@ -0,0 +1,94 @@
+package com.hanachain.hanachainbackend.service.batch;
+
+import com.hanachain.hanachainbackend.batch.progress.BatchProgressTracker;
+import com.hanachain.hanachainbackend.entity.Campaign;
+import com.hanachain.hanachainbackend.repository.CampaignRepository;
+import com.hanachain.hanachainbackend.repository.DonationRepository;
+import com.hanachain.hanachainbackend.service.CampaignStatsService;
+import com.hanachain.hanachainbackend.service.batch.impl.CampaignBatchServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 관리자 마감 시 비동기 실행 큐가 가득 차 Job이 시작되지 못한 경우의 처리
+ */
+class CampaignBatchServiceImplTest {
+
+    private static final Long CAMPAIGN_ID = 1L;
+
+    private JobLauncher asyncJobLauncher;
+    private CampaignRepository campaignRepository;
+    private BatchProgressTracker batchProgressTracker;
+    private CampaignBatchServiceImpl service;
+    private Campaign campaign;
+
+    @BeforeEach
+    void setUp() {
+        asyncJobLauncher = mock(JobLauncher.class);
+        campaignRepository = mock(CampaignRepository.class);
+        DonationRepository donationRepository = mock(DonationRepository.class);
+        batchProgressTracker = new BatchProgressTracker(30, 1_000);
+        service = new CampaignBatchServiceImpl(mock(JobLauncher.class), asyncJobLauncher, mock(JobExplorer.class),
+                mock(Job.class), campaignRepository, donationRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), batchProgressTracker,
+                mock(CampaignStatsService.class), true);
+
+        campaign = Campaign.builder()
+                .id(CAMPAIGN_ID)
+                .title("Campaign")
+                .status(Campaign.CampaignStatus.ACTIVE)
+                .startDate(LocalDateTime.now().minusDays(10))
+                .endDate(LocalDateTime.now())
+                .build();
+        when(campaignRepository.findByIdForAdmin(CAMPAIGN_ID)).thenReturn(Optional.of(campaign));
+        when(campaignRepository.findById(CAMPAIGN_ID)).thenReturn(Optional.of(campaign));
+        when(donationRepository.countPendingBlockchainRecords(eq(CAMPAIGN_ID), any())).thenReturn(3L);
+    }
+
+    @Test
+    @DisplayName("실행 큐가 거부해 FAILED로 돌아오면 진행 상황을 등록하지 않고 오류로 응답하며 자동 전송으로 넘긴다")
+    void rejectedLaunchIsReportedAndHandedToPipeline() throws Exception {
+        JobExecution rejected = new JobExecution(5L, new JobParameters());
+        rejected.setStatus(BatchStatus.FAILED);
+        rejected.setExitStatus(ExitStatus.FAILED.addExitDescription(new TaskRejectedException("queue full")));
+        when(asyncJobLauncher.run(any(), any())).thenReturn(rejected);
+
+        assertThatThrownBy(() -> service.closeCampaignAndStartBatch(CAMPAIGN_ID))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(batchProgressTracker.snapshot(5L)).isEmpty();
+        assertThat(campaign.getBatchJobStatus()).isEqualTo("PENDING");
+    }
+
+    @Test
+    @DisplayName("시작된 Job은 바로 진행 상황에 등록하고 실행 ID를 반환한다")
+    void startedLaunchIsQueued() throws Exception {
+        JobExecution started = new JobExecution(6L, new JobParameters());
+        started.setStatus(BatchStatus.STARTING);
+        when(asyncJobLauncher.run(any(), any())).thenReturn(started);
+
+        assertThat(service.closeCampaignAndStartBatch(CAMPAIGN_ID).getJobExecutionId()).isEqualTo(6L);
+        assertThat(batchProgressTracker.snapshot(6L)).isPresent();
+    }
+}
@@ -0,0 +1,115 @@
+package com.hanachain.hanachainbackend.service.batch;
+
+import com.hanachain.hanachainbackend.repository.CampaignRepository;
+import com.hanachain.hanachainbackend.service.batch.CampaignBatchService.ExpiredCampaignOutcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.CallableStatementCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExpiredCampaignPipelineTest {
+
+    private static final int CONCURRENCY = 2;
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("일괄 마감된 캠페인과 이전 PENDING 캠페인을 한 번씩, 제한된 동시성으로 처리하고 결과를 집계한다")
+    @SuppressWarnings("unchecked")
+    void processesExpiredCampaignsWithBoundedConcurrency() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        CampaignRepository campaignRepository = mock(CampaignRepository.class);
+        CampaignBatchService campaignBatchService = mock(CampaignBatchService.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        when(jdbcTemplate.execute(anyString(), any(CallableStatementCallback.class)))
+                .thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        // 3번은 이번 마감과 겹치고 9번은 이전 실행에서 넘어온 캠페인
+        when(campaignRepository.findIdsAwaitingTokenTransfer()).thenReturn(List.of(3L, 9L));
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(campaignBatchService.startTransferForExpiredCampaign(anyLong())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            long id = invocation.getArgument(0);
+            if (id == 2L) {
+                return ExpiredCampaignOutcome.NO_DONATIONS;
+            }
+            if (id == 4L) {
+                throw new IllegalStateException("launcher down");
+            }
+            return ExpiredCampaignOutcome.LAUNCHED;
+        });
+
+        executor.setCorePoolSize(CONCURRENCY);
+        executor.setMaxPoolSize(CONCURRENCY);
+        executor.initialize();
+
+        ExpiredCampaignPipeline pipeline = new ExpiredCampaignPipeline(jdbcTemplate,
+                mock(PlatformTransactionManager.class), campaignRepository, campaignBatchService, executor,
+                meterRegistry, 15);
+
+        ExpiredCampaignPipeline.Report report = pipeline.run();
+
+        assertThat(report.expired()).isEqualTo(5);
+        assertThat(report.carriedOver()).isEqualTo(1);
+        assertThat(report.count(ExpiredCampaignOutcome.LAUNCHED)).isEqualTo(4);
+        assertThat(report.count(ExpiredCampaignOutcome.NO_DONATIONS)).isEqualTo(1);
+        assertThat(report.count(ExpiredCampaignOutcome.FAILED)).isEqualTo(1);
+        assertThat(report.throughputPerSecond()).isPositive();
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(CONCURRENCY);
+        for (long id : new long[]{1, 2, 3, 4, 5, 9}) {
+            verify(campaignBatchService, times(1)).startTransferForExpiredCampaign(id);
+        }
+        assertThat(meterRegistry.counter("campaign.expiry.processed", "outcome", "launched").count()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("선점 후 제한 시간이 지나도록 시작되지 않은 캠페인을 먼저 PENDING으로 되돌린다")
+    void releasesStaleClaimsBeforeQueueing() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        CampaignRepository campaignRepository = mock(CampaignRepository.class);
+        CampaignBatchService campaignBatchService = mock(CampaignBatchService.class);
+        executor.initialize();
+
+        ExpiredCampaignPipeline pipeline = new ExpiredCampaignPipeline(jdbcTemplate,
+                mock(PlatformTransactionManager.class), campaignRepository, campaignBatchService, executor,
+                new SimpleMeterRegistry(), 15);
+
+        pipeline.run();
+
+        InOrder inOrder = inOrder(campaignRepository);
+        inOrder.verify(campaignRepository).releaseStaleBatchClaims(any(LocalDateTime.class));
+        inOrder.verify(campaignRepository).findIdsAwaitingTokenTransfer();
+
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 0);
+        pipeline.releaseStaleClaims(now);
+        verify(campaignRepository).releaseStaleBatchClaims(now.minusMinutes(15));
+    }
+}
@@ -0,0 +1,66 @@
+package com.hanachain.hanachainbackend.service.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class WriteBehindCounterTest {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS = 20_000;
+    private static final long KEYS = 10;
+
+    @Test
+    @DisplayName("동시 증감으로 누적값이 0을 거쳐도 보류 키는 키마다 한 번만 센다")
+    void countsEachPendingKeyOnceUnderConcurrentUpdates() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        WriteBehindCounter counter = new WriteBehindCounter(jdbcTemplate, new TransactionTemplate(), 1_000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS; i++) {
+                        long id = i % KEYS;
+                        if ((i / KEYS) % 2 == 0) {
+                            counter.increment(CounterType.COMMENT_REPLIES, id);
+                        } else {
+                            counter.decrement(CounterType.COMMENT_REPLIES, id);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(counter.pendingKeyCount()).isEqualTo((int) KEYS);
+        for (long id = 0; id < KEYS; id++) {
+            assertThat(counter.pending(CounterType.COMMENT_REPLIES, id)).isZero();
+        }
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+}
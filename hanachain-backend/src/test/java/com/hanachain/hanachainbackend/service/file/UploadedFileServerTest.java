@@ -0,0 +1,106 @@
+package com.hanachain.hanachainbackend.service.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.CacheControl;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UploadedFileServerTest {
+
+    @TempDir
+    Path root;
+
+    private UploadedFileServer fileServer;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fileServer = new UploadedFileServer(new UploadedFileIndex(100, 60, 1024));
+        ReflectionTestUtils.setField(fileServer, "sendfileThreshold", 49152L);
+
+        content = "<svg xmlns=\"http://www.w3.org/2000/svg\">".concat("<rect/>".repeat(500)).concat("</svg>")
+                .getBytes(StandardCharsets.UTF_8);
+        Files.write(root.resolve("logo.svg"), content);
+    }
+
+    @Test
+    @DisplayName("ETag가 같으면 304, 단일 Range는 206으로 해당 구간만 보낸다")
+    void conditionalAndRangeRequests() throws IOException {
+        MockHttpServletResponse full = serve(get());
+        String etag = full.getHeader("ETag");
+
+        assertThat(full.getStatus()).isEqualTo(200);
+        assertThat(full.getContentAsByteArray()).isEqualTo(content);
+        assertThat(full.getHeader("Cache-Control")).contains("max-age=60");
+        assertThat(etag).startsWith("\"");
+
+        MockHttpServletRequest conditional = get();
+        conditional.addHeader("If-None-Match", etag);
+        MockHttpServletResponse notModified = serve(conditional);
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+
+        MockHttpServletRequest ranged = get();
+        ranged.addHeader("Range", "bytes=10-19");
+        MockHttpServletResponse partial = serve(ranged);
+        assertThat(partial.getStatus()).isEqualTo(206);
+        assertThat(partial.getHeader("Content-Range")).isEqualTo("bytes 10-19/" + content.length);
+        assertThat(partial.getContentAsByteArray()).containsExactly(Arrays.copyOfRange(content, 10, 20));
+
+        MockHttpServletRequest unsatisfiable = get();
+        unsatisfiable.addHeader("Range", "bytes=" + content.length + "-");
+        assertThat(serve(unsatisfiable).getStatus()).isEqualTo(416);
+    }
+
+    @Test
+    @DisplayName("압축 가능한 형식은 gzip 변형을 만들어 Accept-Encoding에 따라 보낸다")
+    void servesPrecompressedVariant() throws IOException {
+        MockHttpServletRequest request = get();
+        request.addHeader("Accept-Encoding", "br;q=0, gzip");
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(Files.exists(root.resolve("logo.svg.gz"))).isTrue();
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getContentType()).isEqualTo("image/svg+xml");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    @DisplayName("루트 밖 경로와 숨김 파일은 404")
+    void rejectsTraversal() throws IOException {
+        assertThat(serve(get(), "../outside.txt").getStatus()).isEqualTo(404);
+        assertThat(serve(get(), ".upload-1.tmp").getStatus()).isEqualTo(404);
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws IOException {
+        return serve(request, "logo.svg");
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request, String relativePath) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        fileServer.serve(root, relativePath, CacheControl.maxAge(Duration.ofSeconds(60)), request, response);
+        return response;
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/images/logo.svg");
+    }
+}
@@ -0,0 +1,141 @@
+package com.hanachain.hanachainbackend.service.image;
+
+import com.hanachain.hanachainbackend.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageStorageTest {
+
+    @TempDir
+    Path root;
+
+    private LocalDiskBlobStore blobStore;
+    private ImageVariantGenerator variantGenerator;
+    private ImageStorage imageStorage;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new LocalDiskBlobStore(root.toString());
+        variantGenerator = new ImageVariantGenerator(blobStore);
+        ReflectionTestUtils.setField(variantGenerator, "widths", new int[]{320, 640, 1280});
+        ReflectionTestUtils.setField(variantGenerator, "quality", 0.82f);
+
+        imageStorage = new ImageStorage(blobStore, variantGenerator);
+        ReflectionTestUtils.setField(imageStorage, "baseUrl", "http://localhost:8080");
+        ReflectionTestUtils.setField(imageStorage, "quality", 0.82f);
+        ReflectionTestUtils.setField(imageStorage, "maxPixels", 4_000_000L);
+    }
+
+    @Test
+    @DisplayName("같은 내용은 해시 샤드 경로에 한 번만 저장되고 같은 URL을 돌려준다")
+    void storesOriginalContentAddressed() throws IOException {
+        byte[] png = png(800, 600);
+
+        StoredImage first = imageStorage.store(png, "image/png");
+        StoredImage second = imageStorage.store(png, "image/png");
+
+        assertThat(first.getKey()).isEqualTo(first.getHash().substring(0, 2) + "/" + first.getHash() + ".png");
+        assertThat(first.getUrl()).isEqualTo("http://localhost:8080/api/images/" + first.getKey());
+        assertThat(second.getUrl()).isEqualTo(first.getUrl());
+        assertThat(Files.readAllBytes(root.resolve(first.getKey()))).isEqualTo(png);
+        assertThat(imageStorage.isStoredImageUrl(first.getUrl())).isTrue();
+        assertThat(imageStorage.isStoredImageUrl("http://localhost:8080/api/files/profile-images/a.png")).isFalse();
+    }
+
+    @Test
+    @DisplayName("원본보다 작은 폭의 JPEG 변환본만 생성한다")
+    void generatesDownscaledVariantsOnly() throws IOException {
+        StoredImage stored = imageStorage.store(png(800, 600), "image/png");
+
+        // 테스트에서는 @Async 프록시가 없으므로 store 호출 안에서 동기 실행됨
+        assertThat(blobStore.exists(ImageStorage.keyOf(stored.getHash(), "_w320", "jpg"))).isTrue();
+        assertThat(blobStore.exists(ImageStorage.keyOf(stored.getHash(), "_w640", "jpg"))).isTrue();
+        assertThat(blobStore.exists(ImageStorage.keyOf(stored.getHash(), "_w1280", "jpg"))).isFalse();
+
+        try (InputStream in = blobStore.open(ImageStorage.keyOf(stored.getHash(), "_w640", "jpg"))) {
+            BufferedImage variant = ImageIO.read(in);
+            assertThat(variant.getWidth()).isEqualTo(640);
+            assertThat(variant.getHeight()).isEqualTo(480);
+        }
+    }
+
+    @Test
+    @DisplayName("프로필 이미지는 긴 변 기준으로 축소한 JPEG로 저장한다")
+    void normalizesProfileImages() throws IOException {
+        StoredImage stored = imageStorage.storeNormalized(png(2000, 1000), "image/png", 512);
+
+        assertThat(stored.getKey()).endsWith(".jpg");
+        try (InputStream in = blobStore.open(stored.getKey())) {
+            BufferedImage normalized = ImageIO.read(in);
+            assertThat(normalized.getWidth()).isEqualTo(512);
+            assertThat(normalized.getHeight()).isEqualTo(256);
+        }
+    }
+
+    @Test
+    @DisplayName("허용 목록 밖의 형식이나 디코딩되지 않는 내용은 저장하지 않는다")
+    void rejectsUnsupportedOrUndecodableContent() throws IOException {
+        byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\"><script>alert(1)</script></svg>"
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] html = "<html><script>alert(1)</script></html>".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> imageStorage.store(svg, "image/svg+xml")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> imageStorage.store(html, "image/html")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> imageStorage.store(html, "image/png")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> imageStorage.storeNormalized(html, "image/jpeg", 512))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> imageStorage.store(png(10, 10), "text/html")).isInstanceOf(ValidationException.class);
+
+        try (Stream<Path> files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("저장 확장자는 Content-Type이 아니라 감지된 형식을 따른다")
+    void usesDetectedFormatForExtension() throws IOException {
+        StoredImage stored = imageStorage.store(png(100, 100), "image/jpeg");
+
+        assertThat(stored.getKey()).endsWith(".png");
+    }
+
+    @Test
+    @DisplayName("픽셀 수 상한을 넘는 이미지는 디코딩하거나 저장하지 않고 거부한다")
+    void rejectsImagesOverPixelCap() throws IOException {
+        byte[] large = png(2500, 2000);
+
+        assertThatThrownBy(() -> imageStorage.store(large, "image/png")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> imageStorage.storeNormalized(large, "image/png", 512))
+                .isInstanceOf(ValidationException.class);
+
+        try (Stream<Path> files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x += 10) {
+            image.setRGB(x, x * height / width, 0xFF336699);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
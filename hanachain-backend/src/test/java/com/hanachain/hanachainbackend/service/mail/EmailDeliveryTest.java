@@ -0,0 +1,150 @@
+package com.hanachain.hanachainbackend.service.mail;
+
+import com.hanachain.hanachainbackend.entity.EmailOutbox;
+import com.hanachain.hanachainbackend.entity.enums.EmailOutboxStatus;
+import com.hanachain.hanachainbackend.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailDeliveryTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private SmtpStub smtp;
+    private SmtpTransportPool transportPool;
+    private EmailOutboxRepository outboxRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private EmailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtp = new SmtpStub("rejected@example.com");
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtp.port());
+
+        transportPool = new SmtpTransportPool(mailSender, 2, 60_000);
+        outboxRepository = mock(EmailOutboxRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new EmailOutboxWorker(outboxRepository, transportPool,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry,
+                "noreply@hanachain.com", 0, BATCH_SIZE, 1_000, MAX_ATTEMPTS, 1_000, 60_000, 300_000, 7);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        transportPool.closeAll();
+        smtp.close();
+    }
+
+    @Test
+    @DisplayName("여러 배치를 하나의 SMTP 연결로 보낸다")
+    void reusesPooledConnectionAcrossBatches() {
+        when(outboxRepository.claimDue(anyString(), any(), any(), eq(BATCH_SIZE))).thenReturn(2, 1);
+        when(outboxRepository.findClaimed(anyString())).thenReturn(
+                List.of(message(1L, "a@example.com", 0), message(2L, "b@example.com", 0)),
+                List.of(message(3L, "c@example.com", 0)));
+
+        assertThat(worker.processBatch()).isEqualTo(2);
+        assertThat(worker.processBatch()).isEqualTo(1);
+
+        assertThat(smtp.messages()).hasSize(3);
+        assertThat(smtp.connections()).isEqualTo(1);
+        verify(outboxRepository, times(2)).markSent(any(), anyString(), eq(EmailOutboxStatus.SENT), any());
+        assertThat(meterRegistry.counter("mail.messages", "result", "sent").count()).isEqualTo(3);
+        assertThat(meterRegistry.timer("mail.send.latency").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("거부된 수신자만 백오프 후 재시도하고, 시도 한도를 넘으면 실패 처리한다")
+    void retriesRejectedRecipientWithBackoff() {
+        when(outboxRepository.claimDue(anyString(), any(), any(), eq(BATCH_SIZE))).thenReturn(3);
+        when(outboxRepository.findClaimed(anyString())).thenReturn(List.of(
+                message(1L, "rejected@example.com", 0),
+                message(2L, "ok@example.com", 0),
+                message(3L, "rejected@example.com", MAX_ATTEMPTS - 1)));
+        LocalDateTime before = LocalDateTime.now();
+
+        worker.processBatch();
+
+        assertThat(smtp.messages()).hasSize(1);
+        assertThat(smtp.connections()).isEqualTo(1);
+        verify(outboxRepository).markSent(eq(List.of(2L)), anyString(), eq(EmailOutboxStatus.SENT), any());
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(outboxRepository).markAttemptFailed(eq(1L), anyString(), eq(EmailOutboxStatus.PENDING),
+                nextAttemptAt.capture(), anyString());
+        assertThat(nextAttemptAt.getValue()).isAfterOrEqualTo(before.plusSeconds(1));
+        verify(outboxRepository).markAttemptFailed(eq(3L), anyString(), eq(EmailOutboxStatus.FAILED), any(), anyString());
+
+        assertThat(worker.backoffDelayMs(1)).isEqualTo(1_000);
+        assertThat(worker.backoffDelayMs(3)).isEqualTo(4_000);
+        assertThat(worker.backoffDelayMs(20)).isEqualTo(60_000);
+    }
+
+    @Test
+    @DisplayName("인증 코드 메일은 발송 완료나 최종 실패 즉시 대기열에서 삭제한다")
+    void purgesVerificationMailOnceDone() {
+        EmailOutbox sentCode = message(1L, "ok@example.com", 0);
+        sentCode.setPurgeOnSend(true);
+        EmailOutbox failedCode = message(2L, "rejected@example.com", MAX_ATTEMPTS - 1);
+        failedCode.setPurgeOnSend(true);
+        EmailOutbox retriedCode = message(3L, "rejected@example.com", 0);
+        retriedCode.setPurgeOnSend(true);
+        EmailOutbox notice = message(4L, "notice@example.com", 0);
+        when(outboxRepository.claimDue(anyString(), any(), any(), eq(BATCH_SIZE))).thenReturn(4);
+        when(outboxRepository.findClaimed(anyString())).thenReturn(List.of(sentCode, failedCode, retriedCode, notice));
+
+        worker.processBatch();
+
+        verify(outboxRepository).markSent(eq(List.of(1L, 4L)), anyString(), eq(EmailOutboxStatus.SENT), any());
+        verify(outboxRepository).deletePurgeOnSend(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("컴파일된 템플릿은 값을 HTML 이스케이프해 채운다")
+    void rendersCompiledTemplate() {
+        MailTemplate template = MailTemplate.compile("<p>{{action}}</p><b>{{ code }}</b>{{missing}}!");
+
+        assertThat(template.render(Map.of("action", "회원가입", "code", "<123>")))
+                .isEqualTo("<p>회원가입</p><b>&lt;123&gt;</b>!");
+        assertThat(template.render(Map.of("action", "x", "code", "1"))).isEqualTo("<p>x</p><b>1</b>!");
+        assertThat(MailTemplate.load("mail/verification-code.html").render(Map.of("code", "654321")))
+                .contains("654321");
+    }
+
+    private static EmailOutbox message(Long id, String recipient, int attempts) {
+        return EmailOutbox.builder()
+                .id(id)
+                .recipient(recipient)
+                .subject("[위아하나] 이메일 인증 코드")
+                .body("<p>123456</p>")
+                .html(true)
+                .status(EmailOutboxStatus.SENDING)
+                .attempts(attempts)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
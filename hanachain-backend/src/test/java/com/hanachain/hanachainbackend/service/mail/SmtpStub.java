@@ -0,0 +1,107 @@
+package com.hanachain.hanachainbackend.service.mail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 인프로세스 SMTP 서버 (연결 수와 수신한 DATA만 기록)
+ * rejectedRecipients에 포함된 수신자는 RCPT 단계에서 550으로 거부합니다.
+ */
+class SmtpStub implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final Set<String> rejectedRecipients;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final List<String> messages = new CopyOnWriteArrayList<>();
+
+    SmtpStub(String... rejectedRecipients) throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.rejectedRecipients = Set.of(rejectedRecipients);
+        Thread acceptor = new Thread(this::acceptLoop, "smtp-stub");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    int connections() {
+        return connections.get();
+    }
+
+    List<String> messages() {
+        return messages;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                Thread session = new Thread(() -> handle(socket), "smtp-stub-session");
+                session.setDaemon(true);
+                session.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.ISO_8859_1));
+             Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.ISO_8859_1)) {
+            reply(out, "220 localhost ESMTP stub");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.toUpperCase(Locale.ROOT);
+                if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+                    reply(out, "250 localhost");
+                } else if (command.startsWith("RCPT TO")) {
+                    boolean rejected = rejectedRecipients.stream().anyMatch(line::contains);
+                    reply(out, rejected ? "550 5.1.1 mailbox unavailable" : "250 OK");
+                } else if (command.startsWith("DATA")) {
+                    reply(out, "354 end with <CRLF>.<CRLF>");
+                    StringBuilder data = new StringBuilder();
+                    while ((line = in.readLine()) != null && !line.equals(".")) {
+                        data.append(line).append('\n');
+                    }
+                    messages.add(data.toString());
+                    reply(out, "250 OK queued");
+                } else if (command.startsWith("QUIT")) {
+                    reply(out, "221 bye");
+                    return;
+                } else if (command.startsWith("MAIL FROM") || command.startsWith("RSET") || command.startsWith("NOOP")) {
+                    reply(out, "250 OK");
+                } else {
+                    reply(out, "502 command not implemented");
+                }
+            }
+        } catch (IOException ignored) {
+            // 클라이언트가 연결을 끊음
+        }
+    }
+
+    private static void reply(Writer out, String response) throws IOException {
+        out.write(response + "\r\n");
+        out.flush();
+    }
+}
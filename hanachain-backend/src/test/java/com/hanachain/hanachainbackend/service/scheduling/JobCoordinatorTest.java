@@ -0,0 +1,68 @@
+package com.hanachain.hanachainbackend.service.scheduling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class JobCoordinatorTest {
+
+    private static final JobSpec JOB = new JobSpec("test-job", Duration.ofMinutes(5), Duration.ofMinutes(4));
+
+    @Test
+    @DisplayName("모든 항목은 노드 몫 중 정확히 하나에 속하고 고르게 나뉜다")
+    void shardsPartitionItems() {
+        int nodes = 3;
+        int[] perShard = new int[nodes];
+        for (long id = 1; id <= 3000; id++) {
+            long itemId = id;
+            long owners = IntStream.range(0, nodes).filter(index -> new JobShard(index, nodes).owns(itemId)).count();
+            assertThat(owners).isEqualTo(1);
+            for (int index = 0; index < nodes; index++) {
+                if (new JobShard(index, nodes).owns(itemId)) {
+                    perShard[index]++;
+                }
+            }
+        }
+
+        for (int count : perShard) {
+            assertThat(count).isBetween(900, 1100);
+        }
+        assertThat(JobShard.ALL.owns(42L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("조정이 꺼져 있으면 임대 없이 실행하고 소요 시간을 결과별로 기록한다")
+    void runsLocallyWhenCoordinationDisabled() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ClusterNodeRegistry nodeRegistry = new ClusterNodeRegistry(jdbcTemplate, false, 30_000, "node-a");
+        JobCoordinator coordinator = new JobCoordinator(jdbcTemplate, mock(PlatformTransactionManager.class),
+                nodeRegistry, meterRegistry, false);
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThat(coordinator.runExclusive(JOB, runs::incrementAndGet)).isTrue();
+        assertThat(coordinator.runSharded(JOB, shard -> {
+            assertThat(shard).isEqualTo(JobShard.ALL);
+            throw new IllegalStateException("boom");
+        })).isTrue();
+        assertThatThrownBy(() -> coordinator.runExclusive(JOB, () -> {
+            throw new AssertionError("fatal");
+        })).isInstanceOf(AssertionError.class);
+
+        assertThat(runs).hasValue(1);
+        assertThat(meterRegistry.timer("scheduler.job.duration", "job", "test-job", "result", "success").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("scheduler.job.duration", "job", "test-job", "result", "failure").count()).isEqualTo(2);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,75 @@
+package com.hanachain.hanachainbackend.service.session;
+
+import com.hanachain.hanachainbackend.entity.SignupSession;
+import com.hanachain.hanachainbackend.entity.VerificationSession;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemorySessionStoreTest {
+
+    private static final VerificationSession.VerificationType TYPE = VerificationSession.VerificationType.EMAIL_REGISTRATION;
+
+    @Test
+    @DisplayName("회원가입 세션은 expiresAt이 지나면 조회되지 않고, 이메일별로 삭제된다")
+    void signupSessionsExpireAndDeleteByEmail() {
+        InMemorySignupSessionStore store = new InMemorySignupSessionStore(new SimpleMeterRegistry(), 100);
+        SignupSession active = signupSession("a@example.com", LocalDateTime.now().plusMinutes(30));
+        SignupSession expired = signupSession("b@example.com", LocalDateTime.now().minusSeconds(1));
+
+        store.save(active);
+        store.save(expired);
+
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(store.findActive(active.getSessionId(), now)).containsSame(active);
+        assertThat(active.getCreatedAt()).isNotNull();
+        assertThat(store.findActive(expired.getSessionId(), now)).isEmpty();
+
+        store.deleteByEmail("a@example.com");
+        assertThat(store.findActive(active.getSessionId(), now)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인증 세션은 메모리에서 재발송 제한과 시도 횟수, 인증 완료를 처리한다")
+    void verificationSessionLifecycle() {
+        InMemoryVerificationSessionStore store = new InMemoryVerificationSessionStore(new SimpleMeterRegistry(), 100);
+        VerificationSession session = VerificationSession.builder()
+                .email("a@example.com")
+                .verificationCode("123456")
+                .type(TYPE)
+                .expiresAt(LocalDateTime.now().plusMinutes(5))
+                .build();
+
+        store.create(session);
+
+        assertThat(store.findLatest("a@example.com", TYPE)).containsSame(session);
+        assertThat(session.getCreatedAt()).isAfter(LocalDateTime.now().minusSeconds(30));
+
+        VerificationSession found = store.findActive("a@example.com", TYPE, LocalDateTime.now()).orElseThrow();
+        store.recordAttempt(found);
+        store.recordAttempt(found);
+        assertThat(store.findLatest("a@example.com", TYPE).orElseThrow().getAttemptCount()).isEqualTo(2);
+
+        store.markVerified(found);
+        assertThat(store.findActive("a@example.com", TYPE, LocalDateTime.now())).isEmpty();
+        assertThat(store.findLatest("a@example.com", TYPE)).isPresent();
+
+        store.deleteByEmailAndType("a@example.com", TYPE);
+        assertThat(store.findLatest("a@example.com", TYPE)).isEmpty();
+    }
+
+    private static SignupSession signupSession(String email, LocalDateTime expiresAt) {
+        return SignupSession.builder()
+                .sessionId(UUID.randomUUID().toString())
+                .email(email)
+                .termsAccepted(true)
+                .privacyAccepted(true)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.hanachain.hanachainbackend.service.session;
+
+import com.hanachain.hanachainbackend.entity.VerificationSession;
+import com.hanachain.hanachainbackend.repository.VerificationSessionRepository;
+import com.hanachain.hanachainbackend.service.counter.WriteBehindCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * jdbc 세션 저장소에서 인증 시도 횟수가 지연 반영 카운터로 한 번씩만 반영되는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class JpaVerificationSessionStoreTest {
+
+    private static final String EMAIL = "verify@example.com";
+    private static final VerificationSession.VerificationType TYPE = VerificationSession.VerificationType.EMAIL_REGISTRATION;
+    private static final int ATTEMPTS = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private VerificationSessionRepository verificationSessionRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate jdbcTemplate;
+    private WriteBehindCounter writeBehindCounter;
+    private JpaVerificationSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeBehindCounter = new WriteBehindCounter(jdbcTemplate, new TransactionTemplate(transactionManager), 100);
+        store = new JpaVerificationSessionStore(verificationSessionRepository, writeBehindCounter, 30, 100);
+    }
+
+    @Test
+    @DisplayName("틀린 코드를 N번 입력하면 attempt_count는 정확히 N이 된다")
+    void countsEachAttemptOnce() {
+        VerificationSession created = VerificationSession.builder()
+                .email(EMAIL)
+                .verificationCode("123456")
+                .type(TYPE)
+                .expiresAt(LocalDateTime.now().plusMinutes(5))
+                .build();
+        store.create(created);
+        entityManager.flush();
+        entityManager.clear();
+
+        for (int i = 1; i <= ATTEMPTS; i++) {
+            // 서비스 트랜잭션 하나와 같은 흐름: 조회 → 시도 기록 → 커밋 시 flush
+            VerificationSession session = store.findActive(EMAIL, TYPE, LocalDateTime.now()).orElseThrow();
+            store.recordAttempt(session);
+            entityManager.flush();
+            entityManager.clear();
+
+            assertThat(session.getAttemptCount()).isEqualTo(i);
+        }
+
+        writeBehindCounter.flush();
+
+        Integer attemptCount = jdbcTemplate.queryForObject(
+                "SELECT attempt_count FROM verification_sessions WHERE id = ?", Integer.class, created.getId());
+        assertThat(attemptCount).isEqualTo(ATTEMPTS);
+        assertThat(store.findActive(EMAIL, TYPE, LocalDateTime.now()).orElseThrow().getAttemptCount())
+                .isEqualTo(ATTEMPTS);
+    }
+}